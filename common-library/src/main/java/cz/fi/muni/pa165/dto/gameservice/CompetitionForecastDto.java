@@ -0,0 +1,29 @@
+package cz.fi.muni.pa165.dto.gameservice;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompetitionForecastDto {
+
+	private UUID competitionGuid;
+
+	private int simulations;
+
+	private int playedMatches;
+
+	private int remainingMatches;
+
+	private int playoffSpots;
+
+	private List<TeamForecastDto> teams;
+
+}
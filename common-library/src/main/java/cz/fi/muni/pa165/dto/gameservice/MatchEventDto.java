@@ -0,0 +1,34 @@
+package cz.fi.muni.pa165.dto.gameservice;
+
+import cz.fi.muni.pa165.enums.MatchEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchEventDto {
+
+	/**
+	 * Sequence number of the event within the live feed of the match. Current state sent
+	 * when the feed is opened has sequence -1
+	 */
+	private long sequence;
+
+	private UUID matchGuid;
+
+	private MatchEventType type;
+
+	private int scoreHomeTeam;
+
+	private int scoreAwayTeam;
+
+	private OffsetDateTime createdAt;
+
+}
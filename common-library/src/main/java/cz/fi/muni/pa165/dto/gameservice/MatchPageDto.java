@@ -0,0 +1,26 @@
+package cz.fi.muni.pa165.dto.gameservice;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of the matches ordered by their start. The next page is requested with the
+ * returned cursor, which is missing on the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchPageDto {
+
+	private List<MatchViewDto> matches;
+
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private String nextCursor;
+
+}
@@ -0,0 +1,30 @@
+package cz.fi.muni.pa165.dto.gameservice;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamForecastDto {
+
+	private UUID teamUid;
+
+	private double expectedPoints;
+
+	private double titleProbability;
+
+	private double playoffProbability;
+
+	/**
+	 * Probability of every final position in the standings, first item is the first place
+	 */
+	private List<Double> positionProbabilities;
+
+}
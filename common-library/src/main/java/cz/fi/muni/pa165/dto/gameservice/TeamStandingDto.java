@@ -0,0 +1,39 @@
+package cz.fi.muni.pa165.dto.gameservice;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamStandingDto {
+
+	/**
+	 * Position of the team in the standings, starting with 1
+	 */
+	private int position;
+
+	private UUID teamUid;
+
+	private int played;
+
+	private int wins;
+
+	private int draws;
+
+	private int losses;
+
+	private int goalsFor;
+
+	private int goalsAgainst;
+
+	private int goalDifference;
+
+	private int points;
+
+}
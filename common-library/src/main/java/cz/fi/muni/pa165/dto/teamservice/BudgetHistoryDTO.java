@@ -0,0 +1,21 @@
+package cz.fi.muni.pa165.dto.teamservice;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "Page of the budget history, newest transactions first")
+public class BudgetHistoryDTO {
+
+	@Schema(description = "Transactions of the page")
+	private List<BudgetTransactionDTO> transactions;
+
+	@Schema(description = "Value of the before parameter requesting the next page, missing on the last page",
+			example = "17")
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Long nextBefore;
+
+}
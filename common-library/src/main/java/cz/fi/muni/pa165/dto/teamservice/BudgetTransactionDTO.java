@@ -0,0 +1,25 @@
+package cz.fi.muni.pa165.dto.teamservice;
+
+import cz.fi.muni.pa165.enums.BudgetTransactionReason;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.OffsetDateTime;
+
+@Data
+@Schema(description = "DTO representing a change of the budget")
+public class BudgetTransactionDTO {
+
+	@Schema(description = "ID of the transaction, newer transactions have higher IDs", example = "42")
+	private Long id;
+
+	@Schema(description = "Amount added to the budget, negative when taken", example = "1000.0")
+	private Double amount;
+
+	@Schema(description = "Reason of the change", example = "MATCH_PRIZE")
+	private BudgetTransactionReason reason;
+
+	@Schema(description = "Time of the change")
+	private OffsetDateTime createdAt;
+
+}
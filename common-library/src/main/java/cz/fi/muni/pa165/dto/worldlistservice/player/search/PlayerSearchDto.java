@@ -0,0 +1,51 @@
+package cz.fi.muni.pa165.dto.worldlistservice.player.search;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+/**
+ * Filters of the player search, filters left empty match every player
+ */
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerSearchDto {
+
+	@Size(max = 100, message = "Name prefix cannot be longer than 100 characters")
+	String namePrefix;
+
+	@Min(value = 0, message = "Minimal rating cannot be negative")
+	Integer minRating;
+
+	@Min(value = 0, message = "Maximal rating cannot be negative")
+	Integer maxRating;
+
+	@Min(value = 0, message = "Minimal market value cannot be negative")
+	Long minMarketValue;
+
+	@Min(value = 0, message = "Maximal market value cannot be negative")
+	Long maxMarketValue;
+
+	Boolean used;
+
+	@JsonIgnore
+	@Schema(hidden = true)
+	@AssertTrue(message = "Maximal rating cannot be lower than the minimal rating")
+	public boolean isRatingRangeValid() {
+		return minRating == null || maxRating == null || minRating <= maxRating;
+	}
+
+	@JsonIgnore
+	@Schema(hidden = true)
+	@AssertTrue(message = "Maximal market value cannot be lower than the minimal market value")
+	public boolean isMarketValueRangeValid() {
+		return minMarketValue == null || maxMarketValue == null || minMarketValue <= maxMarketValue;
+	}
+
+}
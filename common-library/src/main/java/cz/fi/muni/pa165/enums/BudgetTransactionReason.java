@@ -0,0 +1,14 @@
+package cz.fi.muni.pa165.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Reasons of the budget transactions")
+public enum BudgetTransactionReason {
+
+	@Schema(description = "Prize for the played match")
+	MATCH_PRIZE, @Schema(description = "Budget bought by the team owner")
+	PAYMENT, @Schema(description = "Refund of the cancelled payment")
+	REFUND, @Schema(description = "Manual change of the budget")
+	ADJUSTMENT
+
+}
@@ -0,0 +1,14 @@
+package cz.fi.muni.pa165.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Types of the match state changes")
+public enum MatchEventType {
+
+	@Schema(description = "Match was scheduled and waits for its start")
+	SCHEDULED, @Schema(description = "Match has started")
+	STARTED, @Schema(description = "One of the teams scored")
+	SCORE, @Schema(description = "Match has ended, score is final")
+	ENDED
+
+}
@@ -0,0 +1,112 @@
+package cz.fi.muni.pa165.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.jms.BytesMessage;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+import org.springframework.jms.support.converter.MessageConversionException;
+import org.springframework.jms.support.converter.MessageConverter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Converts the payloads of the given types into binary Smile messages, other payloads are
+ * converted into JSON by the delegate converter. Smile keeps the structure of the JSON
+ * but writes the UUIDs as raw bytes and repeated property names as back references.
+ * <p>
+ * Encoding of the message is stored in the {@value #CONTENT_TYPE_PROPERTY} property.
+ * Messages without it are read as JSON, so messages of the services not yet sending the
+ * binary payloads are still understood.
+ */
+public class CompactMessageConverter implements MessageConverter {
+
+	/**
+	 * Message property holding the encoding of the payload
+	 */
+	public static final String CONTENT_TYPE_PROPERTY = "contentType";
+
+	public static final String JSON_CONTENT_TYPE = "application/json";
+
+	public static final String SMILE_CONTENT_TYPE = "application/x-jackson-smile";
+
+	private final MessageConverter jsonConverter;
+
+	private final ObjectMapper smileMapper;
+
+	private final Map<String, Class<?>> compactTypes;
+
+	private final boolean compactEnabled;
+
+	/**
+	 * @param jsonConverter converter of the payloads sent as JSON and of the messages
+	 * without binary content type
+	 * @param smileMapper mapper writing and reading the binary payloads
+	 * @param compactTypes types of the payloads sent in binary
+	 * @param compactEnabled whether the payloads of the compact types are sent in binary,
+	 * binary messages are read regardless of it
+	 */
+	public CompactMessageConverter(MessageConverter jsonConverter, ObjectMapper smileMapper, Set<Class<?>> compactTypes,
+			boolean compactEnabled) {
+		this.jsonConverter = Objects.requireNonNull(jsonConverter, "Please provide JSON message converter");
+		this.smileMapper = Objects.requireNonNull(smileMapper, "Please provide Smile object mapper");
+		this.compactTypes = compactTypes.stream()
+			.collect(Collectors.toUnmodifiableMap(Class::getName, Function.identity()));
+		this.compactEnabled = compactEnabled;
+	}
+
+	@Override
+	public Message toMessage(Object object, Session session) throws JMSException, MessageConversionException {
+		if (!compactEnabled || !compactTypes.containsKey(object.getClass().getName())) {
+			var message = jsonConverter.toMessage(object, session);
+			message.setStringProperty(CONTENT_TYPE_PROPERTY, JSON_CONTENT_TYPE);
+			return message;
+		}
+
+		byte[] payload;
+		try {
+			payload = smileMapper.writeValueAsBytes(object);
+		}
+		catch (IOException e) {
+			throw new MessageConversionException("Could not write Smile payload of " + object.getClass(), e);
+		}
+
+		var message = session.createBytesMessage();
+		message.writeBytes(payload);
+		message.setStringProperty(MessagingConfiguration.TYPE_ID_PROPERTY, object.getClass().getName());
+		message.setStringProperty(CONTENT_TYPE_PROPERTY, SMILE_CONTENT_TYPE);
+		return message;
+	}
+
+	@Override
+	public Object fromMessage(Message message) throws JMSException, MessageConversionException {
+		if (!SMILE_CONTENT_TYPE.equals(message.getStringProperty(CONTENT_TYPE_PROPERTY))) {
+			return jsonConverter.fromMessage(message);
+		}
+		if (!(message instanceof BytesMessage bytesMessage)) {
+			throw new MessageConversionException("Smile payload must be sent in a bytes message");
+		}
+
+		// Only the known types are read, the type ID can't select an arbitrary class
+		var typeId = message.getStringProperty(MessagingConfiguration.TYPE_ID_PROPERTY);
+		var type = compactTypes.get(typeId);
+		if (type == null) {
+			throw new MessageConversionException("Unsupported type of the Smile payload: " + typeId);
+		}
+
+		var payload = new byte[(int) bytesMessage.getBodyLength()];
+		bytesMessage.readBytes(payload);
+		try {
+			return smileMapper.readValue(payload, type);
+		}
+		catch (IOException e) {
+			throw new MessageConversionException("Could not read Smile payload of " + typeId, e);
+		}
+	}
+
+}
@@ -0,0 +1,148 @@
+package cz.fi.muni.pa165.messaging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.jms.CompletionListener;
+import jakarta.jms.DeliveryMode;
+import jakarta.jms.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jms.core.JmsTemplate;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends the messages through the given {@link JmsTemplate} with the send mode configured
+ * for the destination:
+ * <ul>
+ * <li>persistent synchronous send by default, it returns once the broker stored the
+ * message</li>
+ * <li>asynchronous send returns immediately, failures are only logged. Artemis reports
+ * the completion only with {@code confirmationWindowSize} set on the broker URL. Suits
+ * the best-effort messages only, a lost message changing state of the consumer is never
+ * noticed</li>
+ * <li>non-persistent messages are not stored by the broker and can be lost</li>
+ * </ul>
+ * Latency of every send is recorded by the {@code messaging.send} timer.
+ */
+public class MessageSender {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MessageSender.class);
+
+	private final JmsTemplate jmsTemplate;
+
+	private final MeterRegistry meterRegistry;
+
+	private final Set<String> asyncDestinations;
+
+	private final Set<String> nonPersistentDestinations;
+
+	private final ConcurrentHashMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+	public MessageSender(JmsTemplate jmsTemplate, MeterRegistry meterRegistry, Set<String> asyncDestinations,
+			Set<String> nonPersistentDestinations) {
+		this.jmsTemplate = jmsTemplate;
+		this.meterRegistry = meterRegistry;
+		this.asyncDestinations = Set.copyOf(asyncDestinations);
+		this.nonPersistentDestinations = Set.copyOf(nonPersistentDestinations);
+	}
+
+	/**
+	 * Converts the payload and sends it to the destination
+	 * @param destination name of the queue or topic, depending on the template
+	 * @param payload payload converted by the message converter of the template
+	 */
+	public void send(String destination, Object payload) {
+		send(destination, payload, null);
+	}
+
+	/**
+	 * Converts the payload and sends it to the destination within the message group
+	 * @param destination name of the queue or topic, depending on the template
+	 * @param payload payload converted by the message converter of the template
+	 * @param groupId ID of the message group, messages of one group are consumed in
+	 * order. Null sends the message outside any group.
+	 * @see MessagingConfiguration#GROUP_ID_PROPERTY
+	 */
+	public void send(String destination, Object payload, String groupId) {
+		Objects.requireNonNull(destination, "Please provide destination of the message");
+		Objects.requireNonNull(payload, "Please provide payload of the message");
+
+		var async = asyncDestinations.contains(destination);
+		var deliveryMode = nonPersistentDestinations.contains(destination) ? DeliveryMode.NON_PERSISTENT
+				: DeliveryMode.PERSISTENT;
+		var startedAt = System.nanoTime();
+
+		try {
+			jmsTemplate.execute(destination, (session, producer) -> {
+				var message = jmsTemplate.getMessageConverter().toMessage(payload, session);
+				if (groupId != null) {
+					message.setStringProperty(MessagingConfiguration.GROUP_ID_PROPERTY, groupId);
+				}
+				if (async) {
+					producer.send(message, deliveryMode, Message.DEFAULT_PRIORITY, Message.DEFAULT_TIME_TO_LIVE,
+							new RecordingCompletionListener(destination, deliveryMode, startedAt));
+				}
+				else {
+					producer.send(message, deliveryMode, Message.DEFAULT_PRIORITY, Message.DEFAULT_TIME_TO_LIVE);
+				}
+				return null;
+			});
+		}
+		catch (RuntimeException e) {
+			record(destination, async, deliveryMode, startedAt, false);
+			throw e;
+		}
+
+		if (!async) {
+			record(destination, false, deliveryMode, startedAt, true);
+		}
+	}
+
+	private void record(String destination, boolean async, int deliveryMode, long startedAt, boolean success) {
+		timers
+			.computeIfAbsent(new TimerKey(destination, async, success),
+					key -> Timer.builder("messaging.send")
+						.description("Latency of sending the message until the broker acknowledged it")
+						.tag("destination", destination)
+						.tag("mode", async ? "async" : "sync")
+						.tag("persistent", Boolean.toString(deliveryMode == DeliveryMode.PERSISTENT))
+						.tag("outcome", success ? "success" : "failure")
+						.register(meterRegistry))
+			.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+	}
+
+	private record TimerKey(String destination, boolean async, boolean success) {
+	}
+
+	private final class RecordingCompletionListener implements CompletionListener {
+
+		private final String destination;
+
+		private final int deliveryMode;
+
+		private final long startedAt;
+
+		private RecordingCompletionListener(String destination, int deliveryMode, long startedAt) {
+			this.destination = destination;
+			this.deliveryMode = deliveryMode;
+			this.startedAt = startedAt;
+		}
+
+		@Override
+		public void onCompletion(Message message) {
+			record(destination, true, deliveryMode, startedAt, true);
+		}
+
+		@Override
+		public void onException(Message message, Exception exception) {
+			record(destination, true, deliveryMode, startedAt, false);
+			LOGGER.error("Asynchronous send to '{}' failed", destination, exception);
+		}
+
+	}
+
+}
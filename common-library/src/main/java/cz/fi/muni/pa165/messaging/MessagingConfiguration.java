@@ -0,0 +1,137 @@
+package cz.fi.muni.pa165.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import cz.fi.muni.pa165.dto.gameservice.MatchViewDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.jms.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jms.connection.SingleConnectionFactory;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.support.converter.MappingJackson2MessageConverter;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.jms.support.converter.MessageType;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Messaging setup shared by the services, imported by their JMS configuration. Provides
+ * the JSON message converter, the queue and topic templates sending through the
+ * {@link SenderConnectionPool} and a {@link MessageSender} for each of them.
+ * <p>
+ * Payloads of the {@link #COMPACT_TYPES} are sent in binary once
+ * {@code messaging.compact-payloads} is enabled, see {@link CompactMessageConverter}. It
+ * is disabled by default, as a consumer without the converter can't read binary messages.
+ * Enable it only after every consuming service reads them.
+ * <p>
+ * Send modes are configured per destination with the {@code messaging.async-destinations}
+ * and {@code messaging.non-persistent-destinations} properties.
+ */
+@Configuration
+public class MessagingConfiguration {
+
+	/**
+	 * Message property holding class of the JSON payload
+	 */
+	public static final String TYPE_ID_PROPERTY = "_json";
+
+	/**
+	 * Message property grouping the messages of one key. Artemis delivers all messages of
+	 * a group to the same consumer, so they are processed in the order they were sent
+	 * while the other groups are processed in parallel.
+	 */
+	public static final String GROUP_ID_PROPERTY = "JMSXGroupID";
+
+	/**
+	 * Payloads sent between the services often enough to be worth the binary encoding
+	 */
+	public static final Set<Class<?>> COMPACT_TYPES = Set.of(MatchViewDto.class, BudgetChangeMessage.class, UUID.class);
+
+	@Value("${messaging.pool.max-connections:1}")
+	private int maxConnections;
+
+	@Value("${messaging.pool.max-sessions-per-connection:500}")
+	private int maxSessionsPerConnection;
+
+	@Value("${messaging.async-destinations:}")
+	private Set<String> asyncDestinations;
+
+	@Value("${messaging.non-persistent-destinations:}")
+	private Set<String> nonPersistentDestinations;
+
+	@Value("${messaging.compact-payloads:false}")
+	private boolean compactPayloads;
+
+	@Bean
+	public SenderConnectionPool senderConnectionPool(
+			@Qualifier("jmsConnectionFactory") ConnectionFactory connectionFactory) {
+		// Spring Boot wraps the Artemis factory into a caching one, the pool replaces it
+		var targetConnectionFactory = connectionFactory instanceof SingleConnectionFactory singleConnectionFactory
+				? singleConnectionFactory.getTargetConnectionFactory() : connectionFactory;
+		return new SenderConnectionPool(targetConnectionFactory, maxConnections, maxSessionsPerConnection);
+	}
+
+	@Bean
+	@Primary
+	public JmsTemplate queueJmsTemplate(SenderConnectionPool senderConnectionPool, MessageConverter messageConverter) {
+		JmsTemplate template = new JmsTemplate(senderConnectionPool.getConnectionFactory());
+		template.setPubSubDomain(false);
+		template.setMessageConverter(messageConverter);
+		return template;
+	}
+
+	@Bean
+	public JmsTemplate topicJmsTemplate(SenderConnectionPool senderConnectionPool, MessageConverter messageConverter) {
+		JmsTemplate template = new JmsTemplate(senderConnectionPool.getConnectionFactory());
+		template.setPubSubDomain(true);
+		template.setMessageConverter(messageConverter);
+		return template;
+	}
+
+	@Bean
+	@Primary
+	public MessageSender queueMessageSender(@Qualifier("queueJmsTemplate") JmsTemplate jmsTemplate,
+			MeterRegistry meterRegistry) {
+		return new MessageSender(jmsTemplate, meterRegistry, asyncDestinations, nonPersistentDestinations);
+	}
+
+	@Bean
+	public MessageSender topicMessageSender(@Qualifier("topicJmsTemplate") JmsTemplate jmsTemplate,
+			MeterRegistry meterRegistry) {
+		return new MessageSender(jmsTemplate, meterRegistry, asyncDestinations, nonPersistentDestinations);
+	}
+
+	@Bean
+	public MessageConverter jacksonJmsMessageConverter() {
+		MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter(createObjectMapper());
+		converter.setTargetType(MessageType.TEXT);
+		converter.setTypeIdPropertyName(TYPE_ID_PROPERTY);
+
+		return new CompactMessageConverter(converter, createCompactObjectMapper(), COMPACT_TYPES, compactPayloads);
+	}
+
+	/**
+	 * Creates mapper serializing the message payloads
+	 */
+	public static ObjectMapper createObjectMapper() {
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.registerModule(new JavaTimeModule());
+		return objectMapper;
+	}
+
+	/**
+	 * Creates mapper serializing the message payloads into the binary Smile format
+	 */
+	public static ObjectMapper createCompactObjectMapper() {
+		ObjectMapper objectMapper = new ObjectMapper(new SmileFactory());
+		objectMapper.registerModule(new JavaTimeModule());
+		return objectMapper;
+	}
+
+}
@@ -0,0 +1,38 @@
+package cz.fi.muni.pa165.messaging;
+
+import jakarta.jms.ConnectionFactory;
+import org.messaginghub.pooled.jms.JmsPoolConnectionFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Pool of connections, sessions and producers used for sending the messages. A send
+ * borrows a session with a cached producer instead of opening a new connection. The pool
+ * is intentionally not exposed as a {@link ConnectionFactory} bean, so the connection
+ * factory of Spring Boot stays in place for the listener containers.
+ */
+public class SenderConnectionPool implements DisposableBean {
+
+	private final JmsPoolConnectionFactory connectionFactory = new JmsPoolConnectionFactory();
+
+	public SenderConnectionPool(ConnectionFactory targetConnectionFactory, int maxConnections,
+			int maxSessionsPerConnection) {
+		if (maxConnections <= 0 || maxSessionsPerConnection <= 0) {
+			throw new IllegalArgumentException("Sender pool must hold at least one connection and session");
+		}
+		connectionFactory.setConnectionFactory(targetConnectionFactory);
+		connectionFactory.setMaxConnections(maxConnections);
+		connectionFactory.setMaxSessionsPerConnection(maxSessionsPerConnection);
+		connectionFactory.setUseAnonymousProducers(true);
+		connectionFactory.setBlockIfSessionPoolIsFull(true);
+	}
+
+	public ConnectionFactory getConnectionFactory() {
+		return connectionFactory;
+	}
+
+	@Override
+	public void destroy() {
+		connectionFactory.stop();
+	}
+
+}
@@ -0,0 +1,138 @@
+package cz.fi.muni.pa165.persistence;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Hibernate second-level and query cache shared by the services, imported by their
+ * configuration. Nothing is cached until {@code cache.second-level.enabled} is set, then
+ * the entities annotated with {@link org.hibernate.annotations.Cache} and the queries
+ * with the {@code org.hibernate.cacheable} hint are cached in Caffeine. Otherwise the
+ * cache is switched off explicitly, Hibernate would pick up the JCache provider from the
+ * classpath and create the regions on the fly.
+ * <p>
+ * Each region is bounded by its own size and time to live from
+ * {@code cache.second-level.regions}. Hibernate uses only the regions created here, a
+ * region missing in the configuration fails the start. Hibernate evicts the cached
+ * entities it writes and invalidates the cached queries over the written tables.
+ * <p>
+ * Hits and misses of each region are exported as
+ * {@code hibernate.second.level.cache.requests} and their ratio as
+ * {@code hibernate.second.level.cache.hit.ratio}, both tagged by {@code region}.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfiguration {
+
+	@Bean
+	@ConditionalOnProperty(prefix = "cache.second-level", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
+	public HibernatePropertiesCustomizer disabledSecondLevelCacheCustomizer() {
+		return hibernateProperties -> {
+			hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+			hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, false);
+		};
+	}
+
+	@Bean(destroyMethod = "close")
+	@ConditionalOnProperty(prefix = "cache.second-level", name = "enabled", havingValue = "true")
+	public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+		// Each application context gets its own manager, so contexts of the tests don't
+		// share the cached data
+		var cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+			.getCacheManager(URI.create("second-level-cache:" + UUID.randomUUID()), getClass().getClassLoader());
+
+		properties.getRegions().forEach((name, region) -> {
+			var configuration = new CaffeineConfiguration<>();
+			configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+			configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(region.getExpireAfterWrite())));
+			cacheManager.createCache(name, configuration);
+		});
+		// Timestamps of the last writes of the tables must outlive the cached queries,
+		// they are never evicted. There is one entry per table.
+		var timestampsRegion = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+		if (cacheManager.getCache(timestampsRegion) == null) {
+			cacheManager.createCache(timestampsRegion, new CaffeineConfiguration<>());
+		}
+		return cacheManager;
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "cache.second-level", name = "enabled", havingValue = "true")
+	public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+		return hibernateProperties -> {
+			hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+			hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+			hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+			hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+			// Region without configured size and time to live is a mistake
+			hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+			hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+		};
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "cache.second-level", name = "enabled", havingValue = "true")
+	public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory,
+			SecondLevelCacheProperties properties) {
+		return meterRegistry -> {
+			var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+			for (var region : properties.getRegions().keySet()) {
+				FunctionCounter
+					.builder("hibernate.second.level.cache.requests", statistics,
+							regionStatistic(region, CacheRegionStatistics::getHitCount))
+					.tag("region", region)
+					.tag("result", "hit")
+					.register(meterRegistry);
+				FunctionCounter
+					.builder("hibernate.second.level.cache.requests", statistics,
+							regionStatistic(region, CacheRegionStatistics::getMissCount))
+					.tag("region", region)
+					.tag("result", "miss")
+					.register(meterRegistry);
+				Gauge
+					.builder("hibernate.second.level.cache.hit.ratio", statistics,
+							regionStatistic(region, SecondLevelCacheConfiguration::getHitRatio))
+					.tag("region", region)
+					.register(meterRegistry);
+			}
+		};
+	}
+
+	private static ToDoubleFunction<Statistics> regionStatistic(String region,
+			ToDoubleFunction<CacheRegionStatistics> statistic) {
+		return statistics -> {
+			var regionStatistics = statistics.getCacheRegionStatistics(region);
+			return regionStatistics == null ? Double.NaN : statistic.applyAsDouble(regionStatistics);
+		};
+	}
+
+	private static double getHitRatio(CacheRegionStatistics regionStatistics) {
+		var requests = regionStatistics.getHitCount() + regionStatistics.getMissCount();
+		return requests == 0 ? Double.NaN : (double) regionStatistics.getHitCount() / requests;
+	}
+
+}
@@ -0,0 +1,45 @@
+package cz.fi.muni.pa165.persistence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings of the Hibernate second-level cache, bound from {@code cache.second-level}
+ */
+@ConfigurationProperties(prefix = "cache.second-level")
+@Getter
+@Setter
+public class SecondLevelCacheProperties {
+
+	/**
+	 * Whether the entities and queries marked as cacheable are cached
+	 */
+	private boolean enabled;
+
+	/**
+	 * Settings of each cache region by its name. Every region used by the entities and
+	 * queries must be listed, the service doesn't start otherwise.
+	 */
+	private Map<String, Region> regions = new LinkedHashMap<>();
+
+	@Getter
+	@Setter
+	public static class Region {
+
+		/**
+		 * Maximal number of the entries kept in the region
+		 */
+		private long maximumSize = 1000;
+
+		/**
+		 * Defines in seconds how long an entry is kept after it was written
+		 */
+		private long expireAfterWrite = 600;
+
+	}
+
+}
@@ -2,8 +2,11 @@ package cz.fi.muni.pa165.service.gameservice.api;
 
 import cz.fi.muni.pa165.dto.gameservice.AssignTeamDto;
 import cz.fi.muni.pa165.dto.gameservice.CompetitionCreateDto;
+import cz.fi.muni.pa165.dto.gameservice.CompetitionForecastDto;
 import cz.fi.muni.pa165.dto.gameservice.CompetitionViewDto;
+import cz.fi.muni.pa165.dto.gameservice.TeamStandingDto;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface CompetitionController {
@@ -16,4 +19,10 @@ public interface CompetitionController {
 
 	void assignTeam(UUID competitionUUID, AssignTeamDto assignTeamDto);
 
+	CompetitionForecastDto getForecast(UUID uuid);
+
+	List<TeamStandingDto> getStandings(UUID uuid);
+
+	List<TeamStandingDto> rebuildStandings(UUID uuid);
+
 }
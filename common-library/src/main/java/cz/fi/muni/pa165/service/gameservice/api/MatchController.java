@@ -1,8 +1,11 @@
 package cz.fi.muni.pa165.service.gameservice.api;
 
 import cz.fi.muni.pa165.dto.gameservice.MatchCreateDto;
+import cz.fi.muni.pa165.dto.gameservice.MatchPageDto;
 import cz.fi.muni.pa165.dto.gameservice.MatchViewDto;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,8 +15,13 @@ public interface MatchController {
 
 	List<MatchViewDto> getMatchesForCompetition(UUID competitionUUID, boolean includeResults);
 
+	MatchPageDto getMatchPageForCompetition(UUID competitionUUID, String cursor, int size, UUID teamUUID,
+			OffsetDateTime from, OffsetDateTime to, Boolean finished, boolean includeResults);
+
 	MatchViewDto getSingleMatch(UUID matchUUID, boolean includeResults);
 
 	MatchViewDto createMatch(MatchCreateDto newMatch);
 
+	SseEmitter getMatchFeed(UUID matchUUID);
+
 }
\ No newline at end of file
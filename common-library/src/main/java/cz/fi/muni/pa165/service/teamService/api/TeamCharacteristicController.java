@@ -8,6 +8,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.service.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @HttpExchange("/team-characteristics")
@@ -29,4 +31,7 @@ public interface TeamCharacteristicController {
 	@GetExchange("/team/{teamId}")
 	List<TeamCharacteristicDTO> findByTeamId(@PathVariable UUID teamId);
 
+	@PostExchange("/team/batch")
+	Map<UUID, List<TeamCharacteristicDTO>> findByTeamIds(@RequestBody Set<UUID> teamIds);
+
 }
@@ -2,11 +2,14 @@ package cz.fi.muni.pa165.gameservice.api.controllers;
 
 import cz.fi.muni.pa165.dto.gameservice.AssignTeamDto;
 import cz.fi.muni.pa165.dto.gameservice.CompetitionCreateDto;
+import cz.fi.muni.pa165.dto.gameservice.CompetitionForecastDto;
 import cz.fi.muni.pa165.dto.gameservice.CompetitionViewDto;
+import cz.fi.muni.pa165.dto.gameservice.TeamStandingDto;
 import cz.fi.muni.pa165.gameservice.business.facades.CompetitionFacade;
 import cz.fi.muni.pa165.service.gameservice.api.CompetitionController;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,6 +20,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -107,4 +111,55 @@ public class CompetitionControllerImpl implements CompetitionController {
 		competitionFacade.assignTeam(competitionUUID, assignTeamDto);
 	}
 
+	@Override
+	@Operation(
+			description = "Forecasts final standings of the competition by simulating its remaining matches. "
+					+ "The forecast is recomputed only after a new result of the competition is published.",
+			responses = {
+					@ApiResponse(responseCode = "200",
+							description = "Title, playoff and final position probabilities of every team",
+							content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+									schema = @Schema(implementation = CompetitionForecastDto.class))),
+					@ApiResponse(responseCode = "404", description = "Desired competition doesn't exist",
+							content = @Content),
+					@ApiResponse(responseCode = "400", description = "Path parameter doesn't have form of UUID",
+							content = @Content) },
+			parameters = @Parameter(name = "uuid", description = "UUID of the forecasted competition", required = true))
+	@GetMapping(path = "/{uuid}/forecast", produces = MediaType.APPLICATION_JSON_VALUE)
+	public CompetitionForecastDto getForecast(@PathVariable UUID uuid) {
+		return competitionFacade.getForecast(uuid);
+	}
+
+	@Override
+	@Operation(
+			description = "Returns standings of the competition. The standings are updated with every published result, "
+					+ "the best team is the first.",
+			responses = {
+					@ApiResponse(responseCode = "200", description = "Standings of all teams of the competition",
+							content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+									array = @ArraySchema(schema = @Schema(implementation = TeamStandingDto.class)))),
+					@ApiResponse(responseCode = "404", description = "Desired competition doesn't exist",
+							content = @Content),
+					@ApiResponse(responseCode = "400", description = "Path parameter doesn't have form of UUID",
+							content = @Content) },
+			parameters = @Parameter(name = "uuid", description = "UUID of the competition", required = true))
+	@GetMapping(path = "/{uuid}/standings", produces = MediaType.APPLICATION_JSON_VALUE)
+	public List<TeamStandingDto> getStandings(@PathVariable UUID uuid) {
+		return competitionFacade.getStandings(uuid);
+	}
+
+	@Override
+	@Operation(description = "Rebuilds standings of the competition from the results of its matches.", responses = {
+			@ApiResponse(responseCode = "200", description = "Rebuilt standings of the competition",
+					content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+							array = @ArraySchema(schema = @Schema(implementation = TeamStandingDto.class)))),
+			@ApiResponse(responseCode = "404", description = "Desired competition doesn't exist", content = @Content),
+			@ApiResponse(responseCode = "400", description = "Path parameter doesn't have form of UUID",
+					content = @Content) },
+			parameters = @Parameter(name = "uuid", description = "UUID of the competition", required = true))
+	@PostMapping(path = "/{uuid}/standings/rebuild", produces = MediaType.APPLICATION_JSON_VALUE)
+	public List<TeamStandingDto> rebuildStandings(@PathVariable UUID uuid) {
+		return competitionFacade.rebuildStandings(uuid);
+	}
+
 }
@@ -1,8 +1,11 @@
 package cz.fi.muni.pa165.gameservice.api.controllers;
 
 import cz.fi.muni.pa165.dto.gameservice.MatchCreateDto;
+import cz.fi.muni.pa165.dto.gameservice.MatchEventDto;
+import cz.fi.muni.pa165.dto.gameservice.MatchPageDto;
 import cz.fi.muni.pa165.dto.gameservice.MatchViewDto;
 import cz.fi.muni.pa165.gameservice.business.facades.MatchFacade;
+import cz.fi.muni.pa165.gameservice.business.services.MatchFilter;
 import cz.fi.muni.pa165.service.gameservice.api.MatchController;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,10 +16,13 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -39,7 +45,12 @@ public class MatchControllerImpl implements MatchController {
 							content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
 									array = @ArraySchema(schema = @Schema(implementation = MatchViewDto.class)))),
 					@ApiResponse(responseCode = "400", description = "The request body is not valid",
-							content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)), })
+							content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
+					@ApiResponse(responseCode = "403",
+							description = "The competition lasts fewer days than the rounds of its schedule, as every team plays at most once a day, or there are not enough free arenas on some day of the competition.",
+							content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
+					@ApiResponse(responseCode = "409", description = "An arena was booked by another match meanwhile.",
+							content = @Content) })
 	@PostMapping(path = "/competition/{competitionUUID}")
 	@ResponseStatus(HttpStatus.CREATED)
 	@Override
@@ -63,6 +74,43 @@ public class MatchControllerImpl implements MatchController {
 		return matchFacade.getMatchesOfCompetition(competitionUUID, includeResults);
 	}
 
+	@Operation(
+			description = "Returns one page of the matches for the given competition ordered by their start. Next page is requested with the cursor of the previous one.",
+			responses = {
+					@ApiResponse(responseCode = "200",
+							description = "Page of the matches with the cursor of the next page.",
+							content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+									schema = @Schema(implementation = MatchPageDto.class))),
+					@ApiResponse(responseCode = "404", description = "Desired competition doesn't exist",
+							content = @Content),
+					@ApiResponse(responseCode = "400",
+							description = "Competition UUID, cursor, size of the page or some filter is not valid",
+							content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)), })
+	@GetMapping(path = "/competition/{competitionUUID}/page")
+	@Override
+	public MatchPageDto getMatchPageForCompetition(@PathVariable UUID competitionUUID,
+			@Parameter(name = "cursor",
+					description = "Cursor returned with the previous page, omitted for the first page.",
+					in = ParameterIn.QUERY) @RequestParam(name = "cursor", required = false) String cursor,
+			@Parameter(name = "size", description = "Maximal number of the matches in the page, at most 100.",
+					in = ParameterIn.QUERY) @RequestParam(name = "size", defaultValue = "50") int size,
+			@Parameter(name = "team", description = "Returns only matches of the team, home or away.",
+					in = ParameterIn.QUERY) @RequestParam(name = "team", required = false) UUID teamUUID,
+			@Parameter(name = "from", description = "Returns only matches starting at or after the time.",
+					in = ParameterIn.QUERY) @RequestParam(name = "from",
+							required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+			@Parameter(name = "to", description = "Returns only matches starting before the time.",
+					in = ParameterIn.QUERY) @RequestParam(name = "to",
+							required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+			@Parameter(name = "finished", description = "Returns only finished or only not finished matches.",
+					in = ParameterIn.QUERY) @RequestParam(name = "finished", required = false) Boolean finished,
+			@Parameter(name = "results", description = "Decides if response contains also result of the match.",
+					in = ParameterIn.QUERY) @RequestParam(name = "results",
+							defaultValue = "false") boolean includeResults) {
+		return matchFacade.getMatchPageOfCompetition(competitionUUID, cursor, size,
+				new MatchFilter(teamUUID, from, to, finished), includeResults);
+	}
+
 	@Operation(description = "Returns desired match defined by it's UUID",
 			responses = {
 					@ApiResponse(responseCode = "200", description = "Match view with or without results.",
@@ -90,7 +138,9 @@ public class MatchControllerImpl implements MatchController {
 					@ApiResponse(responseCode = "400", description = "The request body is not valid.",
 							content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
 					@ApiResponse(responseCode = "404",
-							description = "Provided dependent resource probably doesn't exist.", content = @Content) })
+							description = "Provided dependent resource probably doesn't exist.", content = @Content),
+					@ApiResponse(responseCode = "409", description = "The arena is already booked at that time.",
+							content = @Content) })
 	@PostMapping(path = "/")
 	@ResponseStatus(HttpStatus.CREATED)
 	@Override
@@ -98,4 +148,19 @@ public class MatchControllerImpl implements MatchController {
 		return matchFacade.createMatch(newMatch);
 	}
 
+	@Operation(
+			description = "Streams state changes of the match as server-sent events. The first event is the current state of the match, the stream ends together with the match. Too slow clients are disconnected",
+			responses = {
+					@ApiResponse(responseCode = "200", description = "Stream of the match events",
+							content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+									schema = @Schema(implementation = MatchEventDto.class))),
+					@ApiResponse(responseCode = "404", description = "Desired match doesn't exist", content = @Content),
+					@ApiResponse(responseCode = "400", description = "Match UUID is not valid UUID",
+							content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)), })
+	@GetMapping(path = "/{matchUUID}/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Override
+	public SseEmitter getMatchFeed(@PathVariable UUID matchUUID) {
+		return matchFacade.getMatchFeed(matchUUID);
+	}
+
 }
@@ -2,17 +2,25 @@ package cz.fi.muni.pa165.gameservice.business.facades;
 
 import cz.fi.muni.pa165.dto.gameservice.AssignTeamDto;
 import cz.fi.muni.pa165.dto.gameservice.CompetitionCreateDto;
+import cz.fi.muni.pa165.dto.gameservice.CompetitionForecastDto;
 import cz.fi.muni.pa165.dto.gameservice.CompetitionViewDto;
+import cz.fi.muni.pa165.dto.gameservice.TeamStandingDto;
 import cz.fi.muni.pa165.gameservice.api.exception.ActionForbidden;
+import cz.fi.muni.pa165.gameservice.api.exception.ResourceNotFoundException;
 import cz.fi.muni.pa165.gameservice.api.exception.ValidationHelper;
 import cz.fi.muni.pa165.gameservice.business.mappers.CompetitionMapper;
+import cz.fi.muni.pa165.gameservice.business.mappers.ForecastMapper;
+import cz.fi.muni.pa165.gameservice.business.mappers.StandingMapper;
 import cz.fi.muni.pa165.gameservice.business.services.CompetitionService;
 import cz.fi.muni.pa165.gameservice.business.services.TeamService;
+import cz.fi.muni.pa165.gameservice.business.services.forecast.SeasonForecastService;
+import cz.fi.muni.pa165.gameservice.business.services.standings.StandingsService;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -24,12 +32,25 @@ public class CompetitionFacade {
 
 	private final CompetitionMapper competitionMapper;
 
+	private final SeasonForecastService seasonForecastService;
+
+	private final ForecastMapper forecastMapper;
+
+	private final StandingsService standingsService;
+
+	private final StandingMapper standingMapper;
+
 	@Autowired
 	public CompetitionFacade(CompetitionService competitionService, TeamService teamService,
-			CompetitionMapper competitionMapper) {
+			CompetitionMapper competitionMapper, SeasonForecastService seasonForecastService,
+			ForecastMapper forecastMapper, StandingsService standingsService, StandingMapper standingMapper) {
 		this.competitionService = competitionService;
 		this.teamService = teamService;
 		this.competitionMapper = competitionMapper;
+		this.seasonForecastService = seasonForecastService;
+		this.forecastMapper = forecastMapper;
+		this.standingsService = standingsService;
+		this.standingMapper = standingMapper;
 	}
 
 	public CompetitionViewDto addCompetition(@NotNull CompetitionCreateDto competitionCreate) {
@@ -76,4 +97,42 @@ public class CompetitionFacade {
 				competitionMapper.competitionTeamsDtoToCompetitionHasTeam(assignTeamDto, competition));
 	}
 
+	/**
+	 * Forecasts final standings of the competition from its remaining matches
+	 * @param uuid UUID of the competition
+	 * @return probabilities of the final positions of every team
+	 */
+	public CompetitionForecastDto getForecast(@NotNull UUID uuid) {
+		ValidationHelper.requireNonNull(uuid, "Please provide UUID of competition you want to forecast");
+
+		return forecastMapper.competitionForecastToDto(seasonForecastService.getForecast(uuid));
+	}
+
+	/**
+	 * Gets current standings of the competition
+	 * @param uuid UUID of the competition
+	 * @return standings sorted by points, goal difference and scored goals
+	 */
+	public List<TeamStandingDto> getStandings(@NotNull UUID uuid) {
+		ValidationHelper.requireNonNull(uuid, "Please provide UUID of competition");
+
+		if (!competitionService.exists(uuid)) {
+			throw new ResourceNotFoundException("Competition with guid %s was not found!".formatted(uuid));
+		}
+		return standingMapper.standingsToDtos(standingsService.getStandings(uuid));
+	}
+
+	/**
+	 * Rebuilds standings of the competition from the results of its matches
+	 * @param uuid UUID of the competition
+	 * @return rebuilt standings
+	 */
+	@Transactional
+	public List<TeamStandingDto> rebuildStandings(@NotNull UUID uuid) {
+		ValidationHelper.requireNonNull(uuid, "Please provide UUID of competition");
+
+		final var competition = competitionService.getCompetition(uuid);
+		return standingMapper.standingsToDtos(standingsService.rebuild(competition));
+	}
+
 }
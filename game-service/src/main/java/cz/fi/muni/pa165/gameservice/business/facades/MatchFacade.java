@@ -1,24 +1,41 @@
 package cz.fi.muni.pa165.gameservice.business.facades;
 
 import cz.fi.muni.pa165.dto.gameservice.MatchCreateDto;
+import cz.fi.muni.pa165.dto.gameservice.MatchEventDto;
+import cz.fi.muni.pa165.dto.gameservice.MatchPageDto;
 import cz.fi.muni.pa165.dto.gameservice.MatchViewDto;
+import cz.fi.muni.pa165.enums.MatchEventType;
+import cz.fi.muni.pa165.gameservice.api.exception.ResourceAlreadyExists;
 import cz.fi.muni.pa165.gameservice.api.exception.ResourceNotFoundException;
 import cz.fi.muni.pa165.gameservice.api.exception.ValidationHelper;
 import cz.fi.muni.pa165.gameservice.business.mappers.MatchMapper;
+import cz.fi.muni.pa165.gameservice.business.services.ArenaBookingService;
 import cz.fi.muni.pa165.gameservice.business.services.ArenaService;
 import cz.fi.muni.pa165.gameservice.business.services.CompetitionService;
+import cz.fi.muni.pa165.gameservice.business.services.MatchCursor;
+import cz.fi.muni.pa165.gameservice.business.services.MatchFilter;
 import cz.fi.muni.pa165.gameservice.business.services.MatchService;
+import cz.fi.muni.pa165.gameservice.business.services.feed.MatchFeedService;
+import cz.fi.muni.pa165.gameservice.business.services.simulation.MatchSimulationEngine;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Match;
+import jakarta.annotation.Nullable;
+import jakarta.validation.ValidationException;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
 public class MatchFacade {
 
+	public static final int MAX_PAGE_SIZE = 100;
+
 	private final MatchService matchService;
 
 	private final MatchMapper matchMapper;
@@ -27,13 +44,23 @@ public class MatchFacade {
 
 	private final ArenaService arenaService;
 
+	private final ArenaBookingService arenaBookingService;
+
+	private final MatchFeedService matchFeedService;
+
+	private final MatchSimulationEngine matchSimulationEngine;
+
 	@Autowired
 	public MatchFacade(MatchService matchService, MatchMapper matchMapper, CompetitionService competitionService,
-			ArenaService arenaService) {
+			ArenaService arenaService, ArenaBookingService arenaBookingService, MatchFeedService matchFeedService,
+			MatchSimulationEngine matchSimulationEngine) {
 		this.matchService = matchService;
 		this.matchMapper = matchMapper;
 		this.competitionService = competitionService;
 		this.arenaService = arenaService;
+		this.arenaBookingService = arenaBookingService;
+		this.matchFeedService = matchFeedService;
+		this.matchSimulationEngine = matchSimulationEngine;
 	}
 
 	/**
@@ -54,8 +81,15 @@ public class MatchFacade {
 	@Transactional
 	public MatchViewDto createMatch(@NotNull MatchCreateDto newMatch) {
 		ValidationHelper.requireNonNull(newMatch, "You must provide Match Dto to create new match");
+		if (Objects.equals(newMatch.getHomeTeamUid(), newMatch.getAwayTeamUid())) {
+			throw new ValidationException("Home and away team of the match must differ");
+		}
 
 		final var arena = arenaService.getReferenceIfExists(newMatch.getArenaUid());
+		if (!arenaBookingService.isAvailable(newMatch.getArenaUid(), newMatch.getStartAt())) {
+			throw new ResourceAlreadyExists(
+					"Arena %s is already booked at %s".formatted(newMatch.getArenaUid(), newMatch.getStartAt()));
+		}
 		final var matchEntity = matchMapper.matchCreateDtoToEntity(newMatch, arena);
 		final var savedMatch = matchService.saveMatch(matchEntity);
 
@@ -77,6 +111,41 @@ public class MatchFacade {
 		return matchMapper.listEntitiesToListViewsIgnoreResult(matches);
 	}
 
+	/**
+	 * Gets one page of the matches of the competition ordered by their start
+	 * @param cursor cursor returned with the previous page, null for the first page
+	 * @param size maximal number of the matches in the page, at most
+	 * {@value #MAX_PAGE_SIZE}
+	 * @param filter filters of the listed matches
+	 * @return page with the cursor of the next one, the last page has no cursor
+	 */
+	public MatchPageDto getMatchPageOfCompetition(@NotNull UUID competitionUUID, @Nullable String cursor, int size,
+			@NotNull MatchFilter filter, boolean includeResults) {
+		ValidationHelper.requireNonNull(competitionUUID, "Please provide UUID of competition");
+		if (size < 1 || size > MAX_PAGE_SIZE) {
+			throw new ValidationException("Size of the page must be between 1 and %d".formatted(MAX_PAGE_SIZE));
+		}
+		var after = cursor == null ? null : MatchCursor.decode(cursor);
+
+		if (!competitionService.exists(competitionUUID)) {
+			throw new ResourceNotFoundException("Competition with guid %s was not found!".formatted(competitionUUID));
+		}
+
+		// One more match tells whether there is a next page
+		var items = matchService.getMatchPage(competitionUUID, after, filter, size + 1);
+		var pageItems = items.size() > size ? items.subList(0, size) : items;
+		var matches = pageItems.stream()
+			.map(item -> matchMapper.matchListItemToMatchViewDto(item, includeResults))
+			.toList();
+
+		String nextCursor = null;
+		if (items.size() > size) {
+			var last = pageItems.getLast();
+			nextCursor = new MatchCursor(last.getStartAt(), last.getGuid()).encode();
+		}
+		return MatchPageDto.builder().matches(matches).nextCursor(nextCursor).build();
+	}
+
 	public MatchViewDto getMatch(@NotNull UUID matchUUID, boolean includeResults) {
 		ValidationHelper.requireNonNull(matchUUID, "Please provide UUID of desired match");
 
@@ -88,4 +157,33 @@ public class MatchFacade {
 		return matchMapper.matchEntityToMatchViewDtoIgnoreResult(match);
 	}
 
+	/**
+	 * Opens live feed of the match. Score of an already running match is known with its
+	 * next goal, the feed ends together with the match
+	 * @param matchUUID UUID of the match
+	 */
+	public SseEmitter getMatchFeed(@NotNull UUID matchUUID) {
+		ValidationHelper.requireNonNull(matchUUID, "Please provide UUID of desired match");
+
+		return matchFeedService.subscribe(matchUUID, () -> getCurrentState(matchService.getMatch(matchUUID)));
+	}
+
+	private MatchEventDto getCurrentState(Match match) {
+		var state = MatchEventDto.builder()
+			.sequence(-1)
+			.matchGuid(match.getGuid())
+			.type(MatchEventType.SCHEDULED)
+			.createdAt(OffsetDateTime.now());
+		if (match.getResult() != null) {
+			return state.type(MatchEventType.ENDED)
+				.scoreHomeTeam(match.getResult().getScoreHomeTeam())
+				.scoreAwayTeam(match.getResult().getScoreAwayTeam())
+				.build();
+		}
+		if (matchSimulationEngine.isSimulating(match.getGuid())) {
+			return state.type(MatchEventType.STARTED).build();
+		}
+		return state.build();
+	}
+
 }
@@ -0,0 +1,17 @@
+package cz.fi.muni.pa165.gameservice.business.mappers;
+
+import cz.fi.muni.pa165.dto.gameservice.CompetitionForecastDto;
+import cz.fi.muni.pa165.dto.gameservice.TeamForecastDto;
+import cz.fi.muni.pa165.gameservice.business.services.forecast.CompetitionForecast;
+import cz.fi.muni.pa165.gameservice.business.services.forecast.TeamForecast;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ForecastMapper {
+
+	CompetitionForecastDto competitionForecastToDto(CompetitionForecast competitionForecast);
+
+	TeamForecastDto teamForecastToDto(TeamForecast teamForecast);
+
+}
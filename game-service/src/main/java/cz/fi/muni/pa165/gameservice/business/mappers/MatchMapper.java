@@ -1,9 +1,12 @@
 package cz.fi.muni.pa165.gameservice.business.mappers;
 
+import cz.fi.muni.pa165.dto.gameservice.ArenaViewDto;
 import cz.fi.muni.pa165.dto.gameservice.MatchCreateDto;
 import cz.fi.muni.pa165.dto.gameservice.MatchViewDto;
+import cz.fi.muni.pa165.dto.gameservice.ResultViewDto;
 import cz.fi.muni.pa165.gameservice.persistence.entities.Arena;
 import cz.fi.muni.pa165.gameservice.persistence.entities.Match;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.MatchListItem;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
@@ -31,6 +34,30 @@ public interface MatchMapper {
 
 	List<MatchViewDto> listEntitiesToListViews(List<Match> matches);
 
+	default MatchViewDto matchListItemToMatchViewDto(MatchListItem item, boolean includeResult) {
+		var matchView = MatchViewDto.builder()
+			.guid(item.getGuid())
+			.arena(ArenaViewDto.builder()
+				.guid(item.getArenaGuid())
+				.countryCode(item.getArenaCountryCode())
+				.cityName(item.getArenaCityName())
+				.arenaName(item.getArenaName())
+				.build())
+			.startAt(item.getStartAt())
+			.endAt(item.getEndAt())
+			.homeTeamUid(item.getHomeTeamUid())
+			.awayTeamUid(item.getAwayTeamUid())
+			.matchType(item.getMatchType().name());
+		if (includeResult && item.getScoreHomeTeam() != null) {
+			matchView.result(ResultViewDto.builder()
+				.winnerTeam(item.getWinnerTeam())
+				.scoreHomeTeam(item.getScoreHomeTeam())
+				.scoreAwayTeam(item.getScoreAwayTeam())
+				.build());
+		}
+		return matchView.build();
+	}
+
 	@Mapping(source = "arenaEntity", target = "arena")
 	@Mapping(target = "guid", ignore = true)
 	@Mapping(target = "matchType",
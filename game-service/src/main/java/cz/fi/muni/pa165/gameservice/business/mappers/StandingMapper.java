@@ -0,0 +1,33 @@
+package cz.fi.muni.pa165.gameservice.business.mappers;
+
+import cz.fi.muni.pa165.dto.gameservice.TeamStandingDto;
+import cz.fi.muni.pa165.gameservice.persistence.entities.TeamStanding;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface StandingMapper {
+
+	@Mapping(target = "position", ignore = true)
+	@Mapping(target = "played",
+			expression = "java(teamStanding.getWins() + teamStanding.getDraws() + teamStanding.getLosses())")
+	TeamStandingDto teamStandingToDto(TeamStanding teamStanding);
+
+	/**
+	 * Maps sorted standings and numbers the positions of the teams
+	 */
+	default List<TeamStandingDto> standingsToDtos(List<TeamStanding> standings) {
+		var standingDtos = new ArrayList<TeamStandingDto>(standings.size());
+		for (var standing : standings) {
+			var standingDto = teamStandingToDto(standing);
+			standingDto.setPosition(standingDtos.size() + 1);
+			standingDtos.add(standingDto);
+		}
+		return standingDtos;
+	}
+
+}
@@ -3,36 +3,46 @@ package cz.fi.muni.pa165.gameservice.business.messages;
 import cz.fi.muni.pa165.dto.gameservice.MatchViewDto;
 import cz.fi.muni.pa165.gameservice.api.exception.ValidationHelper;
 import cz.fi.muni.pa165.gameservice.business.mappers.MatchMapper;
+import cz.fi.muni.pa165.gameservice.business.services.OutboxService;
 import cz.fi.muni.pa165.gameservice.persistence.entities.Match;
 import jakarta.annotation.Nonnull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.jms.annotation.JmsListener;
-import org.springframework.jms.core.JmsTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class MatchMessageResolver {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(MatchMessageResolver.class);
 
-	private final JmsTemplate jmsTemplate;
+	public static final String MATCH_RESULT_QUEUE = "game.match.result.queue";
+
+	private final OutboxService outboxService;
 
 	private final MatchMapper matchMapper;
 
-	public MatchMessageResolver(@Qualifier("queueJmsTemplate") JmsTemplate jmsTemplate, MatchMapper matchMapper) {
-		this.jmsTemplate = jmsTemplate;
+	@Autowired
+	public MatchMessageResolver(OutboxService outboxService, MatchMapper matchMapper) {
+		this.outboxService = outboxService;
 		this.matchMapper = matchMapper;
 	}
 
+	/**
+	 * Stores the message about the ended match into the outbox. It is sent once the
+	 * transaction publishing the result commits.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
 	public void sendMatchEndedTopic(@Nonnull Match match) {
 		ValidationHelper.requireNonNull(match, "Please provide non null match");
 
 		var matchView = matchMapper.matchEntityToMatchViewDto(match);
-		jmsTemplate.convertAndSend("game.match.result.queue", matchView);
+		// Results of the matches of one home team are consumed in order
+		outboxService.enqueue(MATCH_RESULT_QUEUE, matchView, matchView.getHomeTeamUid().toString());
 
-		LOGGER.debug("Send topic 'game.match.result.queue' for match ID {}", matchView.getGuid());
+		LOGGER.debug("Queued topic '{}' for match ID {}", MATCH_RESULT_QUEUE, matchView.getGuid());
 	}
 
 }
@@ -0,0 +1,119 @@
+package cz.fi.muni.pa165.gameservice.business.messages;
+
+import cz.fi.muni.pa165.gameservice.business.services.OutboxService;
+import cz.fi.muni.pa165.gameservice.config.OutboxConfiguration;
+import cz.fi.muni.pa165.gameservice.persistence.entities.OutboxMessage;
+import cz.fi.muni.pa165.messaging.MessagingConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.jms.MessageProducer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.support.JmsUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox to the broker. Every batch is sent within one transacted JMS session
+ * and committed at once, the messages are removed from the outbox only after the commit.
+ * A message can be delivered twice when the node crashes between the two commits.
+ */
+@Component
+public class OutboxRelay {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelay.class);
+
+	private final OutboxService outboxService;
+
+	private final JmsTemplate jmsTemplate;
+
+	private final int batchSize;
+
+	private final Counter sentMessages;
+
+	private final Timer batchDuration;
+
+	private final AtomicLong lag = new AtomicLong();
+
+	@Autowired
+	public OutboxRelay(OutboxService outboxService, @Qualifier("outboxJmsTemplate") JmsTemplate jmsTemplate,
+			OutboxConfiguration outboxConfiguration, MeterRegistry meterRegistry) {
+		this.outboxService = outboxService;
+		this.jmsTemplate = jmsTemplate;
+		this.batchSize = outboxConfiguration.getBatchSize();
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("Outbox batch must contain at least one message");
+		}
+
+		this.sentMessages = Counter.builder("outbox.relay.sent")
+			.description("Messages sent from the outbox to the broker")
+			.register(meterRegistry);
+		this.batchDuration = Timer.builder("outbox.relay.batch")
+			.description("Duration of sending one batch of the outbox messages")
+			.register(meterRegistry);
+		TimeGauge.builder("outbox.relay.lag", lag, TimeUnit.MILLISECONDS, AtomicLong::get)
+			.description("Time the oldest message of the last batch waited in the outbox")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Sends all messages waiting in the outbox. Runs after the linger time elapses, so
+	 * the messages written in the meantime are sent together.
+	 */
+	@Scheduled(fixedDelayString = "${outbox.linger:200}")
+	public void relay() {
+		try {
+			int relayed;
+			do {
+				relayed = outboxService.relayBatch(batchSize, this::send);
+			}
+			while (relayed == batchSize);
+
+			if (relayed == 0) {
+				lag.set(0);
+			}
+		}
+		catch (RuntimeException e) {
+			LOGGER.error("Relaying the outbox failed, messages will be sent again", e);
+		}
+	}
+
+	private void send(List<OutboxMessage> batch) {
+		batchDuration.record(() -> jmsTemplate.execute(session -> {
+			MessageProducer producer = session.createProducer(null);
+			try {
+				for (var outboxMessage : batch) {
+					var message = jmsTemplate.getMessageConverter()
+						.toMessage(outboxService.readPayload(outboxMessage), session);
+					if (outboxMessage.getGroupId() != null) {
+						message.setStringProperty(MessagingConfiguration.GROUP_ID_PROPERTY, outboxMessage.getGroupId());
+					}
+					var destination = jmsTemplate.getDestinationResolver()
+						.resolveDestinationName(session, outboxMessage.getDestination(), false);
+					producer.send(destination, message);
+				}
+				JmsUtils.commitIfNecessary(session);
+			}
+			finally {
+				JmsUtils.closeMessageProducer(producer);
+			}
+			return null;
+		}, true));
+
+		sentMessages.increment(batch.size());
+		lag.set(Duration.between(batch.getFirst().getCreatedAt(), OffsetDateTime.now()).toMillis());
+		LOGGER.debug("Relayed {} messages from the outbox", batch.size());
+	}
+
+}
@@ -0,0 +1,32 @@
+package cz.fi.muni.pa165.gameservice.business.messages;
+
+import cz.fi.muni.pa165.gameservice.business.services.TeamStrengthCache;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jms.annotation.JmsListener;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+public class TeamCharacteristicMessageListener {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TeamCharacteristicMessageListener.class);
+
+	private final TeamStrengthCache teamStrengthCache;
+
+	@Autowired
+	public TeamCharacteristicMessageListener(TeamStrengthCache teamStrengthCache) {
+		this.teamStrengthCache = teamStrengthCache;
+	}
+
+	@JmsListener(destination = "team.characteristic.changed", containerFactory = "topicListenerFactory")
+	public void onTeamCharacteristicChanged(@Nonnull UUID teamId) {
+		LOGGER.debug("Received changed characteristics of team {}", teamId);
+
+		teamStrengthCache.invalidate(teamId);
+	}
+
+}
@@ -0,0 +1,77 @@
+package cz.fi.muni.pa165.gameservice.business.services;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * In-memory index of arena bookings within a planned period, loaded by the
+ * {@link ArenaBookingService}. Bookings of one arena are ordered by their start, and all
+ * of them last the same time, so a colliding booking is always the closest one before or
+ * after the checked start. Availability is then checked in O(log n) even when the period
+ * already contains colliding matches. The index is not thread safe.
+ */
+public final class ArenaBookingIndex {
+
+	private final long bookingSeconds;
+
+	private final Map<UUID, ArenaBookings> arenas = new HashMap<>();
+
+	ArenaBookingIndex(Duration bookingDuration) {
+		this.bookingSeconds = bookingDuration.toSeconds();
+	}
+
+	/**
+	 * @return true when no match starts in the arena within the booking duration around
+	 * the given start
+	 */
+	public boolean isAvailable(UUID arenaUid, OffsetDateTime startAt) {
+		var arenaBookings = arenas.get(arenaUid);
+		return arenaBookings == null || arenaBookings.isFree(startAt.toEpochSecond(), bookingSeconds);
+	}
+
+	/**
+	 * @return number of the bookings of the arena within the period
+	 */
+	public int countBookings(UUID arenaUid) {
+		var arenaBookings = arenas.get(arenaUid);
+		return arenaBookings == null ? 0 : arenaBookings.size;
+	}
+
+	/**
+	 * Adds the booking to the index, e.g. of a planned match
+	 */
+	public void add(UUID arenaUid, OffsetDateTime startAt) {
+		arenas.computeIfAbsent(arenaUid, uid -> new ArenaBookings()).add(startAt.toEpochSecond());
+	}
+
+	/**
+	 * Starts of the bookings of one arena in epoch seconds, with the number of bookings
+	 * starting at the same second
+	 */
+	private static final class ArenaBookings {
+
+		private final TreeMap<Long, Integer> starts = new TreeMap<>();
+
+		private int size;
+
+		boolean isFree(long start, long duration) {
+			var before = starts.floorKey(start);
+			if (before != null && before + duration > start) {
+				return false;
+			}
+			var after = starts.ceilingKey(start);
+			return after == null || after >= start + duration;
+		}
+
+		void add(long start) {
+			starts.merge(start, 1, Integer::sum);
+			size++;
+		}
+
+	}
+
+}
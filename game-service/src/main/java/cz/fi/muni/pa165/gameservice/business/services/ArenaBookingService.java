@@ -0,0 +1,101 @@
+package cz.fi.muni.pa165.gameservice.business.services;
+
+import cz.fi.muni.pa165.gameservice.api.exception.ResourceAlreadyExists;
+import cz.fi.muni.pa165.gameservice.api.exception.ValidationHelper;
+import cz.fi.muni.pa165.gameservice.config.ArenaBookingConfiguration;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Arena;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Match;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.ArenaRepository;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.MatchRepository;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Bookings of the arenas. Every match books its arena from its start for the configured
+ * booking duration. The match table is the only record of the bookings, the checks query
+ * it through the index on the arena and the start of the match. The booking itself is
+ * checked with the arena locked, so two transactions never book the same time.
+ */
+@Service
+public class ArenaBookingService {
+
+	private final MatchRepository matchRepository;
+
+	private final ArenaRepository arenaRepository;
+
+	private final Duration bookingDuration;
+
+	@Autowired
+	public ArenaBookingService(MatchRepository matchRepository, ArenaRepository arenaRepository,
+			ArenaBookingConfiguration arenaBookingConfiguration) {
+		this.matchRepository = matchRepository;
+		this.arenaRepository = arenaRepository;
+		this.bookingDuration = arenaBookingConfiguration.getBookingDuration();
+		if (bookingDuration.toMinutes() <= 0) {
+			throw new IllegalArgumentException("Arena must be booked for at least one minute");
+		}
+	}
+
+	/**
+	 * @return true when no match starts in the arena within the booking duration around
+	 * the given start
+	 */
+	public boolean isAvailable(@NotNull UUID arenaUid, @NotNull OffsetDateTime startAt) {
+		ValidationHelper.requireNonNull(arenaUid, "Please provide arena UUID");
+		ValidationHelper.requireNonNull(startAt, "Please provide start of the booking");
+
+		return !matchRepository.existsArenaBooking(arenaUid, startAt.minus(bookingDuration),
+				startAt.plus(bookingDuration), null);
+	}
+
+	/**
+	 * Loads the bookings of the arenas between the given times into an index, which
+	 * answers the availability of many slots without querying the database. The index is
+	 * not updated by later bookings, it serves for planning of the matches only.
+	 * @param from start of the planned period
+	 * @param to end of the planned period
+	 */
+	public ArenaBookingIndex loadIndex(@NotNull Collection<Arena> arenas, @NotNull OffsetDateTime from,
+			@NotNull OffsetDateTime to) {
+		ValidationHelper.requireNonNull(arenas, "Please provide arenas to load the bookings of");
+		ValidationHelper.requireNonNull(from, "Please provide start of the period");
+		ValidationHelper.requireNonNull(to, "Please provide end of the period");
+
+		var index = new ArenaBookingIndex(bookingDuration);
+		if (arenas.isEmpty()) {
+			return index;
+		}
+		var arenaGuids = arenas.stream().map(Arena::getGuid).toList();
+		for (var slot : matchRepository.findArenaSlots(arenaGuids, from.minus(bookingDuration),
+				to.plus(bookingDuration))) {
+			index.add(slot.getArenaGuid(), slot.getStartAt());
+		}
+		return index;
+	}
+
+	/**
+	 * Books the arena of the saved match. The arena stays locked until the transaction
+	 * ends.
+	 * @param match saved match
+	 * @throws ResourceAlreadyExists when the arena is booked by another match at that
+	 * time
+	 */
+	public void book(@NotNull Match match) {
+		ValidationHelper.requireNonNull(match, "Please provide match to book the arena");
+		ValidationHelper.requireNonNull(match.getGuid(), "Please save the match before booking the arena");
+
+		var arenaUid = match.getArena().getGuid();
+		arenaRepository.findLockedByGuid(arenaUid);
+		if (matchRepository.existsArenaBooking(arenaUid, match.getStartAt().minus(bookingDuration),
+				match.getStartAt().plus(bookingDuration), match.getGuid())) {
+			throw new ResourceAlreadyExists("Arena %s is already booked at %s".formatted(arenaUid, match.getStartAt()));
+		}
+	}
+
+}
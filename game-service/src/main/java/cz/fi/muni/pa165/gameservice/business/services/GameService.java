@@ -1,26 +1,39 @@
 package cz.fi.muni.pa165.gameservice.business.services;
 
 import cz.fi.muni.pa165.dto.teamservice.TeamCharacteristicDTO;
+import cz.fi.muni.pa165.enums.MatchEventType;
 import cz.fi.muni.pa165.enums.TeamCharacteristicType;
+import cz.fi.muni.pa165.gameservice.api.exception.ResourceNotFoundException;
 import cz.fi.muni.pa165.gameservice.api.exception.ValidationHelper;
-import cz.fi.muni.pa165.gameservice.business.messages.MatchMessageResolver;
+import cz.fi.muni.pa165.gameservice.business.services.feed.MatchFeedService;
+import cz.fi.muni.pa165.gameservice.business.services.scheduling.ShardLeaseService;
+import cz.fi.muni.pa165.gameservice.business.services.scheduling.ShardsAcquiredEvent;
+import cz.fi.muni.pa165.gameservice.business.services.simulation.MatchSimulationEngine;
 import cz.fi.muni.pa165.gameservice.config.SchedulingConfiguration;
 import cz.fi.muni.pa165.gameservice.persistence.entities.Match;
 import cz.fi.muni.pa165.gameservice.persistence.entities.Result;
+import cz.fi.muni.pa165.gameservice.persistence.entities.ScheduledTask;
+import cz.fi.muni.pa165.gameservice.persistence.entities.ScheduledTaskState;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.SchedulableMatch;
 import cz.fi.muni.pa165.service.teamservice.api.TeamCharacteristicController;
 import jakarta.validation.constraints.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -29,6 +42,11 @@ public class GameService {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(GameService.class);
 
+	/**
+	 * Upper bound of the strength used when team characteristics are not available
+	 */
+	private static final int FALLBACK_MAX_STRENGTH = 50;
+
 	private final MatchService matchService;
 
 	private final TaskSchedulerService taskSchedulerService;
@@ -37,94 +55,263 @@ public class GameService {
 
 	private final SchedulingConfiguration schedulingConfiguration;
 
-	private final MatchMessageResolver matchMessageResolver;
-
 	private final TeamCharacteristicController teamCharacteristicController;
 
+	private final MatchSimulationEngine matchSimulationEngine;
+
+	private final TeamStrengthCache teamStrengthCache;
+
+	private final ScheduleJournalService scheduleJournalService;
+
+	private final ShardLeaseService shardLeaseService;
+
+	private final MatchFeedService matchFeedService;
+
+	private final AtomicBoolean journalReplayed = new AtomicBoolean();
+
 	@Autowired
 	public GameService(MatchService matchService, TaskSchedulerService taskSchedulerService, Random random,
-			SchedulingConfiguration schedulingConfiguration, MatchMessageResolver matchMessageResolver,
-			TeamCharacteristicController teamCharacteristicController) {
+			SchedulingConfiguration schedulingConfiguration, TeamCharacteristicController teamCharacteristicController,
+			MatchSimulationEngine matchSimulationEngine, TeamStrengthCache teamStrengthCache,
+			ScheduleJournalService scheduleJournalService, ShardLeaseService shardLeaseService,
+			MatchFeedService matchFeedService) {
 		this.matchService = matchService;
 		this.taskSchedulerService = taskSchedulerService;
 		this.random = random;
 		this.schedulingConfiguration = schedulingConfiguration;
-		this.matchMessageResolver = matchMessageResolver;
 		this.teamCharacteristicController = teamCharacteristicController;
+		this.matchSimulationEngine = matchSimulationEngine;
+		this.teamStrengthCache = teamStrengthCache;
+		this.scheduleJournalService = scheduleJournalService;
+		this.shardLeaseService = shardLeaseService;
+		this.matchFeedService = matchFeedService;
 	}
 
 	@Scheduled(fixedRateString = "${tasks.schedule.fetch-interval}", timeUnit = TimeUnit.SECONDS)
 	private void periodicScheduler() {
-		var toBeScheduled = matchService.getMatchesForScheduling(schedulingConfiguration.getMatchScheduleOffset());
+		if (journalReplayed.compareAndSet(false, true)) {
+			replayScheduleJournal();
+		}
+
+		matchService.getMatchesForScheduling(schedulingConfiguration.getMatchScheduleOffset(),
+				schedulingConfiguration.getFetchPageSize(), this::schedulePage);
+	}
+
+	private void schedulePage(List<SchedulableMatch> matches) {
+		var toBeScheduled = matches.stream().filter(match -> shardLeaseService.ownsMatch(match.getGuid())).toList();
+		if (toBeScheduled.isEmpty()) {
+			return;
+		}
 
+		prefetchTeamStrengths(toBeScheduled);
 		for (var match : toBeScheduled) {
 			scheduleMatch(match);
 		}
 	}
 
-	public void scheduleMatch(@NotNull Match match) {
+	public void scheduleMatch(@NotNull SchedulableMatch match) {
 		ValidationHelper.requireNonNull(match, "Please provide match for scheduling");
 
 		var runnable = runMatch(match);
-		taskSchedulerService.scheduleTask(runnable, match.getGuid(), match.getStartAt().toInstant());
+		if (taskSchedulerService.scheduleTask(runnable, match.getGuid(), match.getStartAt().toInstant())) {
+			scheduleJournalService.recordScheduled(match.getGuid(), match.getStartAt());
+			matchFeedService.publish(match.getGuid(), MatchEventType.SCHEDULED, 0, 0);
+		}
 	}
 
-	public Runnable runMatch(Match match) {
-		return () -> {
-			LOGGER.debug("Started match {}", match.getGuid());
-			try {
-				Thread.sleep(schedulingConfiguration.getMatchSleepPlaceholder()); // Game
-																					// running
-																					// placeholder
+	/**
+	 * Re-arms matches of the taken over shards, so they don't wait for the next periodic
+	 * scheduling
+	 */
+	@EventListener
+	public void onShardsAcquired(ShardsAcquiredEvent event) {
+		LOGGER.debug("Replaying schedule journal for acquired shards {}", event.shards());
+		replayScheduleJournal();
+	}
+
+	/**
+	 * Re-arms all owned matches from the schedule journal in one pass. Runs once before
+	 * the first periodic scheduling, so pending matches don't wait for the match table to
+	 * be searched. Matches interrupted by the restart are simulated again from the
+	 * beginning, their result was not published yet. Matches which started within the
+	 * lease duration are skipped, they may still run on the previous owner of the shard.
+	 */
+	public void replayScheduleJournal() {
+		var pendingTasks = scheduleJournalService.getPendingTasks()
+			.stream()
+			.filter(task -> shardLeaseService.ownsMatch(task.getTaskGuid()))
+			.toList();
+		if (pendingTasks.isEmpty()) {
+			return;
+		}
+
+		var interrupted = pendingTasks.stream()
+			.filter(task -> task.getState() == ScheduledTaskState.RUNNING)
+			.map(ScheduledTask::getTaskGuid)
+			.collect(Collectors.toSet());
+		var pendingGuids = pendingTasks.stream().map(ScheduledTask::getTaskGuid).collect(Collectors.toSet());
+		var matches = matchService.getMatches(pendingGuids);
+
+		var toBeScheduled = new ArrayList<Match>(matches.size());
+		for (var match : matches) {
+			pendingGuids.remove(match.getGuid());
+			if (match.getResult() != null || match.getEndAt() != null) {
+				scheduleJournalService.recordFinished(match.getGuid());
+				continue;
+			}
+			if (interrupted.contains(match.getGuid())) {
+				LOGGER.info("Match {} was interrupted, it will be simulated again", match.getGuid());
 			}
-			catch (InterruptedException e) {
-				LOGGER.error("Running match {} failed", match.getGuid(), e);
+			toBeScheduled.add(match);
+		}
+		// Matches deleted in the meantime
+		pendingGuids.forEach(scheduleJournalService::recordFinished);
+
+		if (!toBeScheduled.isEmpty()) {
+			prefetchTeamStrengths(toBeScheduled);
+			toBeScheduled.forEach(this::scheduleMatch);
+		}
+		LOGGER.info("Replayed schedule journal, {} matches re-armed", toBeScheduled.size());
+	}
+
+	/**
+	 * Creates task starting the match. The task loads the match and hands it over to the
+	 * {@link MatchSimulationEngine}, the result is published once the simulation ends.
+	 * Strengths of the teams are read from the cache when the match starts, so changes of
+	 * the characteristics made after the scheduling are taken into account. The shard of
+	 * the match is not released while the match runs.
+	 * @param scheduledMatch match to be started
+	 * @return task starting the match
+	 */
+	public Runnable runMatch(SchedulableMatch scheduledMatch) {
+		return () -> {
+			var matchGuid = scheduledMatch.getGuid();
+			if (!shardLeaseService.tryStartMatch(matchGuid)) {
+				LOGGER.debug("Match {} is not owned by this node anymore", matchGuid);
+				return;
 			}
 
-			var scoreHomeTeam = getRandomScore(match.getHomeTeamUid());
-			var scoreAwayTeam = getRandomScore(match.getAwayTeamUid());
-			UUID winnerTeam = null;
-			if (scoreHomeTeam != scoreAwayTeam) {
-				winnerTeam = scoreHomeTeam < scoreAwayTeam ? match.getAwayTeamUid() : match.getHomeTeamUid();
+			CompletableFuture<Void> running;
+			try {
+				running = startMatch(matchGuid);
 			}
-			var result = Result.builder()
-				.matchGuid(match.getGuid())
-				.scoreHomeTeam(scoreHomeTeam)
-				.scoreAwayTeam(scoreAwayTeam)
-				.winnerTeam(winnerTeam)
-				.build();
-			var savedMatch = matchService.publishResult(result, match);
-
-			matchMessageResolver.sendMatchEndedTopic(savedMatch);
-			LOGGER.debug("Ended match {}", match.getGuid());
+			catch (RuntimeException e) {
+				shardLeaseService.matchEnded(matchGuid);
+				throw e;
+			}
+			running.whenComplete((ignored, e) -> shardLeaseService.matchEnded(matchGuid));
 		};
 	}
 
 	/**
-	 * Gets teams characteristics from TeamService and computes goals using simple
-	 * randomization
-	 * @return random score
+	 * @return future completed once the match ends, completed immediately when the match
+	 * is not started
+	 */
+	private CompletableFuture<Void> startMatch(UUID matchGuid) {
+		Match match;
+		try {
+			match = matchService.getMatch(matchGuid);
+		}
+		catch (ResourceNotFoundException e) {
+			LOGGER.debug("Match {} was deleted after it was scheduled", matchGuid);
+			scheduleJournalService.recordFinished(matchGuid);
+			return CompletableFuture.completedFuture(null);
+		}
+
+		if (!scheduleJournalService.recordStarted(matchGuid)) {
+			LOGGER.debug("Match {} is already running on another node or has finished", matchGuid);
+			return CompletableFuture.completedFuture(null);
+		}
+
+		var homeStrength = getTeamStrength(match.getHomeTeamUid());
+		var awayStrength = getTeamStrength(match.getAwayTeamUid());
+
+		var simulation = matchSimulationEngine.simulate(match, homeStrength, awayStrength);
+		if (simulation.isEmpty()) {
+			LOGGER.debug("Match {} is already in progress!", matchGuid);
+			return CompletableFuture.completedFuture(null);
+		}
+
+		LOGGER.debug("Started match {}", matchGuid);
+		matchFeedService.publish(matchGuid, MatchEventType.STARTED, 0, 0);
+		return simulation.get().thenAccept(result -> finishMatch(match, result)).exceptionally(e -> {
+			LOGGER.error("Running match {} failed", matchGuid, e);
+			return null;
+		});
+	}
+
+	/**
+	 * Fetches characteristics of all teams playing the given matches, which are not
+	 * cached, with one request to the TeamService. The computed strengths warm the
+	 * {@link TeamStrengthCache}, scheduled matches read it again when they start.
+	 * @param matches matches whose teams should be fetched
+	 * @return strengths of the teams, only the cached ones when the TeamService is not
+	 * available
+	 */
+	public Map<UUID, Double> prefetchTeamStrengths(@NotNull List<? extends SchedulableMatch> matches) {
+		var teamIds = matches.stream()
+			.flatMap(match -> Stream.of(match.getHomeTeamUid(), match.getAwayTeamUid()))
+			.collect(Collectors.toSet());
+
+		var teamStrengths = new HashMap<>(teamStrengthCache.getAll(teamIds));
+		var missingTeamIds = teamIds.stream()
+			.filter(teamId -> !teamStrengths.containsKey(teamId))
+			.collect(Collectors.toSet());
+		if (missingTeamIds.isEmpty()) {
+			return teamStrengths;
+		}
+
+		Map<UUID, List<TeamCharacteristicDTO>> characteristics;
+		try {
+			characteristics = teamCharacteristicController.findByTeamIds(missingTeamIds);
+		}
+		catch (RestClientException e) {
+			LOGGER.error("Team Service is not available, characteristics will be fetched for each match", e);
+			return teamStrengths;
+		}
+
+		LOGGER.debug("Prefetched characteristics of {} teams for {} matches", characteristics.size(), matches.size());
+		for (var teamId : missingTeamIds) {
+			teamStrengths.put(teamId, computeTeamStrength(teamId, characteristics.getOrDefault(teamId, List.of())));
+		}
+		return teamStrengths;
+	}
+
+	/**
+	 * Publishes the result. Message about the ended match is stored in the outbox within
+	 * the same transaction
 	 */
-	private int getRandomScore(UUID teamUUID) {
-		var teamChars = getTeamCharacteristics(teamUUID);
+	private void finishMatch(Match match, Result result) {
+		matchService.publishResult(result, match);
 
+		matchFeedService.publish(match.getGuid(), MatchEventType.ENDED, result.getScoreHomeTeam(),
+				result.getScoreAwayTeam());
+		scheduleJournalService.recordFinished(match.getGuid());
+		LOGGER.debug("Ended match {}", match.getGuid());
+	}
+
+	private double getTeamStrength(UUID teamUUID) {
+		return teamStrengthCache.get(teamUUID)
+			.orElseGet(() -> computeTeamStrength(teamUUID, getTeamCharacteristics(teamUUID)));
+	}
+
+	/**
+	 * Computes strength of the team from its characteristics and caches it. Fallback
+	 * strength of a team without characteristics is not cached.
+	 * @return strength of the team used by the simulation
+	 */
+	private double computeTeamStrength(UUID teamUUID, List<TeamCharacteristicDTO> teamChars) {
 		if (teamChars.isEmpty()) {
-			LOGGER.error(
-					"Failed to fetch teams characteristics for team ID={}. Falling back to the simple randomization...",
+			LOGGER.error("Failed to fetch teams characteristics for team ID={}. Falling back to the random strength...",
 					teamUUID);
-			return random.nextInt(0, 5);
+			return random.nextInt(0, FALLBACK_MAX_STRENGTH);
 		}
 
 		LOGGER.debug("Received team characteristics {}", teamChars);
 		var characteristics = convertCharacteristicsToMap(teamChars);
-		var performance = getTeamAverage(characteristics) + getRandomNoise();
-		performance = Math.max(0, performance);
-
-		return (int) Math.round(performance * 0.1);
-	}
-
-	private double getRandomNoise() {
-		return random.nextGaussian() * 10;
+		var strength = getTeamAverage(characteristics);
+		teamStrengthCache.put(teamUUID, strength);
+		return strength;
 	}
 
 	private Map<TeamCharacteristicType, Integer> convertCharacteristicsToMap(
@@ -0,0 +1,46 @@
+package cz.fi.muni.pa165.gameservice.business.services;
+
+import jakarta.validation.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last listed match. Clients get it encoded as an opaque string, so they
+ * don't depend on the columns the matches are ordered by.
+ *
+ * @param startAt start of the last listed match
+ * @param guid UUID of the last listed match
+ */
+public record MatchCursor(OffsetDateTime startAt, UUID guid) {
+
+	private static final String SEPARATOR = "|";
+
+	public String encode() {
+		var position = startAt.toString() + SEPARATOR + guid;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @param cursor cursor returned with the previous page
+	 * @throws ValidationException when the cursor wasn't created by {@link #encode()}
+	 */
+	public static MatchCursor decode(String cursor) throws ValidationException {
+		try {
+			var position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			var separatorIndex = position.indexOf(SEPARATOR);
+			if (separatorIndex < 0) {
+				throw new ValidationException("Cursor %s is not valid".formatted(cursor));
+			}
+			return new MatchCursor(OffsetDateTime.parse(position.substring(0, separatorIndex)),
+					UUID.fromString(position.substring(separatorIndex + 1)));
+		}
+		catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new ValidationException("Cursor %s is not valid".formatted(cursor), e);
+		}
+	}
+
+}
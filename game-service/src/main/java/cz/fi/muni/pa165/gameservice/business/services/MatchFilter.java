@@ -0,0 +1,18 @@
+package cz.fi.muni.pa165.gameservice.business.services;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Optional filters of the listed matches, null filters are not applied
+ *
+ * @param teamUUID team playing the match home or away
+ * @param from earliest start of the match, inclusive
+ * @param to latest start of the match, exclusive
+ * @param finished whether the match already has its result
+ */
+public record MatchFilter(UUID teamUUID, OffsetDateTime from, OffsetDateTime to, Boolean finished) {
+
+	public static final MatchFilter NONE = new MatchFilter(null, null, null, null);
+
+}
@@ -1,6 +1,9 @@
 package cz.fi.muni.pa165.gameservice.business.services;
 
+import cz.fi.muni.pa165.gameservice.api.exception.ActionForbidden;
 import cz.fi.muni.pa165.gameservice.api.exception.ValidationHelper;
+import cz.fi.muni.pa165.gameservice.config.ArenaBookingConfiguration;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Arena;
 import cz.fi.muni.pa165.gameservice.persistence.entities.Competition;
 import cz.fi.muni.pa165.gameservice.persistence.entities.CompetitionHasTeam;
 import cz.fi.muni.pa165.gameservice.persistence.entities.Match;
@@ -10,6 +13,10 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
@@ -17,19 +24,50 @@ import java.util.*;
 @Service
 public class MatchGenerationService {
 
+	/**
+	 * Time of the first match of the day, the following matches start one booking
+	 * duration after each other
+	 */
+	private static final LocalTime FIRST_MATCH_TIME = LocalTime.of(8, 0);
+
 	private final ArenaService arenaService;
 
 	private final Random randomGenerator;
 
+	private final ArenaBookingService arenaBookingService;
+
+	private final ArenaBookingConfiguration arenaBookingConfiguration;
+
 	@Autowired
-	public MatchGenerationService(Random randomGenerator, ArenaService arenaService) {
+	public MatchGenerationService(Random randomGenerator, ArenaService arenaService,
+			ArenaBookingService arenaBookingService, ArenaBookingConfiguration arenaBookingConfiguration) {
 		this.randomGenerator = randomGenerator;
 		this.arenaService = arenaService;
+		this.arenaBookingService = arenaBookingService;
+		this.arenaBookingConfiguration = arenaBookingConfiguration;
+	}
+
+	/**
+	 * Creates round robin schedule of the teams. Order of the teams is shuffled, so the
+	 * schedule differs between competitions
+	 * @param numberOfDoubles how many matches should two exact teams play. For each
+	 * double, the home and away teams are switched
+	 * @return schedule creating its rounds lazily
+	 */
+	public RoundRobinSchedule createSchedule(final List<CompetitionHasTeam> competitionHasTeam,
+			final int numberOfDoubles) {
+		var teams = new ArrayList<UUID>(competitionHasTeam.size());
+		competitionHasTeam.forEach(team -> teams.add(team.getTeamUid()));
+		Collections.shuffle(teams, randomGenerator);
+
+		return new RoundRobinSchedule(teams, numberOfDoubles);
 	}
 
 	/**
 	 * Creates combinations of teams for matches. Each team in combination with each other
-	 * team
+	 * team. Combinations are not split into rounds, a team may play several matches
+	 * created from them on one day. Use {@link #createSchedule(List, int)} for scheduling
+	 * of whole competition
 	 * @param numberOfDoubles how many matches should two exact teams play. For each
 	 * double, the home and away teams are switched
 	 * @return List of tuples, where each tuple represents one combination of teams
@@ -105,8 +143,10 @@ public class MatchGenerationService {
 				.arena(arenas.get(randomGenerator.nextInt(arenas.size())))
 				.homeTeamUid(currentCombination.getLeft())
 				.awayTeamUid(currentCombination.getRight())
-				.startAt(currentMatchDate.atTime(8, 0).atOffset(zoneOffset))
-				.endAt(currentMatchDate.atTime(9, 0).atOffset(zoneOffset))
+				.startAt(currentMatchDate.atTime(FIRST_MATCH_TIME).atOffset(zoneOffset))
+				.endAt(currentMatchDate.atTime(FIRST_MATCH_TIME)
+					.atOffset(zoneOffset)
+					.plus(arenaBookingConfiguration.getBookingDuration()))
 				.competition(competition)
 				.build();
 
@@ -116,4 +156,104 @@ public class MatchGenerationService {
 		return matches;
 	}
 
+	/**
+	 * Creates matches for given competition from the schedule. Every round is played on
+	 * its own day and the rounds are equally distributed among the competition time
+	 * interval, so no team plays twice on the same day. Each match gets the least loaded
+	 * arena, which is free at the earliest time of the day
+	 * @param competition competition for which matches should be generated
+	 * @param schedule schedule of the teams
+	 * @return List of Match entities, not saved in the database
+	 * @throws ActionForbidden when the competition has less days than the schedule has
+	 * rounds or when there are not enough free arenas on a day of the round
+	 */
+	public List<Match> createScheduledMatches(@NotNull Competition competition, @NotNull RoundRobinSchedule schedule) {
+		ValidationHelper.requireNonNull(competition, "Please provide competition for matches generation");
+		ValidationHelper.requireNonNull(schedule, "Please provide schedule for matches generation");
+
+		var numberOfDays = Math.max(1, ChronoUnit.DAYS.between(competition.getStartAt(), competition.getEndAt()));
+		var numberOfRounds = schedule.getNumberOfRounds();
+		if (numberOfRounds > numberOfDays) {
+			throw new ActionForbidden("Competition lasts %d days, but its teams need %d days to play all the matches"
+				.formatted(numberOfDays, numberOfRounds));
+		}
+
+		var arenas = arenaService.findAllArenas();
+
+		var startDate = competition.getStartAt();
+		var zoneOffset = ZonedDateTime.now().getOffset();
+
+		// Bookings of the competition days only, the matches generated so far are added,
+		// although they are not booked until they are saved
+		var bookings = arenaBookingService.loadIndex(arenas, startDate.atStartOfDay().atOffset(zoneOffset),
+				startDate.plusDays(numberOfDays).atStartOfDay().atOffset(zoneOffset));
+
+		var matches = new ArrayList<Match>(Math.toIntExact(schedule.getNumberOfMatches()));
+		var round = 0;
+		for (var pairs : schedule) {
+			var currentMatchDate = startDate.plusDays(round * numberOfDays / numberOfRounds);
+			var earliestStart = currentMatchDate.atTime(FIRST_MATCH_TIME).atOffset(zoneOffset);
+			for (var pair : pairs) {
+				var slot = findFreeArena(earliestStart, arenas, bookings);
+				var arena = slot.getLeft();
+				var startAt = slot.getRight();
+				// Earlier times of the day have no free arena left
+				earliestStart = startAt;
+				bookings.add(arena.getGuid(), startAt);
+
+				var match = Match.builder()
+					.matchType(MatchType.GROUP_STAGE)
+					.arena(arena)
+					.homeTeamUid(pair.getLeft())
+					.awayTeamUid(pair.getRight())
+					.startAt(startAt)
+					.endAt(startAt.plus(arenaBookingConfiguration.getBookingDuration()))
+					.competition(competition)
+					.build();
+
+				competition.getMatches().add(match);
+				matches.add(match);
+			}
+			round++;
+		}
+		return matches;
+	}
+
+	/**
+	 * Finds the earliest time of the day, when some arena is free, and the arena with the
+	 * least bookings in the competition period free at that time
+	 * @param earliestStart earliest start of the match, the times of the day are checked
+	 * from it in steps of the booking duration
+	 * @param bookings bookings of the competition period, including the planned matches
+	 * @return free arena with the start of the match
+	 */
+	private Pair<Arena, OffsetDateTime> findFreeArena(OffsetDateTime earliestStart, List<Arena> arenas,
+			ArenaBookingIndex bookings) {
+		var bookingDuration = arenaBookingConfiguration.getBookingDuration();
+		var date = earliestStart.toLocalDate();
+		var endOfDay = date.plusDays(1).atStartOfDay().atOffset(earliestStart.getOffset());
+
+		var startAt = earliestStart;
+		while (!startAt.plus(bookingDuration).isAfter(endOfDay)) {
+			Arena leastLoadedArena = null;
+			var leastLoad = Long.MAX_VALUE;
+			for (var arena : arenas) {
+				if (!bookings.isAvailable(arena.getGuid(), startAt)) {
+					continue;
+				}
+				var load = bookings.countBookings(arena.getGuid());
+				if (load < leastLoad) {
+					leastLoadedArena = arena;
+					leastLoad = load;
+				}
+			}
+			if (leastLoadedArena != null) {
+				return Pair.of(leastLoadedArena, startAt);
+			}
+			startAt = startAt.plus(bookingDuration);
+		}
+
+		throw new ActionForbidden("There are not enough free arenas on %s for all the matches".formatted(date));
+	}
+
 }
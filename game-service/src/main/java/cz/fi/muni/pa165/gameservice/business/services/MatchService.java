@@ -2,20 +2,29 @@ package cz.fi.muni.pa165.gameservice.business.services;
 
 import cz.fi.muni.pa165.gameservice.api.exception.ResourceNotFoundException;
 import cz.fi.muni.pa165.gameservice.api.exception.ValidationHelper;
+import cz.fi.muni.pa165.gameservice.business.messages.MatchMessageResolver;
+import cz.fi.muni.pa165.gameservice.business.services.standings.StandingsService;
 import cz.fi.muni.pa165.gameservice.persistence.entities.Competition;
 import cz.fi.muni.pa165.gameservice.persistence.entities.Match;
 import cz.fi.muni.pa165.gameservice.persistence.entities.Result;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.CompetitionProgress;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.MatchListItem;
 import cz.fi.muni.pa165.gameservice.persistence.repositories.MatchRepository;
 import cz.fi.muni.pa165.gameservice.persistence.repositories.ResultRepository;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.SchedulableMatch;
+import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 public class MatchService {
@@ -28,16 +37,26 @@ public class MatchService {
 
 	private final ResultRepository resultRepository;
 
+	private final ArenaBookingService arenaBookingService;
+
+	private final StandingsService standingsService;
+
+	private final MatchMessageResolver matchMessageResolver;
+
 	public MatchService(MatchGenerationService matchGenerationService, MatchRepository matchRepository,
-			ResultRepository resultRepository) {
+			ResultRepository resultRepository, ArenaBookingService arenaBookingService,
+			StandingsService standingsService, MatchMessageResolver matchMessageResolver) {
 		this.matchGenerationService = matchGenerationService;
 		this.matchRepository = matchRepository;
 		this.resultRepository = resultRepository;
+		this.arenaBookingService = arenaBookingService;
+		this.standingsService = standingsService;
+		this.matchMessageResolver = matchMessageResolver;
 	}
 
 	/**
-	 * Generates matches for given competition TODO: Matches are generated with only one
-	 * double and MatchType.GROUP_STAGE
+	 * Generates round robin matches for given competition, each team plays at most once a
+	 * day TODO: Matches are generated with only one double and MatchType.GROUP_STAGE
 	 * @param competition competition for which you want to generate matches
 	 * @return list of generated matches
 	 */
@@ -53,8 +72,8 @@ public class MatchService {
 		ValidationHelper.requireNotEmpty(teams, "Please assign some teams to the competition");
 
 		LOGGER.debug("Started generating matches for competition with UID {}", competition.getGuid());
-		final var combinations = matchGenerationService.createCombinations(competition.getTeams().stream().toList(), 1);
-		final var matches = matchGenerationService.createMatches(competition, combinations);
+		final var schedule = matchGenerationService.createSchedule(competition.getTeams().stream().toList(), 1);
+		final var matches = matchGenerationService.createScheduledMatches(competition, schedule);
 
 		LOGGER.debug("Generated {} matches for competition with UUID {}", matches.size(), competition.getGuid());
 		return matches;
@@ -64,13 +83,17 @@ public class MatchService {
 		ValidationHelper.requireNonNull(matches, "Please provide matches to save");
 		ValidationHelper.requireNotEmpty(matches, "Please provide matches to save");
 
-		return matchRepository.saveAll(matches);
+		var savedMatches = matchRepository.saveAll(matches);
+		savedMatches.forEach(arenaBookingService::book);
+		return savedMatches;
 	}
 
 	public Match saveMatch(@NotNull Match matchEntity) {
 		ValidationHelper.requireNonNull(matchEntity, "Please provide match to save.");
 
-		return matchRepository.save(matchEntity);
+		var savedMatch = matchRepository.save(matchEntity);
+		arenaBookingService.book(savedMatch);
+		return savedMatch;
 	}
 
 	public List<Match> getMatchesOfCompetition(@NotNull UUID competitionUUID) {
@@ -79,6 +102,33 @@ public class MatchService {
 		return this.matchRepository.getMatchesByCompetition_Guid(competitionUUID);
 	}
 
+	public CompetitionProgress getCompetitionProgress(@NotNull UUID competitionUUID) {
+		ValidationHelper.requireNonNull(competitionUUID, "Please provide competition UUID");
+
+		return matchRepository.getCompetitionProgress(competitionUUID);
+	}
+
+	/**
+	 * Gets one page of the matches of the competition ordered by their start. The page
+	 * continues right after the cursor, so its cost doesn't grow with the number of the
+	 * preceding matches.
+	 * @param after last match of the previous page, null for the first page
+	 * @param filter filters of the listed matches
+	 * @param size maximal number of the matches in the page
+	 */
+	public List<MatchListItem> getMatchPage(@NotNull UUID competitionUUID, @Nullable MatchCursor after,
+			@NotNull MatchFilter filter, int size) {
+		ValidationHelper.requireNonNull(competitionUUID, "Please provide competition UUID");
+		ValidationHelper.requireNonNull(filter, "Please provide filter of the matches");
+
+		if (after == null) {
+			return matchRepository.getMatchPage(competitionUUID, filter.teamUUID(), filter.from(), filter.to(),
+					filter.finished(), Limit.of(size));
+		}
+		return matchRepository.getMatchPageAfter(competitionUUID, after.startAt(), after.guid(), filter.teamUUID(),
+				filter.from(), filter.to(), filter.finished(), Limit.of(size));
+	}
+
 	public Match getMatch(@NotNull UUID matchUUID) {
 		ValidationHelper.requireNonNull(matchUUID, "Please provide match UUID");
 
@@ -89,29 +139,79 @@ public class MatchService {
 	}
 
 	/**
-	 * Gets matches for scheduling
+	 * Gets matches by their UUIDs with one query. Matches which don't exist are not
+	 * returned.
+	 */
+	public List<Match> getMatches(@NotNull Collection<UUID> matchUUIDs) {
+		ValidationHelper.requireNonNull(matchUUIDs, "Please provide match UUIDs");
+
+		return matchRepository.findAllById(matchUUIDs);
+	}
+
+	/**
+	 * Hands the matches for scheduling over to the consumer in pages ordered by their
+	 * start. Each page continues after the last match of the previous one, so the cost of
+	 * a page doesn't grow with the number of the played matches.
 	 * @param offset positive number from current date defining when the matches should be
 	 * loaded for scheduling
+	 * @param pageSize maximal number of the matches in one page
+	 * @param pageConsumer schedules one page of the matches
+	 * @return number of the loaded matches
 	 */
-	public List<Match> getMatchesForScheduling(int offset) {
+	public int getMatchesForScheduling(int offset, int pageSize,
+			@NotNull Consumer<List<SchedulableMatch>> pageConsumer) {
 		if (offset <= 0) {
 			throw new IllegalArgumentException("Offset should be positive number");
 		}
+		if (pageSize <= 0) {
+			throw new IllegalArgumentException("Page size should be positive number");
+		}
+		ValidationHelper.requireNonNull(pageConsumer, "Please provide consumer of the matches");
+
 		var schedulingTime = OffsetDateTime.now().plusHours(offset);
-		return matchRepository.getMatchesForScheduling(schedulingTime);
+		var page = matchRepository.getMatchesForScheduling(schedulingTime, Limit.of(pageSize));
+		var loaded = 0;
+		while (!page.isEmpty()) {
+			pageConsumer.accept(page);
+			loaded += page.size();
+			if (page.size() < pageSize) {
+				break;
+			}
+
+			var last = page.getLast();
+			page = matchRepository.getMatchesForSchedulingAfter(schedulingTime, last.getStartAt(), last.getGuid(),
+					Limit.of(pageSize));
+		}
+		return loaded;
 	}
 
+	/**
+	 * Stores the result of the match and ends it. The match is locked, only the first
+	 * published result is stored, the later ones are ignored.
+	 * @return the ended match
+	 */
 	@Transactional
 	public Match publishResult(@NotNull Result result, @NotNull Match match) {
 		ValidationHelper.requireNonNull(result, "Please provide result for publishing");
 		ValidationHelper.requireNonNull(match, "Please provide match");
 
+		var lockedMatch = matchRepository.findLockedByGuid(match.getGuid())
+			.orElseThrow(
+					() -> new ResourceNotFoundException("Match with UUID %s was not found".formatted(match.getGuid())));
+		if (lockedMatch.getResult() != null) {
+			LOGGER.warn("Result of match {} was already published, the new result is ignored", match.getGuid());
+			return lockedMatch;
+		}
+
+		standingsService.recordResult(lockedMatch, result);
 		var returnedResult = resultRepository.save(result);
 
-		match.setResult(returnedResult);
-		var offset = match.getStartAt().getOffset();
-		match.setEndAt(OffsetDateTime.now().withOffsetSameInstant(offset));
-		return matchRepository.save(match);
+		lockedMatch.setResult(returnedResult);
+		var offset = lockedMatch.getStartAt().getOffset();
+		lockedMatch.setEndAt(OffsetDateTime.now().withOffsetSameInstant(offset));
+		var savedMatch = matchRepository.save(lockedMatch);
+		matchMessageResolver.sendMatchEndedTopic(savedMatch);
+		return savedMatch;
 	}
 
 	public long countMatchesAtArena(UUID arenaUid) {
@@ -0,0 +1,121 @@
+package cz.fi.muni.pa165.gameservice.business.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cz.fi.muni.pa165.gameservice.api.exception.ValidationHelper;
+import cz.fi.muni.pa165.gameservice.persistence.entities.OutboxMessage;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.OutboxMessageRepository;
+import cz.fi.muni.pa165.messaging.MessagingConfiguration;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ClassUtils;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Transactional outbox of the JMS messages. Messages are stored together with the change
+ * they announce and relayed to the broker in batches by
+ * {@link cz.fi.muni.pa165.gameservice.business.messages.OutboxRelay}.
+ */
+@Service
+public class OutboxService {
+
+	private final OutboxMessageRepository outboxMessageRepository;
+
+	private final ObjectMapper objectMapper = MessagingConfiguration.createObjectMapper();
+
+	@Autowired
+	public OutboxService(OutboxMessageRepository outboxMessageRepository) {
+		this.outboxMessageRepository = outboxMessageRepository;
+	}
+
+	/**
+	 * Stores the message in the outbox. Must be called within the transaction of the
+	 * change, the message is sent only if the transaction commits.
+	 * @param destination name of the queue
+	 * @param payload payload of the message serialized to JSON
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void enqueue(@NotNull String destination, @NotNull Object payload) {
+		enqueue(destination, payload, null);
+	}
+
+	/**
+	 * Stores the message of the group in the outbox. Messages of one group are consumed
+	 * in the order they were stored.
+	 * @param destination name of the queue
+	 * @param payload payload of the message serialized to JSON
+	 * @param groupId ID of the message group, null sends the message outside any group
+	 * @see #enqueue(String, Object)
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void enqueue(@NotNull String destination, @NotNull Object payload, String groupId) {
+		ValidationHelper.requireNonNull(destination, "Please provide destination of the message");
+		ValidationHelper.requireNonNull(payload, "Please provide payload of the message");
+
+		String serializedPayload;
+		try {
+			serializedPayload = objectMapper.writeValueAsString(payload);
+		}
+		catch (JsonProcessingException e) {
+			throw new IllegalArgumentException(
+					"Payload of the message for %s can't be serialized".formatted(destination), e);
+		}
+
+		outboxMessageRepository.save(OutboxMessage.builder()
+			.destination(destination)
+			.groupId(groupId)
+			.payloadType(payload.getClass().getName())
+			.payload(serializedPayload)
+			.createdAt(OffsetDateTime.now())
+			.build());
+	}
+
+	/**
+	 * Reads the stored payload back into its original type, so it can be converted into
+	 * the message the same way as the payloads sent directly
+	 * @param outboxMessage message from the outbox
+	 * @return deserialized payload
+	 */
+	public Object readPayload(@NotNull OutboxMessage outboxMessage) {
+		ValidationHelper.requireNonNull(outboxMessage, "Please provide outbox message");
+
+		try {
+			var payloadType = ClassUtils.forName(outboxMessage.getPayloadType(), getClass().getClassLoader());
+			return objectMapper.readValue(outboxMessage.getPayload(), payloadType);
+		}
+		catch (ClassNotFoundException | JsonProcessingException e) {
+			throw new IllegalStateException(
+					"Payload of the outbox message %d can't be read".formatted(outboxMessage.getId()), e);
+		}
+	}
+
+	/**
+	 * Hands the oldest messages over to the sender and removes them from the outbox. The
+	 * messages stay locked while they are sent and remain in the outbox when the sender
+	 * fails.
+	 * @param batchSize maximal number of the messages
+	 * @param sender sends the batch to the broker
+	 * @return number of the relayed messages
+	 */
+	@Transactional
+	public int relayBatch(int batchSize, @NotNull Consumer<List<OutboxMessage>> sender) {
+		ValidationHelper.requireNonNull(sender, "Please provide sender of the messages");
+
+		var batch = outboxMessageRepository.findOldest(Limit.of(batchSize));
+		if (batch.isEmpty()) {
+			return 0;
+		}
+
+		sender.accept(batch);
+		outboxMessageRepository.deleteAllInBatch(batch);
+		return batch.size();
+	}
+
+}
@@ -0,0 +1,131 @@
+package cz.fi.muni.pa165.gameservice.business.services;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Round robin schedule created by the circle method. The first team stays in place and
+ * the others rotate around it by one position every round, so each team meets every other
+ * team once per double. Rounds are created lazily while iterating, only the list of the
+ * teams is kept in memory. Each team plays at most once per round, with odd number of
+ * teams one team has a rest in every round.
+ * <p>
+ * Home and away teams are switched between the doubles. The team which stays in place
+ * alternates home and away every round.
+ */
+public class RoundRobinSchedule implements Iterable<List<Pair<UUID, UUID>>> {
+
+	private final List<UUID> teams;
+
+	private final int numberOfDoubles;
+
+	/**
+	 * Number of positions in the circle, one more than the number of teams when the
+	 * number of teams is odd. The extra position means rest for its opponent.
+	 */
+	private final int positions;
+
+	/**
+	 * @param teams teams of the competition, the order of the teams defines the schedule
+	 * @param numberOfDoubles how many matches should two exact teams play
+	 */
+	public RoundRobinSchedule(List<UUID> teams, int numberOfDoubles) {
+		if (teams.size() < 2) {
+			throw new IllegalArgumentException("Cannot generate combinations for number of team lower than 2");
+		}
+		if (numberOfDoubles < 1) {
+			throw new IllegalArgumentException("Number of doubles cannot be lower than 1");
+		}
+
+		this.teams = List.copyOf(teams);
+		this.numberOfDoubles = numberOfDoubles;
+		this.positions = teams.size() % 2 == 0 ? teams.size() : teams.size() + 1;
+	}
+
+	public int getNumberOfRounds() {
+		return getRoundsPerDouble() * numberOfDoubles;
+	}
+
+	public int getMatchesPerRound() {
+		return teams.size() / 2;
+	}
+
+	public long getNumberOfMatches() {
+		return (long) getNumberOfRounds() * getMatchesPerRound();
+	}
+
+	/**
+	 * @param round index of the round, starting at zero
+	 * @return pairs of home and away team playing in the given round
+	 */
+	public List<Pair<UUID, UUID>> getRound(int round) {
+		if (round < 0 || round >= getNumberOfRounds()) {
+			throw new IndexOutOfBoundsException(round);
+		}
+
+		var roundsPerDouble = getRoundsPerDouble();
+		var swapHomeAndAway = (round / roundsPerDouble) % 2 == 1;
+		var rotation = round % roundsPerDouble;
+
+		var pairs = new ArrayList<Pair<UUID, UUID>>(getMatchesPerRound());
+		for (int position = 0; position < positions / 2; position++) {
+			var first = getTeamAt(position, rotation);
+			var second = getTeamAt(positions - 1 - position, rotation);
+			if (first >= teams.size() || second >= teams.size()) {
+				continue;
+			}
+
+			var firstIsHome = position == 0 ? rotation % 2 == 0 : position % 2 == 1;
+			if (firstIsHome != swapHomeAndAway) {
+				pairs.add(Pair.of(teams.get(first), teams.get(second)));
+			}
+			else {
+				pairs.add(Pair.of(teams.get(second), teams.get(first)));
+			}
+		}
+		return pairs;
+	}
+
+	@Override
+	public Iterator<List<Pair<UUID, UUID>>> iterator() {
+		return new Iterator<>() {
+
+			private int round;
+
+			@Override
+			public boolean hasNext() {
+				return round < getNumberOfRounds();
+			}
+
+			@Override
+			public List<Pair<UUID, UUID>> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return getRound(round++);
+			}
+
+		};
+	}
+
+	private int getRoundsPerDouble() {
+		return positions - 1;
+	}
+
+	/**
+	 * @return index of the team standing at the given position after the given number of
+	 * rotations
+	 */
+	private int getTeamAt(int position, int rotation) {
+		if (position == 0) {
+			return 0;
+		}
+		return 1 + (position - 1 + rotation) % (positions - 1);
+	}
+
+}
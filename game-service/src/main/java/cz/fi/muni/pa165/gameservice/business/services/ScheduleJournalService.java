@@ -0,0 +1,116 @@
+package cz.fi.muni.pa165.gameservice.business.services;
+
+import cz.fi.muni.pa165.gameservice.api.exception.ValidationHelper;
+import cz.fi.muni.pa165.gameservice.config.SchedulingConfiguration;
+import cz.fi.muni.pa165.gameservice.config.ShardingConfiguration;
+import cz.fi.muni.pa165.gameservice.persistence.entities.ScheduledTask;
+import cz.fi.muni.pa165.gameservice.persistence.entities.ScheduledTaskState;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.ScheduledTaskRepository;
+import jakarta.validation.constraints.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Persistent journal of the scheduled match tasks. After a restart the journal is
+ * replayed instead of searching the whole match table. Tasks only move forward through
+ * the {@link ScheduledTaskState states}, so scheduling the match again never resets a
+ * task which is already running or finished. Finished tasks are removed once the
+ * retention elapses.
+ */
+@Service
+public class ScheduleJournalService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ScheduleJournalService.class);
+
+	private static final Set<ScheduledTaskState> PENDING_STATES = EnumSet.of(ScheduledTaskState.SCHEDULED,
+			ScheduledTaskState.RUNNING);
+
+	private final ScheduledTaskRepository scheduledTaskRepository;
+
+	private final ShardingConfiguration shardingConfiguration;
+
+	private final SchedulingConfiguration schedulingConfiguration;
+
+	@Autowired
+	public ScheduleJournalService(ScheduledTaskRepository scheduledTaskRepository,
+			ShardingConfiguration shardingConfiguration, SchedulingConfiguration schedulingConfiguration) {
+		this.scheduledTaskRepository = scheduledTaskRepository;
+		this.shardingConfiguration = shardingConfiguration;
+		this.schedulingConfiguration = schedulingConfiguration;
+	}
+
+	@Transactional
+	public void recordScheduled(@NotNull UUID taskGuid, @NotNull OffsetDateTime startAt) {
+		ValidationHelper.requireNonNull(taskGuid, "Please provide taskID of the scheduled task");
+		ValidationHelper.requireNonNull(startAt, "Please provide startAt time of the scheduled task");
+
+		var now = OffsetDateTime.now();
+		if (scheduledTaskRepository.updateStartAt(taskGuid, startAt, now) > 0
+				|| scheduledTaskRepository.existsById(taskGuid)) {
+			return;
+		}
+		scheduledTaskRepository.save(ScheduledTask.builder()
+			.taskGuid(taskGuid)
+			.startAt(startAt)
+			.state(ScheduledTaskState.SCHEDULED)
+			.updatedAt(now)
+			.build());
+	}
+
+	/**
+	 * Claims the task before the match is started
+	 * @return false if the task is finished or running on another instance, the match
+	 * must not be started
+	 */
+	@Transactional
+	public boolean recordStarted(@NotNull UUID taskGuid) {
+		ValidationHelper.requireNonNull(taskGuid, "Please provide taskID of the started task");
+
+		var now = OffsetDateTime.now();
+		return scheduledTaskRepository.claim(taskGuid, getStaleBefore(now), now) > 0
+				|| !scheduledTaskRepository.existsById(taskGuid);
+	}
+
+	@Transactional
+	public void recordFinished(@NotNull UUID taskGuid) {
+		ValidationHelper.requireNonNull(taskGuid, "Please provide taskID of the finished task");
+
+		scheduledTaskRepository.updateState(taskGuid, PENDING_STATES, ScheduledTaskState.FINISHED,
+				OffsetDateTime.now());
+	}
+
+	/**
+	 * @return all tasks which were scheduled or running and have not finished, without
+	 * the running tasks updated within the lease duration
+	 */
+	@Transactional(readOnly = true)
+	public List<ScheduledTask> getPendingTasks() {
+		return scheduledTaskRepository.findPending(getStaleBefore(OffsetDateTime.now()));
+	}
+
+	/**
+	 * Removes the tasks finished before the retention
+	 */
+	@Scheduled(fixedDelayString = "${tasks.schedule.journal.purge-interval:600000}")
+	@Transactional
+	public void purgeFinished() {
+		var threshold = OffsetDateTime.now().minusHours(schedulingConfiguration.getJournalRetention());
+		var removed = scheduledTaskRepository.deleteFinishedBefore(threshold);
+		LOGGER.debug("Removed {} finished tasks from the journal", removed);
+	}
+
+	private OffsetDateTime getStaleBefore(OffsetDateTime now) {
+		return now.minusSeconds(shardingConfiguration.getLeaseDuration());
+	}
+
+}
@@ -15,7 +15,8 @@ import java.util.concurrent.ScheduledFuture;
 
 /**
  * Service for scheduling tasks (threads). Service restarts must be handled by the client
- * - when the service gets restarted, tasks must be rescheduled manually
+ * - when the service gets restarted, tasks must be rescheduled manually, e.g. from the
+ * {@link ScheduleJournalService}
  */
 @Service
 public class TaskSchedulerService {
@@ -37,8 +38,10 @@ public class TaskSchedulerService {
 	 * @param runnable task's runnable
 	 * @param taskID ID of the started task
 	 * @param startAt instant defining when the task should start
+	 * @return true if the task was scheduled, false if the task with the same ID was
+	 * already known
 	 */
-	public void scheduleTask(@NotNull Runnable runnable, @NotNull UUID taskID, @NotNull Instant startAt) {
+	public boolean scheduleTask(@NotNull Runnable runnable, @NotNull UUID taskID, @NotNull Instant startAt) {
 		ValidationHelper.requireNonNull(runnable, "Please provide runnable for the scheduled task");
 		ValidationHelper.requireNonNull(taskID, "Please provide taskID for the scheduled task");
 		ValidationHelper.requireNonNull(startAt, "Please provide startAt time for the scheduled task");
@@ -46,12 +49,13 @@ public class TaskSchedulerService {
 		var scheduledMatch = scheduledTasks.get(taskID);
 		if (scheduledMatch != null) {
 			removeAmbiguousTask(scheduledMatch, taskID);
-			return;
+			return false;
 		}
 
 		var task = taskScheduler.schedule(wrapTaskRunnable(runnable, taskID), startAt);
 		scheduledTasks.put(taskID, task);
 		LOGGER.debug("Task '{}' scheduled to '{}'", taskID, startAt);
+		return true;
 	}
 
 	/**
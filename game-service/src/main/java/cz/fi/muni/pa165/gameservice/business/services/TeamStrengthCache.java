@@ -0,0 +1,65 @@
+package cz.fi.muni.pa165.gameservice.business.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import cz.fi.muni.pa165.gameservice.config.TeamStrengthCacheConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded cache of team strengths computed from the characteristics fetched from the
+ * TeamService. Entries are evicted by size and by age, and dropped whenever the
+ * TeamService reports a change of the team characteristics. Hits, misses and evictions
+ * are exported as {@code cache.*} metrics with tag {@code cache=teamStrength}.
+ */
+@Service
+public class TeamStrengthCache {
+
+	public static final String CACHE_NAME = "teamStrength";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TeamStrengthCache.class);
+
+	private final Cache<UUID, Double> cache;
+
+	@Autowired
+	public TeamStrengthCache(TeamStrengthCacheConfiguration configuration, MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(configuration.getMaximumSize())
+			.expireAfterWrite(Duration.ofSeconds(configuration.getExpireAfterWrite()))
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	public Optional<Double> get(UUID teamId) {
+		return Optional.ofNullable(cache.getIfPresent(teamId));
+	}
+
+	/**
+	 * @param teamIds IDs of the teams
+	 * @return cached strengths, teams which are not cached are not present
+	 */
+	public Map<UUID, Double> getAll(Collection<UUID> teamIds) {
+		return cache.getAllPresent(teamIds);
+	}
+
+	public void put(UUID teamId, double strength) {
+		cache.put(teamId, strength);
+	}
+
+	public void invalidate(UUID teamId) {
+		cache.invalidate(teamId);
+		LOGGER.debug("Invalidated cached strength of team {}", teamId);
+	}
+
+}
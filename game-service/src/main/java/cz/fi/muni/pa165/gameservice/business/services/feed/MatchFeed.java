@@ -0,0 +1,115 @@
+package cz.fi.muni.pa165.gameservice.business.services.feed;
+
+import cz.fi.muni.pa165.dto.gameservice.MatchEventDto;
+import cz.fi.muni.pa165.enums.MatchEventType;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Live feed of one match backed by a ring buffer. Every event is written once, no matter
+ * how many subscribers read it. Subscribers track their own position, so the producer
+ * never waits for them. A subscriber whose next event has already been overwritten gets
+ * {@link OverrunException}.
+ */
+final class MatchFeed {
+
+	private final UUID matchGuid;
+
+	private final AtomicReferenceArray<MatchEventDto> ring;
+
+	private final int mask;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition published = lock.newCondition();
+
+	private volatile long lastSequence = -1;
+
+	// Guarded by the map of the feeds in MatchFeedService
+	int subscribers;
+
+	MatchFeed(UUID matchGuid, int capacity) {
+		if (Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("Capacity of the feed must be a power of two");
+		}
+		this.matchGuid = matchGuid;
+		this.ring = new AtomicReferenceArray<>(capacity);
+		this.mask = capacity - 1;
+	}
+
+	UUID getMatchGuid() {
+		return matchGuid;
+	}
+
+	/**
+	 * @return sequence of the next published event
+	 */
+	long nextSequence() {
+		return lastSequence + 1;
+	}
+
+	void publish(MatchEventType type, int scoreHomeTeam, int scoreAwayTeam) {
+		lock.lock();
+		try {
+			var sequence = lastSequence + 1;
+			ring.set((int) (sequence & mask),
+					MatchEventDto.builder()
+						.sequence(sequence)
+						.matchGuid(matchGuid)
+						.type(type)
+						.scoreHomeTeam(scoreHomeTeam)
+						.scoreAwayTeam(scoreAwayTeam)
+						.createdAt(OffsetDateTime.now())
+						.build());
+			lastSequence = sequence;
+			published.signalAll();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Waits until the event with the given sequence is published
+	 * @param sequence sequence of the desired event
+	 * @param timeoutNanos maximal time to wait
+	 * @return the event or null when it wasn't published in time
+	 * @throws OverrunException when the event was already overwritten
+	 */
+	MatchEventDto await(long sequence, long timeoutNanos) throws InterruptedException, OverrunException {
+		if (lastSequence < sequence) {
+			lock.lock();
+			try {
+				var remaining = timeoutNanos;
+				while (lastSequence < sequence) {
+					if (remaining <= 0) {
+						return null;
+					}
+					remaining = published.awaitNanos(remaining);
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		var event = ring.get((int) (sequence & mask));
+		if (event.getSequence() != sequence) {
+			throw new OverrunException();
+		}
+		return event;
+	}
+
+	static final class OverrunException extends Exception {
+
+		OverrunException() {
+			super(null, null, false, false);
+		}
+
+	}
+
+}
@@ -0,0 +1,174 @@
+package cz.fi.muni.pa165.gameservice.business.services.feed;
+
+import cz.fi.muni.pa165.dto.gameservice.MatchEventDto;
+import cz.fi.muni.pa165.enums.MatchEventType;
+import cz.fi.muni.pa165.gameservice.api.exception.ValidationHelper;
+import cz.fi.muni.pa165.gameservice.business.services.simulation.MatchSimulationEngine;
+import cz.fi.muni.pa165.gameservice.config.MatchFeedConfiguration;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.constraints.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Pushes state changes of the matches to the subscribed clients. Feed of a match exists
+ * only while somebody is subscribed, publishing into a match without subscribers is a map
+ * lookup. Every subscriber is served by its own virtual thread reading the ring of the
+ * match, so a slow client never delays the simulation. Client falling behind by more than
+ * the size of the ring is dropped and has to subscribe again.
+ */
+@Service
+public class MatchFeedService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MatchFeedService.class);
+
+	private final ConcurrentHashMap<UUID, MatchFeed> feeds = new ConcurrentHashMap<>();
+
+	private final ExecutorService subscriberExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+	private final int ringSize;
+
+	private final long heartbeatInterval;
+
+	private final long timeout;
+
+	@Autowired
+	public MatchFeedService(MatchFeedConfiguration matchFeedConfiguration,
+			MatchSimulationEngine matchSimulationEngine) {
+		this.ringSize = matchFeedConfiguration.getRingSize();
+		this.heartbeatInterval = TimeUnit.SECONDS.toNanos(matchFeedConfiguration.getHeartbeatInterval());
+		this.timeout = TimeUnit.MINUTES.toMillis(matchFeedConfiguration.getTimeout());
+		if (Integer.bitCount(ringSize) != 1) {
+			throw new IllegalArgumentException("Size of the feed ring must be a power of two");
+		}
+		if (heartbeatInterval <= 0) {
+			throw new IllegalArgumentException("Heartbeat interval must be positive");
+		}
+
+		matchSimulationEngine.setScoreListener((match, scoreHomeTeam, scoreAwayTeam) -> publish(match.getGuid(),
+				MatchEventType.SCORE, scoreHomeTeam, scoreAwayTeam));
+	}
+
+	@PreDestroy
+	public void stop() {
+		subscriberExecutor.shutdownNow();
+	}
+
+	/**
+	 * Publishes state change of the match to all its subscribers. Never blocks on the
+	 * subscribers.
+	 */
+	public void publish(UUID matchGuid, MatchEventType type, int scoreHomeTeam, int scoreAwayTeam) {
+		var feed = feeds.get(matchGuid);
+		if (feed != null) {
+			feed.publish(type, scoreHomeTeam, scoreAwayTeam);
+		}
+	}
+
+	/**
+	 * Opens live feed of the match. The first event sent is the current state of the
+	 * match, followed by the published changes until the match ends.
+	 * @param matchGuid UUID of the match
+	 * @param currentState loads the current state of the match, called after the
+	 * subscription is registered, so no change published in the meantime is lost
+	 * @return emitter streaming the events
+	 */
+	public SseEmitter subscribe(@NotNull UUID matchGuid, @NotNull Supplier<MatchEventDto> currentState) {
+		ValidationHelper.requireNonNull(matchGuid, "Please provide UUID of the match");
+		ValidationHelper.requireNonNull(currentState, "Please provide current state of the match");
+
+		var feed = feeds.compute(matchGuid, (guid, existing) -> {
+			var subscribed = existing != null ? existing : new MatchFeed(guid, ringSize);
+			subscribed.subscribers++;
+			return subscribed;
+		});
+		var sequence = feed.nextSequence();
+
+		MatchEventDto state;
+		try {
+			state = currentState.get();
+		}
+		catch (RuntimeException e) {
+			unsubscribe(feed);
+			throw e;
+		}
+
+		var emitter = new SseEmitter(timeout);
+		var open = new AtomicBoolean(true);
+		emitter.onCompletion(() -> open.set(false));
+		emitter.onTimeout(() -> open.set(false));
+		emitter.onError(e -> open.set(false));
+		subscriberExecutor.execute(() -> stream(feed, sequence, state, emitter, open));
+		return emitter;
+	}
+
+	/**
+	 * @return number of matches having at least one subscriber
+	 */
+	public int getActiveFeeds() {
+		return feeds.size();
+	}
+
+	MatchFeed getFeed(UUID matchGuid) {
+		return feeds.get(matchGuid);
+	}
+
+	private void stream(MatchFeed feed, long sequence, MatchEventDto state, SseEmitter emitter, AtomicBoolean open) {
+		try {
+			send(emitter, state);
+			var ended = state.getType() == MatchEventType.ENDED;
+			while (!ended && open.get()) {
+				var event = feed.await(sequence, heartbeatInterval);
+				if (event == null) {
+					emitter.send(SseEmitter.event().comment("heartbeat"));
+					continue;
+				}
+				send(emitter, event);
+				ended = event.getType() == MatchEventType.ENDED;
+				sequence++;
+			}
+			emitter.complete();
+		}
+		catch (MatchFeed.OverrunException e) {
+			LOGGER.debug("Subscriber of match {} is too slow, dropping it", feed.getMatchGuid());
+			emitter.complete();
+		}
+		catch (IOException | IllegalStateException e) {
+			LOGGER.debug("Subscriber of match {} has disconnected", feed.getMatchGuid());
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			emitter.complete();
+		}
+		finally {
+			unsubscribe(feed);
+		}
+	}
+
+	private static void send(SseEmitter emitter, MatchEventDto event) throws IOException {
+		emitter.send(SseEmitter.event().id(Long.toString(event.getSequence())).data(event, MediaType.APPLICATION_JSON));
+	}
+
+	private void unsubscribe(MatchFeed feed) {
+		feeds.computeIfPresent(feed.getMatchGuid(), (guid, existing) -> {
+			if (existing != feed) {
+				return existing;
+			}
+			return --existing.subscribers == 0 ? null : existing;
+		});
+	}
+
+}
@@ -0,0 +1,14 @@
+package cz.fi.muni.pa165.gameservice.business.services.forecast;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Forecast of the final standings of the competition
+ *
+ * @param playedMatches number of matches with result the forecast was computed from
+ * @param teams forecasts of the teams ordered by their expected points
+ */
+public record CompetitionForecast(UUID competitionGuid, int simulations, int playedMatches, int remainingMatches,
+		int playoffSpots, List<TeamForecast> teams) {
+}
@@ -0,0 +1,25 @@
+package cz.fi.muni.pa165.gameservice.business.services.forecast;
+
+/**
+ * State of the competition prepared for the simulation. Teams are addressed by their
+ * index, remaining matches are stored column-wise so one simulated season only walks
+ * primitive arrays.
+ *
+ * @param points points of every team earned in the already played matches
+ * @param homeTeams index of the home team of every remaining match
+ * @param awayTeams index of the away team of every remaining match
+ * @param homeWinProbabilities probability the home team wins the remaining match
+ * @param drawProbabilities probability the remaining match ends with a draw
+ */
+public record Season(int[] points, int[] homeTeams, int[] awayTeams, double[] homeWinProbabilities,
+		double[] drawProbabilities) {
+
+	public int getTeams() {
+		return points.length;
+	}
+
+	public int getRemainingMatches() {
+		return homeTeams.length;
+	}
+
+}
@@ -0,0 +1,186 @@
+package cz.fi.muni.pa165.gameservice.business.services.forecast;
+
+import cz.fi.muni.pa165.gameservice.api.exception.ValidationHelper;
+import cz.fi.muni.pa165.gameservice.config.ForecastConfiguration;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Monte Carlo simulation of the rest of the season. Seasons are split into batches
+ * processed on a dedicated fork join pool. Every batch owns a random generator split from
+ * its parent and reuses its primitive standings arrays, so simulating a season doesn't
+ * allocate nor contend on anything shared.
+ */
+@Service
+public class SeasonForecastEngine {
+
+	public static final int POINTS_FOR_WIN = 3;
+
+	public static final int POINTS_FOR_DRAW = 1;
+
+	/**
+	 * Bits of the sort key holding the index of the team, limits the number of teams
+	 */
+	private static final int TEAM_BITS = 16;
+
+	/**
+	 * Bits of the sort key holding the random tie-breaker of teams with equal points
+	 */
+	private static final int TIE_BREAKER_BITS = 16;
+
+	private static final int BATCHES_PER_WORKER = 8;
+
+	private final ForkJoinPool workerPool;
+
+	private final int workers;
+
+	@Autowired
+	public SeasonForecastEngine(ForecastConfiguration forecastConfiguration) {
+		this.workers = forecastConfiguration.getWorkers();
+		this.workerPool = new ForkJoinPool(workers);
+	}
+
+	@PreDestroy
+	public void stop() {
+		workerPool.shutdownNow();
+	}
+
+	/**
+	 * Simulates the remaining matches of the season
+	 * @param season current standings and the remaining matches
+	 * @param simulations number of simulated seasons
+	 * @param random source of the randomness, split between the workers
+	 * @return how often each team finished at each position
+	 */
+	public SeasonOutcomes simulate(@NotNull Season season, int simulations, @NotNull SplittableRandom random) {
+		ValidationHelper.requireNonNull(season, "Please provide season to simulate");
+		ValidationHelper.requireNonNull(random, "Please provide random generator for simulation");
+		if (simulations <= 0) {
+			throw new IllegalArgumentException("Number of simulations should be positive number");
+		}
+		if (season.getTeams() >= 1 << TEAM_BITS) {
+			throw new IllegalArgumentException("Season can have at most %d teams".formatted((1 << TEAM_BITS) - 1));
+		}
+
+		var batchSize = Math.max(1, simulations / (workers * BATCHES_PER_WORKER));
+		var outcomes = workerPool.invoke(new SimulationTask(season, 0, simulations, batchSize, random));
+		return new SeasonOutcomes(simulations, outcomes.positionCounts, outcomes.pointsSums);
+	}
+
+	private static final class Outcomes {
+
+		private final long[] positionCounts;
+
+		private final long[] pointsSums;
+
+		private Outcomes(int teams) {
+			positionCounts = new long[teams * teams];
+			pointsSums = new long[teams];
+		}
+
+		private Outcomes merge(Outcomes other) {
+			for (int i = 0; i < positionCounts.length; i++) {
+				positionCounts[i] += other.positionCounts[i];
+			}
+			for (int i = 0; i < pointsSums.length; i++) {
+				pointsSums[i] += other.pointsSums[i];
+			}
+			return this;
+		}
+
+	}
+
+	/**
+	 * Simulates seasons in range [from, to). Ranges bigger than one batch are halved, the
+	 * forked half gets a new generator split from the current one.
+	 */
+	private static final class SimulationTask extends RecursiveTask<Outcomes> {
+
+		private final Season season;
+
+		private final int from;
+
+		private final int to;
+
+		private final int batchSize;
+
+		private final SplittableRandom random;
+
+		private SimulationTask(Season season, int from, int to, int batchSize, SplittableRandom random) {
+			this.season = season;
+			this.from = from;
+			this.to = to;
+			this.batchSize = batchSize;
+			this.random = random;
+		}
+
+		@Override
+		protected Outcomes compute() {
+			if (to - from <= batchSize) {
+				return simulateBatch();
+			}
+
+			var middle = (from + to) >>> 1;
+			var forked = new SimulationTask(season, middle, to, batchSize, random.split());
+			forked.fork();
+			var outcomes = new SimulationTask(season, from, middle, batchSize, random).compute();
+			return outcomes.merge(forked.join());
+		}
+
+		private Outcomes simulateBatch() {
+			var teams = season.getTeams();
+			var initialPoints = season.points();
+			var homeTeams = season.homeTeams();
+			var awayTeams = season.awayTeams();
+			var homeWinProbabilities = season.homeWinProbabilities();
+			var drawProbabilities = season.drawProbabilities();
+
+			var outcomes = new Outcomes(teams);
+			var points = new int[teams];
+			var sortKeys = new long[teams];
+
+			for (int simulation = from; simulation < to; simulation++) {
+				System.arraycopy(initialPoints, 0, points, 0, teams);
+
+				for (int match = 0; match < homeTeams.length; match++) {
+					var roll = random.nextDouble();
+					var homeWin = homeWinProbabilities[match];
+					if (roll < homeWin) {
+						points[homeTeams[match]] += POINTS_FOR_WIN;
+					}
+					else if (roll < homeWin + drawProbabilities[match]) {
+						points[homeTeams[match]] += POINTS_FOR_DRAW;
+						points[awayTeams[match]] += POINTS_FOR_DRAW;
+					}
+					else {
+						points[awayTeams[match]] += POINTS_FOR_WIN;
+					}
+				}
+
+				// Ascending order of (points, tie-breaker, team), the best team is last
+				for (int team = 0; team < teams; team++) {
+					var tieBreaker = random.nextInt(1 << TIE_BREAKER_BITS);
+					sortKeys[team] = ((long) points[team] << (TIE_BREAKER_BITS + TEAM_BITS))
+							| ((long) tieBreaker << TEAM_BITS) | team;
+					outcomes.pointsSums[team] += points[team];
+				}
+				Arrays.sort(sortKeys);
+
+				for (int position = 0; position < teams; position++) {
+					var team = (int) (sortKeys[teams - 1 - position] & ((1 << TEAM_BITS) - 1));
+					outcomes.positionCounts[team * teams + position]++;
+				}
+			}
+			return outcomes;
+		}
+
+	}
+
+}
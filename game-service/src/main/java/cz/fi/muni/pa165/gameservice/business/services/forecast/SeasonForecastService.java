@@ -0,0 +1,230 @@
+package cz.fi.muni.pa165.gameservice.business.services.forecast;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import cz.fi.muni.pa165.gameservice.api.exception.ValidationHelper;
+import cz.fi.muni.pa165.gameservice.business.services.CompetitionService;
+import cz.fi.muni.pa165.gameservice.business.services.GameService;
+import cz.fi.muni.pa165.gameservice.business.services.MatchService;
+import cz.fi.muni.pa165.gameservice.business.services.simulation.MatchSimulationEngine;
+import cz.fi.muni.pa165.gameservice.config.ForecastConfiguration;
+import cz.fi.muni.pa165.gameservice.persistence.entities.CompetitionHasTeam;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Match;
+import jakarta.validation.constraints.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Forecasts final standings of competitions. The forecast is kept until a new result of
+ * the competition is published, the cached forecast is valid as long as the numbers of
+ * the matches and of the played matches didn't change. This holds for results published
+ * by any instance of the service. The cache is bounded by size and by age.
+ */
+@Service
+public class SeasonForecastService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SeasonForecastService.class);
+
+	/**
+	 * Strength used for teams whose characteristics are not available
+	 */
+	private static final double DEFAULT_STRENGTH = 25;
+
+	/**
+	 * Number of goals of one team the outcome probabilities are summed up to
+	 */
+	private static final int MAX_GOALS = 30;
+
+	private final CompetitionService competitionService;
+
+	private final MatchService matchService;
+
+	private final GameService gameService;
+
+	private final SeasonForecastEngine seasonForecastEngine;
+
+	private final ForecastConfiguration forecastConfiguration;
+
+	/**
+	 * Forecasts by the competition and its progress. The future is stored before the
+	 * forecast is computed, concurrent requests wait for it without blocking the others.
+	 */
+	private final Cache<ForecastKey, CompletableFuture<CompetitionForecast>> forecasts;
+
+	@Autowired
+	public SeasonForecastService(CompetitionService competitionService, MatchService matchService,
+			GameService gameService, SeasonForecastEngine seasonForecastEngine,
+			ForecastConfiguration forecastConfiguration) {
+		this.competitionService = competitionService;
+		this.matchService = matchService;
+		this.gameService = gameService;
+		this.seasonForecastEngine = seasonForecastEngine;
+		this.forecastConfiguration = forecastConfiguration;
+		this.forecasts = Caffeine.newBuilder()
+			.maximumSize(forecastConfiguration.getCacheMaximumSize())
+			.expireAfterWrite(Duration.ofSeconds(forecastConfiguration.getCacheExpireAfterWrite()))
+			.build();
+	}
+
+	/**
+	 * Gets forecast of the final standings of the competition, the forecast is computed
+	 * only when a new result was published since the last one. The progress of the
+	 * competition is checked by counting its matches, they are loaded only to compute the
+	 * forecast.
+	 * @param competitionUUID UUID of the competition
+	 * @return forecast of the competition
+	 */
+	public CompetitionForecast getForecast(@NotNull UUID competitionUUID) {
+		ValidationHelper.requireNonNull(competitionUUID, "Please provide competition UUID");
+
+		var competition = competitionService.getCompetition(competitionUUID);
+		var progress = matchService.getCompetitionProgress(competitionUUID);
+		var key = new ForecastKey(competitionUUID, progress.getMatches(), progress.getPlayedMatches());
+
+		var forecast = new CompletableFuture<CompetitionForecast>();
+		var cached = forecasts.asMap().putIfAbsent(key, forecast);
+		if (cached != null) {
+			return join(cached);
+		}
+
+		try {
+			var teamUids = competition.getTeams().stream().map(CompetitionHasTeam::getTeamUid).toList();
+			forecast.complete(
+					computeForecast(competitionUUID, teamUids, matchService.getMatchesOfCompetition(competitionUUID)));
+		}
+		catch (RuntimeException e) {
+			forecasts.asMap().remove(key, forecast);
+			forecast.completeExceptionally(e);
+			throw e;
+		}
+		return forecast.join();
+	}
+
+	private static CompetitionForecast join(CompletableFuture<CompetitionForecast> forecast) {
+		try {
+			return forecast.join();
+		}
+		catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private CompetitionForecast computeForecast(UUID competitionUUID, List<UUID> competitionTeams,
+			List<Match> matches) {
+		var teamIndexes = new LinkedHashMap<UUID, Integer>();
+		competitionTeams.forEach(teamUid -> teamIndexes.putIfAbsent(teamUid, teamIndexes.size()));
+		for (var match : matches) {
+			teamIndexes.putIfAbsent(match.getHomeTeamUid(), teamIndexes.size());
+			teamIndexes.putIfAbsent(match.getAwayTeamUid(), teamIndexes.size());
+		}
+
+		var remaining = matches.stream().filter(match -> match.getResult() == null).toList();
+		var season = createSeason(teamIndexes, matches, remaining);
+		var simulations = forecastConfiguration.getSimulations();
+
+		var start = System.nanoTime();
+		var outcomes = seasonForecastEngine.simulate(season, simulations, new SplittableRandom());
+		LOGGER.debug("Simulated {} seasons of competition {} with {} remaining matches in {} ms", simulations,
+				competitionUUID, remaining.size(), (System.nanoTime() - start) / 1_000_000);
+
+		var playoffSpots = forecastConfiguration.getPlayoffSpots();
+		var teams = new ArrayList<TeamForecast>(teamIndexes.size());
+		teamIndexes.forEach((teamUid, team) -> {
+			var positionProbabilities = new ArrayList<Double>(season.getTeams());
+			for (int position = 0; position < season.getTeams(); position++) {
+				positionProbabilities.add(outcomes.getPositionProbability(team, position));
+			}
+			teams.add(new TeamForecast(teamUid, outcomes.getExpectedPoints(team), outcomes.getTopProbability(team, 1),
+					outcomes.getTopProbability(team, playoffSpots), positionProbabilities));
+		});
+		teams.sort(Comparator.comparingDouble(TeamForecast::expectedPoints).reversed());
+
+		return new CompetitionForecast(competitionUUID, simulations, matches.size() - remaining.size(),
+				remaining.size(), playoffSpots, teams);
+	}
+
+	private Season createSeason(Map<UUID, Integer> teamIndexes, List<Match> matches, List<Match> remaining) {
+		var points = new int[teamIndexes.size()];
+		for (var match : matches) {
+			var result = match.getResult();
+			if (result == null) {
+				continue;
+			}
+			if (result.getWinnerTeam() == null) {
+				points[teamIndexes.get(match.getHomeTeamUid())] += SeasonForecastEngine.POINTS_FOR_DRAW;
+				points[teamIndexes.get(match.getAwayTeamUid())] += SeasonForecastEngine.POINTS_FOR_DRAW;
+			}
+			else {
+				points[teamIndexes.get(result.getWinnerTeam())] += SeasonForecastEngine.POINTS_FOR_WIN;
+			}
+		}
+
+		var strengths = remaining.isEmpty() ? Map.<UUID, Double>of() : gameService.prefetchTeamStrengths(remaining);
+		var homeTeams = new int[remaining.size()];
+		var awayTeams = new int[remaining.size()];
+		var homeWinProbabilities = new double[remaining.size()];
+		var drawProbabilities = new double[remaining.size()];
+		for (int i = 0; i < remaining.size(); i++) {
+			var match = remaining.get(i);
+			homeTeams[i] = teamIndexes.get(match.getHomeTeamUid());
+			awayTeams[i] = teamIndexes.get(match.getAwayTeamUid());
+
+			var homeGoals = toExpectedGoals(strengths.getOrDefault(match.getHomeTeamUid(), DEFAULT_STRENGTH));
+			var awayGoals = toExpectedGoals(strengths.getOrDefault(match.getAwayTeamUid(), DEFAULT_STRENGTH));
+			var homeGoalProbabilities = poisson(homeGoals);
+			var awayGoalProbabilities = poisson(awayGoals);
+			for (int home = 0; home <= MAX_GOALS; home++) {
+				for (int away = 0; away <= MAX_GOALS; away++) {
+					var probability = homeGoalProbabilities[home] * awayGoalProbabilities[away];
+					if (home > away) {
+						homeWinProbabilities[i] += probability;
+					}
+					else if (home == away) {
+						drawProbabilities[i] += probability;
+					}
+				}
+			}
+		}
+		return new Season(points, homeTeams, awayTeams, homeWinProbabilities, drawProbabilities);
+	}
+
+	/**
+	 * Uses the same scoring rate as the {@link MatchSimulationEngine}
+	 */
+	private static double toExpectedGoals(double strength) {
+		return Math.max(0, strength) * MatchSimulationEngine.GOALS_PER_STRENGTH_POINT;
+	}
+
+	/**
+	 * @return probabilities of scoring 0 to {@link #MAX_GOALS} goals
+	 */
+	private static double[] poisson(double expectedGoals) {
+		var probabilities = new double[MAX_GOALS + 1];
+		probabilities[0] = Math.exp(-expectedGoals);
+		for (int goals = 1; goals <= MAX_GOALS; goals++) {
+			probabilities[goals] = probabilities[goals - 1] * expectedGoals / goals;
+		}
+		return probabilities;
+	}
+
+	private record ForecastKey(UUID competitionUUID, long matches, long playedMatches) {
+
+	}
+
+}
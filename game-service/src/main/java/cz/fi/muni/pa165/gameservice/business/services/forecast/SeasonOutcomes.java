@@ -0,0 +1,40 @@
+package cz.fi.muni.pa165.gameservice.business.services.forecast;
+
+/**
+ * Aggregated outcomes of simulated seasons
+ *
+ * @param simulations number of simulated seasons
+ * @param positionCounts how many times the team finished at the position, indexed by
+ * {@code team * teams + position}
+ * @param pointsSums sum of the final points of every team over all the seasons
+ */
+public record SeasonOutcomes(int simulations, long[] positionCounts, long[] pointsSums) {
+
+	public int getTeams() {
+		return pointsSums.length;
+	}
+
+	public long getPositionCount(int team, int position) {
+		return positionCounts[team * getTeams() + position];
+	}
+
+	public double getPositionProbability(int team, int position) {
+		return (double) getPositionCount(team, position) / simulations;
+	}
+
+	/**
+	 * @return probability the team finishes at one of the first {@code positions} places
+	 */
+	public double getTopProbability(int team, int positions) {
+		long count = 0;
+		for (int position = 0; position < Math.min(positions, getTeams()); position++) {
+			count += getPositionCount(team, position);
+		}
+		return (double) count / simulations;
+	}
+
+	public double getExpectedPoints(int team) {
+		return (double) pointsSums[team] / simulations;
+	}
+
+}
@@ -0,0 +1,12 @@
+package cz.fi.muni.pa165.gameservice.business.services.forecast;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @param positionProbabilities probability of every final position, first item is the
+ * first place
+ */
+public record TeamForecast(UUID teamUid, double expectedPoints, double titleProbability, double playoffProbability,
+		List<Double> positionProbabilities) {
+}
@@ -0,0 +1,236 @@
+package cz.fi.muni.pa165.gameservice.business.services.scheduling;
+
+import cz.fi.muni.pa165.gameservice.config.ShardingConfiguration;
+import cz.fi.muni.pa165.gameservice.persistence.entities.SchedulerLease;
+import cz.fi.muni.pa165.gameservice.persistence.entities.SchedulerNode;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.SchedulerLeaseRepository;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.SchedulerNodeRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits the matches between game service instances sharing one database. Every match
+ * belongs to one of the fixed number of shards and every shard is leased to one instance.
+ * Instances renew their leases by heartbeats and keep about the same number of shards
+ * each. When an instance dies, its leases expire and the others take the shards over.
+ * Shards above the fair share are drained first, they stop taking new matches and are
+ * released once the matches running on them end.
+ */
+@Service
+public class ShardLeaseService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ShardLeaseService.class);
+
+	private final SchedulerLeaseRepository schedulerLeaseRepository;
+
+	private final SchedulerNodeRepository schedulerNodeRepository;
+
+	private final ShardingConfiguration shardingConfiguration;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final Clock clock;
+
+	private volatile Set<Integer> ownedShards = Set.of();
+
+	private volatile Set<Integer> drainingShards = Set.of();
+
+	/**
+	 * Number of the running tasks of every match started by this instance
+	 */
+	private final Map<UUID, Integer> runningMatches = new ConcurrentHashMap<>();
+
+	private volatile OffsetDateTime leaseValidUntil = OffsetDateTime.MIN;
+
+	@Autowired
+	public ShardLeaseService(SchedulerLeaseRepository schedulerLeaseRepository,
+			SchedulerNodeRepository schedulerNodeRepository, ShardingConfiguration shardingConfiguration,
+			ApplicationEventPublisher eventPublisher) {
+		this(schedulerLeaseRepository, schedulerNodeRepository, shardingConfiguration, eventPublisher,
+				Clock.systemDefaultZone());
+	}
+
+	ShardLeaseService(SchedulerLeaseRepository schedulerLeaseRepository,
+			SchedulerNodeRepository schedulerNodeRepository, ShardingConfiguration shardingConfiguration,
+			ApplicationEventPublisher eventPublisher, Clock clock) {
+		this.schedulerLeaseRepository = schedulerLeaseRepository;
+		this.schedulerNodeRepository = schedulerNodeRepository;
+		this.shardingConfiguration = shardingConfiguration;
+		this.eventPublisher = eventPublisher;
+		this.clock = clock;
+	}
+
+	@PostConstruct
+	public void start() {
+		if (!shardingConfiguration.isEnabled()) {
+			return;
+		}
+
+		createMissingShards();
+		heartbeat();
+		LOGGER.info("Node {} started with shards {}", shardingConfiguration.getNodeId(), ownedShards);
+	}
+
+	/**
+	 * @return true if this instance should schedule and run the match
+	 */
+	public boolean ownsMatch(UUID matchGuid) {
+		if (!shardingConfiguration.isEnabled()) {
+			return true;
+		}
+		return ownedShards.contains(getShard(matchGuid)) && OffsetDateTime.now(clock).isBefore(leaseValidUntil);
+	}
+
+	/**
+	 * Registers the match as running, so its shard is not released until
+	 * {@link #matchEnded(UUID)} is called
+	 * @return true if the match is owned by this instance and can be started
+	 */
+	public boolean tryStartMatch(UUID matchGuid) {
+		if (!shardingConfiguration.isEnabled()) {
+			return true;
+		}
+
+		// Registered before the ownership is checked, the heartbeat checks them the other
+		// way
+		runningMatches.merge(matchGuid, 1, Integer::sum);
+		if (ownsMatch(matchGuid)) {
+			return true;
+		}
+		matchEnded(matchGuid);
+		return false;
+	}
+
+	public void matchEnded(UUID matchGuid) {
+		runningMatches.computeIfPresent(matchGuid, (guid, count) -> count > 1 ? count - 1 : null);
+	}
+
+	public int getShard(UUID matchGuid) {
+		return Math.floorMod(matchGuid.hashCode(), shardingConfiguration.getShards());
+	}
+
+	public Set<Integer> getOwnedShards() {
+		return ownedShards;
+	}
+
+	/**
+	 * Renews the leases of this instance, drains shards above the fair share and claims
+	 * free or expired shards up to the fair share. Drained shards are released once no
+	 * match runs on them, so the next owner doesn't start them again.
+	 */
+	@Scheduled(fixedRateString = "${tasks.schedule.sharding.heartbeat-interval:10}", timeUnit = TimeUnit.SECONDS)
+	public void heartbeat() {
+		if (!shardingConfiguration.isEnabled()) {
+			return;
+		}
+
+		var nodeId = shardingConfiguration.getNodeId();
+		var now = OffsetDateTime.now(clock);
+		var expiresAt = now.plusSeconds(shardingConfiguration.getLeaseDuration());
+
+		registerNode(nodeId, expiresAt);
+		var liveNodes = Math.max(schedulerNodeRepository.countByExpiresAtAfter(now), 1);
+		var fairShare = (int) Math.ceilDiv(shardingConfiguration.getShards(), liveNodes);
+
+		var owned = renew(ownedShards, nodeId, expiresAt, now);
+		var draining = renew(drainingShards, nodeId, expiresAt, now);
+		while (owned.size() > fairShare) {
+			draining.add(owned.pollLast());
+		}
+		while (owned.size() < fairShare && !draining.isEmpty()) {
+			owned.add(draining.pollFirst());
+		}
+		// Published before the running matches are checked, so no new match starts on the
+		// drained shards
+		ownedShards = Set.copyOf(owned);
+
+		for (var iterator = draining.iterator(); iterator.hasNext();) {
+			var shard = iterator.next();
+			if (hasRunningMatches(shard)) {
+				LOGGER.debug("Node {} is draining shard {}", nodeId, shard);
+				continue;
+			}
+			schedulerLeaseRepository.release(shard, nodeId, now);
+			iterator.remove();
+			LOGGER.debug("Node {} released shard {}", nodeId, shard);
+		}
+		drainingShards = Set.copyOf(draining);
+
+		var acquired = new HashSet<Integer>();
+		if (owned.size() < fairShare) {
+			for (var shard : schedulerLeaseRepository.findClaimableShards(now)) {
+				if (owned.size() >= fairShare) {
+					break;
+				}
+				if (schedulerLeaseRepository.acquire(shard, nodeId, expiresAt, now) == 1) {
+					owned.add(shard);
+					acquired.add(shard);
+				}
+			}
+		}
+
+		ownedShards = Set.copyOf(owned);
+		leaseValidUntil = expiresAt;
+		schedulerNodeRepository.deleteExpired(now.minusSeconds(shardingConfiguration.getLeaseDuration()));
+
+		if (!acquired.isEmpty()) {
+			LOGGER.info("Node {} acquired shards {}", nodeId, acquired);
+			eventPublisher.publishEvent(new ShardsAcquiredEvent(Set.copyOf(acquired)));
+		}
+	}
+
+	private TreeSet<Integer> renew(Set<Integer> shards, String nodeId, OffsetDateTime expiresAt, OffsetDateTime now) {
+		var renewed = new TreeSet<Integer>();
+		for (var shard : shards) {
+			if (schedulerLeaseRepository.acquire(shard, nodeId, expiresAt, now) == 1) {
+				renewed.add(shard);
+			}
+			else {
+				LOGGER.warn("Node {} lost lease of shard {}", nodeId, shard);
+			}
+		}
+		return renewed;
+	}
+
+	private boolean hasRunningMatches(int shard) {
+		return runningMatches.keySet().stream().anyMatch(matchGuid -> getShard(matchGuid) == shard);
+	}
+
+	private void registerNode(String nodeId, OffsetDateTime expiresAt) {
+		if (schedulerNodeRepository.renew(nodeId, expiresAt) == 0) {
+			schedulerNodeRepository.save(SchedulerNode.builder().nodeId(nodeId).expiresAt(expiresAt).build());
+		}
+	}
+
+	private void createMissingShards() {
+		var now = OffsetDateTime.now(clock);
+		for (int shard = 0; shard < shardingConfiguration.getShards(); shard++) {
+			if (schedulerLeaseRepository.existsById(shard)) {
+				continue;
+			}
+			try {
+				schedulerLeaseRepository.save(SchedulerLease.builder().shard(shard).expiresAt(now).build());
+			}
+			catch (DataIntegrityViolationException e) {
+				LOGGER.debug("Shard {} was created by another node", shard);
+			}
+		}
+	}
+
+}
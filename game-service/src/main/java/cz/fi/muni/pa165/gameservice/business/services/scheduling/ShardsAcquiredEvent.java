@@ -0,0 +1,11 @@
+package cz.fi.muni.pa165.gameservice.business.services.scheduling;
+
+import java.util.Set;
+
+/**
+ * Published when the instance takes over shards, e.g. from an instance which died
+ *
+ * @param shards newly acquired shards
+ */
+public record ShardsAcquiredEvent(Set<Integer> shards) {
+}
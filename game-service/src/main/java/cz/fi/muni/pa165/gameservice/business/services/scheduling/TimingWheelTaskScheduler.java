@@ -0,0 +1,521 @@
+package cz.fi.muni.pa165.gameservice.business.services.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link TaskScheduler} backed by a hashed hierarchical timing wheel. Scheduling and
+ * cancelling a task is O(1) regardless of the number of pending tasks, the caller only
+ * enqueues the task and a single clock thread moves it into the wheel. Due tasks run on
+ * virtual threads.
+ * <p>
+ * The lowest level has one bucket per tick, one bucket of every higher level covers a
+ * whole rotation of the level below. Tasks of a higher level bucket are cascaded down
+ * when the rotation of the level below starts. Tasks are never started early, but may be
+ * started up to one tick late.
+ */
+public class TimingWheelTaskScheduler implements TaskScheduler {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TimingWheelTaskScheduler.class);
+
+	private static final int LEVELS = 4;
+
+	private static final int SCHEDULED = 0;
+
+	private static final int RUNNING = 1;
+
+	private static final int SUCCESS = 2;
+
+	private static final int FAILED = 3;
+
+	private static final int CANCELLED = 4;
+
+	private final Clock clock = Clock.systemDefaultZone();
+
+	private final long tickNanos;
+
+	private final int wheelBits;
+
+	private final int wheelMask;
+
+	/**
+	 * Tasks further than this are kept in the highest level and reinserted once reached
+	 */
+	private final long maxDelayTicks;
+
+	/**
+	 * Wall clock time of the tick zero in nanoseconds since the epoch. Ticks follow the
+	 * wall clock like the instants of the scheduled tasks do, so no clock has to be read
+	 * when a task is scheduled.
+	 */
+	private final long startNanos;
+
+	private final Bucket[][] wheel;
+
+	private final Queue<WheelTask> additions = new ConcurrentLinkedQueue<>();
+
+	private final Queue<WheelTask> cancellations = new ConcurrentLinkedQueue<>();
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	private final Thread clockThread;
+
+	private volatile boolean running = true;
+
+	// Next tick to be processed, owned by the clock thread
+	private long currentTick;
+
+	/**
+	 * @param tickDuration duration of one tick, defines precision of the scheduler
+	 * @param wheelSize number of buckets of one level, must be a power of two
+	 */
+	public TimingWheelTaskScheduler(Duration tickDuration, int wheelSize) {
+		if (tickDuration.isNegative() || tickDuration.isZero()) {
+			throw new IllegalArgumentException("Tick duration must be positive");
+		}
+		if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+			throw new IllegalArgumentException("Wheel size must be a power of two");
+		}
+
+		this.tickNanos = tickDuration.toNanos();
+		this.wheelBits = Integer.numberOfTrailingZeros(wheelSize);
+		this.wheelMask = wheelSize - 1;
+		this.maxDelayTicks = wheelBits * LEVELS >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << (wheelBits * LEVELS)) - 1;
+		this.wheel = new Bucket[LEVELS][wheelSize];
+		for (var level : wheel) {
+			for (int i = 0; i < wheelSize; i++) {
+				level[i] = new Bucket();
+			}
+		}
+		this.startNanos = toEpochNanos(clock.instant());
+		this.clockThread = Thread.ofPlatform().name("timing-wheel").daemon().start(this::runClock);
+	}
+
+	@Override
+	public Clock getClock() {
+		return clock;
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+		var triggerContext = new SimpleTriggerContext(clock);
+		var firstExecution = trigger.nextExecution(triggerContext);
+		if (firstExecution == null) {
+			return null;
+		}
+
+		return submit(new WheelTask(task, firstExecution, (scheduled, started, completed) -> {
+			triggerContext.update(scheduled, started, completed);
+			return trigger.nextExecution(triggerContext);
+		}));
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+		return submit(new WheelTask(task, startTime, null));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+		return submit(new WheelTask(task, startTime, (scheduled, started, completed) -> scheduled.plus(period)));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+		return scheduleAtFixedRate(task, clock.instant(), period);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+		return submit(new WheelTask(task, startTime, (scheduled, started, completed) -> completed.plus(delay)));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+		return scheduleWithFixedDelay(task, clock.instant(), delay);
+	}
+
+	/**
+	 * Stops the clock. Pending tasks are not started anymore, running tasks are left to
+	 * finish.
+	 */
+	public void shutdown() {
+		running = false;
+		LockSupport.unpark(clockThread);
+		executor.shutdown();
+	}
+
+	private WheelTask submit(WheelTask task) {
+		if (!running) {
+			throw new TaskRejectedException("Timing wheel scheduler has been shut down");
+		}
+		additions.add(task);
+		return task;
+	}
+
+	private long toDeadlineTick(Instant instant) {
+		return Math.ceilDiv(Math.max(toEpochNanos(instant) - startNanos, 0), tickNanos);
+	}
+
+	private static long toEpochNanos(Instant instant) {
+		try {
+			return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+		}
+		catch (ArithmeticException e) {
+			return instant.getEpochSecond() < 0 ? 0 : Long.MAX_VALUE;
+		}
+	}
+
+	private void runClock() {
+		while (running) {
+			var elapsedTicks = (toEpochNanos(clock.instant()) - startNanos) / tickNanos;
+			drainCancellations();
+			drainAdditions();
+			while (currentTick <= elapsedTicks) {
+				advance();
+			}
+			LockSupport.parkNanos(startNanos + currentTick * tickNanos - toEpochNanos(clock.instant()));
+		}
+	}
+
+	private void drainAdditions() {
+		WheelTask task;
+		while ((task = additions.poll()) != null) {
+			if (task.state == SCHEDULED) {
+				insert(task);
+			}
+		}
+	}
+
+	private void drainCancellations() {
+		WheelTask task;
+		while ((task = cancellations.poll()) != null) {
+			if (task.bucket != null) {
+				task.bucket.remove(task);
+			}
+		}
+	}
+
+	private void insert(WheelTask task) {
+		var delay = task.deadlineTick - currentTick;
+		if (delay < 0) {
+			wheel[0][(int) (currentTick & wheelMask)].add(task);
+			return;
+		}
+
+		var tick = delay > maxDelayTicks ? currentTick + maxDelayTicks : task.deadlineTick;
+		delay = tick - currentTick;
+		var level = 0;
+		while (level < LEVELS - 1 && delay >>> (wheelBits * (level + 1)) != 0) {
+			level++;
+		}
+		wheel[level][(int) ((tick >>> (wheelBits * level)) & wheelMask)].add(task);
+	}
+
+	private void advance() {
+		var tick = currentTick;
+		var index = (int) (tick & wheelMask);
+		if (index == 0) {
+			cascade(tick);
+		}
+		currentTick = tick + 1;
+		expire(wheel[0][index], tick);
+	}
+
+	/**
+	 * Moves tasks of the higher levels down when the rotation of the level below starts
+	 */
+	private void cascade(long tick) {
+		for (int level = 1; level < LEVELS; level++) {
+			var index = (int) ((tick >>> (wheelBits * level)) & wheelMask);
+			var task = wheel[level][index].removeAll();
+			while (task != null) {
+				var next = task.next;
+				task.next = null;
+				insert(task);
+				task = next;
+			}
+			if (index != 0) {
+				return;
+			}
+		}
+	}
+
+	private void expire(Bucket bucket, long tick) {
+		var task = bucket.removeAll();
+		while (task != null) {
+			var next = task.next;
+			task.next = null;
+			if (task.deadlineTick > tick) {
+				// Deadline was beyond the reach of the wheel
+				insert(task);
+			}
+			else if (task.start()) {
+				executor.execute(task);
+			}
+			task = next;
+		}
+	}
+
+	@FunctionalInterface
+	private interface Rescheduler {
+
+		/**
+		 * @return next execution of the repeating task, null when the task shouldn't run
+		 * again
+		 */
+		Instant nextExecution(Instant scheduled, Instant started, Instant completed);
+
+	}
+
+	/**
+	 * Doubly linked list of the tasks, touched by the clock thread only
+	 */
+	private static final class Bucket {
+
+		private WheelTask head;
+
+		private WheelTask tail;
+
+		private void add(WheelTask task) {
+			task.bucket = this;
+			task.prev = tail;
+			task.next = null;
+			if (tail == null) {
+				head = task;
+			}
+			else {
+				tail.next = task;
+			}
+			tail = task;
+		}
+
+		private void remove(WheelTask task) {
+			if (task.prev == null) {
+				head = task.next;
+			}
+			else {
+				task.prev.next = task.next;
+			}
+			if (task.next == null) {
+				tail = task.prev;
+			}
+			else {
+				task.next.prev = task.prev;
+			}
+			task.prev = null;
+			task.next = null;
+			task.bucket = null;
+		}
+
+		/**
+		 * Detaches all tasks. Returned tasks are still chained by {@code next}.
+		 */
+		private WheelTask removeAll() {
+			var task = head;
+			for (var current = head; current != null; current = current.next) {
+				current.prev = null;
+				current.bucket = null;
+			}
+			head = null;
+			tail = null;
+			return task;
+		}
+
+	}
+
+	/**
+	 * Pending task and its future. The future is completed without allocating, so a
+	 * cancelled task costs no more than a scheduled one.
+	 */
+	private final class WheelTask implements ScheduledFuture<Object>, Runnable {
+
+		private static final VarHandle STATE;
+
+		static {
+			try {
+				STATE = MethodHandles.lookup().findVarHandle(WheelTask.class, "state", int.class);
+			}
+			catch (ReflectiveOperationException e) {
+				throw new ExceptionInInitializerError(e);
+			}
+		}
+
+		private final Runnable task;
+
+		private final Rescheduler rescheduler;
+
+		private volatile int state = SCHEDULED;
+
+		private Throwable failure;
+
+		private volatile Instant scheduledAt;
+
+		// Wheel position, touched by the clock thread only
+		private long deadlineTick;
+
+		private Bucket bucket;
+
+		private WheelTask prev;
+
+		private WheelTask next;
+
+		private WheelTask(Runnable task, Instant scheduledAt, Rescheduler rescheduler) {
+			this.task = task;
+			this.rescheduler = rescheduler;
+			setScheduledAt(scheduledAt);
+		}
+
+		private void setScheduledAt(Instant scheduledAt) {
+			this.scheduledAt = scheduledAt;
+			this.deadlineTick = toDeadlineTick(scheduledAt);
+		}
+
+		private boolean start() {
+			return STATE.compareAndSet(this, SCHEDULED, RUNNING);
+		}
+
+		@Override
+		public void run() {
+			var started = clock.instant();
+			try {
+				task.run();
+			}
+			catch (Throwable e) {
+				if (rescheduler == null) {
+					failure = e;
+					finish(FAILED);
+					return;
+				}
+				LOGGER.error("Repeating task failed", e);
+			}
+
+			var nextExecution = rescheduler == null ? null
+					: rescheduler.nextExecution(scheduledAt, started, clock.instant());
+			if (nextExecution == null) {
+				finish(SUCCESS);
+				return;
+			}
+
+			setScheduledAt(nextExecution);
+			if (STATE.compareAndSet(this, RUNNING, SCHEDULED) && running) {
+				additions.add(this);
+			}
+		}
+
+		private void finish(int finalState) {
+			if (STATE.compareAndSet(this, RUNNING, finalState)) {
+				signalWaiters();
+			}
+		}
+
+		private synchronized void signalWaiters() {
+			notifyAll();
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			int current;
+			do {
+				current = state;
+				if (current > RUNNING) {
+					return false;
+				}
+			}
+			while (!STATE.compareAndSet(this, current, CANCELLED));
+
+			if (current == SCHEDULED) {
+				cancellations.add(this);
+			}
+			signalWaiters();
+			return true;
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return state == CANCELLED;
+		}
+
+		@Override
+		public boolean isDone() {
+			return state > RUNNING;
+		}
+
+		@Override
+		public Object get() throws InterruptedException, ExecutionException {
+			synchronized (this) {
+				while (!isDone()) {
+					wait();
+				}
+			}
+			return report();
+		}
+
+		@Override
+		public Object get(long timeout, TimeUnit unit)
+				throws InterruptedException, ExecutionException, TimeoutException {
+			var deadline = System.nanoTime() + unit.toNanos(timeout);
+			synchronized (this) {
+				while (!isDone()) {
+					var remaining = deadline - System.nanoTime();
+					if (remaining <= 0) {
+						throw new TimeoutException();
+					}
+					TimeUnit.NANOSECONDS.timedWait(this, remaining);
+				}
+			}
+			return report();
+		}
+
+		private Object report() throws ExecutionException {
+			return switch (state) {
+				case CANCELLED -> throw new CancellationException();
+				case FAILED -> throw new ExecutionException(failure);
+				default -> null;
+			};
+		}
+
+		@Override
+		public State state() {
+			return switch (state) {
+				case SUCCESS -> State.SUCCESS;
+				case FAILED -> State.FAILED;
+				case CANCELLED -> State.CANCELLED;
+				default -> State.RUNNING;
+			};
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(Duration.between(clock.instant(), scheduledAt));
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+		}
+
+	}
+
+}
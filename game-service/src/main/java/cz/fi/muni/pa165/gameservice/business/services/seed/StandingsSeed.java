@@ -0,0 +1,64 @@
+package cz.fi.muni.pa165.gameservice.business.services.seed;
+
+import cz.fi.muni.pa165.gameservice.business.services.standings.StandingsService;
+import cz.fi.muni.pa165.gameservice.persistence.entities.TeamStanding;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.CompetitionRepository;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.TeamStandingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Seeded results are saved without publishing, so the standings are rebuilt from them
+ */
+@Component
+@Order(5)
+public class StandingsSeed implements Seed<TeamStanding> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(StandingsSeed.class);
+
+	private final CompetitionRepository competitionRepository;
+
+	private final TeamStandingRepository teamStandingRepository;
+
+	private final StandingsService standingsService;
+
+	private List<TeamStanding> data;
+
+	@Autowired
+	public StandingsSeed(CompetitionRepository competitionRepository, TeamStandingRepository teamStandingRepository,
+			StandingsService standingsService) {
+		this.competitionRepository = competitionRepository;
+		this.teamStandingRepository = teamStandingRepository;
+		this.standingsService = standingsService;
+	}
+
+	@Override
+	public void runSeed() {
+		if (teamStandingRepository.count() != 0) {
+			LOGGER.info("TeamStanding entities are already seeded. Skipping...");
+			return;
+		}
+
+		competitionRepository.findAll().forEach(standingsService::rebuild);
+		data = teamStandingRepository.findAll();
+
+		LOGGER.debug("Seeded data: {}", data);
+	}
+
+	@Override
+	public List<TeamStanding> getData() {
+		return this.data;
+	}
+
+	@Override
+	public void clearData() {
+		LOGGER.debug("Cleared data of {}", this.getClass().getSimpleName());
+		this.teamStandingRepository.deleteAll();
+	}
+
+}
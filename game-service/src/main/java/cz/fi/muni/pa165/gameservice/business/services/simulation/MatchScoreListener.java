@@ -0,0 +1,17 @@
+package cz.fi.muni.pa165.gameservice.business.services.simulation;
+
+import cz.fi.muni.pa165.gameservice.persistence.entities.Match;
+
+/**
+ * Notified by the {@link MatchSimulationEngine} whenever a team scores. Called from the
+ * simulation workers inside of the tick, so it must return quickly and must not block.
+ */
+@FunctionalInterface
+public interface MatchScoreListener {
+
+	MatchScoreListener NONE = (match, scoreHomeTeam, scoreAwayTeam) -> {
+	};
+
+	void onScoreChanged(Match match, int scoreHomeTeam, int scoreAwayTeam);
+
+}
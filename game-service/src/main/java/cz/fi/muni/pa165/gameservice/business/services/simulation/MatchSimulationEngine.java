@@ -0,0 +1,368 @@
+package cz.fi.muni.pa165.gameservice.business.services.simulation;
+
+import cz.fi.muni.pa165.gameservice.api.exception.ValidationHelper;
+import cz.fi.muni.pa165.gameservice.config.SimulationConfiguration;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Match;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Result;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.constraints.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tick based match simulation engine. All running matches are advanced by one shared
+ * clock. Every tick is split into fixed chunks processed by a small worker pool, so no
+ * match owns a thread. State of the matches is kept in primitive arrays indexed by slot,
+ * advancing a tick doesn't allocate any objects.
+ */
+@Service
+public class MatchSimulationEngine {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MatchSimulationEngine.class);
+
+	/**
+	 * How many goals per match the team scores for one point of its strength
+	 */
+	public static final double GOALS_PER_STRENGTH_POINT = 0.1;
+
+	private static final int CHUNKS_PER_WORKER = 4;
+
+	private final int ticksPerMatch;
+
+	private final int tickInterval;
+
+	private final ForkJoinPool workerPool;
+
+	private final ExecutorService completionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+	private final ScheduledExecutorService clock = Executors
+		.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("simulation-clock").daemon().factory());
+
+	private final ConcurrentHashMap<UUID, CompletableFuture<Result>> runningMatches = new ConcurrentHashMap<>();
+
+	private final ConcurrentLinkedQueue<Admission> admissions = new ConcurrentLinkedQueue<>();
+
+	private final TickTask tickTask;
+
+	// Slot state, touched by the clock thread and by workers only inside of tick()
+	private Match[] matches;
+
+	private CompletableFuture<?>[] futures;
+
+	private double[] homeGoalChance;
+
+	private double[] awayGoalChance;
+
+	private int[] homeScore;
+
+	private int[] awayScore;
+
+	private int[] remainingTicks;
+
+	private int[] freeSlots;
+
+	private int freeCount;
+
+	private int highWater;
+
+	private volatile int active;
+
+	private volatile MatchScoreListener scoreListener = MatchScoreListener.NONE;
+
+	@Autowired
+	public MatchSimulationEngine(SimulationConfiguration simulationConfiguration) {
+		this.ticksPerMatch = simulationConfiguration.getTicksPerMatch();
+		this.tickInterval = simulationConfiguration.getTickInterval();
+		if (ticksPerMatch <= 0) {
+			throw new IllegalArgumentException("Match must last at least one tick");
+		}
+
+		var workers = simulationConfiguration.getWorkers();
+		this.workerPool = new ForkJoinPool(workers);
+		this.tickTask = new TickTask(workers * CHUNKS_PER_WORKER, new SplittableRandom());
+		allocate(Math.max(simulationConfiguration.getInitialCapacity(), 1));
+	}
+
+	@PostConstruct
+	public void start() {
+		clock.scheduleAtFixedRate(this::safeTick, tickInterval, tickInterval, TimeUnit.MILLISECONDS);
+		LOGGER.debug("Simulation clock started with tick interval {} ms and {} ticks per match", tickInterval,
+				ticksPerMatch);
+	}
+
+	@PreDestroy
+	public void stop() {
+		clock.shutdownNow();
+		workerPool.shutdownNow();
+		completionExecutor.shutdown();
+	}
+
+	/**
+	 * Adds the match into the simulation. The match is picked up by the next tick of the
+	 * clock.
+	 * @param match match to be simulated
+	 * @param homeStrength strength of the home team, higher strength scores more goals
+	 * @param awayStrength strength of the away team, higher strength scores more goals
+	 * @return future completed with the result once the match ends, empty when the match
+	 * is already being simulated
+	 */
+	public Optional<CompletableFuture<Result>> simulate(@NotNull Match match, double homeStrength,
+			double awayStrength) {
+		ValidationHelper.requireNonNull(match, "Please provide match for simulation");
+
+		var future = new CompletableFuture<Result>();
+		if (runningMatches.putIfAbsent(match.getGuid(), future) != null) {
+			return Optional.empty();
+		}
+
+		admissions.add(new Admission(match, future, toGoalChance(homeStrength), toGoalChance(awayStrength)));
+		return Optional.of(future);
+	}
+
+	/**
+	 * Sets the listener notified about every goal scored in the simulated matches
+	 * @param scoreListener listener called from the simulation workers
+	 */
+	public void setScoreListener(@NotNull MatchScoreListener scoreListener) {
+		ValidationHelper.requireNonNull(scoreListener, "Please provide score listener");
+		this.scoreListener = scoreListener;
+	}
+
+	public boolean isSimulating(UUID matchGuid) {
+		return runningMatches.containsKey(matchGuid);
+	}
+
+	/**
+	 * @return number of matches currently advanced by the clock
+	 */
+	public int getActiveMatches() {
+		return active;
+	}
+
+	/**
+	 * Advances all running matches by one tick. Called by the simulation clock, must not
+	 * be called concurrently.
+	 */
+	public void tick() {
+		admitPending();
+		if (active == 0) {
+			return;
+		}
+
+		tickTask.reinitialize();
+		workerPool.invoke(tickTask);
+
+		if (tickTask.finished > 0) {
+			completeFinished();
+		}
+	}
+
+	private void safeTick() {
+		try {
+			tick();
+		}
+		catch (Exception e) {
+			LOGGER.error("Simulation tick failed", e);
+		}
+	}
+
+	private double toGoalChance(double strength) {
+		var expectedGoals = Math.max(0, strength) * GOALS_PER_STRENGTH_POINT;
+		return Math.min(1, expectedGoals / ticksPerMatch);
+	}
+
+	private void admitPending() {
+		Admission admission;
+		while ((admission = admissions.poll()) != null) {
+			var slot = acquireSlot();
+			matches[slot] = admission.match();
+			futures[slot] = admission.future();
+			homeGoalChance[slot] = admission.homeGoalChance();
+			awayGoalChance[slot] = admission.awayGoalChance();
+			homeScore[slot] = 0;
+			awayScore[slot] = 0;
+			remainingTicks[slot] = ticksPerMatch;
+			active++;
+		}
+	}
+
+	private int acquireSlot() {
+		if (freeCount > 0) {
+			return freeSlots[--freeCount];
+		}
+		if (highWater == matches.length) {
+			grow();
+		}
+		return highWater++;
+	}
+
+	private void completeFinished() {
+		for (int slot = 0; slot < highWater; slot++) {
+			if (matches[slot] == null || remainingTicks[slot] > 0) {
+				continue;
+			}
+			var match = matches[slot];
+			@SuppressWarnings("unchecked")
+			var future = (CompletableFuture<Result>) futures[slot];
+			var result = toResult(match, homeScore[slot], awayScore[slot]);
+
+			matches[slot] = null;
+			futures[slot] = null;
+			freeSlots[freeCount++] = slot;
+			active--;
+
+			// The match stays registered until the result is handled, so it can't be
+			// started again in the meantime
+			completionExecutor.execute(() -> {
+				try {
+					future.complete(result);
+				}
+				finally {
+					runningMatches.remove(match.getGuid());
+				}
+			});
+		}
+	}
+
+	private static Result toResult(Match match, int scoreHomeTeam, int scoreAwayTeam) {
+		UUID winnerTeam = null;
+		if (scoreHomeTeam != scoreAwayTeam) {
+			winnerTeam = scoreHomeTeam < scoreAwayTeam ? match.getAwayTeamUid() : match.getHomeTeamUid();
+		}
+		return Result.builder()
+			.matchGuid(match.getGuid())
+			.scoreHomeTeam(scoreHomeTeam)
+			.scoreAwayTeam(scoreAwayTeam)
+			.winnerTeam(winnerTeam)
+			.build();
+	}
+
+	private void allocate(int capacity) {
+		matches = new Match[capacity];
+		futures = new CompletableFuture<?>[capacity];
+		homeGoalChance = new double[capacity];
+		awayGoalChance = new double[capacity];
+		homeScore = new int[capacity];
+		awayScore = new int[capacity];
+		remainingTicks = new int[capacity];
+		freeSlots = new int[capacity];
+	}
+
+	private void grow() {
+		var capacity = matches.length * 2;
+		matches = Arrays.copyOf(matches, capacity);
+		futures = Arrays.copyOf(futures, capacity);
+		homeGoalChance = Arrays.copyOf(homeGoalChance, capacity);
+		awayGoalChance = Arrays.copyOf(awayGoalChance, capacity);
+		homeScore = Arrays.copyOf(homeScore, capacity);
+		awayScore = Arrays.copyOf(awayScore, capacity);
+		remainingTicks = Arrays.copyOf(remainingTicks, capacity);
+		freeSlots = Arrays.copyOf(freeSlots, capacity);
+		LOGGER.debug("Simulation capacity increased to {} matches", capacity);
+	}
+
+	private record Admission(Match match, CompletableFuture<Result> future, double homeGoalChance,
+			double awayGoalChance) {
+	}
+
+	/**
+	 * Root task of one tick. Chunks are allocated once and reinitialized on every tick.
+	 */
+	private final class TickTask extends RecursiveAction {
+
+		private final ChunkTask[] chunks;
+
+		private int finished;
+
+		private TickTask(int numberOfChunks, SplittableRandom random) {
+			chunks = new ChunkTask[numberOfChunks];
+			for (int i = 0; i < numberOfChunks; i++) {
+				chunks[i] = new ChunkTask(i, numberOfChunks, random.split());
+			}
+		}
+
+		@Override
+		protected void compute() {
+			for (var chunk : chunks) {
+				chunk.reinitialize();
+			}
+			ForkJoinTask.invokeAll(chunks);
+
+			finished = 0;
+			for (var chunk : chunks) {
+				finished += chunk.finished;
+			}
+		}
+
+	}
+
+	/**
+	 * Advances one contiguous range of slots. Each chunk owns its random generator, so
+	 * workers never contend on a shared one.
+	 */
+	private final class ChunkTask extends RecursiveAction {
+
+		private final int index;
+
+		private final int numberOfChunks;
+
+		private final SplittableRandom random;
+
+		private int finished;
+
+		private ChunkTask(int index, int numberOfChunks, SplittableRandom random) {
+			this.index = index;
+			this.numberOfChunks = numberOfChunks;
+			this.random = random;
+		}
+
+		@Override
+		protected void compute() {
+			var from = (int) ((long) highWater * index / numberOfChunks);
+			var to = (int) ((long) highWater * (index + 1) / numberOfChunks);
+
+			var listener = scoreListener;
+			finished = 0;
+			for (int slot = from; slot < to; slot++) {
+				if (remainingTicks[slot] <= 0) {
+					continue;
+				}
+				var scored = false;
+				if (random.nextDouble() < homeGoalChance[slot]) {
+					homeScore[slot]++;
+					scored = true;
+				}
+				if (random.nextDouble() < awayGoalChance[slot]) {
+					awayScore[slot]++;
+					scored = true;
+				}
+				if (scored) {
+					listener.onScoreChanged(matches[slot], homeScore[slot], awayScore[slot]);
+				}
+				if (--remainingTicks[slot] == 0) {
+					finished++;
+				}
+			}
+		}
+
+	}
+
+}
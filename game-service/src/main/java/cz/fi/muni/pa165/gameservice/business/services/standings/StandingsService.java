@@ -0,0 +1,158 @@
+package cz.fi.muni.pa165.gameservice.business.services.standings;
+
+import cz.fi.muni.pa165.gameservice.api.exception.ValidationHelper;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Competition;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Match;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Result;
+import cz.fi.muni.pa165.gameservice.persistence.entities.TeamStanding;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.CompetitionRepository;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.MatchRepository;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.TeamStandingRepository;
+import jakarta.validation.constraints.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the standings of the competitions. Rows of both teams are updated in the
+ * transaction publishing the result, so reading the standings needs no aggregation. The
+ * standings can be rebuilt from the results of the competition.
+ */
+@Service
+public class StandingsService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(StandingsService.class);
+
+	private final TeamStandingRepository teamStandingRepository;
+
+	private final MatchRepository matchRepository;
+
+	private final CompetitionRepository competitionRepository;
+
+	@Autowired
+	public StandingsService(TeamStandingRepository teamStandingRepository, MatchRepository matchRepository,
+			CompetitionRepository competitionRepository) {
+		this.teamStandingRepository = teamStandingRepository;
+		this.matchRepository = matchRepository;
+		this.competitionRepository = competitionRepository;
+	}
+
+	/**
+	 * Adds the result of the match into the standings of its competition. Friendly
+	 * matches are not part of any standings.
+	 * @param match match of the result, without any result yet
+	 * @param result newly published result
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void recordResult(@NotNull Match match, @NotNull Result result) {
+		ValidationHelper.requireNonNull(match, "Please provide match of the result");
+		ValidationHelper.requireNonNull(result, "Please provide result to record");
+
+		var competition = match.getCompetition();
+		if (competition == null) {
+			return;
+		}
+		toTeamRecords(match, result).forEach((teamUid, teamRecord) -> addRecord(competition, teamUid, teamRecord));
+	}
+
+	/**
+	 * @return standings of the competition, the best team first
+	 */
+	public List<TeamStanding> getStandings(@NotNull UUID competitionUUID) {
+		ValidationHelper.requireNonNull(competitionUUID, "Please provide UUID of the competition");
+
+		return teamStandingRepository.findStandings(competitionUUID);
+	}
+
+	/**
+	 * Replaces the standings of the competition by the standings folded from the results
+	 * of its matches. Results are folded in parallel. Teams without any result get an
+	 * empty row.
+	 * @return rebuilt standings, the best team first
+	 */
+	@Transactional
+	public List<TeamStanding> rebuild(@NotNull Competition competition) {
+		ValidationHelper.requireNonNull(competition, "Please provide competition to rebuild the standings");
+
+		var matches = matchRepository.getMatchesByCompetition_Guid(competition.getGuid());
+		var teamRecords = foldResults(matches);
+		competition.getTeams().forEach(team -> teamRecords.putIfAbsent(team.getTeamUid(), TeamRecord.EMPTY));
+
+		teamStandingRepository.deleteStandings(competition.getGuid());
+		teamStandingRepository.saveAll(teamRecords.entrySet()
+			.stream()
+			.map(entry -> toStanding(competition, entry.getKey(), entry.getValue()))
+			.toList());
+		LOGGER.info("Rebuilt standings of competition {} from {} matches", competition.getGuid(), matches.size());
+
+		return teamStandingRepository.findStandings(competition.getGuid());
+	}
+
+	static Map<UUID, TeamRecord> foldResults(Collection<Match> matches) {
+		return matches.parallelStream()
+			.filter(match -> match.getResult() != null)
+			.flatMap(match -> toTeamRecords(match, match.getResult()).entrySet().stream())
+			.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, TeamRecord::plus));
+	}
+
+	/**
+	 * Records of both teams of the match. Records of a match played by the team against
+	 * itself are merged, such matches are rejected when created, but may be still stored.
+	 */
+	private static Map<UUID, TeamRecord> toTeamRecords(Match match, Result result) {
+		var homeTeam = match.getHomeTeamUid();
+		var awayTeam = match.getAwayTeamUid();
+		var records = new HashMap<UUID, TeamRecord>(2);
+		records.put(homeTeam, TeamRecord.ofMatch(homeTeam, result.getWinnerTeam(), result.getScoreHomeTeam(),
+				result.getScoreAwayTeam()));
+		records.merge(awayTeam, TeamRecord.ofMatch(awayTeam, result.getWinnerTeam(), result.getScoreAwayTeam(),
+				result.getScoreHomeTeam()), TeamRecord::plus);
+		return records;
+	}
+
+	/**
+	 * Adds the record to the row of the team, the first result of the team creates it.
+	 * Concurrent first results of one team would both create the row, so the creation
+	 * locks the competition and the later transaction then updates the row created by the
+	 * former.
+	 */
+	private void addRecord(Competition competition, UUID teamUid, TeamRecord teamRecord) {
+		if (updateRecord(competition, teamUid, teamRecord) > 0) {
+			return;
+		}
+		competitionRepository.findLockedByGuid(competition.getGuid());
+		if (updateRecord(competition, teamUid, teamRecord) == 0) {
+			teamStandingRepository.save(toStanding(competition, teamUid, teamRecord));
+		}
+	}
+
+	private int updateRecord(Competition competition, UUID teamUid, TeamRecord teamRecord) {
+		return teamStandingRepository.addMatch(competition.getGuid(), teamUid, teamRecord.points(), teamRecord.wins(),
+				teamRecord.draws(), teamRecord.losses(), teamRecord.goalsFor(), teamRecord.goalsAgainst());
+	}
+
+	private static TeamStanding toStanding(Competition competition, UUID teamUid, TeamRecord teamRecord) {
+		return TeamStanding.builder()
+			.competition(competition)
+			.teamUid(teamUid)
+			.points(teamRecord.points())
+			.wins(teamRecord.wins())
+			.draws(teamRecord.draws())
+			.losses(teamRecord.losses())
+			.goalsFor(teamRecord.goalsFor())
+			.goalsAgainst(teamRecord.goalsAgainst())
+			.goalDifference(teamRecord.goalsFor() - teamRecord.goalsAgainst())
+			.build();
+	}
+
+}
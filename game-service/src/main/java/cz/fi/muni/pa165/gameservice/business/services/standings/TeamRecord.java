@@ -0,0 +1,34 @@
+package cz.fi.muni.pa165.gameservice.business.services.standings;
+
+import cz.fi.muni.pa165.gameservice.business.services.forecast.SeasonForecastEngine;
+
+import java.util.UUID;
+
+/**
+ * Matches of one team summed up. Records are added together when the standings are
+ * rebuilt, so the matches can be folded in any order.
+ */
+record TeamRecord(int points, int wins, int draws, int losses, int goalsFor, int goalsAgainst) {
+
+	static final TeamRecord EMPTY = new TeamRecord(0, 0, 0, 0, 0, 0);
+
+	/**
+	 * @param teamUid team, whose record is created
+	 * @param winnerTeam winner of the match, null for a draw
+	 */
+	static TeamRecord ofMatch(UUID teamUid, UUID winnerTeam, int goalsFor, int goalsAgainst) {
+		if (winnerTeam == null) {
+			return new TeamRecord(SeasonForecastEngine.POINTS_FOR_DRAW, 0, 1, 0, goalsFor, goalsAgainst);
+		}
+		if (winnerTeam.equals(teamUid)) {
+			return new TeamRecord(SeasonForecastEngine.POINTS_FOR_WIN, 1, 0, 0, goalsFor, goalsAgainst);
+		}
+		return new TeamRecord(0, 0, 0, 1, goalsFor, goalsAgainst);
+	}
+
+	TeamRecord plus(TeamRecord other) {
+		return new TeamRecord(points + other.points, wins + other.wins, draws + other.draws, losses + other.losses,
+				goalsFor + other.goalsFor, goalsAgainst + other.goalsAgainst);
+	}
+
+}
@@ -0,0 +1,26 @@
+package cz.fi.muni.pa165.gameservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@Getter
+@Setter
+public class ArenaBookingConfiguration {
+
+	/**
+	 * Defines in minutes how long one match lasts. The arena is booked by the match for
+	 * the whole time and the generated matches end after it.
+	 */
+	@Value("${arena.booking.duration:180}")
+	private int duration;
+
+	public Duration getBookingDuration() {
+		return Duration.ofMinutes(duration);
+	}
+
+}
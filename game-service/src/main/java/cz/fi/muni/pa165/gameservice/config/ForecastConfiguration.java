@@ -0,0 +1,48 @@
+package cz.fi.muni.pa165.gameservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+@Setter
+public class ForecastConfiguration {
+
+	/**
+	 * Number of simulated seasons the forecast of a competition is computed from
+	 */
+	@Value("${forecast.simulations:100000}")
+	private int simulations;
+
+	/**
+	 * Number of the best teams in the final standings which advance to the playoff
+	 */
+	@Value("${forecast.playoff-spots:4}")
+	private int playoffSpots;
+
+	/**
+	 * Number of worker threads simulating the seasons, all available processors by
+	 * default
+	 */
+	@Value("${forecast.workers:0}")
+	private int workers;
+
+	/**
+	 * Maximal number of forecasts kept in the cache
+	 */
+	@Value("${forecast.cache.maximum-size:100}")
+	private long cacheMaximumSize;
+
+	/**
+	 * Defines in seconds how long the forecast is kept after it was computed
+	 */
+	@Value("${forecast.cache.expire-after-write:3600}")
+	private long cacheExpireAfterWrite;
+
+	public int getWorkers() {
+		return workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+	}
+
+}
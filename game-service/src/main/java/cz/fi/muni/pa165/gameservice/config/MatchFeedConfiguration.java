@@ -0,0 +1,32 @@
+package cz.fi.muni.pa165.gameservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+@Setter
+public class MatchFeedConfiguration {
+
+	/**
+	 * Number of events kept by the live feed of one match, must be a power of two.
+	 * Subscriber falling behind by more events is dropped
+	 */
+	@Value("${feed.ring-size:256}")
+	private int ringSize;
+
+	/**
+	 * Defines in seconds how often an idle subscriber receives a heartbeat
+	 */
+	@Value("${feed.heartbeat-interval:15}")
+	private int heartbeatInterval;
+
+	/**
+	 * Defines in minutes how long the subscription can stay open
+	 */
+	@Value("${feed.timeout:180}")
+	private int timeout;
+
+}
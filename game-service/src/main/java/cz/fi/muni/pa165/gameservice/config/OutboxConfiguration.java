@@ -0,0 +1,26 @@
+package cz.fi.muni.pa165.gameservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+@Setter
+public class OutboxConfiguration {
+
+	/**
+	 * Maximal number of messages sent in one JMS session
+	 */
+	@Value("${outbox.batch-size:100}")
+	private int batchSize;
+
+	/**
+	 * Defines in milliseconds how long messages can wait in the outbox for the batch to
+	 * fill up
+	 */
+	@Value("${outbox.linger:200}")
+	private int linger;
+
+}
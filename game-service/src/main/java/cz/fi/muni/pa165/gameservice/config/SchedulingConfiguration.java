@@ -1,11 +1,17 @@
 package cz.fi.muni.pa165.gameservice.config;
 
+import cz.fi.muni.pa165.gameservice.business.services.scheduling.TimingWheelTaskScheduler;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+import java.time.Duration;
+
 @Configuration
 @EnableScheduling
 @Getter
@@ -18,7 +24,45 @@ public class SchedulingConfiguration {
 	@Value("${tasks.schedule.offset.match-schedule-offset:1}")
 	private int matchScheduleOffset;
 
-	@Value("${tasks.schedule.placeholder.match:5000}")
-	private int matchSleepPlaceholder;
+	/**
+	 * Defines how many matches are loaded for scheduling with one query
+	 */
+	@Value("${tasks.schedule.fetch-page-size:200}")
+	private int fetchPageSize;
+
+	/**
+	 * Defines in hours how long the finished tasks are kept in the journal
+	 */
+	@Value("${tasks.schedule.journal.retention:24}")
+	private int journalRetention;
+
+	/**
+	 * Defines in milliseconds how often the finished tasks past the retention are removed
+	 */
+	@Value("${tasks.schedule.journal.purge-interval:600000}")
+	private int journalPurgeInterval;
+
+	/**
+	 * Defines in milliseconds duration of one tick of the timing wheel scheduler
+	 */
+	@Value("${tasks.schedule.timing-wheel.tick-duration:100}")
+	private long timingWheelTickDuration;
+
+	/**
+	 * Number of buckets of one level of the timing wheel scheduler, must be a power of
+	 * two
+	 */
+	@Value("${tasks.schedule.timing-wheel.wheel-size:512}")
+	private int timingWheelSize;
+
+	/**
+	 * Replaces Spring's default task scheduler by the timing wheel when
+	 * {@code tasks.schedule.scheduler} is set to {@code timing-wheel}
+	 */
+	@Bean(destroyMethod = "shutdown")
+	@ConditionalOnProperty(name = "tasks.schedule.scheduler", havingValue = "timing-wheel")
+	public TaskScheduler timingWheelTaskScheduler() {
+		return new TimingWheelTaskScheduler(Duration.ofMillis(timingWheelTickDuration), timingWheelSize);
+	}
 
 }
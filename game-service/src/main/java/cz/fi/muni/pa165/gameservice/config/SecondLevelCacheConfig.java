@@ -0,0 +1,11 @@
+package cz.fi.muni.pa165.gameservice.config;
+
+import cz.fi.muni.pa165.persistence.SecondLevelCacheConfiguration;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+@Configuration
+@Import(SecondLevelCacheConfiguration.class)
+public class SecondLevelCacheConfig {
+
+}
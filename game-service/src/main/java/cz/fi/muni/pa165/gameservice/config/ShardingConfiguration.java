@@ -0,0 +1,45 @@
+package cz.fi.muni.pa165.gameservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+@Setter
+public class ShardingConfiguration {
+
+	/**
+	 * Enables splitting of the matches between multiple game service instances sharing
+	 * one database. When disabled, the instance runs all the matches.
+	 */
+	@Value("${tasks.schedule.sharding.enabled:false}")
+	private boolean enabled;
+
+	/**
+	 * Number of shards the matches are split into, must be the same for all instances
+	 */
+	@Value("${tasks.schedule.sharding.shards:16}")
+	private int shards;
+
+	/**
+	 * Unique ID of this instance, random by default
+	 */
+	@Value("${tasks.schedule.sharding.node-id:#{T(java.util.UUID).randomUUID().toString()}}")
+	private String nodeId;
+
+	/**
+	 * Defines in seconds how long the lease is valid without renewal
+	 */
+	@Value("${tasks.schedule.sharding.lease-duration:30}")
+	private int leaseDuration;
+
+	/**
+	 * Defines in seconds how often the leases are renewed and rebalanced, must be shorter
+	 * than the lease duration
+	 */
+	@Value("${tasks.schedule.sharding.heartbeat-interval:10}")
+	private int heartbeatInterval;
+
+}
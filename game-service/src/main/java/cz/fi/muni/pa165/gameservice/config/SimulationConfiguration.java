@@ -0,0 +1,51 @@
+package cz.fi.muni.pa165.gameservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+@Setter
+public class SimulationConfiguration {
+
+	/**
+	 * Defines in milliseconds how often the shared simulation clock ticks
+	 */
+	@Value("${tasks.simulation.tick-interval:100}")
+	private int tickInterval;
+
+	/**
+	 * Number of periods of one match
+	 */
+	@Value("${tasks.simulation.periods:3}")
+	private int periods;
+
+	/**
+	 * Number of ticks of one period. Whole match takes periods * ticksPerPeriod ticks
+	 */
+	@Value("${tasks.simulation.ticks-per-period:20}")
+	private int ticksPerPeriod;
+
+	/**
+	 * Number of worker threads advancing the matches, all available processors by default
+	 */
+	@Value("${tasks.simulation.workers:0}")
+	private int workers;
+
+	/**
+	 * Number of matches the engine can hold before it has to grow its state arrays
+	 */
+	@Value("${tasks.simulation.initial-capacity:1024}")
+	private int initialCapacity;
+
+	public int getTicksPerMatch() {
+		return periods * ticksPerPeriod;
+	}
+
+	public int getWorkers() {
+		return workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+	}
+
+}
@@ -0,0 +1,25 @@
+package cz.fi.muni.pa165.gameservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+@Setter
+public class TeamStrengthCacheConfiguration {
+
+	/**
+	 * Maximal number of teams whose strength is kept in the cache
+	 */
+	@Value("${cache.team-strength.maximum-size:10000}")
+	private long maximumSize;
+
+	/**
+	 * Defines in seconds how long the strength of the team is kept after it was fetched
+	 */
+	@Value("${cache.team-strength.expire-after-write:600}")
+	private long expireAfterWrite;
+
+}
@@ -3,11 +3,15 @@ package cz.fi.muni.pa165.gameservice.persistence.entities;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 
 @Entity
 @Table(name = "arena")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "arena")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -14,6 +16,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "competition")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "competition")
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
@@ -25,7 +25,7 @@ public class CompetitionHasTeam {
 	@Column(name = "team_uid", nullable = false)
 	private UUID teamUid;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@NotNull
 	@JoinColumn(name = "competition_uid", foreignKey = @ForeignKey(name = "competition_teams_fk"), nullable = false)
 	private Competition competition;
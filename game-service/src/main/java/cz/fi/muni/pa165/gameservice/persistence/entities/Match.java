@@ -1,5 +1,6 @@
 package cz.fi.muni.pa165.gameservice.persistence.entities;
 
+import cz.fi.muni.pa165.gameservice.persistence.repositories.SchedulableMatch;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -17,17 +18,17 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @AllArgsConstructor
 @ToString(exclude = "competition")
-public class Match {
+public class Match implements SchedulableMatch {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.UUID)
 	private UUID guid;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "competition_uid", foreignKey = @ForeignKey(name = "match_competition_fk"))
 	private Competition competition;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@NotNull
 	@JoinColumn(name = "arena_uid", foreignKey = @ForeignKey(name = "match_arena_fk"), nullable = false)
 	private Arena arena;
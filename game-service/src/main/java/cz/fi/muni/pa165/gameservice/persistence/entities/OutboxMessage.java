@@ -0,0 +1,49 @@
+package cz.fi.muni.pa165.gameservice.persistence.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Message waiting in the outbox. It is written in the same transaction as the change it
+ * announces and sent to the broker afterwards, so the message is never lost nor sent for
+ * a rolled back change.
+ */
+@Entity
+@Table(name = "outbox_message")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(exclude = "payload")
+public class OutboxMessage {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "destination", nullable = false)
+	private String destination;
+
+	/**
+	 * ID of the message group, null when the message is sent outside any group
+	 */
+	@Column(name = "group_id")
+	private String groupId;
+
+	/**
+	 * Class of the serialized payload, used by the receiver to deserialize it
+	 */
+	@Column(name = "payload_type", nullable = false)
+	private String payloadType;
+
+	@Lob
+	@Column(name = "payload", nullable = false)
+	private String payload;
+
+	@Column(name = "created_at", nullable = false)
+	private OffsetDateTime createdAt;
+
+}
@@ -0,0 +1,36 @@
+package cz.fi.muni.pa165.gameservice.persistence.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Journal entry of the match task, which was scheduled but has not finished yet
+ */
+@Entity
+@Table(name = "scheduled_task")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ScheduledTask {
+
+	@Id
+	@Column(name = "task_uid")
+	private UUID taskGuid;
+
+	@Column(name = "start_at", nullable = false)
+	private OffsetDateTime startAt;
+
+	@Column(name = "state", nullable = false)
+	@Enumerated(EnumType.STRING)
+	private ScheduledTaskState state;
+
+	@Column(name = "updated_at", nullable = false)
+	private OffsetDateTime updatedAt;
+
+}
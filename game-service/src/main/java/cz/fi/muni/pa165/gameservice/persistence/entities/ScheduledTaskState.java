@@ -0,0 +1,11 @@
+package cz.fi.muni.pa165.gameservice.persistence.entities;
+
+/**
+ * States of the journaled match task, in the order they are reached. A task never returns
+ * to the previous state.
+ */
+public enum ScheduledTaskState {
+
+	SCHEDULED, RUNNING, FINISHED
+
+}
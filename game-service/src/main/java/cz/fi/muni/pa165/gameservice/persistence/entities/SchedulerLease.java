@@ -0,0 +1,32 @@
+package cz.fi.muni.pa165.gameservice.persistence.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Lease of one shard of the matches. Only the owner of a valid lease schedules and runs
+ * matches of the shard.
+ */
+@Entity
+@Table(name = "scheduler_lease")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class SchedulerLease {
+
+	@Id
+	@Column(name = "shard")
+	private Integer shard;
+
+	@Column(name = "owner")
+	private String owner;
+
+	@Column(name = "expires_at", nullable = false)
+	private OffsetDateTime expiresAt;
+
+}
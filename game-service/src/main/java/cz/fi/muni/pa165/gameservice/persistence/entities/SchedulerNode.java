@@ -0,0 +1,29 @@
+package cz.fi.muni.pa165.gameservice.persistence.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Game service instance taking part in the match scheduling, alive until it stops sending
+ * heartbeats
+ */
+@Entity
+@Table(name = "scheduler_node")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class SchedulerNode {
+
+	@Id
+	@Column(name = "node_id")
+	private String nodeId;
+
+	@Column(name = "expires_at", nullable = false)
+	private OffsetDateTime expiresAt;
+
+}
@@ -0,0 +1,57 @@
+package cz.fi.muni.pa165.gameservice.persistence.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Row of the competition standings. The row is updated together with every published
+ * result, so the standings are read without aggregating the results.
+ */
+@Entity
+@Table(name = "team_standing",
+		uniqueConstraints = @UniqueConstraint(name = "uc_team_standing_competition_team",
+				columnNames = { "competition_uid", "team_uid" }))
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(exclude = "competition")
+public class TeamStanding {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	private UUID guid;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "competition_uid", foreignKey = @ForeignKey(name = "team_standing_competition_fk"),
+			nullable = false)
+	private Competition competition;
+
+	@Column(name = "team_uid", nullable = false)
+	private UUID teamUid;
+
+	@Column(name = "points", nullable = false)
+	private int points;
+
+	@Column(name = "wins", nullable = false)
+	private int wins;
+
+	@Column(name = "draws", nullable = false)
+	private int draws;
+
+	@Column(name = "losses", nullable = false)
+	private int losses;
+
+	@Column(name = "goals_for", nullable = false)
+	private int goalsFor;
+
+	@Column(name = "goals_against", nullable = false)
+	private int goalsAgainst;
+
+	@Column(name = "goal_difference", nullable = false)
+	private int goalDifference;
+
+}
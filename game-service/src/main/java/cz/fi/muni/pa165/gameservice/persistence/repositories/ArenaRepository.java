@@ -1,10 +1,36 @@
 package cz.fi.muni.pa165.gameservice.persistence.repositories;
 
 import cz.fi.muni.pa165.gameservice.persistence.entities.Arena;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ArenaRepository extends JpaRepository<Arena, UUID> {
 
+	@Override
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	List<Arena> findAll();
+
+	@Override
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	Page<Arena> findAll(Pageable pageable);
+
+	/**
+	 * Finds the arena and locks it, so concurrent transactions don't book it at the same
+	 * time
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT a FROM Arena a WHERE a.guid = :guid")
+	Optional<Arena> findLockedByGuid(UUID guid);
+
 }
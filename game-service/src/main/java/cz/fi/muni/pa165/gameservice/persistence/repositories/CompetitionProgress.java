@@ -0,0 +1,15 @@
+package cz.fi.muni.pa165.gameservice.persistence.repositories;
+
+import lombok.Value;
+
+/**
+ * Number of all matches of the competition and of those with a result
+ */
+@Value
+public class CompetitionProgress {
+
+	long matches;
+
+	long playedMatches;
+
+}
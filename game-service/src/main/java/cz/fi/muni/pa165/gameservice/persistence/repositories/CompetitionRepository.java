@@ -1,13 +1,30 @@
 package cz.fi.muni.pa165.gameservice.persistence.repositories;
 
 import cz.fi.muni.pa165.gameservice.persistence.entities.Competition;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 import java.util.UUID;
 
 public interface CompetitionRepository extends JpaRepository<Competition, UUID> {
 
+	/**
+	 * Finds the competition together with its assigned teams, as read by the competition
+	 * detail. Matches of the competition are loaded only on access.
+	 */
+	@EntityGraph(attributePaths = "teams")
 	Optional<Competition> getCompetitionByGuid(UUID guid);
 
+	/**
+	 * Finds the competition and locks it, so concurrent transactions don't create the
+	 * same standings row
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT c FROM Competition c WHERE c.guid = :guid")
+	Optional<Competition> findLockedByGuid(UUID guid);
+
 }
@@ -0,0 +1,17 @@
+package cz.fi.muni.pa165.gameservice.persistence.repositories;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of the match to the arena it occupies and its start
+ */
+public interface MatchArenaSlot {
+
+	UUID getGuid();
+
+	UUID getArenaGuid();
+
+	OffsetDateTime getStartAt();
+
+}
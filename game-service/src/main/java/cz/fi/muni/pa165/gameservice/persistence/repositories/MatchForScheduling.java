@@ -0,0 +1,22 @@
+package cz.fi.muni.pa165.gameservice.persistence.repositories;
+
+import lombok.Value;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Match loaded for scheduling without its competition, arena and result
+ */
+@Value
+public class MatchForScheduling implements SchedulableMatch {
+
+	UUID guid;
+
+	OffsetDateTime startAt;
+
+	UUID homeTeamUid;
+
+	UUID awayTeamUid;
+
+}
@@ -0,0 +1,42 @@
+package cz.fi.muni.pa165.gameservice.persistence.repositories;
+
+import cz.fi.muni.pa165.gameservice.persistence.entities.MatchType;
+import lombok.Value;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Match loaded for listing with only the columns of the match view, its arena and result.
+ * Result columns are null when the match was not played yet.
+ */
+@Value
+public class MatchListItem {
+
+	UUID guid;
+
+	OffsetDateTime startAt;
+
+	OffsetDateTime endAt;
+
+	UUID homeTeamUid;
+
+	UUID awayTeamUid;
+
+	MatchType matchType;
+
+	UUID arenaGuid;
+
+	String arenaCountryCode;
+
+	String arenaCityName;
+
+	String arenaName;
+
+	UUID winnerTeam;
+
+	Integer scoreHomeTeam;
+
+	Integer scoreAwayTeam;
+
+}
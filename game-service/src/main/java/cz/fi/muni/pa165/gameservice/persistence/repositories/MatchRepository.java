@@ -1,12 +1,17 @@
 package cz.fi.muni.pa165.gameservice.persistence.repositories;
 
 import cz.fi.muni.pa165.gameservice.persistence.entities.Match;
+import jakarta.persistence.LockModeType;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,13 +19,122 @@ import java.util.UUID;
 @Repository
 public interface MatchRepository extends JpaRepository<Match, UUID> {
 
+	/**
+	 * Finds the matches of the competition together with their arenas and results, which
+	 * are read by the match list and the standings
+	 */
+	@EntityGraph(attributePaths = { "arena", "result" })
 	List<Match> getMatchesByCompetition_Guid(@NotNull UUID competitionGuid);
 
+	/**
+	 * Finds the match together with its arena and result, as read by the match detail and
+	 * the simulation of the match
+	 */
+	@EntityGraph(attributePaths = { "arena", "result" })
 	Optional<Match> getMatchByGuid(UUID guid);
 
-	@Query("FROM Match WHERE result IS NULL AND endAt IS NULL AND startAt <= :maxTime")
-	List<Match> getMatchesForScheduling(OffsetDateTime maxTime);
+	/**
+	 * Counts the matches of the competition without loading them, the counts change with
+	 * every published result
+	 */
+	@Query("""
+			SELECT new cz.fi.muni.pa165.gameservice.persistence.repositories.CompetitionProgress(
+				COUNT(m), COALESCE(SUM(CASE WHEN m.result IS NULL THEN 0 ELSE 1 END), 0))
+			FROM Match m
+			WHERE m.competition.guid = :competitionGuid""")
+	CompetitionProgress getCompetitionProgress(UUID competitionGuid);
+
+	/**
+	 * Finds the match and locks it, so concurrent simulations don't publish its result
+	 * twice
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT m FROM Match m LEFT JOIN FETCH m.result WHERE m.guid = :guid")
+	Optional<Match> findLockedByGuid(UUID guid);
+
+	/**
+	 * Finds the first page of the not yet played matches starting until the given time,
+	 * ordered by their start
+	 */
+	@Query("""
+			SELECT new cz.fi.muni.pa165.gameservice.persistence.repositories.MatchForScheduling(
+				m.guid, m.startAt, m.homeTeamUid, m.awayTeamUid)
+			FROM Match m
+			WHERE m.result IS NULL AND m.endAt IS NULL AND m.startAt <= :maxTime
+			ORDER BY m.startAt, m.guid""")
+	List<SchedulableMatch> getMatchesForScheduling(OffsetDateTime maxTime, Limit limit);
+
+	/**
+	 * Finds the next page of the matches for scheduling, following the last match of the
+	 * previous page
+	 * @see #getMatchesForScheduling(OffsetDateTime, Limit)
+	 */
+	@Query("""
+			SELECT new cz.fi.muni.pa165.gameservice.persistence.repositories.MatchForScheduling(
+				m.guid, m.startAt, m.homeTeamUid, m.awayTeamUid)
+			FROM Match m
+			WHERE m.result IS NULL AND m.endAt IS NULL AND m.startAt <= :maxTime
+				AND (m.startAt > :afterStartAt OR (m.startAt = :afterStartAt AND m.guid > :afterGuid))
+			ORDER BY m.startAt, m.guid""")
+	List<SchedulableMatch> getMatchesForSchedulingAfter(OffsetDateTime maxTime, OffsetDateTime afterStartAt,
+			UUID afterGuid, Limit limit);
+
+	/**
+	 * Finds the first page of the matches of the competition ordered by their start.
+	 * Filters left null are not applied, matches of the team are those where it plays
+	 * home or away, the start is from inclusive and to exclusive.
+	 */
+	@Query("""
+			SELECT new cz.fi.muni.pa165.gameservice.persistence.repositories.MatchListItem(
+				m.guid, m.startAt, m.endAt, m.homeTeamUid, m.awayTeamUid, m.matchType,
+				a.guid, a.countryCode, a.cityName, a.arenaName, r.winnerTeam, r.scoreHomeTeam, r.scoreAwayTeam)
+			FROM Match m JOIN m.arena a LEFT JOIN m.result r
+			WHERE m.competition.guid = :competitionGuid
+				AND (:teamGuid IS NULL OR m.homeTeamUid = :teamGuid OR m.awayTeamUid = :teamGuid)
+				AND (:from IS NULL OR m.startAt >= :from) AND (:to IS NULL OR m.startAt < :to)
+				AND (:finished IS NULL OR (:finished = TRUE AND r IS NOT NULL) OR (:finished = FALSE AND r IS NULL))
+			ORDER BY m.startAt, m.guid""")
+	List<MatchListItem> getMatchPage(UUID competitionGuid, UUID teamGuid, OffsetDateTime from, OffsetDateTime to,
+			Boolean finished, Limit limit);
+
+	/**
+	 * Finds the next page of the matches of the competition, following the last match of
+	 * the previous page
+	 * @see #getMatchPage(UUID, UUID, OffsetDateTime, OffsetDateTime, Boolean, Limit)
+	 */
+	@Query("""
+			SELECT new cz.fi.muni.pa165.gameservice.persistence.repositories.MatchListItem(
+				m.guid, m.startAt, m.endAt, m.homeTeamUid, m.awayTeamUid, m.matchType,
+				a.guid, a.countryCode, a.cityName, a.arenaName, r.winnerTeam, r.scoreHomeTeam, r.scoreAwayTeam)
+			FROM Match m JOIN m.arena a LEFT JOIN m.result r
+			WHERE m.competition.guid = :competitionGuid
+				AND (m.startAt > :afterStartAt OR (m.startAt = :afterStartAt AND m.guid > :afterGuid))
+				AND (:teamGuid IS NULL OR m.homeTeamUid = :teamGuid OR m.awayTeamUid = :teamGuid)
+				AND (:from IS NULL OR m.startAt >= :from) AND (:to IS NULL OR m.startAt < :to)
+				AND (:finished IS NULL OR (:finished = TRUE AND r IS NOT NULL) OR (:finished = FALSE AND r IS NULL))
+			ORDER BY m.startAt, m.guid""")
+	List<MatchListItem> getMatchPageAfter(UUID competitionGuid, OffsetDateTime afterStartAt, UUID afterGuid,
+			UUID teamGuid, OffsetDateTime from, OffsetDateTime to, Boolean finished, Limit limit);
 
 	long countMatchByArena_Guid(UUID arenaGuid);
 
+	/**
+	 * @param matchGuid match left out of the check, null to check all matches
+	 * @return true if another match starts in the arena between the given times,
+	 * exclusive
+	 */
+	@Query("""
+			SELECT COUNT(m) > 0 FROM Match m
+			WHERE m.arena.guid = :arenaGuid AND (:matchGuid IS NULL OR m.guid <> :matchGuid)
+				AND m.startAt > :from AND m.startAt < :to""")
+	boolean existsArenaBooking(UUID arenaGuid, OffsetDateTime from, OffsetDateTime to, UUID matchGuid);
+
+	/**
+	 * Finds the matches starting in the arenas between the given times, exclusive
+	 */
+	@Query("""
+			SELECT m.guid AS guid, m.arena.guid AS arenaGuid, m.startAt AS startAt FROM Match m
+			WHERE m.arena.guid IN :arenaGuids AND m.startAt > :from AND m.startAt < :to""")
+	List<MatchArenaSlot> findArenaSlots(Collection<UUID> arenaGuids, OffsetDateTime from, OffsetDateTime to);
+
 }
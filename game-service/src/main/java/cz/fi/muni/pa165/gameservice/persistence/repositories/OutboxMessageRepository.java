@@ -0,0 +1,24 @@
+package cz.fi.muni.pa165.gameservice.persistence.repositories;
+
+import cz.fi.muni.pa165.gameservice.persistence.entities.OutboxMessage;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+	/**
+	 * Finds the oldest messages and locks them, so concurrent relays don't send them
+	 * twice
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT m FROM OutboxMessage m ORDER BY m.id")
+	List<OutboxMessage> findOldest(Limit limit);
+
+}
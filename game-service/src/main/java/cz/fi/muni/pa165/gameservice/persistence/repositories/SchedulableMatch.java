@@ -0,0 +1,21 @@
+package cz.fi.muni.pa165.gameservice.persistence.repositories;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Data of the match needed to schedule it, the match itself is loaded when it starts
+ *
+ * @see MatchForScheduling
+ */
+public interface SchedulableMatch {
+
+	UUID getGuid();
+
+	OffsetDateTime getStartAt();
+
+	UUID getHomeTeamUid();
+
+	UUID getAwayTeamUid();
+
+}
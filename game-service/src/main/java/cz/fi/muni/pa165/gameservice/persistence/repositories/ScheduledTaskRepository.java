@@ -0,0 +1,66 @@
+package cz.fi.muni.pa165.gameservice.persistence.repositories;
+
+import cz.fi.muni.pa165.gameservice.persistence.entities.ScheduledTask;
+import cz.fi.muni.pa165.gameservice.persistence.entities.ScheduledTaskState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ScheduledTaskRepository extends JpaRepository<ScheduledTask, UUID> {
+
+	/**
+	 * Finds the scheduled tasks and the running tasks which were not updated since the
+	 * given time. The younger running tasks may still run on another instance.
+	 */
+	@Query("""
+			SELECT t FROM ScheduledTask t
+			WHERE t.state = SCHEDULED OR (t.state = RUNNING AND t.updatedAt < :staleBefore)""")
+	List<ScheduledTask> findPending(OffsetDateTime staleBefore);
+
+	/**
+	 * Moves the task to the running state, if it is scheduled or if it was running and
+	 * not updated since the given time
+	 * @return number of updated tasks
+	 */
+	@Modifying
+	@Query("""
+			UPDATE ScheduledTask t SET t.state = RUNNING, t.updatedAt = :updatedAt
+			WHERE t.taskGuid = :taskGuid
+				AND (t.state = SCHEDULED OR (t.state = RUNNING AND t.updatedAt < :staleBefore))""")
+	int claim(UUID taskGuid, OffsetDateTime staleBefore, OffsetDateTime updatedAt);
+
+	/**
+	 * Moves the task to the given state, only if it is in one of the previous states
+	 * @return number of updated tasks
+	 */
+	@Modifying
+	@Query("UPDATE ScheduledTask SET state = :state, updatedAt = :updatedAt "
+			+ "WHERE taskGuid = :taskGuid AND state IN :previousStates")
+	int updateState(UUID taskGuid, Collection<ScheduledTaskState> previousStates, ScheduledTaskState state,
+			OffsetDateTime updatedAt);
+
+	/**
+	 * Removes the finished tasks not updated since the given time
+	 * @return number of removed tasks
+	 */
+	@Modifying
+	@Query("DELETE FROM ScheduledTask t WHERE t.state = FINISHED AND t.updatedAt < :finishedBefore")
+	int deleteFinishedBefore(OffsetDateTime finishedBefore);
+
+	/**
+	 * Moves start of the task, only if it has not started yet
+	 * @return number of updated tasks
+	 */
+	@Modifying
+	@Query("UPDATE ScheduledTask SET startAt = :startAt, updatedAt = :updatedAt "
+			+ "WHERE taskGuid = :taskGuid AND state = SCHEDULED")
+	int updateStartAt(UUID taskGuid, OffsetDateTime startAt, OffsetDateTime updatedAt);
+
+}
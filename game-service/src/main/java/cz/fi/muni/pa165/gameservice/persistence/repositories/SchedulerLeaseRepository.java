@@ -0,0 +1,37 @@
+package cz.fi.muni.pa165.gameservice.persistence.repositories;
+
+import cz.fi.muni.pa165.gameservice.persistence.entities.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, Integer> {
+
+	/**
+	 * Renews the lease of the owner or claims the free or expired lease. The check and
+	 * the update are one statement, so only one node can claim the lease.
+	 * @return 1 when the owner holds the lease, 0 otherwise
+	 */
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+			UPDATE SchedulerLease SET owner = :owner, expiresAt = :expiresAt
+			WHERE shard = :shard AND (owner = :owner OR owner IS NULL OR expiresAt < :now)
+			""")
+	int acquire(Integer shard, String owner, OffsetDateTime expiresAt, OffsetDateTime now);
+
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE SchedulerLease SET owner = NULL, expiresAt = :now WHERE shard = :shard AND owner = :owner")
+	int release(Integer shard, String owner, OffsetDateTime now);
+
+	@Query("SELECT shard FROM SchedulerLease WHERE owner IS NULL OR expiresAt < :now ORDER BY shard")
+	List<Integer> findClaimableShards(OffsetDateTime now);
+
+}
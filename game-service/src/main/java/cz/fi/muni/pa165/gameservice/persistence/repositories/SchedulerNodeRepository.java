@@ -0,0 +1,27 @@
+package cz.fi.muni.pa165.gameservice.persistence.repositories;
+
+import cz.fi.muni.pa165.gameservice.persistence.entities.SchedulerNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+
+@Repository
+public interface SchedulerNodeRepository extends JpaRepository<SchedulerNode, String> {
+
+	long countByExpiresAtAfter(OffsetDateTime time);
+
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE SchedulerNode SET expiresAt = :expiresAt WHERE nodeId = :nodeId")
+	int renew(String nodeId, OffsetDateTime expiresAt);
+
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("DELETE FROM SchedulerNode WHERE expiresAt < :time")
+	int deleteExpired(OffsetDateTime time);
+
+}
@@ -0,0 +1,44 @@
+package cz.fi.muni.pa165.gameservice.persistence.repositories;
+
+import cz.fi.muni.pa165.gameservice.persistence.entities.TeamStanding;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TeamStandingRepository extends JpaRepository<TeamStanding, UUID> {
+
+	/**
+	 * Gets the standings of the competition, the best team first
+	 */
+	@Query("""
+			FROM TeamStanding
+			WHERE competition.guid = :competitionGuid
+			ORDER BY points DESC, goalDifference DESC, goalsFor DESC, teamUid
+			""")
+	List<TeamStanding> findStandings(UUID competitionGuid);
+
+	/**
+	 * Adds the match to the row of the team. The row is updated by one statement, so
+	 * results published at the same time don't overwrite each other.
+	 * @return 1 when the row was updated, 0 when the team has no row yet
+	 */
+	@Modifying
+	@Query("""
+			UPDATE TeamStanding SET points = points + :points, wins = wins + :wins, draws = draws + :draws,
+				losses = losses + :losses, goalsFor = goalsFor + :goalsFor, goalsAgainst = goalsAgainst + :goalsAgainst,
+				goalDifference = goalDifference + :goalsFor - :goalsAgainst
+			WHERE competition.guid = :competitionGuid AND teamUid = :teamUid
+			""")
+	int addMatch(UUID competitionGuid, UUID teamUid, int points, int wins, int draws, int losses, int goalsFor,
+			int goalsAgainst);
+
+	@Modifying(flushAutomatically = true)
+	@Query("DELETE FROM TeamStanding WHERE competition.guid = :competitionGuid")
+	void deleteStandings(UUID competitionGuid);
+
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import cz.fi.muni.pa165.dto.gameservice.AssignTeamDto;
 import cz.fi.muni.pa165.dto.gameservice.CompetitionCreateDto;
 import cz.fi.muni.pa165.dto.gameservice.CompetitionViewDto;
+import cz.fi.muni.pa165.dto.gameservice.TeamStandingDto;
 import cz.fi.muni.pa165.gameservice.api.exception.ActionForbidden;
 import cz.fi.muni.pa165.gameservice.api.exception.ResourceAlreadyExists;
 import cz.fi.muni.pa165.gameservice.api.exception.ResourceNotFoundException;
@@ -24,7 +25,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static cz.fi.muni.pa165.gameservice.utils.Assertions.exception;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -187,6 +190,42 @@ class CompetitionControllerImplIT {
 		assertThat(competitionDB.getTeams()).contains(expectedCompetitionHasTeam);
 	}
 
+	@Test
+	void getStandings_seededCompetition_rebuiltStandingsEqual() throws Exception {
+		var competition = competitionITDataFactory.getCompetitionWithMatches();
+
+		var standingsResponse = mockMvc.perform(get("/v1/competition/{guid}/standings", competition.getGuid()))
+			.andExpect(status().isOk())
+			.andReturn()
+			.getResponse();
+		var rebuildResponse = mockMvc.perform(post("/v1/competition/{guid}/standings/rebuild", competition.getGuid()))
+			.andExpect(status().isOk())
+			.andReturn()
+			.getResponse();
+
+		List<TeamStandingDto> standings = objectMapper.readValue(standingsResponse.getContentAsString(),
+				objectMapper.getTypeFactory().constructCollectionType(List.class, TeamStandingDto.class));
+		List<TeamStandingDto> rebuiltStandings = objectMapper.readValue(rebuildResponse.getContentAsString(),
+				objectMapper.getTypeFactory().constructCollectionType(List.class, TeamStandingDto.class));
+		assertThat(standings).hasSize(competition.getTeams().size());
+		assertThat(standings).extracting(TeamStandingDto::getPosition)
+			.containsExactlyElementsOf(IntStream.rangeClosed(1, standings.size()).boxed().toList());
+		assertThat(rebuiltStandings).isEqualTo(standings);
+	}
+
+	@Test
+	void getStandings_nonExistingCompetition_returns404() throws Exception {
+		mockMvc.perform(get("/v1/competition/{guid}/standings", UUID.randomUUID()))
+			.andExpect(status().isNotFound())
+			.andExpect(exception().isInstanceOf(ResourceNotFoundException.class));
+	}
+
+	private void checkGetCompetition(CompetitionViewDto competitionCreateDto, Competition competition) {
+		assertThat(competitionCreateDto.getName()).isEqualTo(competition.getName());
+		assertThat(competitionCreateDto.getStartAt()).isEqualTo(competition.getStartAt());
+		assertThat(competitionCreateDto.getEndAt()).isEqualTo(competition.getEndAt());
+	}
+
 	private void checkCreatedCompetition(CompetitionViewDto competitionViewDto,
 			CompetitionCreateDto competitionCreateDto) {
 		assertThat(competitionViewDto.getName()).isEqualTo(competitionCreateDto.getName());
@@ -200,10 +239,4 @@ class CompetitionControllerImplIT {
 		assertThat(competition.getEndAt()).isEqualTo(competitionCreateDto.getEndAt());
 	}
 
-	private void checkGetCompetition(CompetitionViewDto competitionCreateDto, Competition competition) {
-		assertThat(competitionCreateDto.getName()).isEqualTo(competition.getName());
-		assertThat(competitionCreateDto.getStartAt()).isEqualTo(competition.getStartAt());
-		assertThat(competitionCreateDto.getEndAt()).isEqualTo(competition.getEndAt());
-	}
-
-}
\ No newline at end of file
+}
@@ -3,7 +3,10 @@ package cz.fi.muni.pa165.gameservice.api.controllers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import cz.fi.muni.pa165.dto.gameservice.AssignTeamDto;
 import cz.fi.muni.pa165.dto.gameservice.CompetitionCreateDto;
+import cz.fi.muni.pa165.dto.gameservice.CompetitionForecastDto;
+import cz.fi.muni.pa165.dto.gameservice.TeamForecastDto;
 import cz.fi.muni.pa165.dto.gameservice.CompetitionViewDto;
+import cz.fi.muni.pa165.dto.gameservice.TeamStandingDto;
 import cz.fi.muni.pa165.gameservice.api.exception.ResourceNotFoundException;
 import cz.fi.muni.pa165.gameservice.business.facades.CompetitionFacade;
 import cz.fi.muni.pa165.gameservice.config.DisableSecurityTestConfig;
@@ -21,6 +24,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 import static cz.fi.muni.pa165.gameservice.utils.Assertions.exception;
@@ -475,4 +479,84 @@ class CompetitionControllerMvcTest {
 		Mockito.verify(competitionFacade, Mockito.times(1)).assignTeam(competitionUUID, assignTeam);
 	}
 
-}
\ No newline at end of file
+	@Test
+	void getForecast_existingCompetition_returnsForecast() throws Exception {
+		var competitionUUID = UUID.randomUUID();
+		var teamForecast = TeamForecastDto.builder()
+			.teamUid(UUID.randomUUID())
+			.expectedPoints(12.5)
+			.titleProbability(0.4)
+			.playoffProbability(0.9)
+			.positionProbabilities(List.of(0.4, 0.6))
+			.build();
+		var forecast = CompetitionForecastDto.builder()
+			.competitionGuid(competitionUUID)
+			.simulations(1000)
+			.teams(List.of(teamForecast))
+			.build();
+		Mockito.when(competitionFacade.getForecast(competitionUUID)).thenReturn(forecast);
+
+		var responseContent = mockMvc
+			.perform(MockMvcRequestBuilders.get("/v1/competition/{uuid}/forecast", competitionUUID))
+			.andExpect(status().isOk())
+			.andReturn()
+			.getResponse()
+			.getContentAsString(StandardCharsets.UTF_8);
+
+		var returnedForecast = objectMapper.readValue(responseContent, CompetitionForecastDto.class);
+		assertThat(returnedForecast).isEqualTo(forecast);
+	}
+
+	@Test
+	void getForecast_competitionNotExist_notFound() throws Exception {
+		var competitionUUID = UUID.randomUUID();
+		Mockito.when(competitionFacade.getForecast(competitionUUID))
+			.thenThrow(new ResourceNotFoundException("Competition not found"));
+
+		mockMvc.perform(MockMvcRequestBuilders.get("/v1/competition/{uuid}/forecast", competitionUUID))
+			.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void getStandings_existingCompetition_returnsStandings() throws Exception {
+		var competitionUUID = UUID.randomUUID();
+		var standings = List.of(
+				TeamStandingDto.builder().position(1).teamUid(UUID.randomUUID()).played(2).wins(2).points(6).build(),
+				TeamStandingDto.builder().position(2).teamUid(UUID.randomUUID()).played(2).losses(2).build());
+		Mockito.when(competitionFacade.getStandings(competitionUUID)).thenReturn(standings);
+
+		var responseContent = mockMvc
+			.perform(MockMvcRequestBuilders.get("/v1/competition/{uuid}/standings", competitionUUID))
+			.andExpect(status().isOk())
+			.andReturn()
+			.getResponse()
+			.getContentAsString(StandardCharsets.UTF_8);
+
+		List<TeamStandingDto> returnedStandings = objectMapper.readValue(responseContent,
+				objectMapper.getTypeFactory().constructCollectionType(List.class, TeamStandingDto.class));
+		assertThat(returnedStandings).isEqualTo(standings);
+	}
+
+	@Test
+	void getStandings_competitionNotExist_notFound() throws Exception {
+		var competitionUUID = UUID.randomUUID();
+		Mockito.when(competitionFacade.getStandings(competitionUUID))
+			.thenThrow(new ResourceNotFoundException("Competition not found"));
+
+		mockMvc.perform(MockMvcRequestBuilders.get("/v1/competition/{uuid}/standings", competitionUUID))
+			.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void rebuildStandings_existingCompetition_returnsRebuiltStandings() throws Exception {
+		var competitionUUID = UUID.randomUUID();
+		var standings = List.of(TeamStandingDto.builder().position(1).teamUid(UUID.randomUUID()).build());
+		Mockito.when(competitionFacade.rebuildStandings(competitionUUID)).thenReturn(standings);
+
+		mockMvc.perform(MockMvcRequestBuilders.post("/v1/competition/{uuid}/standings/rebuild", competitionUUID))
+			.andExpect(status().isOk());
+
+		Mockito.verify(competitionFacade, Mockito.times(1)).rebuildStandings(competitionUUID);
+	}
+
+}
@@ -2,6 +2,7 @@ package cz.fi.muni.pa165.gameservice.api.controllers;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import cz.fi.muni.pa165.dto.gameservice.MatchPageDto;
 import cz.fi.muni.pa165.dto.gameservice.MatchViewDto;
 import cz.fi.muni.pa165.gameservice.api.exception.ResourceNotFoundException;
 import cz.fi.muni.pa165.gameservice.api.exception.ValueIsMissingException;
@@ -16,6 +17,7 @@ import cz.fi.muni.pa165.gameservice.persistence.repositories.MatchRepository;
 import cz.fi.muni.pa165.gameservice.testdata.MatchTestData;
 import cz.fi.muni.pa165.gameservice.testdata.factory.CompetitionITDataFactory;
 import cz.fi.muni.pa165.gameservice.testdata.factory.MatchITDataFactory;
+import jakarta.validation.ValidationException;
 import org.apache.commons.math3.util.CombinatoricsUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,6 +30,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -153,6 +156,50 @@ class MatchControllerImplIT {
 		assertThat(returnedMatches).containsAll(matchMapper.listEntitiesToListViews(matchesDB.stream().toList()));
 	}
 
+	@Test
+	void getMatchPageForCompetition_followingCursors_returnsAllMatches() throws Exception {
+		var competition = competitionITDataFactory.getCompetitionWithMatches();
+
+		var pagedMatches = new ArrayList<MatchViewDto>();
+		String cursor = null;
+		do {
+			var request = get("/v1/matches/competition/{guid}/page", competition.getGuid()).queryParam("size", "2")
+				.queryParam("results", "true");
+			if (cursor != null) {
+				request.queryParam("cursor", cursor);
+			}
+			var response = mockMvc.perform(request).andExpect(status().isOk()).andReturn().getResponse();
+			var page = objectMapper.readValue(response.getContentAsString(), MatchPageDto.class);
+			assertThat(page.getMatches()).hasSizeLessThanOrEqualTo(2);
+			pagedMatches.addAll(page.getMatches());
+			cursor = page.getNextCursor();
+		}
+		while (cursor != null);
+
+		var matchesDB = matchRepository.getMatchesByCompetition_Guid(competition.getGuid());
+		assertThat(pagedMatches)
+			.containsExactlyInAnyOrderElementsOf(matchMapper.listEntitiesToListViews(matchesDB.stream().toList()));
+	}
+
+	@Test
+	void getMatchPageForCompetition_invalidCursor_returnsBadRequest() throws Exception {
+		var competition = competitionITDataFactory.getCompetitionWithMatches();
+
+		mockMvc.perform(get("/v1/matches/competition/{guid}/page", competition.getGuid()).queryParam("cursor", "abc"))
+			.andExpect(status().isBadRequest())
+			.andExpect(exception().isInstanceOf(ValidationException.class).hasMessage("Cursor abc is not valid"));
+	}
+
+	@Test
+	void getMatchPageForCompetition_notExistingCompetition_returns404() throws Exception {
+		var randomUUID = UUID.randomUUID();
+
+		mockMvc.perform(get("/v1/matches/competition/{guid}/page", randomUUID))
+			.andExpect(status().isNotFound())
+			.andExpect(exception().isInstanceOf(ResourceNotFoundException.class)
+				.hasMessage("Competition with guid %s was not found!", randomUUID));
+	}
+
 	@Test
 	void getSingleMatch_nonExisting_returns404() throws Exception {
 		var randomUUID = UUID.randomUUID();
@@ -206,6 +253,19 @@ class MatchControllerImplIT {
 				.hasMessage("Arena with id %s doesn't exists!".formatted(match.getArenaUid())));
 	}
 
+	@Test
+	void createMatch_sameTeams_returnsBadRequest() throws Exception {
+		var match = MatchTestData.getMatchCreateDto();
+		match.setAwayTeamUid(match.getHomeTeamUid());
+
+		mockMvc
+			.perform(post("/v1/matches/").contentType(MediaType.APPLICATION_JSON_VALUE)
+				.content(objectMapper.writeValueAsString(match)))
+			.andExpect(status().isBadRequest())
+			.andExpect(exception().isInstanceOf(ValidationException.class)
+				.hasMessage("Home and away team of the match must differ"));
+	}
+
 	@Test
 	void createMatch_validData_returnsNewMatch() throws Exception {
 		var matchCreate = MatchTestData.getMatchCreateDto();
@@ -230,6 +290,16 @@ class MatchControllerImplIT {
 		assertThat(newMatch.getAwayTeamUid()).isEqualTo(matchCreate.getAwayTeamUid());
 	}
 
+	@Test
+	void getMatchFeed_notExistingMatch_returns404() throws Exception {
+		var randomUUID = UUID.randomUUID();
+
+		mockMvc.perform(get("/v1/matches/{guid}/feed", randomUUID))
+			.andExpect(status().isNotFound())
+			.andExpect(exception().isInstanceOf(ResourceNotFoundException.class)
+				.hasMessage("Match with UUID %s was not found", randomUUID));
+	}
+
 	private List<MatchViewDto> mapResponseToMatchesList(MockHttpServletResponse response)
 			throws JsonProcessingException, UnsupportedEncodingException {
 		return objectMapper.readValue(response.getContentAsString(),
@@ -1,8 +1,12 @@
 package cz.fi.muni.pa165.gameservice.api.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import cz.fi.muni.pa165.dto.gameservice.MatchEventDto;
+import cz.fi.muni.pa165.dto.gameservice.MatchPageDto;
 import cz.fi.muni.pa165.dto.gameservice.MatchViewDto;
+import cz.fi.muni.pa165.enums.MatchEventType;
 import cz.fi.muni.pa165.gameservice.business.facades.MatchFacade;
+import cz.fi.muni.pa165.gameservice.business.services.MatchFilter;
 import cz.fi.muni.pa165.gameservice.config.DisableSecurityTestConfig;
 import cz.fi.muni.pa165.gameservice.config.ObjectMapperConfig;
 import cz.fi.muni.pa165.gameservice.testdata.MatchTestData;
@@ -15,11 +19,15 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = MatchControllerImpl.class)
@@ -128,6 +136,62 @@ class MatchControllerImplMvcTest {
 		Mockito.verify(matchFacade, Mockito.times(1)).getMatchesOfCompetition(Mockito.any(), Mockito.eq(true));
 	}
 
+	@Test
+	void getMatchPageOfCompetition_filters_passedToFacade() throws Exception {
+		var competitionUUID = UUID.randomUUID();
+		var teamUUID = UUID.randomUUID();
+		var from = OffsetDateTime.of(2025, 4, 1, 18, 0, 0, 0, ZoneOffset.ofHours(2));
+		var filter = new MatchFilter(teamUUID, from, null, true);
+		var page = MatchPageDto.builder().matches(MatchTestData.getMatchesView()).nextCursor("next").build();
+		Mockito.when(matchFacade.getMatchPageOfCompetition(competitionUUID, "cursor", 20, filter, true))
+			.thenReturn(page);
+
+		var responseContent = mockMvc
+			.perform(MockMvcRequestBuilders.get("/v1/matches/competition/{guid}/page", competitionUUID)
+				.queryParam("cursor", "cursor")
+				.queryParam("size", "20")
+				.queryParam("team", teamUUID.toString())
+				.queryParam("from", from.toString())
+				.queryParam("finished", "true")
+				.queryParam("results", "true"))
+			.andExpect(status().isOk())
+			.andReturn()
+			.getResponse()
+			.getContentAsString();
+
+		var pageRes = objectMapper.readValue(responseContent, MatchPageDto.class);
+		assertThat(pageRes.getMatches()).containsAll(page.getMatches());
+		assertThat(pageRes.getNextCursor()).isEqualTo("next");
+	}
+
+	@Test
+	void getMatchPageOfCompetition_defaults_firstPageWithoutFilters() throws Exception {
+		var competitionUUID = UUID.randomUUID();
+		Mockito.when(matchFacade.getMatchPageOfCompetition(competitionUUID, null, 50, MatchFilter.NONE, false))
+			.thenReturn(MatchPageDto.builder().matches(List.of()).build());
+
+		var responseContent = mockMvc
+			.perform(MockMvcRequestBuilders.get("/v1/matches/competition/{guid}/page", competitionUUID))
+			.andExpect(status().isOk())
+			.andReturn()
+			.getResponse()
+			.getContentAsString();
+
+		assertThat(responseContent).doesNotContain("nextCursor");
+	}
+
+	@Test
+	void getMatchPageOfCompetition_wrongTeamUUID_badRequest() throws Exception {
+		mockMvc
+			.perform(MockMvcRequestBuilders.get("/v1/matches/competition/{guid}/page", UUID.randomUUID())
+				.queryParam("team", "abc"))
+			.andExpect(status().isBadRequest());
+
+		Mockito.verify(matchFacade, Mockito.never())
+			.getMatchPageOfCompetition(Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.any(),
+					Mockito.anyBoolean());
+	}
+
 	@Test
 	void getMatch_defaultIncludeResult_hasFalse() throws Exception {
 		var matchUUID = UUID.randomUUID();
@@ -269,4 +333,41 @@ class MatchControllerImplMvcTest {
 		Mockito.verify(matchFacade, Mockito.never()).createMatch(matchCreate);
 	}
 
-}
\ No newline at end of file
+	@Test
+	void getMatchFeed_allGood_streamsEvents() throws Exception {
+		var matchUUID = UUID.randomUUID();
+		var event = MatchEventDto.builder()
+			.sequence(-1)
+			.matchGuid(matchUUID)
+			.type(MatchEventType.ENDED)
+			.scoreHomeTeam(3)
+			.scoreAwayTeam(2)
+			.build();
+		var emitter = new SseEmitter();
+		emitter.send(SseEmitter.event().id("-1").data(event, MediaType.APPLICATION_JSON));
+		emitter.complete();
+		Mockito.when(matchFacade.getMatchFeed(matchUUID)).thenReturn(emitter);
+
+		var result = mockMvc.perform(MockMvcRequestBuilders.get("/v1/matches/{matchUUID}/feed", matchUUID))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		var responseContent = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andReturn()
+			.getResponse()
+			.getContentAsString();
+
+		assertThat(responseContent).startsWith("id:-1\ndata:");
+		var data = responseContent.substring(responseContent.indexOf("data:") + "data:".length()).trim();
+		assertThat(objectMapper.readValue(data, MatchEventDto.class)).isEqualTo(event);
+	}
+
+	@Test
+	void getMatchFeed_wrongUUID_badRequest() throws Exception {
+		mockMvc.perform(MockMvcRequestBuilders.get("/v1/matches/{matchUUID}/feed", "abc"))
+			.andExpect(status().isBadRequest());
+
+		Mockito.verify(matchFacade, Mockito.never()).getMatchFeed(Mockito.any());
+	}
+
+}
@@ -0,0 +1,104 @@
+package cz.fi.muni.pa165.gameservice.api.controllers;
+
+import cz.fi.muni.pa165.gameservice.config.DisableSecurityTestConfig;
+import cz.fi.muni.pa165.gameservice.config.QueryCountTestConfig;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Competition;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.CompetitionRepository;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.MatchRepository;
+import cz.fi.muni.pa165.gameservice.utils.QueryCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Fails when a read endpoint issues more SQL statements than budgeted, e.g. when an
+ * association loaded row by row sneaks into the mapping. Requests read the competition
+ * with the most matches, the persistence context is cleared before each request, so
+ * nothing is served from it. The second-level cache is off, so the associations of the
+ * matches count towards the budget as well.
+ */
+@SpringBootTest(properties = "cache.second-level.enabled=false")
+@AutoConfigureMockMvc
+@Transactional
+@Import({ DisableSecurityTestConfig.class, QueryCountTestConfig.class })
+class QueryBudgetIT {
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	EntityManager entityManager;
+
+	@Autowired
+	CompetitionRepository competitionRepository;
+
+	@Autowired
+	MatchRepository matchRepository;
+
+	@Test
+	void getMatchesForCompetition_withResults_withinBudget() throws Exception {
+		var competition = getCompetitionWithMostMatches();
+
+		assertStatementsWithinBudget(2,
+				get("/v1/matches/competition/{guid}", competition.getGuid()).queryParam("results", "true"));
+	}
+
+	@Test
+	void getMatchPageForCompetition_withResults_withinBudget() throws Exception {
+		var competition = getCompetitionWithMostMatches();
+
+		assertStatementsWithinBudget(2,
+				get("/v1/matches/competition/{guid}/page", competition.getGuid()).queryParam("results", "true"));
+	}
+
+	@Test
+	void getSingleMatch_withResult_withinBudget() throws Exception {
+		var match = matchRepository.findAll().getFirst();
+
+		assertStatementsWithinBudget(1, get("/v1/matches/{guid}", match.getGuid()).queryParam("results", "true"));
+	}
+
+	@Test
+	void getCompetition_withTeams_withinBudget() throws Exception {
+		var competition = getCompetitionWithMostMatches();
+
+		assertStatementsWithinBudget(1, get("/v1/competition/{guid}", competition.getGuid()));
+	}
+
+	@Test
+	void getStandings_withinBudget() throws Exception {
+		var competition = getCompetitionWithMostMatches();
+
+		assertStatementsWithinBudget(2, get("/v1/competition/{guid}/standings", competition.getGuid()));
+	}
+
+	private Competition getCompetitionWithMostMatches() {
+		return competitionRepository.findAll()
+			.stream()
+			.max(Comparator.comparingInt(competition -> competition.getMatches().size()))
+			.orElseThrow();
+	}
+
+	private void assertStatementsWithinBudget(int budget, RequestBuilder request) throws Exception {
+		entityManager.flush();
+		entityManager.clear();
+		QueryCounter.reset();
+
+		mockMvc.perform(request).andExpect(status().isOk());
+
+		assertThat(QueryCounter.count()).as("Statements issued by the request").isLessThanOrEqualTo(budget);
+	}
+
+}
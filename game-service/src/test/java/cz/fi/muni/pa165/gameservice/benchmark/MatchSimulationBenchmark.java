@@ -0,0 +1,96 @@
+package cz.fi.muni.pa165.gameservice.benchmark;
+
+import cz.fi.muni.pa165.gameservice.business.services.simulation.MatchSimulationEngine;
+import cz.fi.muni.pa165.gameservice.config.SimulationConfiguration;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Match;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Result;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the {@link MatchSimulationEngine}. One operation is one whole simulated
+ * match, so the score divided by the number of workers gives matches simulated per second
+ * per core. The clock is not started, ticks are driven by the benchmark.
+ * <p>
+ * Run with {@code mvn -pl game-service test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=cz.fi.muni.pa165.gameservice.benchmark.MatchSimulationBenchmark}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchSimulationBenchmark {
+
+	private static final int MATCHES = 10_000;
+
+	@Param({ "1", "4" })
+	private int workers;
+
+	@Param({ "60", "1200" })
+	private int ticksPerMatch;
+
+	private MatchSimulationEngine engine;
+
+	private List<Match> matches;
+
+	@Setup
+	public void setup() {
+		var configuration = new SimulationConfiguration();
+		configuration.setPeriods(1);
+		configuration.setTicksPerPeriod(ticksPerMatch);
+		configuration.setWorkers(workers);
+		configuration.setInitialCapacity(MATCHES);
+		engine = new MatchSimulationEngine(configuration);
+
+		matches = new ArrayList<>(MATCHES);
+		for (int i = 0; i < MATCHES; i++) {
+			matches.add(Match.builder()
+				.guid(UUID.randomUUID())
+				.homeTeamUid(UUID.randomUUID())
+				.awayTeamUid(UUID.randomUUID())
+				.build());
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		engine.stop();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(MATCHES)
+	public void simulateMatches(Blackhole blackhole) {
+		var futures = new ArrayList<CompletableFuture<Result>>(MATCHES);
+		for (var match : matches) {
+			futures.add(engine.simulate(match, 30, 25).orElseThrow());
+		}
+		for (int i = 0; i < ticksPerMatch; i++) {
+			engine.tick();
+		}
+		for (var future : futures) {
+			blackhole.consume(future.join());
+		}
+		// Matches are released after their results are handled
+		for (var match : matches) {
+			while (engine.isSimulating(match.getGuid())) {
+				Thread.onSpinWait();
+			}
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(MatchSimulationBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,123 @@
+package cz.fi.muni.pa165.gameservice.benchmark;
+
+import cz.fi.muni.pa165.messaging.MessageSender;
+import cz.fi.muni.pa165.messaging.MessagingConfiguration;
+import cz.fi.muni.pa165.messaging.SenderConnectionPool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.apache.activemq.artemis.core.settings.impl.AddressFullMessagePolicy;
+import org.apache.activemq.artemis.core.settings.impl.AddressSettings;
+import org.apache.activemq.artemis.jms.client.ActiveMQConnectionFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jms.core.JmsTemplate;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of sending messages to an embedded Artemis broker. The {@code unpooled}
+ * template opens a new connection, session and producer for every message, the way the
+ * services sent messages before the {@link SenderConnectionPool}. The pooled variants go
+ * through the {@link MessageSender} with the send mode selected by the destination.
+ * <p>
+ * Run with {@code mvn -pl game-service test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=cz.fi.muni.pa165.gameservice.benchmark.MessagingBenchmark}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessagingBenchmark {
+
+	private static final String BROKER_URL = "tcp://localhost:61717";
+
+	private static final long QUEUE_SIZE_BYTES = 64 * 1024 * 1024;
+
+	private static final String SYNC_QUEUE = "benchmark.sync";
+
+	private static final String ASYNC_QUEUE = "benchmark.async";
+
+	private static final String NON_PERSISTENT_QUEUE = "benchmark.non-persistent";
+
+	private EmbeddedActiveMQ broker;
+
+	private ActiveMQConnectionFactory connectionFactory;
+
+	private SenderConnectionPool senderConnectionPool;
+
+	private JmsTemplate unpooledTemplate;
+
+	private MessageSender messageSender;
+
+	private UUID payload;
+
+	@Setup
+	public void setup() throws Exception {
+		// Nobody consumes the messages, they are dropped once the queue is full
+		var configuration = new ConfigurationImpl().setPersistenceEnabled(false)
+			.setSecurityEnabled(false)
+			.addAcceptorConfiguration("tcp", BROKER_URL)
+			.addAddressSetting("#", new AddressSettings().setMaxSizeBytes(QUEUE_SIZE_BYTES)
+				.setAddressFullMessagePolicy(AddressFullMessagePolicy.DROP));
+		broker = new EmbeddedActiveMQ().setConfiguration(configuration);
+		broker.start();
+
+		// Asynchronous sends are acknowledged only with the confirmation window enabled
+		connectionFactory = new ActiveMQConnectionFactory(BROKER_URL + "?confirmationWindowSize=1048576");
+		var messageConverter = new MessagingConfiguration().jacksonJmsMessageConverter();
+
+		unpooledTemplate = new JmsTemplate(connectionFactory);
+		unpooledTemplate.setMessageConverter(messageConverter);
+
+		senderConnectionPool = new SenderConnectionPool(connectionFactory, 1, 500);
+		var pooledTemplate = new JmsTemplate(senderConnectionPool.getConnectionFactory());
+		pooledTemplate.setMessageConverter(messageConverter);
+		messageSender = new MessageSender(pooledTemplate, new SimpleMeterRegistry(), Set.of(ASYNC_QUEUE),
+				Set.of(NON_PERSISTENT_QUEUE));
+
+		payload = UUID.randomUUID();
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		senderConnectionPool.destroy();
+		connectionFactory.close();
+		broker.stop();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void unpooled() {
+		unpooledTemplate.convertAndSend(SYNC_QUEUE, payload);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void pooledSync() {
+		messageSender.send(SYNC_QUEUE, payload);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void pooledAsync() {
+		messageSender.send(ASYNC_QUEUE, payload);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void pooledNonPersistent() {
+		messageSender.send(NON_PERSISTENT_QUEUE, payload);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(MessagingBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,84 @@
+package cz.fi.muni.pa165.gameservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cz.fi.muni.pa165.dto.gameservice.ArenaViewDto;
+import cz.fi.muni.pa165.dto.gameservice.MatchViewDto;
+import cz.fi.muni.pa165.dto.gameservice.ResultViewDto;
+import cz.fi.muni.pa165.messaging.CompactMessageConverter;
+import cz.fi.muni.pa165.messaging.MessagingConfiguration;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of the match ended payload in JSON and in the binary Smile format
+ * of the {@link CompactMessageConverter}. Size of the encoded payload is printed when the
+ * benchmark starts.
+ * <p>
+ * Run with {@code mvn -pl game-service test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=cz.fi.muni.pa165.gameservice.benchmark.PayloadEncodingBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayloadEncodingBenchmark {
+
+	@Param({ "json", "smile" })
+	private String encoding;
+
+	private ObjectMapper objectMapper;
+
+	private MatchViewDto match;
+
+	private byte[] encodedMatch;
+
+	@Setup
+	public void setup() throws IOException {
+		objectMapper = "json".equals(encoding) ? MessagingConfiguration.createObjectMapper()
+				: MessagingConfiguration.createCompactObjectMapper();
+
+		var homeTeam = UUID.randomUUID();
+		match = MatchViewDto.builder()
+			.guid(UUID.randomUUID())
+			.arena(ArenaViewDto.builder()
+				.guid(UUID.randomUUID())
+				.countryCode("CZ")
+				.cityName("Brno")
+				.arenaName("Winning Group Arena")
+				.build())
+			.startAt(OffsetDateTime.now().minusHours(3))
+			.endAt(OffsetDateTime.now())
+			.homeTeamUid(homeTeam)
+			.awayTeamUid(UUID.randomUUID())
+			.matchType("GROUP_STAGE")
+			.result(ResultViewDto.builder().winnerTeam(homeTeam).scoreHomeTeam(4).scoreAwayTeam(2).build())
+			.build();
+
+		encodedMatch = objectMapper.writeValueAsBytes(match);
+		System.out.printf("Match encoded in %s has %d bytes%n", encoding, encodedMatch.length);
+	}
+
+	@Benchmark
+	public byte[] encode() throws IOException {
+		return objectMapper.writeValueAsBytes(match);
+	}
+
+	@Benchmark
+	public MatchViewDto decode() throws IOException {
+		return objectMapper.readValue(encodedMatch, MatchViewDto.class);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(PayloadEncodingBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,113 @@
+package cz.fi.muni.pa165.gameservice.benchmark;
+
+import cz.fi.muni.pa165.gameservice.business.services.ArenaBookingService;
+import cz.fi.muni.pa165.gameservice.business.services.ArenaService;
+import cz.fi.muni.pa165.gameservice.business.services.MatchGenerationService;
+import cz.fi.muni.pa165.gameservice.business.services.seed.ArenaSeed;
+import cz.fi.muni.pa165.gameservice.config.ArenaBookingConfiguration;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Arena;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Competition;
+import cz.fi.muni.pa165.gameservice.persistence.entities.CompetitionHasTeam;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.ArenaRepository;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.MatchRepository;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the round robin schedule with the previous generator of all the combinations.
+ * The pairing benchmarks only walk the pairs of teams, the match benchmarks create whole
+ * competition. Run with {@code -prof gc} to compare the allocations.
+ * <p>
+ * Run with {@code mvn -pl game-service test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=cz.fi.muni.pa165.gameservice.benchmark.ScheduleGenerationBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScheduleGenerationBenchmark {
+
+	@Param({ "20", "200", "1000" })
+	private int teams;
+
+	private MatchGenerationService matchGenerationService;
+
+	private List<CompetitionHasTeam> competitionTeams;
+
+	@Setup
+	public void setup() {
+		// Every arena hosts up to five matches a day, so there are enough arenas for
+		// whole round on a single day
+		var arenas = new ArrayList<>(ArenaSeed.getTemplateData());
+		while (arenas.size() * 5 < teams / 2) {
+			arenas.add(Arena.builder().guid(UUID.randomUUID()).arenaName("Arena " + arenas.size()).build());
+		}
+		var arenaService = Mockito.mock(ArenaService.class);
+		Mockito.when(arenaService.findAllArenas()).thenReturn(arenas);
+		var arenaBookingConfiguration = new ArenaBookingConfiguration();
+		arenaBookingConfiguration.setDuration(180);
+		var arenaBookingService = new ArenaBookingService(Mockito.mock(MatchRepository.class),
+				Mockito.mock(ArenaRepository.class), arenaBookingConfiguration);
+		matchGenerationService = new MatchGenerationService(new Random(42), arenaService, arenaBookingService,
+				arenaBookingConfiguration);
+
+		competitionTeams = new ArrayList<>(teams);
+		for (int i = 0; i < teams; i++) {
+			competitionTeams.add(CompetitionHasTeam.builder().teamUid(UUID.randomUUID()).build());
+		}
+	}
+
+	@Benchmark
+	public void combinationsPairing(Blackhole blackhole) {
+		for (var pair : matchGenerationService.createCombinations(competitionTeams, 1)) {
+			blackhole.consume(pair);
+		}
+	}
+
+	@Benchmark
+	public void schedulePairing(Blackhole blackhole) {
+		for (var round : matchGenerationService.createSchedule(competitionTeams, 1)) {
+			for (var pair : round) {
+				blackhole.consume(pair);
+			}
+		}
+	}
+
+	@Benchmark
+	public Object combinationsMatches() {
+		var combinations = matchGenerationService.createCombinations(competitionTeams, 1);
+		return matchGenerationService.createMatches(getCompetition(), combinations);
+	}
+
+	@Benchmark
+	public Object scheduleMatches() {
+		var schedule = matchGenerationService.createSchedule(competitionTeams, 1);
+		return matchGenerationService.createScheduledMatches(getCompetition(), schedule);
+	}
+
+	private Competition getCompetition() {
+		return Competition.builder()
+			.guid(UUID.randomUUID())
+			.startAt(LocalDate.now())
+			.endAt(LocalDate.now().plusDays(teams))
+			.build();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ScheduleGenerationBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,84 @@
+package cz.fi.muni.pa165.gameservice.benchmark;
+
+import cz.fi.muni.pa165.gameservice.business.services.forecast.Season;
+import cz.fi.muni.pa165.gameservice.business.services.forecast.SeasonForecastEngine;
+import cz.fi.muni.pa165.gameservice.config.ForecastConfiguration;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time of one whole forecast of the {@link SeasonForecastEngine}. The season is a double
+ * round robin of the given number of teams with half of the matches already played.
+ * <p>
+ * Run with {@code mvn -pl game-service test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=cz.fi.muni.pa165.gameservice.benchmark.SeasonForecastBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SeasonForecastBenchmark {
+
+	private static final int SIMULATIONS = 100_000;
+
+	@Param({ "1", "8" })
+	private int workers;
+
+	@Param({ "8", "20" })
+	private int teams;
+
+	private SeasonForecastEngine engine;
+
+	private Season season;
+
+	@Setup
+	public void setup() {
+		var configuration = new ForecastConfiguration();
+		configuration.setWorkers(workers);
+		engine = new SeasonForecastEngine(configuration);
+
+		var random = new SplittableRandom(42);
+		var remainingMatches = teams * (teams - 1) / 2;
+		var points = new int[teams];
+		for (int team = 0; team < teams; team++) {
+			points[team] = random.nextInt(3 * (teams - 1));
+		}
+		var homeTeams = new int[remainingMatches];
+		var awayTeams = new int[remainingMatches];
+		var homeWinProbabilities = new double[remainingMatches];
+		var drawProbabilities = new double[remainingMatches];
+		var match = 0;
+		for (int home = 0; home < teams; home++) {
+			for (int away = home + 1; away < teams; away++) {
+				homeTeams[match] = home;
+				awayTeams[match] = away;
+				homeWinProbabilities[match] = 0.2 + random.nextDouble(0.4);
+				drawProbabilities[match] = 0.2;
+				match++;
+			}
+		}
+		season = new Season(points, homeTeams, awayTeams, homeWinProbabilities, drawProbabilities);
+	}
+
+	@TearDown
+	public void tearDown() {
+		engine.stop();
+	}
+
+	@Benchmark
+	public Object forecast() {
+		return engine.simulate(season, SIMULATIONS, new SplittableRandom());
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(SeasonForecastBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
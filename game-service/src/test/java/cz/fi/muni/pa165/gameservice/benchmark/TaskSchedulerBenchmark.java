@@ -0,0 +1,94 @@
+package cz.fi.muni.pa165.gameservice.benchmark;
+
+import cz.fi.muni.pa165.gameservice.business.services.scheduling.TimingWheelTaskScheduler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of scheduling and cancelling one task while the scheduler already holds the given
+ * number of pending tasks spread over the next month, as with a whole season of scheduled
+ * matches. The thread pool scheduler removes cancelled tasks from its queue, otherwise
+ * the queue would keep growing during the measurement. Work of the timing wheel clock
+ * thread is done in the background and competes with the benchmark thread.
+ * <p>
+ * Run with {@code mvn -pl game-service test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=cz.fi.muni.pa165.gameservice.benchmark.TaskSchedulerBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class TaskSchedulerBenchmark {
+
+	private static final Duration HORIZON = Duration.ofDays(30);
+
+	private static final Runnable NOOP = () -> {
+	};
+
+	@Param({ "10000", "100000", "1000000" })
+	private int pendingTasks;
+
+	@Param({ "thread-pool", "timing-wheel" })
+	private String scheduler;
+
+	private TaskScheduler taskScheduler;
+
+	private SplittableRandom random;
+
+	private Instant base;
+
+	@Setup
+	public void setup() {
+		taskScheduler = switch (scheduler) {
+			case "thread-pool" -> {
+				var threadPoolTaskScheduler = new ThreadPoolTaskScheduler();
+				threadPoolTaskScheduler.setRemoveOnCancelPolicy(true);
+				threadPoolTaskScheduler.initialize();
+				yield threadPoolTaskScheduler;
+			}
+			case "timing-wheel" -> new TimingWheelTaskScheduler(Duration.ofMillis(100), 512);
+			default -> throw new IllegalArgumentException("Unknown scheduler " + scheduler);
+		};
+
+		random = new SplittableRandom(42);
+		base = Instant.now().plus(Duration.ofHours(1));
+		for (int i = 0; i < pendingTasks; i++) {
+			taskScheduler.schedule(NOOP, randomStart());
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		switch (taskScheduler) {
+			case ThreadPoolTaskScheduler threadPoolTaskScheduler -> threadPoolTaskScheduler.shutdown();
+			case TimingWheelTaskScheduler timingWheelTaskScheduler -> timingWheelTaskScheduler.shutdown();
+			default -> {
+			}
+		}
+	}
+
+	@Benchmark
+	public boolean scheduleAndCancel() {
+		return taskScheduler.schedule(NOOP, randomStart()).cancel(false);
+	}
+
+	private Instant randomStart() {
+		return base.plusSeconds(random.nextLong(HORIZON.toSeconds()));
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(TaskSchedulerBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -3,10 +3,18 @@ package cz.fi.muni.pa165.gameservice.business.facades;
 import cz.fi.muni.pa165.gameservice.api.exception.ActionForbidden;
 import cz.fi.muni.pa165.gameservice.api.exception.ResourceNotFoundException;
 import cz.fi.muni.pa165.gameservice.api.exception.ValueIsMissingException;
+import cz.fi.muni.pa165.dto.gameservice.CompetitionForecastDto;
+import cz.fi.muni.pa165.dto.gameservice.TeamStandingDto;
 import cz.fi.muni.pa165.gameservice.business.mappers.CompetitionMapper;
+import cz.fi.muni.pa165.gameservice.business.mappers.ForecastMapper;
+import cz.fi.muni.pa165.gameservice.business.mappers.StandingMapper;
 import cz.fi.muni.pa165.gameservice.business.services.CompetitionService;
 import cz.fi.muni.pa165.gameservice.business.services.TeamService;
+import cz.fi.muni.pa165.gameservice.business.services.forecast.CompetitionForecast;
+import cz.fi.muni.pa165.gameservice.business.services.forecast.SeasonForecastService;
+import cz.fi.muni.pa165.gameservice.business.services.standings.StandingsService;
 import cz.fi.muni.pa165.gameservice.persistence.entities.CompetitionHasTeam;
+import cz.fi.muni.pa165.gameservice.persistence.entities.TeamStanding;
 import cz.fi.muni.pa165.gameservice.testdata.CompetitionTestData;
 import cz.fi.muni.pa165.gameservice.testdata.TeamsTestData;
 import org.assertj.core.api.Assertions;
@@ -17,6 +25,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,6 +43,18 @@ class CompetitionFacadeTest {
 	@Mock
 	TeamService teamService;
 
+	@Mock
+	SeasonForecastService seasonForecastService;
+
+	@Mock
+	ForecastMapper forecastMapper;
+
+	@Mock
+	StandingsService standingsService;
+
+	@Mock
+	StandingMapper standingMapper;
+
 	@InjectMocks
 	CompetitionFacade competitionFacade;
 
@@ -222,4 +243,66 @@ class CompetitionFacadeTest {
 		Mockito.verify(competitionMapper, Mockito.times(1)).competitionToCompetitionViewDto(updatedEntity);
 	}
 
-}
\ No newline at end of file
+	@Test
+	void getForecast_nullUUID_throwsException() {
+		assertThatThrownBy(() -> competitionFacade.getForecast(null)).isInstanceOf(ValueIsMissingException.class)
+			.hasMessage("Please provide UUID of competition you want to forecast");
+
+		Mockito.verify(seasonForecastService, Mockito.never()).getForecast(Mockito.any());
+	}
+
+	@Test
+	void getForecast_allGood_success() {
+		var competitionUUID = UUID.randomUUID();
+		var forecast = new CompetitionForecast(competitionUUID, 100, 1, 2, 4, List.of());
+		var forecastDto = CompetitionForecastDto.builder().competitionGuid(competitionUUID).build();
+		Mockito.when(seasonForecastService.getForecast(competitionUUID)).thenReturn(forecast);
+		Mockito.when(forecastMapper.competitionForecastToDto(forecast)).thenReturn(forecastDto);
+
+		var returnedForecast = competitionFacade.getForecast(competitionUUID);
+
+		assertThat(returnedForecast).isEqualTo(forecastDto);
+	}
+
+	@Test
+	void getStandings_competitionNotExist_throwsException() {
+		var competitionUUID = UUID.randomUUID();
+		Mockito.when(competitionService.exists(competitionUUID)).thenReturn(false);
+
+		assertThatThrownBy(() -> competitionFacade.getStandings(competitionUUID))
+			.isInstanceOf(ResourceNotFoundException.class)
+			.hasMessage("Competition with guid %s was not found!".formatted(competitionUUID));
+
+		Mockito.verify(standingsService, Mockito.never()).getStandings(Mockito.any());
+	}
+
+	@Test
+	void getStandings_allGood_success() {
+		var competitionUUID = UUID.randomUUID();
+		var standings = List.of(TeamStanding.builder().teamUid(UUID.randomUUID()).build());
+		var standingDtos = List.of(TeamStandingDto.builder().position(1).build());
+		Mockito.when(competitionService.exists(competitionUUID)).thenReturn(true);
+		Mockito.when(standingsService.getStandings(competitionUUID)).thenReturn(standings);
+		Mockito.when(standingMapper.standingsToDtos(standings)).thenReturn(standingDtos);
+
+		var returnedStandings = competitionFacade.getStandings(competitionUUID);
+
+		assertThat(returnedStandings).isEqualTo(standingDtos);
+	}
+
+	@Test
+	void rebuildStandings_allGood_success() {
+		var competition = CompetitionTestData.getCompetitionEntity();
+		var standings = List.of(TeamStanding.builder().teamUid(UUID.randomUUID()).build());
+		var standingDtos = List.of(TeamStandingDto.builder().position(1).build());
+		Mockito.when(competitionService.getCompetition(competition.getGuid())).thenReturn(competition);
+		Mockito.when(standingsService.rebuild(competition)).thenReturn(standings);
+		Mockito.when(standingMapper.standingsToDtos(standings)).thenReturn(standingDtos);
+
+		var returnedStandings = competitionFacade.rebuildStandings(competition.getGuid());
+
+		assertThat(returnedStandings).isEqualTo(standingDtos);
+		Mockito.verify(standingsService, Mockito.times(1)).rebuild(competition);
+	}
+
+}
@@ -1,23 +1,38 @@
 package cz.fi.muni.pa165.gameservice.business.facades;
 
+import cz.fi.muni.pa165.dto.gameservice.MatchEventDto;
+import cz.fi.muni.pa165.dto.gameservice.MatchViewDto;
+import cz.fi.muni.pa165.enums.MatchEventType;
+import cz.fi.muni.pa165.gameservice.api.exception.ResourceAlreadyExists;
 import cz.fi.muni.pa165.gameservice.api.exception.ResourceNotFoundException;
 import cz.fi.muni.pa165.gameservice.api.exception.ValueIsMissingException;
 import cz.fi.muni.pa165.gameservice.business.mappers.MatchMapper;
+import cz.fi.muni.pa165.gameservice.business.services.ArenaBookingService;
 import cz.fi.muni.pa165.gameservice.business.services.ArenaService;
 import cz.fi.muni.pa165.gameservice.business.services.CompetitionService;
+import cz.fi.muni.pa165.gameservice.business.services.MatchCursor;
+import cz.fi.muni.pa165.gameservice.business.services.MatchFilter;
 import cz.fi.muni.pa165.gameservice.business.services.MatchService;
+import cz.fi.muni.pa165.gameservice.business.services.feed.MatchFeedService;
 import cz.fi.muni.pa165.gameservice.business.services.seed.ArenaSeed;
+import cz.fi.muni.pa165.gameservice.business.services.simulation.MatchSimulationEngine;
+import cz.fi.muni.pa165.gameservice.persistence.entities.MatchType;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.MatchListItem;
 import cz.fi.muni.pa165.gameservice.testdata.CompetitionTestData;
 import cz.fi.muni.pa165.gameservice.testdata.MatchTestData;
+import jakarta.validation.ValidationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -37,6 +52,15 @@ class MatchFacadeTest {
 	@Mock
 	private ArenaService arenaService;
 
+	@Mock
+	private ArenaBookingService arenaBookingService;
+
+	@Mock
+	private MatchFeedService matchFeedService;
+
+	@Mock
+	private MatchSimulationEngine matchSimulationEngine;
+
 	@InjectMocks
 	private MatchFacade matchFacade;
 
@@ -99,6 +123,18 @@ class MatchFacadeTest {
 		Mockito.verify(matchMapper, Mockito.never()).matchEntityToMatchViewDto(Mockito.any());
 	}
 
+	@Test
+	void createMatch_sameTeams_throwsException() {
+		var matchCreate = MatchTestData.getMatchCreateDto();
+		matchCreate.setAwayTeamUid(matchCreate.getHomeTeamUid());
+
+		assertThatThrownBy(() -> matchFacade.createMatch(matchCreate)).isInstanceOf(ValidationException.class)
+			.hasMessage("Home and away team of the match must differ");
+
+		Mockito.verify(arenaService, Mockito.never()).getReferenceIfExists(Mockito.any());
+		Mockito.verify(matchService, Mockito.never()).saveMatch(Mockito.any());
+	}
+
 	@Test
 	void createMatch_unknownArena_throwsException() {
 		var matchCreate = MatchTestData.getMatchCreateDto();
@@ -114,6 +150,24 @@ class MatchFacadeTest {
 		Mockito.verify(matchMapper, Mockito.never()).matchEntityToMatchViewDto(Mockito.any());
 	}
 
+	@Test
+	void createMatch_arenaBooked_throwsException() {
+		var matchCreate = MatchTestData.getMatchCreateDto();
+		var arena = ArenaSeed.getTemplateData().getFirst();
+		arena.setGuid(matchCreate.getArenaUid());
+
+		Mockito.when(arenaService.getReferenceIfExists(matchCreate.getArenaUid())).thenReturn(arena);
+		Mockito.when(arenaBookingService.isAvailable(matchCreate.getArenaUid(), matchCreate.getStartAt()))
+			.thenReturn(false);
+
+		assertThatThrownBy(() -> matchFacade.createMatch(matchCreate)).isInstanceOf(ResourceAlreadyExists.class)
+			.hasMessage(
+					"Arena %s is already booked at %s".formatted(matchCreate.getArenaUid(), matchCreate.getStartAt()));
+
+		Mockito.verify(matchMapper, Mockito.never()).matchCreateDtoToEntity(Mockito.any(), Mockito.any());
+		Mockito.verify(matchService, Mockito.never()).saveMatch(Mockito.any());
+	}
+
 	@Test
 	void createMatch_allGood_returnsMatchView() {
 		var matchCreate = MatchTestData.getMatchCreateDto();
@@ -123,6 +177,8 @@ class MatchFacadeTest {
 		var matchView = MatchTestData.getMatchesView().getFirst();
 
 		Mockito.when(arenaService.getReferenceIfExists(matchCreate.getArenaUid())).thenReturn(arena);
+		Mockito.when(arenaBookingService.isAvailable(matchCreate.getArenaUid(), matchCreate.getStartAt()))
+			.thenReturn(true);
 		Mockito.when(matchMapper.matchCreateDtoToEntity(matchCreate, arena)).thenReturn(matchEntity);
 		Mockito.when(matchService.saveMatch(matchEntity)).thenReturn(matchEntity);
 		Mockito.when(matchMapper.matchEntityToMatchViewDto(matchEntity)).thenReturn(matchView);
@@ -210,6 +266,76 @@ class MatchFacadeTest {
 		Mockito.verify(matchMapper, Mockito.never()).listEntitiesToListViews(Mockito.any());
 	}
 
+	@Test
+	void getMatchPageOfCompetition_sizeOverMaximum_throwsException() {
+		var competitionUUID = UUID.randomUUID();
+
+		assertThatThrownBy(() -> matchFacade.getMatchPageOfCompetition(competitionUUID, null,
+				MatchFacade.MAX_PAGE_SIZE + 1, MatchFilter.NONE, false))
+			.isInstanceOf(ValidationException.class);
+
+		Mockito.verify(matchService, Mockito.never())
+			.getMatchPage(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt());
+	}
+
+	@Test
+	void getMatchPageOfCompetition_invalidCursor_throwsException() {
+		var competitionUUID = UUID.randomUUID();
+
+		assertThatThrownBy(() -> matchFacade.getMatchPageOfCompetition(competitionUUID, "not a cursor", 10,
+				MatchFilter.NONE, false))
+			.isInstanceOf(ValidationException.class)
+			.hasMessage("Cursor not a cursor is not valid");
+
+		Mockito.verify(matchService, Mockito.never())
+			.getMatchPage(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt());
+	}
+
+	@Test
+	void getMatchPageOfCompetition_notExistingCompetition_throwsException() {
+		var competitionUUID = UUID.randomUUID();
+		Mockito.when(competitionService.exists(competitionUUID)).thenReturn(false);
+
+		assertThatThrownBy(
+				() -> matchFacade.getMatchPageOfCompetition(competitionUUID, null, 10, MatchFilter.NONE, false))
+			.isInstanceOf(ResourceNotFoundException.class);
+	}
+
+	@Test
+	void getMatchPageOfCompetition_moreMatches_pageWithNextCursor() {
+		var competitionUUID = UUID.randomUUID();
+		var items = List.of(getMatchListItem(1), getMatchListItem(2), getMatchListItem(3));
+		Mockito.when(competitionService.exists(competitionUUID)).thenReturn(true);
+		Mockito.when(matchService.getMatchPage(competitionUUID, null, MatchFilter.NONE, 3)).thenReturn(items);
+		Mockito.when(matchMapper.matchListItemToMatchViewDto(Mockito.any(), Mockito.eq(true)))
+			.thenAnswer(invocation -> MatchViewDto.builder()
+				.guid(invocation.<MatchListItem>getArgument(0).getGuid())
+				.build());
+
+		var page = matchFacade.getMatchPageOfCompetition(competitionUUID, null, 2, MatchFilter.NONE, true);
+
+		assertThat(page.getMatches()).extracting(MatchViewDto::getGuid)
+			.containsExactly(items.get(0).getGuid(), items.get(1).getGuid());
+		assertThat(MatchCursor.decode(page.getNextCursor()))
+			.isEqualTo(new MatchCursor(items.get(1).getStartAt(), items.get(1).getGuid()));
+	}
+
+	@Test
+	void getMatchPageOfCompetition_lastPage_noNextCursor() {
+		var competitionUUID = UUID.randomUUID();
+		var cursor = new MatchCursor(OffsetDateTime.now(), UUID.randomUUID());
+		var filter = new MatchFilter(UUID.randomUUID(), null, null, true);
+		Mockito.when(competitionService.exists(competitionUUID)).thenReturn(true);
+		Mockito.when(matchService.getMatchPage(competitionUUID, cursor, filter, 3))
+			.thenReturn(List.of(getMatchListItem(1)));
+
+		var page = matchFacade.getMatchPageOfCompetition(competitionUUID, cursor.encode(), 2, filter, false);
+
+		assertThat(page.getMatches()).hasSize(1);
+		assertThat(page.getNextCursor()).isNull();
+		Mockito.verify(matchMapper).matchListItemToMatchViewDto(Mockito.any(), Mockito.eq(false));
+	}
+
 	@Test
 	void getMatch_nullMatchUUID_throwsException() {
 		assertThatThrownBy(() -> matchFacade.getMatch(null, false)).hasMessage("Please provide UUID of desired match")
@@ -265,4 +391,57 @@ class MatchFacadeTest {
 		Mockito.verify(matchMapper, Mockito.never()).matchEntityToMatchViewDto(Mockito.any());
 	}
 
-}
\ No newline at end of file
+	@Test
+	void getMatchFeed_nullMatchUUID_throwsException() {
+		assertThatThrownBy(() -> matchFacade.getMatchFeed(null)).isInstanceOf(ValueIsMissingException.class)
+			.hasMessage("Please provide UUID of desired match");
+
+		Mockito.verify(matchFeedService, Mockito.never()).subscribe(Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	void getMatchFeed_endedMatch_currentStateHasFinalScore() {
+		var match = MatchTestData.getRandomMatches().stream().toList().getFirst();
+		match.setResult(MatchTestData.getResult(match.getGuid()));
+		Mockito.when(matchService.getMatch(match.getGuid())).thenReturn(match);
+
+		var currentState = getCurrentState(match.getGuid());
+
+		assertThat(currentState.getType()).isEqualTo(MatchEventType.ENDED);
+		assertThat(currentState.getMatchGuid()).isEqualTo(match.getGuid());
+		assertThat(currentState.getScoreHomeTeam()).isEqualTo(1);
+		assertThat(currentState.getScoreAwayTeam()).isEqualTo(1);
+	}
+
+	@Test
+	void getMatchFeed_simulatedMatch_currentStateStarted() {
+		var match = MatchTestData.getRandomMatches().stream().toList().getFirst();
+		Mockito.when(matchService.getMatch(match.getGuid())).thenReturn(match);
+		Mockito.when(matchSimulationEngine.isSimulating(match.getGuid())).thenReturn(true);
+
+		assertThat(getCurrentState(match.getGuid()).getType()).isEqualTo(MatchEventType.STARTED);
+	}
+
+	@Test
+	void getMatchFeed_notStartedMatch_currentStateScheduled() {
+		var match = MatchTestData.getRandomMatches().stream().toList().getFirst();
+		Mockito.when(matchService.getMatch(match.getGuid())).thenReturn(match);
+
+		assertThat(getCurrentState(match.getGuid()).getType()).isEqualTo(MatchEventType.SCHEDULED);
+	}
+
+	@SuppressWarnings("unchecked")
+	private MatchEventDto getCurrentState(UUID matchUUID) {
+		var captor = ArgumentCaptor.forClass(Supplier.class);
+		matchFacade.getMatchFeed(matchUUID);
+		Mockito.verify(matchFeedService).subscribe(Mockito.eq(matchUUID), captor.capture());
+		return ((Supplier<MatchEventDto>) captor.getValue()).get();
+	}
+
+	private static MatchListItem getMatchListItem(int day) {
+		return new MatchListItem(UUID.randomUUID(), OffsetDateTime.now().plusDays(day), null, UUID.randomUUID(),
+				UUID.randomUUID(), MatchType.GROUP_STAGE, UUID.randomUUID(), "CZ", "Brno", "Hala Rondo", null, null,
+				null);
+	}
+
+}
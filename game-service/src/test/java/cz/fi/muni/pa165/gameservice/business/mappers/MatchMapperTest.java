@@ -2,10 +2,14 @@ package cz.fi.muni.pa165.gameservice.business.mappers;
 
 import cz.fi.muni.pa165.gameservice.business.services.seed.ArenaSeed;
 import cz.fi.muni.pa165.gameservice.persistence.entities.MatchType;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.MatchListItem;
 import cz.fi.muni.pa165.gameservice.testdata.MatchTestData;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
 
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class MatchMapperTest {
@@ -96,4 +100,29 @@ class MatchMapperTest {
 		assertThat(mappedDto.getEndAt()).isEqualTo(match.getEndAt());
 	}
 
-}
\ No newline at end of file
+	@Test
+	void matchListItemToMatchView() {
+		var homeTeam = UUID.randomUUID();
+		var item = new MatchListItem(UUID.randomUUID(), OffsetDateTime.now(), OffsetDateTime.now().plusHours(3),
+				homeTeam, UUID.randomUUID(), MatchType.PLAYOFF, UUID.randomUUID(), "CZ", "Brno", "Hala Rondo", homeTeam,
+				3, 1);
+
+		var matchView = matchMapper.matchListItemToMatchViewDto(item, true);
+
+		assertThat(matchView.getGuid()).isEqualTo(item.getGuid());
+		assertThat(matchView.getStartAt()).isEqualTo(item.getStartAt());
+		assertThat(matchView.getEndAt()).isEqualTo(item.getEndAt());
+		assertThat(matchView.getHomeTeamUid()).isEqualTo(item.getHomeTeamUid());
+		assertThat(matchView.getAwayTeamUid()).isEqualTo(item.getAwayTeamUid());
+		assertThat(matchView.getMatchType()).isEqualTo("PLAYOFF");
+		assertThat(matchView.getArena().getGuid()).isEqualTo(item.getArenaGuid());
+		assertThat(matchView.getArena().getCountryCode()).isEqualTo("CZ");
+		assertThat(matchView.getArena().getCityName()).isEqualTo("Brno");
+		assertThat(matchView.getArena().getArenaName()).isEqualTo("Hala Rondo");
+		assertThat(matchView.getResult().getWinnerTeam()).isEqualTo(homeTeam);
+		assertThat(matchView.getResult().getScoreHomeTeam()).isEqualTo(3);
+		assertThat(matchView.getResult().getScoreAwayTeam()).isEqualTo(1);
+		assertThat(matchMapper.matchListItemToMatchViewDto(item, false).getResult()).isNull();
+	}
+
+}
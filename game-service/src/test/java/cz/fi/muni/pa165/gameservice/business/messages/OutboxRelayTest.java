@@ -0,0 +1,183 @@
+package cz.fi.muni.pa165.gameservice.business.messages;
+
+import cz.fi.muni.pa165.gameservice.business.services.OutboxService;
+import cz.fi.muni.pa165.gameservice.config.OutboxConfiguration;
+import cz.fi.muni.pa165.gameservice.persistence.entities.OutboxMessage;
+import cz.fi.muni.pa165.messaging.CompactMessageConverter;
+import cz.fi.muni.pa165.messaging.MessagingConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.jms.BytesMessage;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.jms.UncategorizedJmsException;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.SessionCallback;
+import org.springframework.jms.support.converter.MappingJackson2MessageConverter;
+import org.springframework.jms.support.destination.DynamicDestinationResolver;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxRelayTest {
+
+	private static final int BATCH_SIZE = 2;
+
+	private OutboxService outboxService;
+
+	private JmsTemplate jmsTemplate;
+
+	private Session session;
+
+	private MessageProducer producer;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private OutboxRelay outboxRelay;
+
+	@BeforeEach
+	void setup() throws Exception {
+		outboxService = Mockito.mock(OutboxService.class);
+		jmsTemplate = Mockito.mock(JmsTemplate.class);
+		session = Mockito.mock(Session.class);
+		producer = Mockito.mock(MessageProducer.class);
+		Mockito.when(session.createProducer(null)).thenReturn(producer);
+		Mockito.when(session.createQueue(Mockito.anyString())).thenReturn(Mockito.mock(Queue.class));
+		Mockito.when(session.createTextMessage(Mockito.anyString())).thenAnswer(invocation -> {
+			var message = Mockito.mock(TextMessage.class);
+			Mockito.when(message.getText()).thenReturn(invocation.getArgument(0));
+			return message;
+		});
+		Mockito.when(session.getTransacted()).thenReturn(true);
+		Mockito.when(jmsTemplate.getDestinationResolver()).thenReturn(new DynamicDestinationResolver());
+		Mockito.when(jmsTemplate.execute(Mockito.<SessionCallback<Object>>any(), Mockito.eq(true)))
+			.thenAnswer(invocation -> invocation.<SessionCallback<Object>>getArgument(0).doInJms(session));
+		Mockito.when(jmsTemplate.getMessageConverter())
+			.thenReturn(new MessagingConfiguration().jacksonJmsMessageConverter());
+		Mockito.when(outboxService.readPayload(Mockito.any()))
+			.thenAnswer(invocation -> "message %d".formatted(invocation.<OutboxMessage>getArgument(0).getId()));
+
+		var configuration = new OutboxConfiguration();
+		configuration.setBatchSize(BATCH_SIZE);
+		meterRegistry = new SimpleMeterRegistry();
+		outboxRelay = new OutboxRelay(outboxService, jmsTemplate, configuration, meterRegistry);
+	}
+
+	@Test
+	void relay_fullBatches_drainedInOneSessionPerBatch() throws Exception {
+		givenOutbox(List.of(getMessage(1), getMessage(2)), List.of(getMessage(3)));
+
+		outboxRelay.relay();
+
+		Mockito.verify(jmsTemplate, Mockito.times(2)).execute(Mockito.<SessionCallback<Object>>any(), Mockito.eq(true));
+		Mockito.verify(producer, Mockito.times(3)).send(Mockito.any(Queue.class), Mockito.any(TextMessage.class));
+		Mockito.verify(session, Mockito.times(2)).commit();
+		assertThat(meterRegistry.get("outbox.relay.sent").counter().count()).isEqualTo(3);
+		assertThat(meterRegistry.get("outbox.relay.batch").timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	void relay_message_sentWithPayloadType() throws Exception {
+		givenOutbox(List.of(getMessage(1)));
+
+		outboxRelay.relay();
+
+		Mockito.verify(session, Mockito.times(1)).createQueue("queue");
+		Mockito.verify(session, Mockito.times(1)).createTextMessage("\"message 1\"");
+		var captor = ArgumentCaptor.forClass(TextMessage.class);
+		Mockito.verify(producer).send(Mockito.any(Queue.class), captor.capture());
+		Mockito.verify(captor.getValue())
+			.setStringProperty(MessagingConfiguration.TYPE_ID_PROPERTY, String.class.getName());
+	}
+
+	@Test
+	void relay_groupedMessage_sentWithinGroup() throws Exception {
+		var grouped = getMessage(1);
+		grouped.setGroupId("team-1");
+		givenOutbox(List.of(grouped, getMessage(2)));
+
+		outboxRelay.relay();
+
+		var captor = ArgumentCaptor.forClass(TextMessage.class);
+		Mockito.verify(producer, Mockito.times(2)).send(Mockito.any(Queue.class), captor.capture());
+		Mockito.verify(captor.getAllValues().get(0))
+			.setStringProperty(MessagingConfiguration.GROUP_ID_PROPERTY, "team-1");
+		Mockito.verify(captor.getAllValues().get(1), Mockito.never())
+			.setStringProperty(Mockito.eq(MessagingConfiguration.GROUP_ID_PROPERTY), Mockito.anyString());
+	}
+
+	@Test
+	void relay_compactPayload_sentAsBytesMessage() throws Exception {
+		var jsonConverter = new MappingJackson2MessageConverter();
+		Mockito.when(jmsTemplate.getMessageConverter())
+			.thenReturn(new CompactMessageConverter(jsonConverter, MessagingConfiguration.createCompactObjectMapper(),
+					Set.of(String.class), true));
+		var bytesMessage = Mockito.mock(BytesMessage.class);
+		Mockito.when(session.createBytesMessage()).thenReturn(bytesMessage);
+		givenOutbox(List.of(getMessage(1)));
+
+		outboxRelay.relay();
+
+		Mockito.verify(bytesMessage).writeBytes(Mockito.any(byte[].class));
+		Mockito.verify(bytesMessage)
+			.setStringProperty(CompactMessageConverter.CONTENT_TYPE_PROPERTY,
+					CompactMessageConverter.SMILE_CONTENT_TYPE);
+		Mockito.verify(producer).send(Mockito.any(Queue.class), Mockito.eq(bytesMessage));
+		Mockito.verify(session, Mockito.never()).createTextMessage(Mockito.anyString());
+	}
+
+	@Test
+	void relay_brokerUnavailable_notCommittedNorCounted() throws Exception {
+		Mockito.when(jmsTemplate.execute(Mockito.<SessionCallback<Object>>any(), Mockito.eq(true)))
+			.thenThrow(new UncategorizedJmsException("Broker is not available"));
+		givenOutbox(List.of(getMessage(1)));
+
+		outboxRelay.relay();
+
+		Mockito.verify(session, Mockito.never()).commit();
+		assertThat(meterRegistry.get("outbox.relay.sent").counter().count()).isZero();
+	}
+
+	@Test
+	void relay_emptyOutbox_lagReset() {
+		givenOutbox();
+
+		outboxRelay.relay();
+
+		assertThat(meterRegistry.get("outbox.relay.lag").timeGauge().value()).isZero();
+		Mockito.verify(jmsTemplate, Mockito.never())
+			.execute(Mockito.<SessionCallback<Object>>any(), Mockito.anyBoolean());
+	}
+
+	@SafeVarargs
+	private void givenOutbox(List<OutboxMessage>... batches) {
+		var stubbing = Mockito.when(outboxService.relayBatch(Mockito.eq(BATCH_SIZE), Mockito.any()));
+		for (var batch : batches) {
+			stubbing = stubbing.thenAnswer(invocation -> {
+				invocation.<Consumer<List<OutboxMessage>>>getArgument(1).accept(batch);
+				return batch.size();
+			});
+		}
+		stubbing.thenReturn(0);
+	}
+
+	private static OutboxMessage getMessage(long id) {
+		return OutboxMessage.builder()
+			.id(id)
+			.destination("queue")
+			.payloadType(String.class.getName())
+			.payload("\"message %d\"".formatted(id))
+			.createdAt(OffsetDateTime.now().minusSeconds(id))
+			.build();
+	}
+
+}
@@ -0,0 +1,56 @@
+package cz.fi.muni.pa165.gameservice.business.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArenaBookingIndexTest {
+
+	private static final OffsetDateTime START = OffsetDateTime.of(2025, 5, 1, 8, 0, 0, 0, ZoneOffset.UTC);
+
+	private static final UUID ARENA_UID = UUID.randomUUID();
+
+	ArenaBookingIndex arenaBookingIndex;
+
+	@BeforeEach
+	void setup() {
+		arenaBookingIndex = new ArenaBookingIndex(Duration.ofMinutes(180));
+	}
+
+	@Test
+	void isAvailable_nothingBooked_returnsTrue() {
+		assertThat(arenaBookingIndex.isAvailable(ARENA_UID, START)).isTrue();
+		assertThat(arenaBookingIndex.countBookings(ARENA_UID)).isZero();
+	}
+
+	@Test
+	void isAvailable_booked_checksWholeBookingDuration() {
+		arenaBookingIndex.add(ARENA_UID, START);
+
+		assertThat(arenaBookingIndex.isAvailable(ARENA_UID, START)).isFalse();
+		assertThat(arenaBookingIndex.isAvailable(ARENA_UID, START.plusMinutes(179))).isFalse();
+		assertThat(arenaBookingIndex.isAvailable(ARENA_UID, START.minusMinutes(179))).isFalse();
+		assertThat(arenaBookingIndex.isAvailable(ARENA_UID, START.plusMinutes(180))).isTrue();
+		assertThat(arenaBookingIndex.isAvailable(ARENA_UID, START.minusMinutes(180))).isTrue();
+		assertThat(arenaBookingIndex.isAvailable(UUID.randomUUID(), START)).isTrue();
+		assertThat(arenaBookingIndex.countBookings(ARENA_UID)).isEqualTo(1);
+	}
+
+	@Test
+	void countBookings_collidingBookings_allCounted() {
+		arenaBookingIndex.add(ARENA_UID, START);
+		arenaBookingIndex.add(ARENA_UID, START);
+		arenaBookingIndex.add(ARENA_UID, START.plusHours(1));
+
+		assertThat(arenaBookingIndex.countBookings(ARENA_UID)).isEqualTo(3);
+		assertThat(arenaBookingIndex.isAvailable(ARENA_UID, START.plusHours(2))).isFalse();
+		assertThat(arenaBookingIndex.isAvailable(ARENA_UID, START.plusHours(4))).isTrue();
+	}
+
+}
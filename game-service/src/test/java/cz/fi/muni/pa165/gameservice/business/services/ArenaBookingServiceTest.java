@@ -0,0 +1,143 @@
+package cz.fi.muni.pa165.gameservice.business.services;
+
+import cz.fi.muni.pa165.gameservice.api.exception.ResourceAlreadyExists;
+import cz.fi.muni.pa165.gameservice.api.exception.ValueIsMissingException;
+import cz.fi.muni.pa165.gameservice.business.services.seed.ArenaSeed;
+import cz.fi.muni.pa165.gameservice.config.ArenaBookingConfiguration;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Arena;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Match;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.ArenaRepository;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.MatchArenaSlot;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.MatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class ArenaBookingServiceTest {
+
+	private static final OffsetDateTime START = OffsetDateTime.of(2025, 5, 1, 8, 0, 0, 0, ZoneOffset.UTC);
+
+	@Mock
+	MatchRepository matchRepository;
+
+	@Mock
+	ArenaRepository arenaRepository;
+
+	ArenaBookingService arenaBookingService;
+
+	Arena arena;
+
+	@BeforeEach
+	void setup() {
+		var configuration = new ArenaBookingConfiguration();
+		configuration.setDuration(180);
+		arenaBookingService = new ArenaBookingService(matchRepository, arenaRepository, configuration);
+		arena = ArenaSeed.getTemplateData().getFirst();
+	}
+
+	@Test
+	void isAvailable_bookedInDatabase_returnsFalse() {
+		Mockito.when(matchRepository.existsArenaBooking(arena.getGuid(), START.minusHours(3), START.plusHours(3), null))
+			.thenReturn(true);
+
+		assertThat(arenaBookingService.isAvailable(arena.getGuid(), START)).isFalse();
+	}
+
+	@Test
+	void isAvailable_freeInDatabase_returnsTrue() {
+		assertThat(arenaBookingService.isAvailable(arena.getGuid(), START)).isTrue();
+	}
+
+	@Test
+	void loadIndex_bookingsOfPeriod_indexed() {
+		var end = START.plusDays(2);
+		Mockito.when(matchRepository.findArenaSlots(List.of(arena.getGuid()), START.minusHours(3), end.plusHours(3)))
+			.thenReturn(List.of(slot(arena.getGuid(), START)));
+
+		var index = arenaBookingService.loadIndex(List.of(arena), START, end);
+
+		assertThat(index.isAvailable(arena.getGuid(), START.plusHours(1))).isFalse();
+		assertThat(index.isAvailable(arena.getGuid(), START.plusHours(3))).isTrue();
+		assertThat(index.countBookings(arena.getGuid())).isEqualTo(1);
+	}
+
+	@Test
+	void loadIndex_noArenas_nothingQueried() {
+		var index = arenaBookingService.loadIndex(List.of(), START, START.plusDays(1));
+
+		assertThat(index.countBookings(arena.getGuid())).isZero();
+		Mockito.verifyNoInteractions(matchRepository);
+	}
+
+	@Test
+	void book_freeArena_checkedWithArenaLocked() {
+		var match = match(START);
+
+		arenaBookingService.book(match);
+
+		var inOrder = Mockito.inOrder(arenaRepository, matchRepository);
+		inOrder.verify(arenaRepository).findLockedByGuid(arena.getGuid());
+		inOrder.verify(matchRepository)
+			.existsArenaBooking(arena.getGuid(), START.minusHours(3), START.plusHours(3), match.getGuid());
+	}
+
+	@Test
+	void book_bookedArena_throwsException() {
+		var match = match(START.plusHours(1));
+		Mockito
+			.when(matchRepository.existsArenaBooking(arena.getGuid(), START.minusHours(2), START.plusHours(4),
+					match.getGuid()))
+			.thenReturn(true);
+
+		assertThatThrownBy(() -> arenaBookingService.book(match)).isInstanceOf(ResourceAlreadyExists.class)
+			.hasMessage("Arena %s is already booked at %s".formatted(arena.getGuid(), match.getStartAt()));
+	}
+
+	@Test
+	void book_unsavedMatch_throwsException() {
+		var match = match(START);
+		match.setGuid(null);
+
+		assertThatThrownBy(() -> arenaBookingService.book(match)).isInstanceOf(ValueIsMissingException.class)
+			.hasMessage("Please save the match before booking the arena");
+
+		Mockito.verifyNoInteractions(matchRepository, arenaRepository);
+	}
+
+	private Match match(OffsetDateTime startAt) {
+		return Match.builder().guid(UUID.randomUUID()).arena(arena).startAt(startAt).build();
+	}
+
+	private static MatchArenaSlot slot(UUID arenaGuid, OffsetDateTime startAt) {
+		var guid = UUID.randomUUID();
+		return new MatchArenaSlot() {
+			@Override
+			public UUID getGuid() {
+				return guid;
+			}
+
+			@Override
+			public UUID getArenaGuid() {
+				return arenaGuid;
+			}
+
+			@Override
+			public OffsetDateTime getStartAt() {
+				return startAt;
+			}
+		};
+	}
+
+}
@@ -1,12 +1,21 @@
 package cz.fi.muni.pa165.gameservice.business.services;
 
+import cz.fi.muni.pa165.dto.teamservice.TeamCharacteristicDTO;
+import cz.fi.muni.pa165.enums.MatchEventType;
+import cz.fi.muni.pa165.enums.TeamCharacteristicType;
+import cz.fi.muni.pa165.gameservice.api.exception.ResourceNotFoundException;
 import cz.fi.muni.pa165.gameservice.api.exception.ValueIsMissingException;
-import cz.fi.muni.pa165.gameservice.business.messages.MatchMessageResolver;
+import cz.fi.muni.pa165.gameservice.business.services.feed.MatchFeedService;
+import cz.fi.muni.pa165.gameservice.business.services.scheduling.ShardLeaseService;
+import cz.fi.muni.pa165.gameservice.business.services.simulation.MatchSimulationEngine;
 import cz.fi.muni.pa165.gameservice.config.SchedulingConfiguration;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Match;
 import cz.fi.muni.pa165.gameservice.persistence.entities.Result;
+import cz.fi.muni.pa165.gameservice.persistence.entities.ScheduledTask;
+import cz.fi.muni.pa165.gameservice.persistence.entities.ScheduledTaskState;
 import cz.fi.muni.pa165.gameservice.testdata.MatchTestData;
 import cz.fi.muni.pa165.service.teamservice.api.TeamCharacteristicController;
-import org.awaitility.Awaitility;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -15,17 +24,20 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.jms.core.JmsTemplate;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.hamcrest.Matchers.is;
 
 @ExtendWith(MockitoExtension.class)
 class GameServiceTest {
 
+	private static final int TEAM_CHARACTERISTICS = TeamCharacteristicType.values().length;
+
 	@Mock
 	MatchService matchService;
 
@@ -45,11 +57,30 @@ class GameServiceTest {
 	TeamCharacteristicController teamCharacteristicController;
 
 	@Mock
-	MatchMessageResolver matchMessageResolver;
+	MatchSimulationEngine matchSimulationEngine;
+
+	@Mock
+	TeamStrengthCache teamStrengthCache;
+
+	@Mock
+	ScheduleJournalService scheduleJournalService;
+
+	@Mock
+	ShardLeaseService shardLeaseService;
+
+	@Mock
+	MatchFeedService matchFeedService;
 
 	@InjectMocks
 	GameService gameService;
 
+	@BeforeEach
+	void setup() {
+		Mockito.lenient().when(shardLeaseService.ownsMatch(Mockito.any())).thenReturn(true);
+		Mockito.lenient().when(shardLeaseService.tryStartMatch(Mockito.any())).thenReturn(true);
+		Mockito.lenient().when(scheduleJournalService.recordStarted(Mockito.any())).thenReturn(true);
+	}
+
 	@Test
 	void scheduleMatch_nullMatch_throwsException() {
 		assertThatThrownBy(() -> gameService.scheduleMatch(null)).hasMessage("Please provide match for scheduling")
@@ -69,53 +100,165 @@ class GameServiceTest {
 	}
 
 	@Test
-	void runMatch_sameScore_noWinner() {
+	void scheduleMatch_newTask_recordedInJournal() {
 		var match = MatchTestData.getRandomMatches().stream().toList().getFirst();
-		var expectedResult = Result.builder()
-			.matchGuid(match.getGuid())
-			.scoreAwayTeam(1)
-			.scoreHomeTeam(1)
-			.winnerTeam(null)
-			.build();
+		Mockito.when(taskSchedulerService.scheduleTask(Mockito.any(), Mockito.eq(match.getGuid()), Mockito.any()))
+			.thenReturn(true);
+
+		gameService.scheduleMatch(match);
+
+		Mockito.verify(scheduleJournalService, Mockito.times(1)).recordScheduled(match.getGuid(), match.getStartAt());
+		Mockito.verify(matchFeedService, Mockito.times(1)).publish(match.getGuid(), MatchEventType.SCHEDULED, 0, 0);
+	}
+
+	@Test
+	void scheduleMatch_alreadyScheduled_notRecordedAgain() {
+		var match = MatchTestData.getRandomMatches().stream().toList().getFirst();
+
+		gameService.scheduleMatch(match);
+
+		Mockito.verify(scheduleJournalService, Mockito.never()).recordScheduled(Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	void replayScheduleJournal_pendingMatches_rearmedWithoutMatchScan() {
+		var matches = MatchTestData.getRandomMatches().stream().limit(2).toList();
+		matches.forEach(match -> match.setEndAt(null));
+		var pendingTasks = List.of(journalEntry(matches.get(0), ScheduledTaskState.SCHEDULED),
+				journalEntry(matches.get(1), ScheduledTaskState.RUNNING));
+		Mockito.when(scheduleJournalService.getPendingTasks()).thenReturn(pendingTasks);
+		Mockito.when(matchService.getMatches(Mockito.anyCollection())).thenReturn(matches);
+
+		gameService.replayScheduleJournal();
+
+		for (var match : matches) {
+			Mockito.verify(taskSchedulerService, Mockito.times(1))
+				.scheduleTask(Mockito.any(), Mockito.eq(match.getGuid()), Mockito.eq(match.getStartAt().toInstant()));
+		}
+		Mockito.verify(teamCharacteristicController, Mockito.times(1)).findByTeamIds(Mockito.anySet());
+		Mockito.verify(matchService, Mockito.never())
+			.getMatchesForScheduling(Mockito.anyInt(), Mockito.anyInt(), Mockito.any());
+	}
+
+	@Test
+	void replayScheduleJournal_finishedOrDeletedMatches_removedFromJournal() {
+		var finishedMatch = MatchTestData.getRandomMatches().stream().toList().getFirst();
+		finishedMatch.setResult(Result.builder().matchGuid(finishedMatch.getGuid()).build());
+		var deletedMatchGuid = UUID.randomUUID();
+		var pendingTasks = List.of(journalEntry(finishedMatch, ScheduledTaskState.RUNNING),
+				ScheduledTask.builder().taskGuid(deletedMatchGuid).state(ScheduledTaskState.SCHEDULED).build());
+		Mockito.when(scheduleJournalService.getPendingTasks()).thenReturn(pendingTasks);
+		Mockito.when(matchService.getMatches(Mockito.anyCollection())).thenReturn(List.of(finishedMatch));
+
+		gameService.replayScheduleJournal();
+
+		Mockito.verify(scheduleJournalService, Mockito.times(1)).recordFinished(finishedMatch.getGuid());
+		Mockito.verify(scheduleJournalService, Mockito.times(1)).recordFinished(deletedMatchGuid);
+		Mockito.verify(taskSchedulerService, Mockito.never()).scheduleTask(Mockito.any(), Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	void runMatch_noCharacteristics_simulatedWithFallbackStrength() {
+		var match = givenStoredMatch();
 
-		Mockito.when(random.nextInt(Mockito.anyInt(), Mockito.anyInt())).thenReturn(1);
-		Mockito.when(schedulingConfiguration.getMatchSleepPlaceholder()).thenReturn(100);
-		Mockito.when(matchService.publishResult(expectedResult, match)).thenReturn(match);
+		Mockito.when(random.nextInt(Mockito.anyInt(), Mockito.anyInt())).thenReturn(10).thenReturn(20);
+		Mockito.when(matchSimulationEngine.simulate(Mockito.eq(match), Mockito.anyDouble(), Mockito.anyDouble()))
+			.thenReturn(Optional.of(new CompletableFuture<>()));
 
 		gameService.runMatch(match).run();
 
-		Mockito.verify(matchService, Mockito.times(1)).publishResult(expectedResult, match);
-		Mockito.verify(matchMessageResolver, Mockito.times(1)).sendMatchEndedTopic(match);
+		Mockito.verify(matchSimulationEngine, Mockito.times(1)).simulate(match, 10, 20);
 	}
 
 	@Test
-	void runMatch_awayTeamWinner_expectedWinnerTeam() {
-		var match = MatchTestData.getRandomMatches().stream().toList().getFirst();
+	void runMatch_withCharacteristics_simulatedWithTeamAverage() {
+		var match = givenStoredMatch();
 
-		Mockito.when(random.nextInt(Mockito.anyInt(), Mockito.anyInt())).thenReturn(1).thenReturn(2);
-		Mockito.when(schedulingConfiguration.getMatchSleepPlaceholder()).thenReturn(100);
+		Mockito.when(teamCharacteristicController.findByTeamId(match.getHomeTeamUid()))
+			.thenReturn(List.of(characteristic(TeamCharacteristicType.values()[0], 40 * TEAM_CHARACTERISTICS)));
+		Mockito.when(teamCharacteristicController.findByTeamId(match.getAwayTeamUid()))
+			.thenReturn(List.of(characteristic(TeamCharacteristicType.values()[0], 20 * TEAM_CHARACTERISTICS)));
+		Mockito.when(matchSimulationEngine.simulate(Mockito.eq(match), Mockito.anyDouble(), Mockito.anyDouble()))
+			.thenReturn(Optional.of(new CompletableFuture<>()));
 
 		gameService.runMatch(match).run();
 
-		var expectedResult = Result.builder()
-			.matchGuid(match.getGuid())
-			.scoreHomeTeam(1)
-			.scoreAwayTeam(2)
-			.winnerTeam(match.getAwayTeamUid())
-			.build();
+		Mockito.verify(matchSimulationEngine, Mockito.times(1)).simulate(match, 40, 20);
+		Mockito.verify(random, Mockito.never()).nextInt(Mockito.anyInt(), Mockito.anyInt());
+	}
 
-		Mockito.verify(matchService, Mockito.times(1)).publishResult(expectedResult, match);
+	@Test
+	void prefetchTeamStrengths_notCachedTeams_cacheWarmed() {
+		var match = givenStoredMatch();
+
+		Mockito.when(teamCharacteristicController.findByTeamIds(Mockito.anySet()))
+			.thenReturn(Map.of(match.getHomeTeamUid(),
+					List.of(characteristic(TeamCharacteristicType.values()[0], 35 * TEAM_CHARACTERISTICS)),
+					match.getAwayTeamUid(),
+					List.of(characteristic(TeamCharacteristicType.values()[0], 15 * TEAM_CHARACTERISTICS))));
+
+		gameService.prefetchTeamStrengths(List.of(match));
+
+		Mockito.verify(teamStrengthCache, Mockito.times(1)).put(match.getHomeTeamUid(), 35);
+		Mockito.verify(teamStrengthCache, Mockito.times(1)).put(match.getAwayTeamUid(), 15);
 	}
 
 	@Test
-	void runMatch_homeTeamWinner_expectedWinnerTeam() {
-		var match = MatchTestData.getRandomMatches().stream().toList().getFirst();
+	void runMatch_strengthInvalidatedAfterPrefetch_characteristicsFetchedAgain() {
+		var match = givenStoredMatch();
+
+		Mockito.when(teamCharacteristicController.findByTeamIds(Mockito.anySet()))
+			.thenReturn(Map.of(match.getHomeTeamUid(),
+					List.of(characteristic(TeamCharacteristicType.values()[0], 35 * TEAM_CHARACTERISTICS))));
+		gameService.prefetchTeamStrengths(List.of(match));
+
+		// Characteristics changed before the start, the cached strength was invalidated
+		Mockito.when(teamStrengthCache.get(match.getHomeTeamUid())).thenReturn(Optional.empty());
+		Mockito.when(teamStrengthCache.get(match.getAwayTeamUid())).thenReturn(Optional.of(15.0));
+		Mockito.when(teamCharacteristicController.findByTeamId(match.getHomeTeamUid()))
+			.thenReturn(List.of(characteristic(TeamCharacteristicType.values()[0], 45 * TEAM_CHARACTERISTICS)));
+		Mockito.when(matchSimulationEngine.simulate(Mockito.eq(match), Mockito.anyDouble(), Mockito.anyDouble()))
+			.thenReturn(Optional.of(new CompletableFuture<>()));
+
+		gameService.runMatch(match).run();
+
+		Mockito.verify(matchSimulationEngine, Mockito.times(1)).simulate(match, 45, 15);
+	}
+
+	@Test
+	void runMatch_cachedStrengths_characteristicsNotFetched() {
+		var match = givenStoredMatch();
 
-		Mockito.when(random.nextInt(Mockito.anyInt(), Mockito.anyInt())).thenReturn(2).thenReturn(1);
-		Mockito.when(schedulingConfiguration.getMatchSleepPlaceholder()).thenReturn(100);
+		Mockito.when(teamStrengthCache.get(match.getHomeTeamUid())).thenReturn(Optional.of(30.0));
+		Mockito.when(teamStrengthCache.get(match.getAwayTeamUid())).thenReturn(Optional.of(25.0));
+		Mockito.when(matchSimulationEngine.simulate(Mockito.eq(match), Mockito.anyDouble(), Mockito.anyDouble()))
+			.thenReturn(Optional.of(new CompletableFuture<>()));
 
 		gameService.runMatch(match).run();
 
+		Mockito.verify(matchSimulationEngine, Mockito.times(1)).simulate(match, 30, 25);
+		Mockito.verify(teamCharacteristicController, Mockito.never()).findByTeamId(Mockito.any());
+	}
+
+	@Test
+	void runMatch_fetchedCharacteristics_strengthCached() {
+		var match = givenStoredMatch();
+
+		Mockito.when(teamCharacteristicController.findByTeamId(match.getHomeTeamUid()))
+			.thenReturn(List.of(characteristic(TeamCharacteristicType.values()[0], 40 * TEAM_CHARACTERISTICS)));
+		Mockito.when(random.nextInt(Mockito.anyInt(), Mockito.anyInt())).thenReturn(20);
+		Mockito.when(matchSimulationEngine.simulate(Mockito.eq(match), Mockito.anyDouble(), Mockito.anyDouble()))
+			.thenReturn(Optional.of(new CompletableFuture<>()));
+
+		gameService.runMatch(match).run();
+
+		Mockito.verify(teamStrengthCache, Mockito.times(1)).put(match.getHomeTeamUid(), 40);
+		Mockito.verify(teamStrengthCache, Mockito.never()).put(Mockito.eq(match.getAwayTeamUid()), Mockito.anyDouble());
+	}
+
+	@Test
+	void runMatch_simulationEnded_resultPublished() {
+		var match = givenStoredMatch();
 		var expectedResult = Result.builder()
 			.matchGuid(match.getGuid())
 			.scoreHomeTeam(2)
@@ -123,28 +266,121 @@ class GameServiceTest {
 			.winnerTeam(match.getHomeTeamUid())
 			.build();
 
+		Mockito.when(matchSimulationEngine.simulate(Mockito.eq(match), Mockito.anyDouble(), Mockito.anyDouble()))
+			.thenReturn(Optional.of(CompletableFuture.completedFuture(expectedResult)));
+
+		gameService.runMatch(match).run();
+
 		Mockito.verify(matchService, Mockito.times(1)).publishResult(expectedResult, match);
+		Mockito.verify(scheduleJournalService, Mockito.times(1)).recordStarted(match.getGuid());
+		Mockito.verify(scheduleJournalService, Mockito.times(1)).recordFinished(match.getGuid());
+		Mockito.verify(matchFeedService, Mockito.times(1)).publish(match.getGuid(), MatchEventType.STARTED, 0, 0);
+		Mockito.verify(matchFeedService, Mockito.times(1)).publish(match.getGuid(), MatchEventType.ENDED, 2, 1);
+		Mockito.verify(shardLeaseService, Mockito.times(1)).matchEnded(match.getGuid());
+	}
+
+	@Test
+	void runMatch_simulationRunning_shardKeptUntilMatchEnds() {
+		var match = givenStoredMatch();
+		var simulation = new CompletableFuture<Result>();
+		Mockito.when(matchSimulationEngine.simulate(Mockito.eq(match), Mockito.anyDouble(), Mockito.anyDouble()))
+			.thenReturn(Optional.of(simulation));
+
+		gameService.runMatch(match).run();
+
+		Mockito.verify(shardLeaseService, Mockito.never()).matchEnded(Mockito.any());
+		simulation.complete(Result.builder().matchGuid(match.getGuid()).build());
+		Mockito.verify(shardLeaseService, Mockito.times(1)).matchEnded(match.getGuid());
 	}
 
 	@Test
-	void runMatch_checkSleepTimeout() {
+	void runMatch_runningOnAnotherNode_notSimulated() {
+		var match = givenStoredMatch();
+		Mockito.when(scheduleJournalService.recordStarted(match.getGuid())).thenReturn(false);
+
+		gameService.runMatch(match).run();
+
+		Mockito.verify(matchSimulationEngine, Mockito.never())
+			.simulate(Mockito.any(), Mockito.anyDouble(), Mockito.anyDouble());
+		Mockito.verify(shardLeaseService, Mockito.times(1)).matchEnded(match.getGuid());
+	}
+
+	@Test
+	void runMatch_notOwnedMatch_notSimulated() {
+		var match = givenStoredMatch();
+		Mockito.when(shardLeaseService.tryStartMatch(match.getGuid())).thenReturn(false);
+
+		gameService.runMatch(match).run();
+
+		Mockito.verify(matchSimulationEngine, Mockito.never())
+			.simulate(Mockito.any(), Mockito.anyDouble(), Mockito.anyDouble());
+		Mockito.verify(scheduleJournalService, Mockito.never()).recordStarted(Mockito.any());
+	}
+
+	@Test
+	void runMatch_deletedMatch_removedFromJournal() {
 		var match = MatchTestData.getRandomMatches().stream().toList().getFirst();
+		Mockito.when(matchService.getMatch(match.getGuid())).thenThrow(new ResourceNotFoundException("Not found"));
 
-		Mockito.when(random.nextInt(Mockito.anyInt(), Mockito.anyInt())).thenReturn(2).thenReturn(1);
-		Mockito.when(schedulingConfiguration.getMatchSleepPlaceholder()).thenReturn(2000);
-
-		var called = new AtomicInteger(0);
-		try (var executor = Executors.newSingleThreadExecutor()) {
-			executor.submit(() -> {
-				gameService.runMatch(match).run();
-				called.incrementAndGet();
-			});
-			Awaitility.await()
-				.atLeast(2000, TimeUnit.MILLISECONDS)
-				.atMost(2500, TimeUnit.MILLISECONDS)
-				.untilAtomic(called, is(1));
-		}
+		gameService.runMatch(match).run();
+
+		Mockito.verify(matchSimulationEngine, Mockito.never())
+			.simulate(Mockito.any(), Mockito.anyDouble(), Mockito.anyDouble());
+		Mockito.verify(scheduleJournalService, Mockito.times(1)).recordFinished(match.getGuid());
+	}
+
+	@Test
+	void replayScheduleJournal_notOwnedMatches_skipped() {
+		var match = MatchTestData.getRandomMatches().stream().toList().getFirst();
+		Mockito.when(shardLeaseService.ownsMatch(match.getGuid())).thenReturn(false);
+		Mockito.when(scheduleJournalService.getPendingTasks())
+			.thenReturn(List.of(journalEntry(match, ScheduledTaskState.SCHEDULED)));
+
+		gameService.replayScheduleJournal();
+
+		Mockito.verify(matchService, Mockito.never()).getMatches(Mockito.anyCollection());
+		Mockito.verify(taskSchedulerService, Mockito.never()).scheduleTask(Mockito.any(), Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	void runMatch_simulationRunning_resultNotPublished() {
+		var match = givenStoredMatch();
+
+		Mockito.when(matchSimulationEngine.simulate(Mockito.eq(match), Mockito.anyDouble(), Mockito.anyDouble()))
+			.thenReturn(Optional.of(new CompletableFuture<>()));
+
+		gameService.runMatch(match).run();
+
+		Mockito.verify(matchService, Mockito.never()).publishResult(Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	void runMatch_alreadySimulated_resultNotPublished() {
+		var match = givenStoredMatch();
+
+		Mockito.when(matchSimulationEngine.simulate(Mockito.eq(match), Mockito.anyDouble(), Mockito.anyDouble()))
+			.thenReturn(Optional.empty());
+
+		gameService.runMatch(match).run();
+
+		Mockito.verify(matchService, Mockito.never()).publishResult(Mockito.any(), Mockito.any());
+	}
+
+	private Match givenStoredMatch() {
+		var match = MatchTestData.getRandomMatches().stream().toList().getFirst();
+		Mockito.lenient().when(matchService.getMatch(match.getGuid())).thenReturn(match);
+		return match;
+	}
+
+	private static ScheduledTask journalEntry(Match match, ScheduledTaskState state) {
+		return ScheduledTask.builder().taskGuid(match.getGuid()).startAt(match.getStartAt()).state(state).build();
+	}
 
+	private static TeamCharacteristicDTO characteristic(TeamCharacteristicType type, int value) {
+		var characteristic = new TeamCharacteristicDTO();
+		characteristic.setCharacteristicType(type);
+		characteristic.setCharacteristicValue(value);
+		return characteristic;
 	}
 
 }
\ No newline at end of file
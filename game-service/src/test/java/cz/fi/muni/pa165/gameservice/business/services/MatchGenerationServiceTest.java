@@ -1,20 +1,26 @@
 package cz.fi.muni.pa165.gameservice.business.services;
 
+import cz.fi.muni.pa165.gameservice.api.exception.ActionForbidden;
 import cz.fi.muni.pa165.gameservice.api.exception.ValueIsMissingException;
 import cz.fi.muni.pa165.gameservice.business.services.seed.ArenaSeed;
+import cz.fi.muni.pa165.gameservice.config.ArenaBookingConfiguration;
 import cz.fi.muni.pa165.gameservice.persistence.entities.CompetitionHasTeam;
 import cz.fi.muni.pa165.gameservice.persistence.entities.Match;
 import cz.fi.muni.pa165.gameservice.testdata.CompetitionTestData;
 import cz.fi.muni.pa165.gameservice.testdata.TeamsTestData;
 import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -32,12 +38,29 @@ class MatchGenerationServiceTest {
 	@Mock
 	Random randomGenerator;
 
+	@Mock
+	ArenaBookingService arenaBookingService;
+
+	@Spy
+	ArenaBookingConfiguration arenaBookingConfiguration = new ArenaBookingConfiguration();
+
 	@InjectMocks
 	MatchGenerationService matchGenerationService;
 
 	@InjectMocks
 	ArenaSeed arenaSeed;
 
+	ArenaBookingIndex bookings;
+
+	@BeforeEach
+	void setup() {
+		arenaBookingConfiguration.setDuration(180);
+		bookings = new ArenaBookingIndex(arenaBookingConfiguration.getBookingDuration());
+		Mockito.lenient()
+			.when(arenaBookingService.loadIndex(Mockito.any(), Mockito.any(), Mockito.any()))
+			.thenReturn(bookings);
+	}
+
 	@Test
 	void createCombinations_1double3teams_returnsCombinations() {
 		var teams = TeamsTestData.getTeamEntities().stream().limit(4).toList();
@@ -218,4 +241,151 @@ class MatchGenerationServiceTest {
 		Mockito.verify(arenaService, Mockito.never()).findAllArenas();
 	}
 
-}
\ No newline at end of file
+	@Test
+	void createSchedule_allTeams_everyTeamScheduled() {
+		var teams = TeamsTestData.getTeamEntities().stream().toList();
+
+		var schedule = matchGenerationService.createSchedule(teams, 1);
+
+		var pairs = new ArrayList<Pair<UUID, UUID>>();
+		schedule.forEach(pairs::addAll);
+		assertThat(pairs).hasSize(teams.size() * (teams.size() - 1) / 2);
+		checkCombinations(teams, pairs, 1);
+	}
+
+	@Test
+	void createScheduledMatches_roundsPerDay_teamPlaysOnceADay() {
+		var arena = arenaSeed.getTemplateData().getFirst();
+		Mockito.when(arenaService.findAllArenas()).thenReturn(List.of(arena));
+		Mockito.when(randomGenerator.nextInt(Mockito.anyInt())).thenReturn(0);
+
+		var teams = TeamsTestData.getTeamEntities().stream().toList();
+		var schedule = matchGenerationService.createSchedule(teams, 2);
+		var competition = CompetitionTestData.getCompetitionEntity();
+		competition.setStartAt(LocalDate.now());
+		competition.setEndAt(LocalDate.now().plusDays(schedule.getNumberOfRounds()));
+
+		var createdMatches = matchGenerationService.createScheduledMatches(competition, schedule);
+
+		assertThat(createdMatches).hasSize((int) schedule.getNumberOfMatches());
+		assertThat(competition.getMatches()).hasSize(createdMatches.size());
+		var matchesByDay = createdMatches.stream()
+			.collect(Collectors.groupingBy(match -> LocalDate.from(match.getStartAt())));
+		assertThat(matchesByDay).hasSize(schedule.getNumberOfRounds());
+		matchesByDay.values().forEach(matches -> {
+			var playingTeams = new HashSet<UUID>();
+			matches.forEach(match -> {
+				assertThat(playingTeams.add(match.getHomeTeamUid())).isTrue();
+				assertThat(playingTeams.add(match.getAwayTeamUid())).isTrue();
+			});
+		});
+	}
+
+	@Test
+	void createScheduledMatches_longCompetition_roundsEquallyDistributed() {
+		var arena = arenaSeed.getTemplateData().getFirst();
+		Mockito.when(arenaService.findAllArenas()).thenReturn(List.of(arena));
+		Mockito.when(randomGenerator.nextInt(Mockito.anyInt())).thenReturn(0);
+
+		var teams = TeamsTestData.getTeamEntities().stream().limit(4).toList();
+		var schedule = matchGenerationService.createSchedule(teams, 1);
+		var competition = CompetitionTestData.getCompetitionEntity();
+		competition.setStartAt(LocalDate.now());
+		competition.setEndAt(LocalDate.now().plusDays(schedule.getNumberOfRounds() * 2L));
+
+		var createdMatches = matchGenerationService.createScheduledMatches(competition, schedule);
+
+		var matchDays = createdMatches.stream().map(match -> LocalDate.from(match.getStartAt())).distinct().toList();
+		assertThat(matchDays).containsExactlyInAnyOrder(LocalDate.now(), LocalDate.now().plusDays(2),
+				LocalDate.now().plusDays(4));
+	}
+
+	@Test
+	void createScheduledMatches_oneArena_matchesOfDayDoNotOverlap() {
+		var arena = arenaSeed.getTemplateData().getFirst();
+		Mockito.when(arenaService.findAllArenas()).thenReturn(List.of(arena));
+
+		var teams = TeamsTestData.getTeamEntities().stream().limit(4).toList();
+		var schedule = matchGenerationService.createSchedule(teams, 1);
+		var competition = CompetitionTestData.getCompetitionEntity();
+		competition.setStartAt(LocalDate.now());
+		competition.setEndAt(LocalDate.now().plusDays(schedule.getNumberOfRounds()));
+
+		var createdMatches = matchGenerationService.createScheduledMatches(competition, schedule);
+
+		var matchesByDay = createdMatches.stream()
+			.collect(Collectors.groupingBy(match -> LocalDate.from(match.getStartAt())));
+		matchesByDay.values()
+			.forEach(matches -> assertThat(matches).extracting(match -> match.getStartAt().toLocalTime())
+				.containsExactlyInAnyOrder(LocalTime.of(8, 0), LocalTime.of(11, 0)));
+	}
+
+	@Test
+	void createScheduledMatches_arenaBooked_leastLoadedFreeArenaUsed() {
+		var arenas = arenaSeed.getTemplateData().stream().limit(3).toList();
+		var bookedArena = arenas.get(0);
+		var loadedArena = arenas.get(1);
+		var freeArena = arenas.get(2);
+		Mockito.when(arenaService.findAllArenas()).thenReturn(arenas);
+		var firstMatchTime = LocalDate.now().atTime(8, 0).atOffset(ZonedDateTime.now().getOffset());
+		bookings.add(bookedArena.getGuid(), firstMatchTime);
+		bookings.add(loadedArena.getGuid(), firstMatchTime.plusHours(6));
+
+		var teams = TeamsTestData.getTeamEntities().stream().limit(2).toList();
+		var schedule = matchGenerationService.createSchedule(teams, 1);
+		var competition = CompetitionTestData.getCompetitionEntity();
+		competition.setStartAt(LocalDate.now());
+		competition.setEndAt(LocalDate.now().plusDays(1));
+
+		var createdMatches = matchGenerationService.createScheduledMatches(competition, schedule);
+
+		assertThat(createdMatches).singleElement()
+			.satisfies(match -> assertThat(match.getArena()).isEqualTo(freeArena))
+			.satisfies(match -> assertThat(match.getStartAt().toLocalTime()).isEqualTo(LocalTime.of(8, 0)));
+	}
+
+	@Test
+	void createScheduledMatches_arenaBookedWholeDay_throwsException() {
+		var arena = arenaSeed.getTemplateData().getFirst();
+		Mockito.when(arenaService.findAllArenas()).thenReturn(List.of(arena));
+		var firstMatchTime = LocalDate.now().atTime(8, 0).atOffset(ZonedDateTime.now().getOffset());
+		for (int i = 0; i < 5; i++) {
+			bookings.add(arena.getGuid(), firstMatchTime.plusHours(3L * i));
+		}
+
+		var teams = TeamsTestData.getTeamEntities().stream().limit(2).toList();
+		var schedule = matchGenerationService.createSchedule(teams, 1);
+		var competition = CompetitionTestData.getCompetitionEntity();
+		competition.setStartAt(LocalDate.now());
+		competition.setEndAt(LocalDate.now().plusDays(1));
+
+		assertThatThrownBy(() -> matchGenerationService.createScheduledMatches(competition, schedule))
+			.isInstanceOf(ActionForbidden.class)
+			.hasMessage("There are not enough free arenas on %s for all the matches".formatted(LocalDate.now()));
+	}
+
+	@Test
+	void createScheduledMatches_shortCompetition_throwsException() {
+		var teams = TeamsTestData.getTeamEntities().stream().toList();
+		var schedule = matchGenerationService.createSchedule(teams, 1);
+		var competition = CompetitionTestData.getCompetitionEntity();
+		competition.setStartAt(LocalDate.now());
+		competition.setEndAt(LocalDate.now().plusDays(schedule.getNumberOfRounds() - 1));
+
+		assertThatThrownBy(() -> matchGenerationService.createScheduledMatches(competition, schedule))
+			.isInstanceOf(ActionForbidden.class)
+			.hasMessage("Competition lasts 8 days, but its teams need 9 days to play all the matches");
+
+		Mockito.verify(arenaService, Mockito.never()).findAllArenas();
+	}
+
+	@Test
+	void createScheduledMatches_scheduleNull_throwsException() {
+		var competition = CompetitionTestData.getCompetitionEntity();
+
+		assertThatThrownBy(() -> matchGenerationService.createScheduledMatches(competition, null))
+			.isInstanceOf(ValueIsMissingException.class)
+			.hasMessage("Please provide schedule for matches generation");
+	}
+
+}
@@ -1,9 +1,15 @@
 package cz.fi.muni.pa165.gameservice.business.services;
 
+import cz.fi.muni.pa165.gameservice.api.exception.ResourceAlreadyExists;
 import cz.fi.muni.pa165.gameservice.api.exception.ResourceNotFoundException;
 import cz.fi.muni.pa165.gameservice.api.exception.ValueIsMissingException;
+import cz.fi.muni.pa165.gameservice.business.messages.MatchMessageResolver;
+import cz.fi.muni.pa165.gameservice.business.services.standings.StandingsService;
+import cz.fi.muni.pa165.gameservice.persistence.entities.CompetitionHasTeam;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.MatchListItem;
 import cz.fi.muni.pa165.gameservice.persistence.repositories.MatchRepository;
 import cz.fi.muni.pa165.gameservice.persistence.repositories.ResultRepository;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.SchedulableMatch;
 import cz.fi.muni.pa165.gameservice.testdata.CompetitionTestData;
 import cz.fi.muni.pa165.gameservice.testdata.MatchTestData;
 import cz.fi.muni.pa165.gameservice.testdata.TeamsTestData;
@@ -13,8 +19,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -35,6 +43,15 @@ class MatchServiceTest {
 	@Mock
 	ResultRepository resultRepository;
 
+	@Mock
+	ArenaBookingService arenaBookingService;
+
+	@Mock
+	StandingsService standingsService;
+
+	@Mock
+	MatchMessageResolver matchMessageResolver;
+
 	@InjectMocks
 	MatchService matchService;
 
@@ -44,8 +61,8 @@ class MatchServiceTest {
 			.hasMessage("Please provide competition to generate matches")
 			.isInstanceOf(ValueIsMissingException.class);
 
-		Mockito.verify(matchGenerationService, Mockito.never()).createCombinations(Mockito.any(), Mockito.anyInt());
-		Mockito.verify(matchGenerationService, Mockito.never()).createMatches(Mockito.any(), Mockito.any());
+		Mockito.verify(matchGenerationService, Mockito.never()).createSchedule(Mockito.any(), Mockito.anyInt());
+		Mockito.verify(matchGenerationService, Mockito.never()).createScheduledMatches(Mockito.any(), Mockito.any());
 	}
 
 	@Test
@@ -57,28 +74,29 @@ class MatchServiceTest {
 		var returnedMatches = matchService.generateMatches(competition);
 		assertThat(returnedMatches).containsAll(matches);
 
-		Mockito.verify(matchGenerationService, Mockito.never()).createCombinations(Mockito.any(), Mockito.anyInt());
-		Mockito.verify(matchGenerationService, Mockito.never()).createMatches(Mockito.any(), Mockito.any());
+		Mockito.verify(matchGenerationService, Mockito.never()).createSchedule(Mockito.any(), Mockito.anyInt());
+		Mockito.verify(matchGenerationService, Mockito.never()).createScheduledMatches(Mockito.any(), Mockito.any());
 	}
 
 	@Test
 	void generateMatches_emptyNotNullMatchesInCompetition_generateMatches() {
 		var competition = CompetitionTestData.getCompetitionEntity();
 		competition.setMatches(Set.of());
-		var pairs = TeamsTestData.getPairs();
 		var teams = TeamsTestData.getTeamEntities();
 		competition.setTeams(teams);
+		var schedule = getSchedule(teams);
 		var matches = MatchTestData.getRandomMatches();
 
-		Mockito.when(matchGenerationService.createCombinations(teams.stream().toList(), 1)).thenReturn(pairs);
+		Mockito.when(matchGenerationService.createSchedule(teams.stream().toList(), 1)).thenReturn(schedule);
 
-		Mockito.when(matchGenerationService.createMatches(competition, pairs)).thenReturn(matches.stream().toList());
+		Mockito.when(matchGenerationService.createScheduledMatches(competition, schedule))
+			.thenReturn(matches.stream().toList());
 
 		var returnedMatches = matchService.generateMatches(competition);
 
 		assertThat(returnedMatches).containsAll(matches);
-		Mockito.verify(matchGenerationService, Mockito.times(1)).createCombinations(Mockito.any(), Mockito.anyInt());
-		Mockito.verify(matchGenerationService, Mockito.times(1)).createMatches(Mockito.any(), Mockito.any());
+		Mockito.verify(matchGenerationService, Mockito.times(1)).createSchedule(Mockito.any(), Mockito.anyInt());
+		Mockito.verify(matchGenerationService, Mockito.times(1)).createScheduledMatches(Mockito.any(), Mockito.any());
 	}
 
 	@Test
@@ -86,18 +104,19 @@ class MatchServiceTest {
 		var competition = CompetitionTestData.getCompetitionEntity();
 		var teams = TeamsTestData.getTeamEntities();
 		competition.setTeams(teams);
-		var pairs = TeamsTestData.getPairs();
+		var schedule = getSchedule(teams);
 		var matches = MatchTestData.getRandomMatches();
 
-		Mockito.when(matchGenerationService.createCombinations(teams.stream().toList(), 1)).thenReturn(pairs);
+		Mockito.when(matchGenerationService.createSchedule(teams.stream().toList(), 1)).thenReturn(schedule);
 
-		Mockito.when(matchGenerationService.createMatches(competition, pairs)).thenReturn(matches.stream().toList());
+		Mockito.when(matchGenerationService.createScheduledMatches(competition, schedule))
+			.thenReturn(matches.stream().toList());
 
 		var returnedMatches = matchService.generateMatches(competition);
 
 		assertThat(returnedMatches).containsAll(matches);
-		Mockito.verify(matchGenerationService, Mockito.times(1)).createCombinations(Mockito.any(), Mockito.anyInt());
-		Mockito.verify(matchGenerationService, Mockito.times(1)).createMatches(Mockito.any(), Mockito.any());
+		Mockito.verify(matchGenerationService, Mockito.times(1)).createSchedule(Mockito.any(), Mockito.anyInt());
+		Mockito.verify(matchGenerationService, Mockito.times(1)).createScheduledMatches(Mockito.any(), Mockito.any());
 	}
 
 	@Test
@@ -108,8 +127,8 @@ class MatchServiceTest {
 			.hasMessage("Please assign some teams to the competition")
 			.isInstanceOf(ValueIsMissingException.class);
 
-		Mockito.verify(matchGenerationService, Mockito.never()).createCombinations(Mockito.any(), Mockito.anyInt());
-		Mockito.verify(matchGenerationService, Mockito.never()).createMatches(Mockito.any(), Mockito.any());
+		Mockito.verify(matchGenerationService, Mockito.never()).createSchedule(Mockito.any(), Mockito.anyInt());
+		Mockito.verify(matchGenerationService, Mockito.never()).createScheduledMatches(Mockito.any(), Mockito.any());
 	}
 
 	@Test
@@ -121,8 +140,8 @@ class MatchServiceTest {
 			.hasMessage("Please assign some teams to the competition")
 			.isInstanceOf(ValueIsMissingException.class);
 
-		Mockito.verify(matchGenerationService, Mockito.never()).createCombinations(Mockito.any(), Mockito.anyInt());
-		Mockito.verify(matchGenerationService, Mockito.never()).createMatches(Mockito.any(), Mockito.any());
+		Mockito.verify(matchGenerationService, Mockito.never()).createSchedule(Mockito.any(), Mockito.anyInt());
+		Mockito.verify(matchGenerationService, Mockito.never()).createScheduledMatches(Mockito.any(), Mockito.any());
 	}
 
 	@Test
@@ -151,6 +170,7 @@ class MatchServiceTest {
 
 		assertThat(returnedMatches).containsAll(matches);
 		Mockito.verify(matchRepository, Mockito.times(1)).saveAll(matches);
+		matches.forEach(match -> Mockito.verify(arenaBookingService, Mockito.times(1)).book(match));
 	}
 
 	@Test
@@ -171,6 +191,18 @@ class MatchServiceTest {
 		assertThat(savedMatch).isEqualTo(match);
 
 		Mockito.verify(matchRepository, Mockito.times(1)).save(match);
+		Mockito.verify(arenaBookingService, Mockito.times(1)).book(match);
+	}
+
+	@Test
+	void saveMatch_arenaBooked_throwsException() {
+		var match = MatchTestData.getRandomMatches().stream().toList().getFirst();
+
+		Mockito.when(matchRepository.save(match)).thenReturn(match);
+		Mockito.doThrow(new ResourceAlreadyExists("Arena is already booked")).when(arenaBookingService).book(match);
+
+		assertThatThrownBy(() -> matchService.saveMatch(match)).isInstanceOf(ResourceAlreadyExists.class)
+			.hasMessage("Arena is already booked");
 	}
 
 	@Test
@@ -225,20 +257,73 @@ class MatchServiceTest {
 
 	@Test
 	void getMatchesForScheduling_zeroNumber_throwsException() {
-		assertThatThrownBy(() -> matchService.getMatchesForScheduling(0)).hasMessage("Offset should be positive number")
-			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> matchService.getMatchesForScheduling(0, 10, page -> {
+		})).hasMessage("Offset should be positive number").isInstanceOf(IllegalArgumentException.class);
 
-		Mockito.verify(matchRepository, Mockito.never()).getMatchesForScheduling(Mockito.any());
+		Mockito.verify(matchRepository, Mockito.never()).getMatchesForScheduling(Mockito.any(), Mockito.any());
 	}
 
 	@Test
-	void getMatchesForScheduling_positiveNumber_returnedMatches() {
-		var matches = MatchTestData.getRandomMatches().stream().toList();
-		var offset = 1;
-		Mockito.when(matchRepository.getMatchesForScheduling(Mockito.any())).thenReturn(matches);
+	void getMatchesForScheduling_positiveNumber_pagesHandedOver() {
+		var matches = MatchTestData.getRandomMatches().stream().limit(3).toList();
+		var limit = Limit.of(2);
+		Mockito.when(matchRepository.getMatchesForScheduling(Mockito.any(), Mockito.eq(limit)))
+			.thenReturn(List.of(matches.get(0), matches.get(1)));
+		Mockito.when(matchRepository.getMatchesForSchedulingAfter(Mockito.any(),
+				Mockito.eq(matches.get(1).getStartAt()), Mockito.eq(matches.get(1).getGuid()), Mockito.eq(limit)))
+			.thenReturn(List.of(matches.get(2)));
+		var pages = new ArrayList<List<SchedulableMatch>>();
+
+		var loaded = matchService.getMatchesForScheduling(1, 2, pages::add);
+
+		assertThat(loaded).isEqualTo(3);
+		assertThat(pages).containsExactly(List.of(matches.get(0), matches.get(1)), List.of(matches.get(2)));
+	}
 
-		var returnedMatches = matchService.getMatchesForScheduling(offset);
-		assertThat(returnedMatches).containsAll(matches);
+	@Test
+	void getMatchesForScheduling_fullLastPage_nextPageEmpty() {
+		var matches = MatchTestData.getRandomMatches().stream().limit(2).toList();
+		Mockito.when(matchRepository.getMatchesForScheduling(Mockito.any(), Mockito.any()))
+			.thenReturn(List.<SchedulableMatch>copyOf(matches));
+		var pages = new ArrayList<List<SchedulableMatch>>();
+
+		var loaded = matchService.getMatchesForScheduling(1, 2, pages::add);
+
+		assertThat(loaded).isEqualTo(2);
+		assertThat(pages).hasSize(1);
+		Mockito.verify(matchRepository, Mockito.times(1))
+			.getMatchesForSchedulingAfter(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	void getMatchPage_noCursor_firstPageLoaded() {
+		var competitionUUID = UUID.randomUUID();
+		var filter = new MatchFilter(UUID.randomUUID(), OffsetDateTime.now(), null, false);
+		List<MatchListItem> items = List.of();
+		Mockito
+			.when(matchRepository.getMatchPage(competitionUUID, filter.teamUUID(), filter.from(), null, false,
+					Limit.of(10)))
+			.thenReturn(items);
+
+		assertThat(matchService.getMatchPage(competitionUUID, null, filter, 10)).isSameAs(items);
+		Mockito.verify(matchRepository, Mockito.never())
+			.getMatchPageAfter(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
+					Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	void getMatchPage_cursor_pageAfterCursorLoaded() {
+		var competitionUUID = UUID.randomUUID();
+		var cursor = new MatchCursor(OffsetDateTime.now(), UUID.randomUUID());
+		List<MatchListItem> items = List.of();
+		Mockito
+			.when(matchRepository.getMatchPageAfter(competitionUUID, cursor.startAt(), cursor.guid(), null, null, null,
+					null, Limit.of(10)))
+			.thenReturn(items);
+
+		assertThat(matchService.getMatchPage(competitionUUID, cursor, MatchFilter.NONE, 10)).isSameAs(items);
+		Mockito.verify(matchRepository, Mockito.never())
+			.getMatchPage(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
 	}
 
 	@Test
@@ -269,10 +354,47 @@ class MatchServiceTest {
 		var offset = match.getStartAt().getOffset();
 		match.setEndAt(OffsetDateTime.now().withOffsetSameInstant(offset));
 
+		Mockito.when(matchRepository.findLockedByGuid(match.getGuid())).thenReturn(Optional.of(match));
+		Mockito.when(matchRepository.save(match)).thenReturn(match);
+
 		matchService.publishResult(result, match);
 
+		Mockito.verify(standingsService, Mockito.times(1)).recordResult(match, result);
 		Mockito.verify(resultRepository, Mockito.times(1)).save(result);
 		Mockito.verify(matchRepository, Mockito.times(1)).save(match);
+		Mockito.verify(matchMessageResolver, Mockito.times(1)).sendMatchEndedTopic(match);
+	}
+
+	@Test
+	void publishResult_resultAlreadyPublished_newResultIgnored() {
+		var match = MatchTestData.getRandomMatches().stream().toList().getFirst();
+		var previousResult = MatchTestData.getResult(match.getGuid());
+		var result = MatchTestData.getResult(match.getGuid());
+		match.setResult(previousResult);
+		Mockito.when(matchRepository.findLockedByGuid(match.getGuid())).thenReturn(Optional.of(match));
+
+		var publishedMatch = matchService.publishResult(result, match);
+
+		assertThat(publishedMatch.getResult()).isSameAs(previousResult);
+		Mockito.verify(standingsService, Mockito.never()).recordResult(Mockito.any(), Mockito.any());
+		Mockito.verify(resultRepository, Mockito.never()).save(Mockito.any());
+		Mockito.verify(matchMessageResolver, Mockito.never()).sendMatchEndedTopic(Mockito.any());
+	}
+
+	@Test
+	void publishResult_deletedMatch_throwsException() {
+		var match = MatchTestData.getRandomMatches().stream().toList().getFirst();
+		var result = MatchTestData.getResult(match.getGuid());
+		Mockito.when(matchRepository.findLockedByGuid(match.getGuid())).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> matchService.publishResult(result, match))
+			.isInstanceOf(ResourceNotFoundException.class);
+
+		Mockito.verify(resultRepository, Mockito.never()).save(Mockito.any());
+	}
+
+	private static RoundRobinSchedule getSchedule(Set<CompetitionHasTeam> teams) {
+		return new RoundRobinSchedule(teams.stream().map(CompetitionHasTeam::getTeamUid).toList(), 1);
 	}
 
-}
\ No newline at end of file
+}
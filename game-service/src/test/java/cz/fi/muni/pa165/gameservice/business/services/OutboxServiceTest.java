@@ -0,0 +1,134 @@
+package cz.fi.muni.pa165.gameservice.business.services;
+
+import cz.fi.muni.pa165.dto.gameservice.ResultViewDto;
+import cz.fi.muni.pa165.gameservice.api.exception.ValueIsMissingException;
+import cz.fi.muni.pa165.gameservice.persistence.entities.OutboxMessage;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.OutboxMessageRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+	@Mock
+	OutboxMessageRepository outboxMessageRepository;
+
+	@InjectMocks
+	OutboxService outboxService;
+
+	@Test
+	void enqueue_nullPayload_throwsException() {
+		assertThatThrownBy(() -> outboxService.enqueue("queue", null)).isInstanceOf(ValueIsMissingException.class)
+			.hasMessage("Please provide payload of the message");
+
+		Mockito.verify(outboxMessageRepository, Mockito.never()).save(Mockito.any());
+	}
+
+	@Test
+	void enqueue_validPayload_storedAsJson() {
+		var winner = UUID.randomUUID();
+		var payload = ResultViewDto.builder().winnerTeam(winner).scoreHomeTeam(3).scoreAwayTeam(1).build();
+
+		outboxService.enqueue("queue", payload);
+
+		var captor = ArgumentCaptor.forClass(OutboxMessage.class);
+		Mockito.verify(outboxMessageRepository, Mockito.times(1)).save(captor.capture());
+		var message = captor.getValue();
+		assertThat(message.getDestination()).isEqualTo("queue");
+		assertThat(message.getPayloadType()).isEqualTo(ResultViewDto.class.getName());
+		assertThat(message.getPayload()).contains(winner.toString()).contains("\"scoreHomeTeam\":3");
+		assertThat(message.getCreatedAt()).isNotNull();
+	}
+
+	@Test
+	void enqueue_groupId_storedWithMessage() {
+		outboxService.enqueue("queue", "payload", "team-1");
+
+		var captor = ArgumentCaptor.forClass(OutboxMessage.class);
+		Mockito.verify(outboxMessageRepository, Mockito.times(1)).save(captor.capture());
+		assertThat(captor.getValue().getGroupId()).isEqualTo("team-1");
+	}
+
+	@Test
+	void readPayload_enqueuedPayload_readBackIntoItsType() {
+		var payload = ResultViewDto.builder().winnerTeam(UUID.randomUUID()).scoreHomeTeam(3).scoreAwayTeam(1).build();
+		outboxService.enqueue("queue", payload);
+		var captor = ArgumentCaptor.forClass(OutboxMessage.class);
+		Mockito.verify(outboxMessageRepository, Mockito.times(1)).save(captor.capture());
+
+		var readPayload = outboxService.readPayload(captor.getValue());
+
+		assertThat(readPayload).isEqualTo(payload);
+	}
+
+	@Test
+	void readPayload_unknownPayloadType_throwsException() {
+		var message = getMessage(1);
+		message.setPayloadType("cz.fi.muni.pa165.Unknown");
+
+		assertThatThrownBy(() -> outboxService.readPayload(message)).isInstanceOf(IllegalStateException.class)
+			.hasMessage("Payload of the outbox message 1 can't be read");
+	}
+
+	@Test
+	void relayBatch_emptyOutbox_senderNotCalled() {
+		Mockito.when(outboxMessageRepository.findOldest(Limit.of(10))).thenReturn(List.of());
+		var sent = new ArrayList<OutboxMessage>();
+
+		var relayed = outboxService.relayBatch(10, sent::addAll);
+
+		assertThat(relayed).isZero();
+		assertThat(sent).isEmpty();
+		Mockito.verify(outboxMessageRepository, Mockito.never()).deleteAllInBatch(Mockito.any());
+	}
+
+	@Test
+	void relayBatch_messagesWaiting_sentAndDeleted() {
+		var batch = List.of(getMessage(1), getMessage(2));
+		Mockito.when(outboxMessageRepository.findOldest(Limit.of(10))).thenReturn(batch);
+		var sent = new ArrayList<OutboxMessage>();
+
+		var relayed = outboxService.relayBatch(10, sent::addAll);
+
+		assertThat(relayed).isEqualTo(2);
+		assertThat(sent).isEqualTo(batch);
+		Mockito.verify(outboxMessageRepository, Mockito.times(1)).deleteAllInBatch(batch);
+	}
+
+	@Test
+	void relayBatch_senderFails_messagesKept() {
+		var batch = List.of(getMessage(1));
+		Mockito.when(outboxMessageRepository.findOldest(Limit.of(10))).thenReturn(batch);
+
+		assertThatThrownBy(() -> outboxService.relayBatch(10, messages -> {
+			throw new IllegalStateException("Broker is not available");
+		})).isInstanceOf(IllegalStateException.class);
+
+		Mockito.verify(outboxMessageRepository, Mockito.never()).deleteAllInBatch(Mockito.any());
+	}
+
+	private static OutboxMessage getMessage(long id) {
+		return OutboxMessage.builder()
+			.id(id)
+			.destination("queue")
+			.payloadType(String.class.getName())
+			.payload("\"message\"")
+			.createdAt(OffsetDateTime.now())
+			.build();
+	}
+
+}
@@ -0,0 +1,114 @@
+package cz.fi.muni.pa165.gameservice.business.services;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoundRobinScheduleTest {
+
+	@Test
+	void constructor_oneTeam_throwsException() {
+		assertThatThrownBy(() -> new RoundRobinSchedule(getTeams(1), 1)).isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Cannot generate combinations for number of team lower than 2");
+	}
+
+	@Test
+	void constructor_doublesLowerThan1_throwsException() {
+		assertThatThrownBy(() -> new RoundRobinSchedule(getTeams(4), 0)).isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Number of doubles cannot be lower than 1");
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "2, 1", "4, 1", "5, 1", "10, 2", "11, 3" })
+	void iterator_anyTeams_everyPairPlaysOncePerDouble(int numberOfTeams, int numberOfDoubles) {
+		var teams = getTeams(numberOfTeams);
+		var schedule = new RoundRobinSchedule(teams, numberOfDoubles);
+
+		var pairings = new HashMap<Set<UUID>, Integer>();
+		var rounds = 0;
+		for (var round : schedule) {
+			assertThat(round).hasSize(numberOfTeams / 2);
+			for (var pair : round) {
+				assertThat(pair.getLeft()).isNotEqualTo(pair.getRight());
+				pairings.merge(Set.of(pair.getLeft(), pair.getRight()), 1, Integer::sum);
+			}
+			rounds++;
+		}
+
+		assertThat(rounds).isEqualTo(schedule.getNumberOfRounds());
+		assertThat(pairings).hasSize(numberOfTeams * (numberOfTeams - 1) / 2);
+		assertThat(pairings.values()).containsOnly(numberOfDoubles);
+		assertThat(schedule.getNumberOfMatches()).isEqualTo((long) pairings.size() * numberOfDoubles);
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "4", "7", "20" })
+	void iterator_anyTeams_teamPlaysAtMostOncePerRound(int numberOfTeams) {
+		var schedule = new RoundRobinSchedule(getTeams(numberOfTeams), 2);
+
+		for (var round : schedule) {
+			var playingTeams = new HashSet<UUID>();
+			for (var pair : round) {
+				assertThat(playingTeams.add(pair.getLeft())).isTrue();
+				assertThat(playingTeams.add(pair.getRight())).isTrue();
+			}
+		}
+	}
+
+	@Test
+	void iterator_twoDoubles_homeAndAwaySwitched() {
+		var teams = getTeams(6);
+		var schedule = new RoundRobinSchedule(teams, 2);
+
+		var homeMatches = new HashMap<Pair<UUID, UUID>, Integer>();
+		schedule.forEach(round -> round.forEach(pair -> homeMatches.merge(pair, 1, Integer::sum)));
+
+		assertThat(homeMatches).hasSize(teams.size() * (teams.size() - 1));
+		assertThat(homeMatches.values()).containsOnly(1);
+	}
+
+	@Test
+	void iterator_evenTeams_homeMatchesBalanced() {
+		var teams = getTeams(8);
+		var schedule = new RoundRobinSchedule(teams, 1);
+
+		Map<UUID, Integer> homeMatches = new HashMap<>();
+		schedule.forEach(round -> round.forEach(pair -> homeMatches.merge(pair.getLeft(), 1, Integer::sum)));
+
+		// Every team plays 7 matches, so 3 or 4 of them at home
+		assertThat(homeMatches.values()).allSatisfy(count -> assertThat(count).isBetween(3, 4));
+	}
+
+	@Test
+	void getRound_outOfRange_throwsException() {
+		var schedule = new RoundRobinSchedule(getTeams(4), 1);
+
+		assertThatThrownBy(() -> schedule.getRound(schedule.getNumberOfRounds()))
+			.isInstanceOf(IndexOutOfBoundsException.class);
+	}
+
+	@Test
+	void getRound_sameRoundTwice_sameMatches() {
+		var schedule = new RoundRobinSchedule(getTeams(9), 1);
+
+		assertThat(schedule.getRound(3)).isEqualTo(schedule.getRound(3));
+	}
+
+	private static List<UUID> getTeams(int numberOfTeams) {
+		return new ArrayList<>(IntStream.range(0, numberOfTeams).mapToObj(i -> UUID.randomUUID()).toList());
+	}
+
+}
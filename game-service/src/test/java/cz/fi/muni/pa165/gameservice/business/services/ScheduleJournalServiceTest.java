@@ -0,0 +1,142 @@
+package cz.fi.muni.pa165.gameservice.business.services;
+
+import cz.fi.muni.pa165.gameservice.api.exception.ValueIsMissingException;
+import cz.fi.muni.pa165.gameservice.config.SchedulingConfiguration;
+import cz.fi.muni.pa165.gameservice.config.ShardingConfiguration;
+import cz.fi.muni.pa165.gameservice.persistence.entities.ScheduledTask;
+import cz.fi.muni.pa165.gameservice.persistence.entities.ScheduledTaskState;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.ScheduledTaskRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleJournalServiceTest {
+
+	@Mock
+	ScheduledTaskRepository scheduledTaskRepository;
+
+	@Mock
+	ShardingConfiguration shardingConfiguration;
+
+	@Mock
+	SchedulingConfiguration schedulingConfiguration;
+
+	@InjectMocks
+	ScheduleJournalService scheduleJournalService;
+
+	@Test
+	void recordScheduled_nullStartAt_throwsException() {
+		assertThatThrownBy(() -> scheduleJournalService.recordScheduled(UUID.randomUUID(), null))
+			.isInstanceOf(ValueIsMissingException.class)
+			.hasMessage("Please provide startAt time of the scheduled task");
+	}
+
+	@Test
+	void recordScheduled_newTask_taskInserted() {
+		var taskGuid = UUID.randomUUID();
+		var startAt = OffsetDateTime.now();
+		Mockito.when(scheduledTaskRepository.updateStartAt(Mockito.eq(taskGuid), Mockito.eq(startAt), Mockito.any()))
+			.thenReturn(0);
+		Mockito.when(scheduledTaskRepository.existsById(taskGuid)).thenReturn(false);
+
+		scheduleJournalService.recordScheduled(taskGuid, startAt);
+
+		var captor = ArgumentCaptor.forClass(ScheduledTask.class);
+		Mockito.verify(scheduledTaskRepository, Mockito.times(1)).save(captor.capture());
+		assertThat(captor.getValue().getTaskGuid()).isEqualTo(taskGuid);
+		assertThat(captor.getValue().getStartAt()).isEqualTo(startAt);
+		assertThat(captor.getValue().getState()).isEqualTo(ScheduledTaskState.SCHEDULED);
+	}
+
+	@Test
+	void recordScheduled_scheduledTask_startMovedWithoutInsert() {
+		var taskGuid = UUID.randomUUID();
+		Mockito.when(scheduledTaskRepository.updateStartAt(Mockito.eq(taskGuid), Mockito.any(), Mockito.any()))
+			.thenReturn(1);
+
+		scheduleJournalService.recordScheduled(taskGuid, OffsetDateTime.now());
+
+		Mockito.verify(scheduledTaskRepository, Mockito.never()).save(Mockito.any());
+	}
+
+	@Test
+	void recordScheduled_runningOrFinishedTask_taskNotReset() {
+		var taskGuid = UUID.randomUUID();
+		Mockito.when(scheduledTaskRepository.updateStartAt(Mockito.eq(taskGuid), Mockito.any(), Mockito.any()))
+			.thenReturn(0);
+		Mockito.when(scheduledTaskRepository.existsById(taskGuid)).thenReturn(true);
+
+		scheduleJournalService.recordScheduled(taskGuid, OffsetDateTime.now());
+
+		Mockito.verify(scheduledTaskRepository, Mockito.never()).save(Mockito.any());
+	}
+
+	@Test
+	void recordStarted_taskClaimed_returnsTrue() {
+		var taskGuid = UUID.randomUUID();
+		Mockito.when(shardingConfiguration.getLeaseDuration()).thenReturn(30);
+		Mockito.when(scheduledTaskRepository.claim(Mockito.eq(taskGuid), Mockito.any(), Mockito.any())).thenReturn(1);
+
+		assertThat(scheduleJournalService.recordStarted(taskGuid)).isTrue();
+	}
+
+	@Test
+	void recordStarted_taskRunningElsewhere_returnsFalse() {
+		var taskGuid = UUID.randomUUID();
+		Mockito.when(shardingConfiguration.getLeaseDuration()).thenReturn(30);
+		Mockito.when(scheduledTaskRepository.claim(Mockito.eq(taskGuid), Mockito.any(), Mockito.any())).thenReturn(0);
+		Mockito.when(scheduledTaskRepository.existsById(taskGuid)).thenReturn(true);
+
+		assertThat(scheduleJournalService.recordStarted(taskGuid)).isFalse();
+	}
+
+	@Test
+	void getPendingTasks_leaseDuration_runningTasksOlderThanLeaseRequested() {
+		Mockito.when(shardingConfiguration.getLeaseDuration()).thenReturn(30);
+		var before = OffsetDateTime.now().minusSeconds(30);
+
+		scheduleJournalService.getPendingTasks();
+
+		var captor = ArgumentCaptor.forClass(OffsetDateTime.class);
+		Mockito.verify(scheduledTaskRepository, Mockito.times(1)).findPending(captor.capture());
+		assertThat(captor.getValue()).isBetween(before, OffsetDateTime.now().minusSeconds(30));
+	}
+
+	@Test
+	void recordFinished_pendingTask_markedFinished() {
+		var taskGuid = UUID.randomUUID();
+
+		scheduleJournalService.recordFinished(taskGuid);
+
+		Mockito.verify(scheduledTaskRepository, Mockito.times(1))
+			.updateState(Mockito.eq(taskGuid),
+					Mockito.eq(Set.of(ScheduledTaskState.SCHEDULED, ScheduledTaskState.RUNNING)),
+					Mockito.eq(ScheduledTaskState.FINISHED), Mockito.any());
+		Mockito.verify(scheduledTaskRepository, Mockito.never()).deleteById(Mockito.any());
+	}
+
+	@Test
+	void purgeFinished_retention_tasksFinishedBeforeRetentionRemoved() {
+		Mockito.when(schedulingConfiguration.getJournalRetention()).thenReturn(24);
+		var before = OffsetDateTime.now().minusHours(24);
+
+		scheduleJournalService.purgeFinished();
+
+		var captor = ArgumentCaptor.forClass(OffsetDateTime.class);
+		Mockito.verify(scheduledTaskRepository, Mockito.times(1)).deleteFinishedBefore(captor.capture());
+		assertThat(captor.getValue()).isBetween(before, OffsetDateTime.now().minusHours(24));
+	}
+
+}
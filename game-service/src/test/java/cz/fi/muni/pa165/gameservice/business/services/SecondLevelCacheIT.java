@@ -0,0 +1,130 @@
+package cz.fi.muni.pa165.gameservice.business.services;
+
+import cz.fi.muni.pa165.gameservice.config.DisableSecurityTestConfig;
+import cz.fi.muni.pa165.gameservice.config.QueryCountTestConfig;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Arena;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.ArenaRepository;
+import cz.fi.muni.pa165.gameservice.testdata.ArenaTestData;
+import cz.fi.muni.pa165.gameservice.utils.QueryCounter;
+import cz.fi.muni.pa165.persistence.SecondLevelCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import javax.cache.CacheManager;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reads of the arenas are served by the second-level cache and the writes evict it. Tests
+ * are not transactional, each repository call runs in its own session. They use their own
+ * database, so the data they write and seed don't leak to the other tests. The cache is
+ * opt-in, so it is enabled here explicitly.
+ */
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:second-level-cache;DB_CLOSE_DELAY=-1",
+		"cache.second-level.enabled=true" })
+@Import({ DisableSecurityTestConfig.class, QueryCountTestConfig.class })
+class SecondLevelCacheIT {
+
+	@Autowired
+	ArenaService arenaService;
+
+	@Autowired
+	ArenaRepository arenaRepository;
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	CacheManager secondLevelCacheManager;
+
+	@Autowired
+	SecondLevelCacheProperties secondLevelCacheProperties;
+
+	private final List<UUID> createdArenas = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		arenaRepository.deleteAllById(createdArenas);
+	}
+
+	@Test
+	void findAllArenas_repeated_servedFromCache() {
+		var arenas = arenaService.findAllArenas();
+		QueryCounter.reset();
+
+		var cachedArenas = arenaService.findAllArenas();
+
+		assertThat(QueryCounter.count()).as("Statements issued by the cached query").isZero();
+		assertThat(cachedArenas).extracting(Arena::getGuid)
+			.containsExactlyInAnyOrderElementsOf(arenas.stream().map(Arena::getGuid).toList());
+	}
+
+	@Test
+	void findAllArenas_arenaCreated_containsNewArena() {
+		arenaService.findAllArenas();
+
+		var arena = createArena();
+
+		assertThat(arenaService.findAllArenas()).extracting(Arena::getGuid).contains(arena.getGuid());
+	}
+
+	@Test
+	void findById_arenaUpdated_returnsUpdatedArena() {
+		var arena = createArena();
+		arenaRepository.findById(arena.getGuid());
+
+		arena.setArenaName("Tipsport Arena");
+		arenaService.updateArena(arena);
+
+		assertThat(arenaRepository.findById(arena.getGuid())).get()
+			.extracting(Arena::getArenaName)
+			.isEqualTo("Tipsport Arena");
+	}
+
+	@Test
+	void findById_repeated_hitRatioExported() {
+		var arena = createArena();
+		arenaRepository.findById(arena.getGuid());
+		QueryCounter.reset();
+
+		arenaRepository.findById(arena.getGuid());
+
+		assertThat(QueryCounter.count()).as("Statements issued by the cached lookup").isZero();
+		var hitRatio = meterRegistry.get("hibernate.second.level.cache.hit.ratio").tag("region", "arena").gauge();
+		assertThat(hitRatio.value()).isPositive();
+	}
+
+	@Test
+	void regions_usedByHibernate_onlyConfiguredRegionsExist() {
+		var sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		var configuredRegions = new HashSet<>(secondLevelCacheProperties.getRegions().keySet());
+		configuredRegions.add(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+
+		assertThat(sessionFactory.getCache().getRegionFactory()).isInstanceOfSatisfying(JCacheRegionFactory.class,
+				regionFactory -> assertThat(regionFactory.getCacheManager()).isSameAs(secondLevelCacheManager));
+		assertThat(secondLevelCacheManager.getCacheNames()).containsExactlyInAnyOrderElementsOf(configuredRegions);
+		assertThat(sessionFactory.getCache().getCacheRegionNames()).isSubsetOf(configuredRegions);
+	}
+
+	private Arena createArena() {
+		var arena = arenaService.createArena(ArenaTestData.getArena());
+		createdArenas.add(arena.getGuid());
+		return arena;
+	}
+
+}
@@ -0,0 +1,81 @@
+package cz.fi.muni.pa165.gameservice.business.services;
+
+import cz.fi.muni.pa165.gameservice.config.TeamStrengthCacheConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeamStrengthCacheTest {
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private TeamStrengthCache teamStrengthCache;
+
+	@BeforeEach
+	void setup() {
+		var configuration = new TeamStrengthCacheConfiguration();
+		configuration.setMaximumSize(100);
+		configuration.setExpireAfterWrite(60);
+		meterRegistry = new SimpleMeterRegistry();
+		teamStrengthCache = new TeamStrengthCache(configuration, meterRegistry);
+	}
+
+	@Test
+	void get_cachedTeam_returnsStrength() {
+		var teamId = UUID.randomUUID();
+
+		teamStrengthCache.put(teamId, 42);
+
+		assertThat(teamStrengthCache.get(teamId)).contains(42.0);
+	}
+
+	@Test
+	void get_invalidatedTeam_returnsEmpty() {
+		var teamId = UUID.randomUUID();
+		teamStrengthCache.put(teamId, 42);
+
+		teamStrengthCache.invalidate(teamId);
+
+		assertThat(teamStrengthCache.get(teamId)).isEmpty();
+	}
+
+	@Test
+	void getAll_partiallyCached_returnsOnlyCachedTeams() {
+		var cachedTeam = UUID.randomUUID();
+		var missingTeam = UUID.randomUUID();
+		teamStrengthCache.put(cachedTeam, 42);
+
+		var result = teamStrengthCache.getAll(Set.of(cachedTeam, missingTeam));
+
+		assertThat(result).containsOnlyKeys(cachedTeam);
+	}
+
+	@Test
+	void get_hitAndMiss_countersExported() {
+		var teamId = UUID.randomUUID();
+		teamStrengthCache.put(teamId, 42);
+
+		teamStrengthCache.get(teamId);
+		teamStrengthCache.get(UUID.randomUUID());
+		teamStrengthCache.get(UUID.randomUUID());
+
+		assertThat(cacheGets("hit")).isEqualTo(1);
+		assertThat(cacheGets("miss")).isEqualTo(2);
+		assertThat(meterRegistry.find("cache.evictions").tag("cache", TeamStrengthCache.CACHE_NAME).meter())
+			.isNotNull();
+	}
+
+	private double cacheGets(String result) {
+		return meterRegistry.get("cache.gets")
+			.tag("cache", TeamStrengthCache.CACHE_NAME)
+			.tag("result", result)
+			.functionCounter()
+			.count();
+	}
+
+}
@@ -0,0 +1,115 @@
+package cz.fi.muni.pa165.gameservice.business.services.feed;
+
+import cz.fi.muni.pa165.dto.gameservice.MatchEventDto;
+import cz.fi.muni.pa165.enums.MatchEventType;
+import cz.fi.muni.pa165.gameservice.api.exception.ResourceNotFoundException;
+import cz.fi.muni.pa165.gameservice.business.services.simulation.MatchScoreListener;
+import cz.fi.muni.pa165.gameservice.business.services.simulation.MatchSimulationEngine;
+import cz.fi.muni.pa165.gameservice.config.MatchFeedConfiguration;
+import cz.fi.muni.pa165.gameservice.testdata.MatchTestData;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchFeedServiceTest {
+
+	private MatchSimulationEngine matchSimulationEngine;
+
+	private MatchFeedService matchFeedService;
+
+	@BeforeEach
+	void setup() {
+		var configuration = new MatchFeedConfiguration();
+		configuration.setRingSize(4);
+		configuration.setHeartbeatInterval(1);
+		configuration.setTimeout(1);
+		matchSimulationEngine = Mockito.mock(MatchSimulationEngine.class);
+		matchFeedService = new MatchFeedService(configuration, matchSimulationEngine);
+	}
+
+	@AfterEach
+	void tearDown() {
+		matchFeedService.stop();
+	}
+
+	@Test
+	void constructor_ringSizeNotPowerOfTwo_throwsException() {
+		var configuration = new MatchFeedConfiguration();
+		configuration.setRingSize(100);
+		configuration.setHeartbeatInterval(1);
+
+		assertThatThrownBy(() -> new MatchFeedService(configuration, matchSimulationEngine))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Size of the feed ring must be a power of two");
+	}
+
+	@Test
+	void publish_noSubscribers_noFeedCreated() {
+		matchFeedService.publish(UUID.randomUUID(), MatchEventType.SCORE, 1, 0);
+
+		assertThat(matchFeedService.getActiveFeeds()).isZero();
+	}
+
+	@Test
+	void subscribe_matchEnded_feedReleased() {
+		var matchGuid = UUID.randomUUID();
+
+		matchFeedService.subscribe(matchGuid, () -> getState(matchGuid, MatchEventType.SCHEDULED));
+		matchFeedService.subscribe(matchGuid, () -> getState(matchGuid, MatchEventType.SCHEDULED));
+		assertThat(matchFeedService.getActiveFeeds()).isEqualTo(1);
+
+		matchFeedService.publish(matchGuid, MatchEventType.ENDED, 2, 1);
+
+		Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> matchFeedService.getActiveFeeds() == 0);
+	}
+
+	@Test
+	void subscribe_alreadyEndedMatch_feedReleased() {
+		var matchGuid = UUID.randomUUID();
+
+		matchFeedService.subscribe(matchGuid, () -> getState(matchGuid, MatchEventType.ENDED));
+
+		Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> matchFeedService.getActiveFeeds() == 0);
+	}
+
+	@Test
+	void subscribe_unknownMatch_throwsExceptionAndReleasesFeed() {
+		var matchGuid = UUID.randomUUID();
+
+		assertThatThrownBy(() -> matchFeedService.subscribe(matchGuid, () -> {
+			throw new ResourceNotFoundException("Match with UUID %s was not found".formatted(matchGuid));
+		})).isInstanceOf(ResourceNotFoundException.class);
+
+		assertThat(matchFeedService.getActiveFeeds()).isZero();
+	}
+
+	@Test
+	void scoreListener_goalScored_publishedToFeed() throws Exception {
+		var captor = ArgumentCaptor.forClass(MatchScoreListener.class);
+		Mockito.verify(matchSimulationEngine).setScoreListener(captor.capture());
+		var match = MatchTestData.getRandomMatches().stream().findAny().orElseThrow();
+		matchFeedService.subscribe(match.getGuid(), () -> getState(match.getGuid(), MatchEventType.STARTED));
+
+		captor.getValue().onScoreChanged(match, 1, 0);
+		captor.getValue().onScoreChanged(match, 1, 1);
+
+		var feed = matchFeedService.getFeed(match.getGuid());
+		assertThat(feed.nextSequence()).isEqualTo(2);
+		assertThat(feed.await(1, 0).getType()).isEqualTo(MatchEventType.SCORE);
+		assertThat(feed.await(1, 0).getScoreAwayTeam()).isEqualTo(1);
+	}
+
+	private static MatchEventDto getState(UUID matchGuid, MatchEventType type) {
+		return MatchEventDto.builder().sequence(-1).matchGuid(matchGuid).type(type).build();
+	}
+
+}
@@ -0,0 +1,72 @@
+package cz.fi.muni.pa165.gameservice.business.services.feed;
+
+import cz.fi.muni.pa165.enums.MatchEventType;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchFeedTest {
+
+	private static final int CAPACITY = 4;
+
+	private final MatchFeed matchFeed = new MatchFeed(UUID.randomUUID(), CAPACITY);
+
+	@Test
+	void constructor_capacityNotPowerOfTwo_throwsException() {
+		assertThatThrownBy(() -> new MatchFeed(UUID.randomUUID(), 3)).isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Capacity of the feed must be a power of two");
+	}
+
+	@Test
+	void publish_manySubscribers_eventWrittenOnce() throws Exception {
+		matchFeed.publish(MatchEventType.SCORE, 1, 0);
+
+		var first = matchFeed.await(0, 0);
+		var second = matchFeed.await(0, 0);
+
+		assertThat(first).isSameAs(second);
+		assertThat(first.getSequence()).isZero();
+		assertThat(first.getMatchGuid()).isEqualTo(matchFeed.getMatchGuid());
+		assertThat(first.getType()).isEqualTo(MatchEventType.SCORE);
+		assertThat(first.getScoreHomeTeam()).isEqualTo(1);
+		assertThat(matchFeed.nextSequence()).isEqualTo(1);
+	}
+
+	@Test
+	void await_notPublished_returnsNullAfterTimeout() throws Exception {
+		assertThat(matchFeed.await(0, TimeUnit.MILLISECONDS.toNanos(10))).isNull();
+	}
+
+	@Test
+	void await_publishedLater_wakesUp() throws Exception {
+		var event = CompletableFuture.supplyAsync(() -> {
+			try {
+				return matchFeed.await(0, TimeUnit.SECONDS.toNanos(5));
+			}
+			catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+
+		matchFeed.publish(MatchEventType.STARTED, 0, 0);
+
+		assertThat(event.get(5, TimeUnit.SECONDS).getType()).isEqualTo(MatchEventType.STARTED);
+	}
+
+	@Test
+	void await_eventOverwritten_throwsOverrun() throws Exception {
+		for (int i = 0; i <= CAPACITY; i++) {
+			matchFeed.publish(MatchEventType.SCORE, i, 0);
+		}
+
+		assertThatThrownBy(() -> matchFeed.await(0, 0)).isInstanceOf(MatchFeed.OverrunException.class);
+		assertThat(matchFeed.await(1, 0).getScoreHomeTeam()).isEqualTo(1);
+		assertThat(matchFeed.await(CAPACITY, 0).getScoreHomeTeam()).isEqualTo(CAPACITY);
+	}
+
+}
@@ -0,0 +1,113 @@
+package cz.fi.muni.pa165.gameservice.business.services.forecast;
+
+import cz.fi.muni.pa165.gameservice.api.exception.ValueIsMissingException;
+import cz.fi.muni.pa165.gameservice.config.ForecastConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class SeasonForecastEngineTest {
+
+	private static final int SIMULATIONS = 20_000;
+
+	private SeasonForecastEngine seasonForecastEngine;
+
+	@BeforeEach
+	void setup() {
+		var configuration = new ForecastConfiguration();
+		configuration.setWorkers(2);
+		seasonForecastEngine = new SeasonForecastEngine(configuration);
+	}
+
+	@AfterEach
+	void tearDown() {
+		seasonForecastEngine.stop();
+	}
+
+	@Test
+	void simulate_nullSeason_throwsException() {
+		assertThatThrownBy(() -> seasonForecastEngine.simulate(null, SIMULATIONS, new SplittableRandom()))
+			.isInstanceOf(ValueIsMissingException.class)
+			.hasMessage("Please provide season to simulate");
+	}
+
+	@Test
+	void simulate_noSimulations_throwsException() {
+		var season = season(new int[] { 0, 0 }, new int[0], new int[0], new double[0], new double[0]);
+
+		assertThatThrownBy(() -> seasonForecastEngine.simulate(season, 0, new SplittableRandom()))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void simulate_noRemainingMatches_finalStandingsCertain() {
+		var season = season(new int[] { 3, 9, 6 }, new int[0], new int[0], new double[0], new double[0]);
+
+		var outcomes = seasonForecastEngine.simulate(season, SIMULATIONS, new SplittableRandom(1));
+
+		assertThat(outcomes.getPositionProbability(1, 0)).isEqualTo(1);
+		assertThat(outcomes.getPositionProbability(2, 1)).isEqualTo(1);
+		assertThat(outcomes.getPositionProbability(0, 2)).isEqualTo(1);
+		assertThat(outcomes.getExpectedPoints(1)).isEqualTo(9);
+	}
+
+	@Test
+	void simulate_homeTeamAlwaysWins_pointsAdded() {
+		var season = season(new int[] { 0, 0 }, new int[] { 0, 0 }, new int[] { 1, 1 }, new double[] { 1, 1 },
+				new double[] { 0, 0 });
+
+		var outcomes = seasonForecastEngine.simulate(season, SIMULATIONS, new SplittableRandom(1));
+
+		assertThat(outcomes.simulations()).isEqualTo(SIMULATIONS);
+		assertThat(outcomes.getExpectedPoints(0)).isEqualTo(2 * SeasonForecastEngine.POINTS_FOR_WIN);
+		assertThat(outcomes.getExpectedPoints(1)).isZero();
+		assertThat(outcomes.getTopProbability(0, 1)).isEqualTo(1);
+	}
+
+	@Test
+	void simulate_equalTeams_positionsEquallyLikely() {
+		// Every match is a draw, all the teams end with the same points
+		var season = season(new int[] { 0, 0, 0, 0 }, new int[] { 0, 2 }, new int[] { 1, 3 }, new double[] { 0, 0 },
+				new double[] { 1, 1 });
+
+		var outcomes = seasonForecastEngine.simulate(season, SIMULATIONS, new SplittableRandom(1));
+
+		for (int team = 0; team < season.getTeams(); team++) {
+			assertThat(outcomes.getExpectedPoints(team)).isEqualTo(SeasonForecastEngine.POINTS_FOR_DRAW);
+			for (int position = 0; position < season.getTeams(); position++) {
+				assertThat(outcomes.getPositionProbability(team, position)).isCloseTo(0.25, within(0.02));
+			}
+		}
+	}
+
+	@Test
+	void simulate_anySeason_positionProbabilitiesSumToOne() {
+		var season = season(new int[] { 1, 0, 4 }, new int[] { 0, 1, 2 }, new int[] { 1, 2, 0 },
+				new double[] { 0.5, 0.3, 0.2 }, new double[] { 0.2, 0.2, 0.3 });
+
+		var outcomes = seasonForecastEngine.simulate(season, SIMULATIONS, new SplittableRandom(1));
+
+		for (int team = 0; team < season.getTeams(); team++) {
+			assertThat(outcomes.getTopProbability(team, season.getTeams())).isEqualTo(1);
+		}
+		for (int position = 0; position < season.getTeams(); position++) {
+			var total = 0.0;
+			for (int team = 0; team < season.getTeams(); team++) {
+				total += outcomes.getPositionProbability(team, position);
+			}
+			assertThat(total).isCloseTo(1, within(1e-9));
+		}
+	}
+
+	private static Season season(int[] points, int[] homeTeams, int[] awayTeams, double[] homeWinProbabilities,
+			double[] drawProbabilities) {
+		return new Season(points, homeTeams, awayTeams, homeWinProbabilities, drawProbabilities);
+	}
+
+}
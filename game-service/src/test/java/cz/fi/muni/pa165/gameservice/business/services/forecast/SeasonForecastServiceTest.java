@@ -0,0 +1,204 @@
+package cz.fi.muni.pa165.gameservice.business.services.forecast;
+
+import cz.fi.muni.pa165.gameservice.api.exception.ResourceNotFoundException;
+import cz.fi.muni.pa165.gameservice.api.exception.ValueIsMissingException;
+import cz.fi.muni.pa165.gameservice.business.services.CompetitionService;
+import cz.fi.muni.pa165.gameservice.business.services.GameService;
+import cz.fi.muni.pa165.gameservice.business.services.MatchService;
+import cz.fi.muni.pa165.gameservice.config.ForecastConfiguration;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Competition;
+import cz.fi.muni.pa165.gameservice.persistence.entities.CompetitionHasTeam;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Match;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Result;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.CompetitionProgress;
+import cz.fi.muni.pa165.gameservice.testdata.CompetitionTestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class SeasonForecastServiceTest {
+
+	private final CompetitionService competitionService = Mockito.mock(CompetitionService.class);
+
+	private final MatchService matchService = Mockito.mock(MatchService.class);
+
+	private final GameService gameService = Mockito.mock(GameService.class);
+
+	private SeasonForecastEngine seasonForecastEngine;
+
+	private SeasonForecastService seasonForecastService;
+
+	private Competition competition;
+
+	private UUID strongTeam;
+
+	private UUID weakTeam;
+
+	@BeforeEach
+	void setup() {
+		var configuration = new ForecastConfiguration();
+		configuration.setSimulations(10_000);
+		configuration.setPlayoffSpots(1);
+		configuration.setWorkers(2);
+		configuration.setCacheMaximumSize(10);
+		configuration.setCacheExpireAfterWrite(3600);
+		seasonForecastEngine = Mockito.spy(new SeasonForecastEngine(configuration));
+		seasonForecastService = new SeasonForecastService(competitionService, matchService, gameService,
+				seasonForecastEngine, configuration);
+
+		competition = CompetitionTestData.getCompetitionEntity();
+		strongTeam = UUID.randomUUID();
+		weakTeam = UUID.randomUUID();
+		competition.getTeams().add(new CompetitionHasTeam(strongTeam, competition));
+		competition.getTeams().add(new CompetitionHasTeam(weakTeam, competition));
+		Mockito.when(competitionService.getCompetition(competition.getGuid())).thenReturn(competition);
+		Mockito.when(gameService.prefetchTeamStrengths(Mockito.anyList()))
+			.thenReturn(Map.of(strongTeam, 100.0, weakTeam, 0.0));
+	}
+
+	@AfterEach
+	void tearDown() {
+		seasonForecastEngine.stop();
+	}
+
+	@Test
+	void getForecast_nullUUID_throwsException() {
+		assertThatThrownBy(() -> seasonForecastService.getForecast(null)).isInstanceOf(ValueIsMissingException.class)
+			.hasMessage("Please provide competition UUID");
+	}
+
+	@Test
+	void getForecast_competitionNotExist_throwsException() {
+		var competitionUUID = UUID.randomUUID();
+		Mockito.when(competitionService.getCompetition(competitionUUID))
+			.thenThrow(new ResourceNotFoundException("Competition not found"));
+
+		assertThatThrownBy(() -> seasonForecastService.getForecast(competitionUUID))
+			.isInstanceOf(ResourceNotFoundException.class);
+		Mockito.verifyNoInteractions(seasonForecastEngine);
+	}
+
+	@Test
+	void getForecast_strongerTeam_favourite() {
+		givenMatches(List.of(match(strongTeam, weakTeam), match(weakTeam, strongTeam)));
+
+		var forecast = seasonForecastService.getForecast(competition.getGuid());
+
+		assertThat(forecast.remainingMatches()).isEqualTo(2);
+		assertThat(forecast.teams()).hasSize(2);
+		var favourite = forecast.teams().getFirst();
+		assertThat(favourite.teamUid()).isEqualTo(strongTeam);
+		assertThat(favourite.titleProbability()).isGreaterThan(0.99);
+		assertThat(favourite.playoffProbability()).isEqualTo(favourite.titleProbability());
+		assertThat(favourite.positionProbabilities()).hasSize(2);
+		assertThat(favourite.expectedPoints()).isCloseTo(6, within(0.1));
+	}
+
+	@Test
+	void getForecast_playedMatches_pointsCounted() {
+		var played = match(weakTeam, strongTeam);
+		played.setResult(Result.builder().matchGuid(played.getGuid()).winnerTeam(weakTeam).build());
+		givenMatches(List.of(played));
+
+		var forecast = seasonForecastService.getForecast(competition.getGuid());
+
+		assertThat(forecast.playedMatches()).isEqualTo(1);
+		assertThat(forecast.remainingMatches()).isZero();
+		assertThat(forecast.teams().getFirst().teamUid()).isEqualTo(weakTeam);
+		assertThat(forecast.teams().getFirst().titleProbability()).isEqualTo(1);
+		Mockito.verifyNoInteractions(gameService);
+	}
+
+	@Test
+	void getForecast_noNewResult_cachedForecastReturned() {
+		givenMatches(List.of(match(strongTeam, weakTeam)));
+
+		var first = seasonForecastService.getForecast(competition.getGuid());
+		var second = seasonForecastService.getForecast(competition.getGuid());
+
+		assertThat(second).isSameAs(first);
+		Mockito.verify(seasonForecastEngine, Mockito.times(1)).simulate(Mockito.any(), Mockito.anyInt(), Mockito.any());
+	}
+
+	@Test
+	void getForecast_newResultPublished_forecastRecomputed() {
+		var matches = new ArrayList<>(List.of(match(strongTeam, weakTeam), match(weakTeam, strongTeam)));
+		givenMatches(matches);
+
+		var first = seasonForecastService.getForecast(competition.getGuid());
+		matches.getFirst()
+			.setResult(Result.builder().matchGuid(matches.getFirst().getGuid()).winnerTeam(strongTeam).build());
+		var second = seasonForecastService.getForecast(competition.getGuid());
+
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.playedMatches()).isEqualTo(1);
+		Mockito.verify(seasonForecastEngine, Mockito.times(2)).simulate(Mockito.any(), Mockito.anyInt(), Mockito.any());
+	}
+
+	@Test
+	void getForecast_concurrentRequests_forecastComputedOnce() throws Exception {
+		givenMatches(List.of(match(strongTeam, weakTeam), match(weakTeam, strongTeam)));
+		var executor = Executors.newFixedThreadPool(4);
+		try {
+			var requests = IntStream.range(0, 8)
+				.mapToObj(i -> executor.submit(() -> seasonForecastService.getForecast(competition.getGuid())))
+				.toList();
+			var first = requests.getFirst().get();
+
+			for (var request : requests) {
+				assertThat(request.get()).isSameAs(first);
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		Mockito.verify(seasonForecastEngine, Mockito.times(1)).simulate(Mockito.any(), Mockito.anyInt(), Mockito.any());
+		Mockito.verify(matchService, Mockito.times(1)).getMatchesOfCompetition(competition.getGuid());
+	}
+
+	@Test
+	void getForecast_forecastFailed_nextRequestComputesAgain() {
+		givenMatches(List.of(match(strongTeam, weakTeam)));
+		Mockito.when(gameService.prefetchTeamStrengths(Mockito.anyList()))
+			.thenThrow(new IllegalStateException("Team service failed"))
+			.thenReturn(Map.of(strongTeam, 100.0, weakTeam, 0.0));
+
+		assertThatThrownBy(() -> seasonForecastService.getForecast(competition.getGuid()))
+			.isInstanceOf(IllegalStateException.class);
+		var forecast = seasonForecastService.getForecast(competition.getGuid());
+
+		assertThat(forecast.remainingMatches()).isEqualTo(1);
+	}
+
+	/**
+	 * Progress of the competition follows the current results of the matches
+	 */
+	private void givenMatches(List<Match> matches) {
+		Mockito.when(matchService.getMatchesOfCompetition(competition.getGuid())).thenReturn(matches);
+		Mockito.when(matchService.getCompetitionProgress(competition.getGuid()))
+			.thenAnswer(invocation -> new CompetitionProgress(matches.size(),
+					matches.stream().filter(match -> match.getResult() != null).count()));
+	}
+
+	private Match match(UUID homeTeam, UUID awayTeam) {
+		return Match.builder()
+			.guid(UUID.randomUUID())
+			.competition(competition)
+			.homeTeamUid(homeTeam)
+			.awayTeamUid(awayTeam)
+			.build();
+	}
+
+}
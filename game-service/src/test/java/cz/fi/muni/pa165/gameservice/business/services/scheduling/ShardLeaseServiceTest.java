@@ -0,0 +1,181 @@
+package cz.fi.muni.pa165.gameservice.business.services.scheduling;
+
+import cz.fi.muni.pa165.gameservice.config.ShardingConfiguration;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.SchedulerLeaseRepository;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.SchedulerNodeRepository;
+import cz.fi.muni.pa165.gameservice.utils.SeededJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Several nodes sharing one database, time is moved manually
+ */
+@SeededJpaTest
+class ShardLeaseServiceTest {
+
+	private static final int SHARDS = 8;
+
+	private static final int LEASE_DURATION = 30;
+
+	@Autowired
+	SchedulerLeaseRepository schedulerLeaseRepository;
+
+	@Autowired
+	SchedulerNodeRepository schedulerNodeRepository;
+
+	private final List<Object> publishedEvents = new ArrayList<>();
+
+	private Instant now;
+
+	@BeforeEach
+	void setup() {
+		now = Instant.parse("2025-01-01T12:00:00Z");
+	}
+
+	@Test
+	void start_singleNode_ownsAllShards() {
+		var node = startNode("node-a");
+
+		assertThat(node.getOwnedShards()).hasSize(SHARDS);
+		assertThat(node.ownsMatch(UUID.randomUUID())).isTrue();
+	}
+
+	@Test
+	void heartbeat_secondNodeJoins_shardsSplitWithoutOverlap() {
+		var first = startNode("node-a");
+		var second = startNode("node-b");
+
+		first.heartbeat();
+		second.heartbeat();
+
+		assertThat(first.getOwnedShards()).hasSize(SHARDS / 2);
+		assertThat(second.getOwnedShards()).hasSize(SHARDS / 2).doesNotContainAnyElementsOf(first.getOwnedShards());
+		IntStream.range(0, 100).mapToObj(i -> UUID.randomUUID()).forEach(matchGuid -> {
+			assertThat(first.ownsMatch(matchGuid)).isNotEqualTo(second.ownsMatch(matchGuid));
+		});
+	}
+
+	@Test
+	void heartbeat_nodeDied_shardsTakenOver() {
+		var first = startNode("node-a");
+		var second = startNode("node-b");
+		first.heartbeat();
+		second.heartbeat();
+		publishedEvents.clear();
+
+		// Only the first node keeps sending heartbeats
+		advance(Duration.ofSeconds(LEASE_DURATION + 1));
+		first.heartbeat();
+
+		assertThat(first.getOwnedShards()).hasSize(SHARDS);
+		assertThat(publishedEvents).singleElement()
+			.isInstanceOfSatisfying(ShardsAcquiredEvent.class, event -> assertThat(event.shards()).hasSize(SHARDS / 2));
+	}
+
+	@Test
+	void heartbeat_secondNodeJoinsWhileMatchRuns_shardReleasedAfterMatchEnds() {
+		var first = startNode("node-a");
+		// Shards above the fair share are drained from the last one
+		var runningMatch = Stream.generate(UUID::randomUUID)
+			.filter(matchGuid -> first.getShard(matchGuid) == SHARDS - 1)
+			.findFirst()
+			.orElseThrow();
+		assertThat(first.tryStartMatch(runningMatch)).isTrue();
+		var second = startNode("node-b");
+
+		first.heartbeat();
+		second.heartbeat();
+
+		assertThat(first.getOwnedShards()).hasSize(SHARDS / 2).doesNotContain(SHARDS - 1);
+		assertThat(first.tryStartMatch(runningMatch)).isFalse();
+		assertThat(second.getOwnedShards()).hasSize(SHARDS / 2 - 1).doesNotContain(SHARDS - 1);
+
+		first.matchEnded(runningMatch);
+		first.heartbeat();
+		second.heartbeat();
+
+		assertThat(second.getOwnedShards()).hasSize(SHARDS / 2).contains(SHARDS - 1);
+	}
+
+	@Test
+	void ownsMatch_leaseNotRenewed_notOwned() {
+		var node = startNode("node-a");
+		var matchGuid = UUID.randomUUID();
+
+		advance(Duration.ofSeconds(LEASE_DURATION));
+
+		assertThat(node.ownsMatch(matchGuid)).isFalse();
+	}
+
+	@Test
+	void ownsMatch_shardingDisabled_ownsEverything() {
+		var configuration = configuration("node-a");
+		configuration.setEnabled(false);
+		var node = new ShardLeaseService(schedulerLeaseRepository, schedulerNodeRepository, configuration,
+				publishedEvents::add, clock());
+
+		node.start();
+
+		assertThat(node.ownsMatch(UUID.randomUUID())).isTrue();
+		assertThat(schedulerLeaseRepository.count()).isZero();
+	}
+
+	private ShardLeaseService startNode(String nodeId) {
+		ApplicationEventPublisher eventPublisher = publishedEvents::add;
+		var node = new ShardLeaseService(schedulerLeaseRepository, schedulerNodeRepository, configuration(nodeId),
+				eventPublisher, clock());
+		node.start();
+		return node;
+	}
+
+	private ShardingConfiguration configuration(String nodeId) {
+		var configuration = new ShardingConfiguration();
+		configuration.setEnabled(true);
+		configuration.setShards(SHARDS);
+		configuration.setNodeId(nodeId);
+		configuration.setLeaseDuration(LEASE_DURATION);
+		configuration.setHeartbeatInterval(10);
+		return configuration;
+	}
+
+	private void advance(Duration duration) {
+		now = now.plus(duration);
+	}
+
+	/**
+	 * Clock following the current time of the test
+	 */
+	private Clock clock() {
+		return new Clock() {
+			@Override
+			public ZoneId getZone() {
+				return ZoneId.of("UTC");
+			}
+
+			@Override
+			public Clock withZone(ZoneId zone) {
+				return this;
+			}
+
+			@Override
+			public Instant instant() {
+				return now;
+			}
+		};
+	}
+
+}
@@ -0,0 +1,141 @@
+package cz.fi.muni.pa165.gameservice.business.services.scheduling;
+
+import cz.fi.muni.pa165.gameservice.business.services.TaskSchedulerService;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+class TimingWheelTaskSchedulerTest {
+
+	// Four buckets per level, so short delays already go through all the levels
+	private static final int WHEEL_SIZE = 4;
+
+	private TimingWheelTaskScheduler taskScheduler;
+
+	@BeforeEach
+	void setup() {
+		taskScheduler = new TimingWheelTaskScheduler(Duration.ofMillis(1), WHEEL_SIZE);
+	}
+
+	@AfterEach
+	void tearDown() {
+		taskScheduler.shutdown();
+	}
+
+	@Test
+	void schedule_pastInstant_runsImmediately() {
+		var called = new AtomicInteger();
+
+		var future = taskScheduler.schedule(called::incrementAndGet, Instant.now().minusSeconds(1));
+
+		Awaitility.await().atMost(200, TimeUnit.MILLISECONDS).untilAtomic(called, is(1));
+		Awaitility.await().atMost(200, TimeUnit.MILLISECONDS).until(future::isDone);
+		assertThat(future.state()).isEqualTo(Future.State.SUCCESS);
+	}
+
+	@Test
+	void schedule_higherLevels_notStartedEarly() {
+		var startedAt = new AtomicReference<Instant>();
+		// 150 ticks are placed into the third level and cascaded twice
+		var startAt = Instant.now().plusMillis(150);
+
+		taskScheduler.schedule(() -> startedAt.set(Instant.now()), startAt);
+
+		Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> startedAt.get() != null);
+		assertThat(startedAt.get()).isAfterOrEqualTo(startAt);
+	}
+
+	@Test
+	void schedule_beyondWheelRange_notStartedEarly() {
+		var startedAt = new AtomicReference<Instant>();
+		// The wheel covers 4^4 = 256 ticks, the task has to be reinserted
+		var startAt = Instant.now().plusMillis(400);
+
+		taskScheduler.schedule(() -> startedAt.set(Instant.now()), startAt);
+
+		Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> startedAt.get() != null);
+		assertThat(startedAt.get()).isAfterOrEqualTo(startAt);
+	}
+
+	@Test
+	void cancel_pendingTask_notStarted() {
+		var called = new AtomicInteger();
+
+		var future = taskScheduler.schedule(called::incrementAndGet, Instant.now().plusMillis(100));
+
+		assertThat(future.cancel(false)).isTrue();
+		assertThat(future.state()).isEqualTo(Future.State.CANCELLED);
+		Awaitility.await().during(200, TimeUnit.MILLISECONDS).untilAtomic(called, is(0));
+	}
+
+	@Test
+	void schedule_failingTask_futureFailed() {
+		var future = taskScheduler.schedule(() -> {
+			throw new IllegalStateException("Failed");
+		}, Instant.now());
+
+		Awaitility.await().atMost(200, TimeUnit.MILLISECONDS).until(future::isDone);
+		assertThat(future.state()).isEqualTo(Future.State.FAILED);
+	}
+
+	@Test
+	void scheduleAtFixedRate_repeatedUntilCancelled() {
+		var called = new AtomicInteger();
+
+		var future = taskScheduler.scheduleAtFixedRate(called::incrementAndGet, Duration.ofMillis(10));
+		Awaitility.await().atMost(1, TimeUnit.SECONDS).untilAtomic(called, greaterThanOrEqualTo(3));
+		future.cancel(false);
+
+		var calledAfterCancel = called.get();
+		Awaitility.await().during(100, TimeUnit.MILLISECONDS).until(() -> called.get() <= calledAfterCancel + 1);
+	}
+
+	@Test
+	void schedule_afterShutdown_rejected() {
+		taskScheduler.shutdown();
+
+		assertThatThrownBy(() -> taskScheduler.schedule(() -> {
+		}, Instant.now())).isInstanceOf(TaskRejectedException.class);
+	}
+
+	@Test
+	void taskSchedulerService_scheduledTwice_shouldRunOnce() {
+		var taskSchedulerService = new TaskSchedulerService(taskScheduler);
+		var called = new AtomicInteger();
+		var uuid = UUID.randomUUID();
+
+		taskSchedulerService.scheduleTask(called::incrementAndGet, uuid, Instant.now().plusMillis(100));
+		taskSchedulerService.scheduleTask(called::incrementAndGet, uuid, Instant.now().plusMillis(50));
+
+		Awaitility.await().atLeast(90, TimeUnit.MILLISECONDS).untilAtomic(called, is(1));
+		Awaitility.await().during(100, TimeUnit.MILLISECONDS).untilAtomic(called, is(1));
+	}
+
+	@Test
+	void taskSchedulerService_cancelTask_notStarted() {
+		var taskSchedulerService = new TaskSchedulerService(taskScheduler);
+		var called = new AtomicInteger();
+		var uuid = UUID.randomUUID();
+
+		taskSchedulerService.scheduleTask(called::incrementAndGet, uuid, Instant.now().plusMillis(100));
+		taskSchedulerService.cancelTask(uuid);
+
+		Awaitility.await().during(200, TimeUnit.MILLISECONDS).untilAtomic(called, is(0));
+	}
+
+}
@@ -0,0 +1,148 @@
+package cz.fi.muni.pa165.gameservice.business.services.simulation;
+
+import cz.fi.muni.pa165.gameservice.api.exception.ValueIsMissingException;
+import cz.fi.muni.pa165.gameservice.config.SimulationConfiguration;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Match;
+import cz.fi.muni.pa165.gameservice.testdata.MatchTestData;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchSimulationEngineTest {
+
+	private static final int TICKS_PER_MATCH = 60;
+
+	private MatchSimulationEngine matchSimulationEngine;
+
+	@BeforeEach
+	void setup() {
+		var configuration = new SimulationConfiguration();
+		configuration.setPeriods(3);
+		configuration.setTicksPerPeriod(TICKS_PER_MATCH / 3);
+		configuration.setWorkers(2);
+		configuration.setInitialCapacity(4);
+		matchSimulationEngine = new MatchSimulationEngine(configuration);
+	}
+
+	@AfterEach
+	void tearDown() {
+		matchSimulationEngine.stop();
+	}
+
+	@Test
+	void simulate_nullMatch_throwsException() {
+		assertThatThrownBy(() -> matchSimulationEngine.simulate(null, 10, 10))
+			.isInstanceOf(ValueIsMissingException.class)
+			.hasMessage("Please provide match for simulation");
+	}
+
+	@Test
+	void simulate_allTicksElapsed_resultCompleted() {
+		var match = getMatch();
+
+		var future = matchSimulationEngine.simulate(match, 30, 30).orElseThrow();
+		tick(TICKS_PER_MATCH - 1);
+		assertThat(future).isNotDone();
+
+		tick(1);
+		var result = future.orTimeout(1, TimeUnit.SECONDS).join();
+
+		assertThat(result.getMatchGuid()).isEqualTo(match.getGuid());
+		assertThat(matchSimulationEngine.getActiveMatches()).isZero();
+		Awaitility.await()
+			.atMost(1, TimeUnit.SECONDS)
+			.until(() -> !matchSimulationEngine.isSimulating(match.getGuid()));
+	}
+
+	@Test
+	void simulate_sameMatchTwice_simulatedOnce() {
+		var match = getMatch();
+
+		var first = matchSimulationEngine.simulate(match, 30, 30);
+		var second = matchSimulationEngine.simulate(match, 30, 30);
+
+		assertThat(first).isPresent();
+		assertThat(second).isEmpty();
+		assertThat(matchSimulationEngine.isSimulating(match.getGuid())).isTrue();
+	}
+
+	@Test
+	void simulate_zeroStrength_noGoals() {
+		var match = getMatch();
+
+		var future = matchSimulationEngine.simulate(match, 0, 0).orElseThrow();
+		tick(TICKS_PER_MATCH);
+		var result = future.orTimeout(1, TimeUnit.SECONDS).join();
+
+		assertThat(result.getScoreHomeTeam()).isZero();
+		assertThat(result.getScoreAwayTeam()).isZero();
+		assertThat(result.getWinnerTeam()).isNull();
+	}
+
+	@Test
+	void simulate_onlyHomeTeamScores_homeTeamWinner() {
+		var match = getMatch();
+
+		// Maximal strength scores a goal in every tick
+		var future = matchSimulationEngine.simulate(match, Double.MAX_VALUE, 0).orElseThrow();
+		tick(TICKS_PER_MATCH);
+		var result = future.orTimeout(1, TimeUnit.SECONDS).join();
+
+		assertThat(result.getScoreHomeTeam()).isEqualTo(TICKS_PER_MATCH);
+		assertThat(result.getScoreAwayTeam()).isZero();
+		assertThat(result.getWinnerTeam()).isEqualTo(match.getHomeTeamUid());
+	}
+
+	@Test
+	void simulate_moreMatchesThanCapacity_allCompleted() {
+		var futures = IntStream.range(0, 100)
+			.mapToObj(i -> matchSimulationEngine.simulate(getMatch(), 30, 30).orElseThrow())
+			.toList();
+
+		tick(1);
+		assertThat(matchSimulationEngine.getActiveMatches()).isEqualTo(100);
+		tick(TICKS_PER_MATCH - 1);
+
+		futures.forEach(future -> assertThat(future.orTimeout(1, TimeUnit.SECONDS).join()).isNotNull());
+		assertThat(matchSimulationEngine.getActiveMatches()).isZero();
+	}
+
+	@Test
+	void simulate_clockStarted_matchEndsWithoutManualTicks() {
+		var match = getMatch();
+		var configuration = new SimulationConfiguration();
+		configuration.setTickInterval(1);
+		configuration.setPeriods(1);
+		configuration.setTicksPerPeriod(10);
+		configuration.setInitialCapacity(1);
+		var engine = new MatchSimulationEngine(configuration);
+
+		try {
+			engine.start();
+			var future = engine.simulate(match, 30, 30).orElseThrow();
+
+			Awaitility.await().atMost(1, TimeUnit.SECONDS).until(future::isDone);
+		}
+		finally {
+			engine.stop();
+		}
+	}
+
+	private void tick(int ticks) {
+		for (int i = 0; i < ticks; i++) {
+			matchSimulationEngine.tick();
+		}
+	}
+
+	private static Match getMatch() {
+		return MatchTestData.getRandomMatches().stream().findAny().orElseThrow();
+	}
+
+}
@@ -0,0 +1,251 @@
+package cz.fi.muni.pa165.gameservice.business.services.standings;
+
+import cz.fi.muni.pa165.gameservice.api.exception.ValueIsMissingException;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Competition;
+import cz.fi.muni.pa165.gameservice.persistence.entities.CompetitionHasTeam;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Match;
+import cz.fi.muni.pa165.gameservice.persistence.entities.Result;
+import cz.fi.muni.pa165.gameservice.persistence.entities.TeamStanding;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.CompetitionRepository;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.MatchRepository;
+import cz.fi.muni.pa165.gameservice.persistence.repositories.TeamStandingRepository;
+import cz.fi.muni.pa165.gameservice.testdata.CompetitionTestData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class StandingsServiceTest {
+
+	@Mock
+	TeamStandingRepository teamStandingRepository;
+
+	@Mock
+	MatchRepository matchRepository;
+
+	@Mock
+	CompetitionRepository competitionRepository;
+
+	@InjectMocks
+	StandingsService standingsService;
+
+	@Test
+	void recordResult_nullResult_throwsException() {
+		var match = getMatch(CompetitionTestData.getCompetitionEntity());
+
+		assertThatThrownBy(() -> standingsService.recordResult(match, null)).isInstanceOf(ValueIsMissingException.class)
+			.hasMessage("Please provide result to record");
+
+		Mockito.verifyNoInteractions(teamStandingRepository);
+	}
+
+	@Test
+	void recordResult_friendlyMatch_standingsNotUpdated() {
+		var match = getMatch(null);
+
+		standingsService.recordResult(match, getResult(match, 2, 1));
+
+		Mockito.verifyNoInteractions(teamStandingRepository);
+	}
+
+	@Test
+	void recordResult_homeTeamWins_bothRowsUpdated() {
+		var competition = CompetitionTestData.getCompetitionEntity();
+		var match = getMatch(competition);
+		mockExistingRows();
+
+		standingsService.recordResult(match, getResult(match, 3, 1));
+
+		Mockito.verify(teamStandingRepository, Mockito.times(1))
+			.addMatch(competition.getGuid(), match.getHomeTeamUid(), 3, 1, 0, 0, 3, 1);
+		Mockito.verify(teamStandingRepository, Mockito.times(1))
+			.addMatch(competition.getGuid(), match.getAwayTeamUid(), 0, 0, 0, 1, 1, 3);
+		Mockito.verify(teamStandingRepository, Mockito.never()).save(Mockito.any());
+	}
+
+	@Test
+	void recordResult_draw_drawRecordedForBothTeams() {
+		var competition = CompetitionTestData.getCompetitionEntity();
+		var match = getMatch(competition);
+		mockExistingRows();
+
+		standingsService.recordResult(match, getResult(match, 2, 2));
+
+		Mockito.verify(teamStandingRepository, Mockito.times(1))
+			.addMatch(competition.getGuid(), match.getHomeTeamUid(), 1, 0, 1, 0, 2, 2);
+		Mockito.verify(teamStandingRepository, Mockito.times(1))
+			.addMatch(competition.getGuid(), match.getAwayTeamUid(), 1, 0, 1, 0, 2, 2);
+	}
+
+	@Test
+	void recordResult_teamAgainstItself_recordsMerged() {
+		var competition = CompetitionTestData.getCompetitionEntity();
+		var match = getMatch(competition);
+		match.setAwayTeamUid(match.getHomeTeamUid());
+		mockExistingRows();
+
+		standingsService.recordResult(match, getResult(match, 2, 2));
+
+		Mockito.verify(teamStandingRepository, Mockito.times(1))
+			.addMatch(competition.getGuid(), match.getHomeTeamUid(), 2, 0, 2, 0, 4, 4);
+		Mockito.verifyNoMoreInteractions(teamStandingRepository);
+	}
+
+	@Test
+	void recordResult_teamWithoutRow_rowCreated() {
+		var competition = CompetitionTestData.getCompetitionEntity();
+		var match = getMatch(competition);
+		Mockito
+			.when(teamStandingRepository.addMatch(Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt(),
+					Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt()))
+			.thenReturn(0);
+
+		standingsService.recordResult(match, getResult(match, 4, 2));
+
+		var captor = ArgumentCaptor.forClass(TeamStanding.class);
+		Mockito.verify(teamStandingRepository, Mockito.times(2)).save(captor.capture());
+		var homeStanding = captor.getAllValues()
+			.stream()
+			.filter(standing -> standing.getTeamUid().equals(match.getHomeTeamUid()))
+			.findFirst()
+			.orElseThrow();
+		assertThat(homeStanding.getCompetition()).isEqualTo(competition);
+		assertThat(homeStanding.getPoints()).isEqualTo(3);
+		assertThat(homeStanding.getWins()).isEqualTo(1);
+		assertThat(homeStanding.getGoalDifference()).isEqualTo(2);
+		Mockito.verify(competitionRepository, Mockito.times(2)).findLockedByGuid(competition.getGuid());
+	}
+
+	@Test
+	void recordResult_rowCreatedConcurrently_rowUpdatedOnceLocked() {
+		var competition = CompetitionTestData.getCompetitionEntity();
+		var match = getMatch(competition);
+		Mockito
+			.when(teamStandingRepository.addMatch(Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt(),
+					Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt()))
+			.thenReturn(0)
+			.thenReturn(1);
+		Mockito.when(competitionRepository.findLockedByGuid(competition.getGuid()))
+			.thenReturn(Optional.of(competition));
+
+		standingsService.recordResult(match, getResult(match, 4, 2));
+
+		Mockito.verify(competitionRepository, Mockito.atLeastOnce()).findLockedByGuid(competition.getGuid());
+		Mockito.verify(teamStandingRepository, Mockito.never()).save(Mockito.any());
+	}
+
+	@Test
+	void rebuild_matchesWithResults_standingsReplaced() {
+		var competition = CompetitionTestData.getCompetitionEntity();
+		var idleTeam = UUID.randomUUID();
+		competition.getTeams().add(CompetitionHasTeam.builder().teamUid(idleTeam).competition(competition).build());
+		var first = getMatch(competition);
+		first.setResult(getResult(first, 2, 0));
+		var second = getMatch(competition);
+		second.setHomeTeamUid(first.getAwayTeamUid());
+		second.setResult(getResult(second, 1, 1));
+		var unplayed = getMatch(competition);
+		Mockito.when(matchRepository.getMatchesByCompetition_Guid(competition.getGuid()))
+			.thenReturn(List.of(first, second, unplayed));
+
+		standingsService.rebuild(competition);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<TeamStanding>> captor = ArgumentCaptor.forClass(List.class);
+		var inOrder = Mockito.inOrder(teamStandingRepository);
+		inOrder.verify(teamStandingRepository).deleteStandings(competition.getGuid());
+		inOrder.verify(teamStandingRepository).saveAll(captor.capture());
+		inOrder.verify(teamStandingRepository).findStandings(competition.getGuid());
+
+		var standings = captor.getValue();
+		assertThat(standings).extracting(TeamStanding::getTeamUid)
+			.contains(idleTeam, first.getHomeTeamUid(), first.getAwayTeamUid(), second.getAwayTeamUid());
+		var drawingTeam = standings.stream()
+			.filter(standing -> standing.getTeamUid().equals(first.getAwayTeamUid()))
+			.findFirst()
+			.orElseThrow();
+		assertThat(drawingTeam.getLosses()).isEqualTo(1);
+		assertThat(drawingTeam.getDraws()).isEqualTo(1);
+		assertThat(drawingTeam.getPoints()).isEqualTo(1);
+		assertThat(drawingTeam.getGoalDifference()).isEqualTo(-2);
+		var idleStanding = standings.stream()
+			.filter(standing -> standing.getTeamUid().equals(idleTeam))
+			.findFirst()
+			.orElseThrow();
+		assertThat(idleStanding.getPoints()).isZero();
+	}
+
+	@Test
+	void foldResults_manyMatches_sameAsSequentialSum() {
+		var competition = CompetitionTestData.getCompetitionEntity();
+		var teams = IntStream.range(0, 10).mapToObj(i -> UUID.randomUUID()).toList();
+		var random = new Random(7);
+		var matches = new ArrayList<Match>();
+		for (int i = 0; i < 5000; i++) {
+			var match = getMatch(competition);
+			match.setHomeTeamUid(teams.get(random.nextInt(5)));
+			match.setAwayTeamUid(teams.get(5 + random.nextInt(5)));
+			match.setResult(getResult(match, random.nextInt(6), random.nextInt(6)));
+			matches.add(match);
+		}
+
+		var folded = StandingsService.foldResults(matches);
+
+		var homePoints = matches.stream()
+			.filter(match -> match.getHomeTeamUid().equals(teams.getFirst()))
+			.mapToInt(match -> TeamRecord
+				.ofMatch(match.getHomeTeamUid(), match.getResult().getWinnerTeam(),
+						match.getResult().getScoreHomeTeam(), match.getResult().getScoreAwayTeam())
+				.points())
+			.sum();
+		assertThat(folded).hasSize(teams.size());
+		assertThat(folded.get(teams.getFirst()).points()).isEqualTo(homePoints);
+		var totalWins = folded.values().stream().mapToInt(TeamRecord::wins).sum();
+		var totalLosses = folded.values().stream().mapToInt(TeamRecord::losses).sum();
+		assertThat(totalWins).isEqualTo(totalLosses);
+	}
+
+	private void mockExistingRows() {
+		Mockito
+			.when(teamStandingRepository.addMatch(Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt(),
+					Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt()))
+			.thenReturn(1);
+	}
+
+	private static Match getMatch(Competition competition) {
+		return Match.builder()
+			.guid(UUID.randomUUID())
+			.competition(competition)
+			.homeTeamUid(UUID.randomUUID())
+			.awayTeamUid(UUID.randomUUID())
+			.build();
+	}
+
+	private static Result getResult(Match match, int scoreHomeTeam, int scoreAwayTeam) {
+		UUID winnerTeam = null;
+		if (scoreHomeTeam != scoreAwayTeam) {
+			winnerTeam = scoreHomeTeam > scoreAwayTeam ? match.getHomeTeamUid() : match.getAwayTeamUid();
+		}
+		return Result.builder()
+			.matchGuid(match.getGuid())
+			.scoreHomeTeam(scoreHomeTeam)
+			.scoreAwayTeam(scoreAwayTeam)
+			.winnerTeam(winnerTeam)
+			.build();
+	}
+
+}
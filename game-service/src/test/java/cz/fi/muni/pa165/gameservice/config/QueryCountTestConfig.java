@@ -0,0 +1,17 @@
+package cz.fi.muni.pa165.gameservice.config;
+
+import cz.fi.muni.pa165.gameservice.utils.QueryCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+@TestConfiguration
+public class QueryCountTestConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer queryCounterCustomizer() {
+		return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+	}
+
+}
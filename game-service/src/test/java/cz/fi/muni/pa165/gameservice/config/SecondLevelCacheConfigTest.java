@@ -0,0 +1,32 @@
+package cz.fi.muni.pa165.gameservice.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate would find the JCache provider on the classpath and create the regions on the
+ * fly, the disabled second-level cache must switch it off
+ */
+@DataJpaTest(showSql = false, properties = "cache.second-level.enabled=false")
+@Import(SecondLevelCacheConfig.class)
+class SecondLevelCacheConfigTest {
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void secondLevelCache_disabled_noRegionCreated() {
+		var sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+		assertThat(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()).isFalse();
+		assertThat(sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled()).isFalse();
+		assertThat(sessionFactory.getCache().getCacheRegionNames()).isEmpty();
+	}
+
+}
@@ -11,8 +11,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
@@ -65,6 +67,34 @@ class MatchRepositoryTest {
 		assertThat(foundMatches).isEmpty();
 	}
 
+	@Test
+	void getCompetitionProgress_resultAdded_playedMatchesCounted() {
+		var unplayed = matchRepository.findAll()
+			.stream()
+			.filter(match -> match.getCompetition() != null && match.getResult() == null)
+			.findFirst()
+			.orElseThrow();
+		var competition = unplayed.getCompetition();
+		var matches = competition.getMatches().stream().toList();
+		var played = matches.stream().filter(match -> match.getResult() != null).count();
+		addResult(unplayed);
+
+		var progress = matchRepository.getCompetitionProgress(competition.getGuid());
+
+		assertThat(progress.getMatches()).isEqualTo(matches.size());
+		assertThat(progress.getPlayedMatches()).isEqualTo(played + 1);
+	}
+
+	@Test
+	void getCompetitionProgress_competitionWithoutMatch_shouldReturnZero() {
+		var competition = competitionITDataFactory.getCompetitionWithoutMatches();
+
+		var progress = matchRepository.getCompetitionProgress(competition.getGuid());
+
+		assertThat(progress.getMatches()).isZero();
+		assertThat(progress.getPlayedMatches()).isZero();
+	}
+
 	@Test
 	void getMatchByGuid_nonExistingMatch_shouldReturnEmpty() {
 		var randomUUID = UUID.randomUUID();
@@ -91,10 +121,10 @@ class MatchRepositoryTest {
 		var nextHourTime = OffsetDateTime.now().plusMinutes(plusMinutes);
 		var filteredMatches = filterMatches(matches, plusMinutes, null);
 
-		var foundMatches = matchRepository.getMatchesForScheduling(nextHourTime);
+		var foundMatches = matchRepository.getMatchesForScheduling(nextHourTime, Limit.unlimited());
 
-		assertThat(foundMatches).size().isEqualTo(filteredMatches.size());
-		assertThat(foundMatches).containsAll(filteredMatches);
+		assertThat(foundMatches).extracting(SchedulableMatch::getGuid)
+			.containsExactlyInAnyOrderElementsOf(filteredMatches.stream().map(Match::getGuid).toList());
 	}
 
 	@Test
@@ -104,10 +134,10 @@ class MatchRepositoryTest {
 		var nextHourTime = OffsetDateTime.now().plusMinutes(60);
 		var filteredMatches = filterMatches(matches, 60, key -> matches.get(key).getResult() == null);
 
-		var foundMatches = matchRepository.getMatchesForScheduling(nextHourTime);
+		var foundMatches = matchRepository.getMatchesForScheduling(nextHourTime, Limit.unlimited());
 
-		assertThat(foundMatches).size().isEqualTo(filteredMatches.size());
-		assertThat(foundMatches).containsAll(filteredMatches);
+		assertThat(foundMatches).extracting(SchedulableMatch::getGuid)
+			.containsExactlyInAnyOrderElementsOf(filteredMatches.stream().map(Match::getGuid).toList());
 	}
 
 	@Test
@@ -117,10 +147,154 @@ class MatchRepositoryTest {
 		var nextHourTime = OffsetDateTime.now().plusMinutes(60);
 		var filteredMatches = filterMatches(matches, 60, key -> matches.get(key).getEndAt() == null);
 
-		var foundMatches = matchRepository.getMatchesForScheduling(nextHourTime);
+		var foundMatches = matchRepository.getMatchesForScheduling(nextHourTime, Limit.unlimited());
+
+		assertThat(foundMatches).extracting(SchedulableMatch::getGuid)
+			.containsExactlyInAnyOrderElementsOf(filteredMatches.stream().map(Match::getGuid).toList());
+	}
+
+	@Test
+	void getMatchesForSchedulingAfter_lastMatchOfPage_returnsFollowingMatches() {
+		var matches = createMatchForScheduling();
+		var nextHourTime = OffsetDateTime.now().plusMinutes(60);
+
+		var firstPage = matchRepository.getMatchesForScheduling(nextHourTime, Limit.of(2));
+		var last = firstPage.getLast();
+		var nextPage = matchRepository.getMatchesForSchedulingAfter(nextHourTime, last.getStartAt(), last.getGuid(),
+				Limit.of(2));
+
+		assertThat(firstPage).extracting(SchedulableMatch::getGuid)
+			.containsExactly(matches.get(-1).getGuid(), matches.get(30).getGuid());
+		assertThat(nextPage).extracting(SchedulableMatch::getGuid).containsExactly(matches.get(60).getGuid());
+	}
+
+	@Test
+	void getMatchesForSchedulingAfter_sameStart_nextMatchReturned() {
+		var referenceMatch = matchITDataFactory.getMatch();
+		var startAt = OffsetDateTime.now().plusMinutes(10);
+		var first = persistMatchForScheduling(referenceMatch, startAt);
+		var second = persistMatchForScheduling(referenceMatch, startAt);
+		testEntityManager.flush();
+		var nextHourTime = OffsetDateTime.now().plusMinutes(60);
+
+		var firstPage = matchRepository.getMatchesForScheduling(nextHourTime, Limit.of(1));
+		var nextPage = matchRepository.getMatchesForSchedulingAfter(nextHourTime, firstPage.getFirst().getStartAt(),
+				firstPage.getFirst().getGuid(), Limit.of(1));
+
+		assertThat(List.of(firstPage.getFirst().getGuid(), nextPage.getFirst().getGuid()))
+			.containsExactlyInAnyOrder(first.getGuid(), second.getGuid());
+	}
+
+	@Test
+	void getMatchPageAfter_pagesOfOneMatch_returnAllMatchesOrderedByStart() {
+		var competition = competitionITDataFactory.getCompetitionWithMatches();
+
+		var listed = new ArrayList<>(
+				matchRepository.getMatchPage(competition.getGuid(), null, null, null, null, Limit.of(1)));
+		while (listed.size() < competition.getMatches().size()) {
+			var last = listed.getLast();
+			var nextPage = matchRepository.getMatchPageAfter(competition.getGuid(), last.getStartAt(), last.getGuid(),
+					null, null, null, null, Limit.of(1));
+			assertThat(nextPage).hasSize(1);
+			listed.addAll(nextPage);
+		}
 
-		assertThat(foundMatches).size().isEqualTo(filteredMatches.size());
-		assertThat(foundMatches).containsAll(filteredMatches);
+		assertThat(listed).extracting(MatchListItem::getGuid)
+			.containsExactlyInAnyOrderElementsOf(competition.getMatches().stream().map(Match::getGuid).toList());
+		assertThat(listed).extracting(MatchListItem::getStartAt).isSortedAccordingTo(OffsetDateTime.timeLineOrder());
+		var last = listed.getLast();
+		assertThat(matchRepository.getMatchPageAfter(competition.getGuid(), last.getStartAt(), last.getGuid(), null,
+				null, null, null, Limit.of(1)))
+			.isEmpty();
+	}
+
+	@Test
+	void getMatchPage_teamFilter_returnsHomeAndAwayMatchesOfTeam() {
+		var competition = competitionITDataFactory.getCompetitionWithMatches();
+		var teamUid = competition.getMatches().iterator().next().getHomeTeamUid();
+
+		var page = matchRepository.getMatchPage(competition.getGuid(), teamUid, null, null, null, Limit.unlimited());
+
+		var teamMatches = competition.getMatches()
+			.stream()
+			.filter(match -> teamUid.equals(match.getHomeTeamUid()) || teamUid.equals(match.getAwayTeamUid()))
+			.map(Match::getGuid)
+			.toList();
+		assertThat(page).extracting(MatchListItem::getGuid).containsExactlyInAnyOrderElementsOf(teamMatches);
+	}
+
+	@Test
+	void getMatchPage_finishedFilter_returnsMatchesWithResult() {
+		var competition = competitionITDataFactory.getCompetitionWithMatches();
+		var finishedMatch = persistMatchForScheduling(competition.getMatches().iterator().next(), OffsetDateTime.now());
+		finishedMatch.setCompetition(competition);
+		addResult(finishedMatch);
+		var all = matchRepository.getMatchPage(competition.getGuid(), null, null, null, null, Limit.unlimited());
+
+		var finished = matchRepository.getMatchPage(competition.getGuid(), null, null, null, true, Limit.unlimited());
+		var unfinished = matchRepository.getMatchPage(competition.getGuid(), null, null, null, false,
+				Limit.unlimited());
+
+		assertThat(finished).filteredOn(item -> item.getGuid().equals(finishedMatch.getGuid()))
+			.singleElement()
+			.satisfies(item -> {
+				assertThat(item.getScoreHomeTeam()).isEqualTo(2);
+				assertThat(item.getScoreAwayTeam()).isEqualTo(1);
+			});
+		assertThat(finished).allSatisfy(item -> assertThat(item.getScoreHomeTeam()).isNotNull());
+		assertThat(unfinished).allSatisfy(item -> assertThat(item.getScoreHomeTeam()).isNull());
+		assertThat(finished.size() + unfinished.size()).isEqualTo(all.size());
+	}
+
+	@Test
+	void getMatchPage_startRange_fromInclusiveToExclusive() {
+		var competition = competitionITDataFactory.getCompetitionWithMatches();
+		var from = competition.getMatches().iterator().next().getStartAt();
+		var to = from.plusDays(3);
+
+		var page = matchRepository.getMatchPage(competition.getGuid(), null, from, to, null, Limit.unlimited());
+
+		var matchesInRange = competition.getMatches()
+			.stream()
+			.filter(match -> !match.getStartAt().isBefore(from) && match.getStartAt().isBefore(to))
+			.map(Match::getGuid)
+			.toList();
+		assertThat(page).extracting(MatchListItem::getGuid).containsExactlyInAnyOrderElementsOf(matchesInRange);
+	}
+
+	@Test
+	void existsArenaBooking_otherMatchWithinRange_returnsTrueOnlyForOtherMatch() {
+		var startAt = OffsetDateTime.now().plusYears(50);
+		var match = persistMatchForScheduling(matchITDataFactory.getMatch(), startAt);
+		testEntityManager.flush();
+		var arenaGuid = match.getArena().getGuid();
+
+		assertThat(matchRepository.existsArenaBooking(arenaGuid, startAt.minusHours(3), startAt.plusHours(3),
+				UUID.randomUUID()))
+			.isTrue();
+		assertThat(matchRepository.existsArenaBooking(arenaGuid, startAt.minusHours(3), startAt.plusHours(3),
+				match.getGuid()))
+			.isFalse();
+		assertThat(matchRepository.existsArenaBooking(arenaGuid, startAt, startAt.plusHours(3), UUID.randomUUID()))
+			.isFalse();
+		assertThat(matchRepository.existsArenaBooking(arenaGuid, startAt.minusHours(3), startAt.plusHours(3), null))
+			.isTrue();
+	}
+
+	@Test
+	void findArenaSlots_matchesOfArenaWithinRange_found() {
+		var startAt = OffsetDateTime.now().plusYears(50);
+		var match = persistMatchForScheduling(matchITDataFactory.getMatch(), startAt);
+		testEntityManager.flush();
+		var arenaGuid = match.getArena().getGuid();
+
+		assertThat(matchRepository.findArenaSlots(List.of(arenaGuid), startAt.minusHours(3), startAt.plusHours(3)))
+			.extracting(MatchArenaSlot::getGuid)
+			.containsExactly(match.getGuid());
+		assertThat(matchRepository.findArenaSlots(List.of(arenaGuid), startAt, startAt.plusHours(3))).isEmpty();
+		assertThat(
+				matchRepository.findArenaSlots(List.of(UUID.randomUUID()), startAt.minusHours(3), startAt.plusHours(3)))
+			.isEmpty();
 	}
 
 	private HashMap<Integer, Match> createMatchForScheduling() {
@@ -130,20 +304,25 @@ class MatchRepositoryTest {
 
 		var persistedMatches = new HashMap<Integer, Match>();
 		for (var minute : minutes) {
-			var forSchedulingMatch = Match.builder()
-				.matchType(MatchType.FRIENDLY)
-				.arena(referenceMatch.getArena())
-				.startAt(OffsetDateTime.now().plusMinutes(minute))
-				.homeTeamUid(referenceMatch.getHomeTeamUid())
-				.awayTeamUid(referenceMatch.getAwayTeamUid())
-				.build();
-			persistedMatches.put(minute, testEntityManager.persist(forSchedulingMatch));
+			persistedMatches.put(minute,
+					persistMatchForScheduling(referenceMatch, OffsetDateTime.now().plusMinutes(minute)));
 		}
 
 		testEntityManager.flush();
 		return persistedMatches;
 	}
 
+	private Match persistMatchForScheduling(Match referenceMatch, OffsetDateTime startAt) {
+		var forSchedulingMatch = Match.builder()
+			.matchType(MatchType.FRIENDLY)
+			.arena(referenceMatch.getArena())
+			.startAt(startAt)
+			.homeTeamUid(referenceMatch.getHomeTeamUid())
+			.awayTeamUid(referenceMatch.getAwayTeamUid())
+			.build();
+		return testEntityManager.persist(forSchedulingMatch);
+	}
+
 	private void addResult(Match match) {
 		var result = Result.builder()
 			.match(match)
@@ -0,0 +1,48 @@
+package cz.fi.muni.pa165.gameservice.persistence.repositories;
+
+import cz.fi.muni.pa165.gameservice.persistence.entities.OutboxMessage;
+import cz.fi.muni.pa165.gameservice.utils.SeededJpaTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.OffsetDateTime;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SeededJpaTest
+class OutboxMessageRepositoryTest {
+
+	@Autowired
+	TestEntityManager testEntityManager;
+
+	@Autowired
+	OutboxMessageRepository outboxMessageRepository;
+
+	@Test
+	void findOldest_moreMessagesThanLimit_oldestReturnedInOrder() {
+		var messages = IntStream.range(0, 5)
+			.mapToObj(i -> testEntityManager.persist(OutboxMessage.builder()
+				.destination("queue")
+				.payloadType(String.class.getName())
+				.payload("\"message %d\"".formatted(i))
+				.createdAt(OffsetDateTime.now())
+				.build()))
+			.toList();
+		testEntityManager.flush();
+		testEntityManager.clear();
+
+		var oldest = outboxMessageRepository.findOldest(Limit.of(3));
+
+		assertThat(oldest).extracting(OutboxMessage::getId)
+			.containsExactly(messages.get(0).getId(), messages.get(1).getId(), messages.get(2).getId());
+	}
+
+	@Test
+	void findOldest_emptyOutbox_nothingReturned() {
+		assertThat(outboxMessageRepository.findOldest(Limit.of(10))).isEmpty();
+	}
+
+}
@@ -0,0 +1,160 @@
+package cz.fi.muni.pa165.gameservice.persistence.repositories;
+
+import cz.fi.muni.pa165.gameservice.persistence.entities.ScheduledTask;
+import cz.fi.muni.pa165.gameservice.persistence.entities.ScheduledTaskState;
+import cz.fi.muni.pa165.gameservice.utils.SeededJpaTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.OffsetDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SeededJpaTest
+class ScheduledTaskRepositoryTest {
+
+	private static final Set<ScheduledTaskState> PENDING_STATES = EnumSet.of(ScheduledTaskState.SCHEDULED,
+			ScheduledTaskState.RUNNING);
+
+	@Autowired
+	TestEntityManager testEntityManager;
+
+	@Autowired
+	ScheduledTaskRepository scheduledTaskRepository;
+
+	@Test
+	void updateState_existingTask_stateUpdated() {
+		var task = persistTask(ScheduledTaskState.SCHEDULED);
+
+		var updated = scheduledTaskRepository.updateState(task.getTaskGuid(), PENDING_STATES,
+				ScheduledTaskState.RUNNING, OffsetDateTime.now());
+
+		assertThat(updated).isEqualTo(1);
+		assertThat(testEntityManager.find(ScheduledTask.class, task.getTaskGuid()).getState())
+			.isEqualTo(ScheduledTaskState.RUNNING);
+	}
+
+	@Test
+	void updateState_missingTask_nothingUpdated() {
+		var updated = scheduledTaskRepository.updateState(UUID.randomUUID(), PENDING_STATES, ScheduledTaskState.RUNNING,
+				OffsetDateTime.now());
+
+		assertThat(updated).isZero();
+	}
+
+	@Test
+	void updateState_finishedTask_stateNotReset() {
+		var task = persistTask(ScheduledTaskState.FINISHED);
+
+		var updated = scheduledTaskRepository.updateState(task.getTaskGuid(), PENDING_STATES,
+				ScheduledTaskState.RUNNING, OffsetDateTime.now());
+
+		assertThat(updated).isZero();
+		assertThat(testEntityManager.find(ScheduledTask.class, task.getTaskGuid()).getState())
+			.isEqualTo(ScheduledTaskState.FINISHED);
+	}
+
+	@Test
+	void updateStartAt_scheduledTask_startMoved() {
+		var task = persistTask(ScheduledTaskState.SCHEDULED);
+		var startAt = task.getStartAt().plusHours(1);
+
+		var updated = scheduledTaskRepository.updateStartAt(task.getTaskGuid(), startAt, OffsetDateTime.now());
+
+		assertThat(updated).isEqualTo(1);
+		assertThat(testEntityManager.find(ScheduledTask.class, task.getTaskGuid()).getStartAt()).isEqualTo(startAt);
+	}
+
+	@Test
+	void updateStartAt_runningTask_nothingUpdated() {
+		var task = persistTask(ScheduledTaskState.RUNNING);
+
+		var updated = scheduledTaskRepository.updateStartAt(task.getTaskGuid(), OffsetDateTime.now(),
+				OffsetDateTime.now());
+
+		assertThat(updated).isZero();
+		assertThat(testEntityManager.find(ScheduledTask.class, task.getTaskGuid()).getState())
+			.isEqualTo(ScheduledTaskState.RUNNING);
+	}
+
+	@Test
+	void findPending_staleRunningTask_onlyScheduledAndStaleTasksFound() {
+		var scheduled = persistTask(ScheduledTaskState.SCHEDULED);
+		var running = persistTask(ScheduledTaskState.RUNNING);
+		persistTask(ScheduledTaskState.FINISHED);
+
+		var pending = scheduledTaskRepository.findPending(OffsetDateTime.now().plusMinutes(1));
+		var pendingWithoutRunning = scheduledTaskRepository.findPending(OffsetDateTime.now().minusMinutes(1));
+
+		assertThat(pending).extracting(ScheduledTask::getTaskGuid)
+			.containsExactlyInAnyOrder(scheduled.getTaskGuid(), running.getTaskGuid());
+		assertThat(pendingWithoutRunning).extracting(ScheduledTask::getTaskGuid)
+			.containsExactly(scheduled.getTaskGuid());
+	}
+
+	@Test
+	void claim_recentlyStartedTask_notClaimed() {
+		var task = persistTask(ScheduledTaskState.RUNNING);
+
+		var claimed = scheduledTaskRepository.claim(task.getTaskGuid(), OffsetDateTime.now().minusMinutes(1),
+				OffsetDateTime.now());
+
+		assertThat(claimed).isZero();
+	}
+
+	@Test
+	void claim_staleRunningTask_claimed() {
+		var task = persistTask(ScheduledTaskState.RUNNING);
+
+		var claimed = scheduledTaskRepository.claim(task.getTaskGuid(), OffsetDateTime.now().plusMinutes(1),
+				OffsetDateTime.now());
+
+		assertThat(claimed).isEqualTo(1);
+	}
+
+	@Test
+	void claim_finishedTask_notClaimed() {
+		var task = persistTask(ScheduledTaskState.FINISHED);
+
+		var claimed = scheduledTaskRepository.claim(task.getTaskGuid(), OffsetDateTime.now().plusMinutes(1),
+				OffsetDateTime.now());
+
+		assertThat(claimed).isZero();
+		assertThat(testEntityManager.find(ScheduledTask.class, task.getTaskGuid()).getState())
+			.isEqualTo(ScheduledTaskState.FINISHED);
+	}
+
+	@Test
+	void deleteFinishedBefore_oldFinishedTask_onlyItRemoved() {
+		var oldFinished = persistTask(ScheduledTaskState.FINISHED, OffsetDateTime.now().minusDays(2));
+		var recentFinished = persistTask(ScheduledTaskState.FINISHED);
+		var oldScheduled = persistTask(ScheduledTaskState.SCHEDULED, OffsetDateTime.now().minusDays(2));
+
+		var removed = scheduledTaskRepository.deleteFinishedBefore(OffsetDateTime.now().minusDays(1));
+
+		assertThat(removed).isEqualTo(1);
+		assertThat(scheduledTaskRepository.existsById(oldFinished.getTaskGuid())).isFalse();
+		assertThat(scheduledTaskRepository.existsById(recentFinished.getTaskGuid())).isTrue();
+		assertThat(scheduledTaskRepository.existsById(oldScheduled.getTaskGuid())).isTrue();
+	}
+
+	private ScheduledTask persistTask(ScheduledTaskState state) {
+		return persistTask(state, OffsetDateTime.now());
+	}
+
+	private ScheduledTask persistTask(ScheduledTaskState state, OffsetDateTime updatedAt) {
+		var task = testEntityManager.persistFlushFind(ScheduledTask.builder()
+			.taskGuid(UUID.randomUUID())
+			.startAt(OffsetDateTime.now().withNano(0))
+			.state(state)
+			.updatedAt(updatedAt)
+			.build());
+		testEntityManager.clear();
+		return task;
+	}
+
+}
@@ -0,0 +1,76 @@
+package cz.fi.muni.pa165.gameservice.persistence.repositories;
+
+import cz.fi.muni.pa165.gameservice.persistence.entities.TeamStanding;
+import cz.fi.muni.pa165.gameservice.testdata.factory.CompetitionITDataFactory;
+import cz.fi.muni.pa165.gameservice.utils.SeededJpaTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SeededJpaTest
+class TeamStandingRepositoryTest {
+
+	@Autowired
+	TestEntityManager testEntityManager;
+
+	@Autowired
+	TeamStandingRepository teamStandingRepository;
+
+	@Autowired
+	CompetitionITDataFactory competitionITDataFactory;
+
+	@Test
+	void findStandings_seededCompetition_bestTeamFirst() {
+		var competition = competitionITDataFactory.getCompetitionWithMatches();
+
+		var standings = teamStandingRepository.findStandings(competition.getGuid());
+
+		assertThat(standings).hasSize(competition.getTeams().size());
+		assertThat(standings).isSortedAccordingTo(Comparator.comparingInt(TeamStanding::getPoints)
+			.thenComparingInt(TeamStanding::getGoalDifference)
+			.thenComparingInt(TeamStanding::getGoalsFor)
+			.reversed());
+	}
+
+	@Test
+	void addMatch_existingRow_columnsIncremented() {
+		var competition = competitionITDataFactory.getCompetitionWithoutMatches();
+		var teamUid = competition.getTeams().iterator().next().getTeamUid();
+
+		var updated = teamStandingRepository.addMatch(competition.getGuid(), teamUid, 3, 1, 0, 0, 4, 1);
+		testEntityManager.clear();
+
+		assertThat(updated).isEqualTo(1);
+		var standing = teamStandingRepository.findStandings(competition.getGuid()).getFirst();
+		assertThat(standing.getTeamUid()).isEqualTo(teamUid);
+		assertThat(standing.getPoints()).isEqualTo(3);
+		assertThat(standing.getWins()).isEqualTo(1);
+		assertThat(standing.getGoalsFor()).isEqualTo(4);
+		assertThat(standing.getGoalsAgainst()).isEqualTo(1);
+		assertThat(standing.getGoalDifference()).isEqualTo(3);
+	}
+
+	@Test
+	void addMatch_missingRow_nothingUpdated() {
+		var competition = competitionITDataFactory.getCompetitionWithoutMatches();
+
+		var updated = teamStandingRepository.addMatch(competition.getGuid(), UUID.randomUUID(), 3, 1, 0, 0, 4, 1);
+
+		assertThat(updated).isZero();
+	}
+
+	@Test
+	void deleteStandings_seededCompetition_allRowsDeleted() {
+		var competition = competitionITDataFactory.getCompetitionWithMatches();
+
+		teamStandingRepository.deleteStandings(competition.getGuid());
+
+		assertThat(teamStandingRepository.findStandings(competition.getGuid())).isEmpty();
+	}
+
+}
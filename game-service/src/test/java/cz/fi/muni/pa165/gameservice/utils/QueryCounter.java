@@ -0,0 +1,28 @@
+package cz.fi.muni.pa165.gameservice.utils;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements prepared by Hibernate in the current thread. MockMvc handles
+ * the request in the thread of the test, so statements of the scheduler and other
+ * background threads are not counted.
+ */
+public class QueryCounter implements StatementInspector {
+
+	private static final ThreadLocal<Integer> STATEMENTS = ThreadLocal.withInitial(() -> 0);
+
+	@Override
+	public String inspect(String sql) {
+		STATEMENTS.set(STATEMENTS.get() + 1);
+		return sql;
+	}
+
+	public static void reset() {
+		STATEMENTS.set(0);
+	}
+
+	public static int count() {
+		return STATEMENTS.get();
+	}
+
+}
@@ -10,12 +10,13 @@ import static org.springframework.context.annotation.ComponentScan.Filter;
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
 @Inherited
-@DataJpaTest(showSql = false,
-		includeFilters = {
-				@Filter(type = FilterType.REGEX, pattern = "cz.fi.muni.pa165.gameservice.business.services.seed.*"),
-				@Filter(type = FilterType.REGEX, pattern = "cz.fi.muni.pa165.gameservice.testdata.factory.*"),
-				@Filter(type = FilterType.REGEX, pattern = "cz.fi.muni.pa165.gameservice.business.facades.SeedFacade"),
-				@Filter(type = FilterType.REGEX, pattern = "cz.fi.muni.pa165.gameservice.config.SeedConfiguration") })
+@DataJpaTest(showSql = false, includeFilters = {
+		@Filter(type = FilterType.REGEX, pattern = "cz.fi.muni.pa165.gameservice.business.services.seed.*"),
+		@Filter(type = FilterType.REGEX, pattern = "cz.fi.muni.pa165.gameservice.business.services.standings.*"),
+		@Filter(type = FilterType.REGEX, pattern = "cz.fi.muni.pa165.gameservice.testdata.factory.*"),
+		@Filter(type = FilterType.REGEX, pattern = "cz.fi.muni.pa165.gameservice.business.facades.SeedFacade"),
+		@Filter(type = FilterType.REGEX, pattern = "cz.fi.muni.pa165.gameservice.config.SeedConfiguration"),
+		@Filter(type = FilterType.REGEX, pattern = "cz.fi.muni.pa165.gameservice.config.SecondLevelCacheConfig") })
 public @interface SeededJpaTest {
 
 }
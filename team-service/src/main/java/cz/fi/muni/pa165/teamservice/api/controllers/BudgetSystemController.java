@@ -1,10 +1,12 @@
 package cz.fi.muni.pa165.teamservice.api.controllers;
 
+import cz.fi.muni.pa165.dto.teamservice.BudgetHistoryDTO;
 import cz.fi.muni.pa165.dto.teamservice.BudgetSystemCreateDTO;
 import cz.fi.muni.pa165.dto.teamservice.BudgetSystemDTO;
 import cz.fi.muni.pa165.dto.teamservice.BudgetSystemUpdateDTO;
 import cz.fi.muni.pa165.teamservice.business.facades.BudgetSystemFacade;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -26,6 +28,8 @@ import java.util.UUID;
 @Tag(name = "Budget System API", description = "Management of team budget systems")
 public class BudgetSystemController {
 
+	private static final int MAX_HISTORY_SIZE = 100;
+
 	private final BudgetSystemFacade budgetSystemFacade;
 
 	@Autowired
@@ -80,4 +84,22 @@ public class BudgetSystemController {
 		return budgetSystemFacade.findById(id);
 	}
 
+	@Operation(description = "Get history of the budget, newest transactions first",
+			responses = {
+					@ApiResponse(responseCode = "200", description = "Page of the budget history",
+							content = @Content(schema = @Schema(implementation = BudgetHistoryDTO.class))),
+					@ApiResponse(responseCode = "400", description = "Invalid page size"),
+					@ApiResponse(responseCode = "404", description = "Budget system not found") })
+	@GetMapping(path = "/{id}/transactions", produces = MediaType.APPLICATION_JSON_VALUE)
+	public BudgetHistoryDTO getBudgetHistory(@PathVariable UUID id, @Parameter(
+			description = "Returns transactions older than this one, nextBefore of the previous page") @RequestParam(
+					required = false) Long before,
+			@Parameter(description = "Maximal number of the transactions") @RequestParam(
+					defaultValue = "20") int size) {
+		if (size < 1 || size > MAX_HISTORY_SIZE) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Size must be between 1 and " + MAX_HISTORY_SIZE);
+		}
+		return budgetSystemFacade.findHistory(id, before, size);
+	}
+
 }
@@ -19,6 +19,8 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -104,4 +106,16 @@ public class TeamCharacteristicController
 		return facade.findByTeamId(teamId);
 	}
 
+	@Operation(description = "Get characteristics of multiple teams by their IDs",
+			responses = { @ApiResponse(responseCode = "200",
+					description = "Characteristics grouped by the team ID. Teams without characteristics are omitted.",
+					content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
+					@ApiResponse(responseCode = "400", description = "Invalid input") })
+	@PostMapping(path = "/team/batch", consumes = MediaType.APPLICATION_JSON_VALUE,
+			produces = MediaType.APPLICATION_JSON_VALUE)
+	@Override
+	public Map<UUID, List<TeamCharacteristicDTO>> findByTeamIds(@RequestBody Set<UUID> teamIds) {
+		return facade.findByTeamIds(teamIds);
+	}
+
 }
\ No newline at end of file
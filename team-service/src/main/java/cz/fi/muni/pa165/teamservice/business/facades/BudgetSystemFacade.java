@@ -1,5 +1,6 @@
 package cz.fi.muni.pa165.teamservice.business.facades;
 
+import cz.fi.muni.pa165.dto.teamservice.BudgetHistoryDTO;
 import cz.fi.muni.pa165.dto.teamservice.BudgetSystemCreateDTO;
 import cz.fi.muni.pa165.dto.teamservice.BudgetSystemDTO;
 import cz.fi.muni.pa165.dto.teamservice.BudgetSystemUpdateDTO;
@@ -56,4 +57,16 @@ public class BudgetSystemFacade {
 		return budgetSystemMapper.toDto(budgetSystemService.findById(id));
 	}
 
+	@Transactional(readOnly = true)
+	public BudgetHistoryDTO findHistory(UUID id, Long before, int size) throws ResourceNotFoundException {
+		var transactions = budgetSystemService.findHistory(id, before, size);
+
+		var history = new BudgetHistoryDTO();
+		history.setTransactions(budgetSystemMapper.toTransactionDtoList(transactions));
+		if (transactions.size() == size) {
+			history.setNextBefore(transactions.getLast().getId());
+		}
+		return history;
+	}
+
 }
@@ -11,7 +11,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * @author Jan Martinek
@@ -52,4 +55,13 @@ public class TeamCharacteristicFacade {
 		return service.findByTeamId(teamId).stream().map(mapper::toDto).toList();
 	}
 
+	@Transactional(readOnly = true)
+	public Map<UUID, List<TeamCharacteristicDTO>> findByTeamIds(Set<UUID> teamIds) {
+		return service.findByTeamIds(teamIds)
+			.entrySet()
+			.stream()
+			.collect(Collectors.toMap(Map.Entry::getKey,
+					entry -> entry.getValue().stream().map(mapper::toDto).toList()));
+	}
+
 }
@@ -3,12 +3,15 @@ package cz.fi.muni.pa165.teamservice.business.mappers;
 import cz.fi.muni.pa165.dto.teamservice.BudgetSystemCreateDTO;
 import cz.fi.muni.pa165.dto.teamservice.BudgetSystemDTO;
 import cz.fi.muni.pa165.dto.teamservice.BudgetSystemUpdateDTO;
+import cz.fi.muni.pa165.dto.teamservice.BudgetTransactionDTO;
 import cz.fi.muni.pa165.teamservice.persistence.entities.BudgetSystem;
+import cz.fi.muni.pa165.teamservice.persistence.entities.BudgetTransaction;
 import cz.fi.muni.pa165.teamservice.persistence.entities.FictiveTeam;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -28,6 +31,10 @@ public interface BudgetSystemMapper {
 	@Mapping(source = "guid", target = "guid")
 	BudgetSystem toEntity(BudgetSystemUpdateDTO updateDTO);
 
+	BudgetTransactionDTO toDto(BudgetTransaction transaction);
+
+	List<BudgetTransactionDTO> toTransactionDtoList(List<BudgetTransaction> transactions);
+
 	@Named("mapTeamIdToTeam")
 	default FictiveTeam mapTeamIdToTeam(UUID teamId) {
 		if (teamId == null) {
@@ -1,11 +1,10 @@
 package cz.fi.muni.pa165.teamservice.business.messages;
 
+import cz.fi.muni.pa165.messaging.MessageSender;
 import jakarta.annotation.Nonnull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.jms.core.JmsTemplate;
-
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
@@ -19,14 +18,14 @@ public class FictiveTeamMessageResolver {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(FictiveTeamMessageResolver.class);
 
-	private final JmsTemplate jmsTemplate;
+	private final MessageSender messageSender;
 
-	public FictiveTeamMessageResolver(@Qualifier("queueJmsTemplate") JmsTemplate jmsTemplate) {
-		this.jmsTemplate = jmsTemplate;
+	public FictiveTeamMessageResolver(@Qualifier("queueMessageSender") MessageSender messageSender) {
+		this.messageSender = messageSender;
 	}
 
 	public void sendUuidOfAddedPlayer(@Nonnull UUID playerUuid) {
-		jmsTemplate.convertAndSend("team.player.added", playerUuid);
+		messageSender.send("team.player.added", playerUuid);
 
 		LOGGER.debug("Send player uuid {}", playerUuid);
 	}
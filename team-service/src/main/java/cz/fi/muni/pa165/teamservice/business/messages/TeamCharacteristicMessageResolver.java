@@ -0,0 +1,56 @@
+package cz.fi.muni.pa165.teamservice.business.messages;
+
+import cz.fi.muni.pa165.messaging.MessageSender;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * @author Jan Martinek
+ */
+@Service
+public class TeamCharacteristicMessageResolver {
+
+	public static final String TEAM_CHARACTERISTIC_CHANGED_TOPIC = "team.characteristic.changed";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TeamCharacteristicMessageResolver.class);
+
+	private final MessageSender messageSender;
+
+	public TeamCharacteristicMessageResolver(@Qualifier("topicMessageSender") MessageSender messageSender) {
+		this.messageSender = messageSender;
+	}
+
+	/**
+	 * Publishes ID of the team whose characteristics were changed. Inside of a
+	 * transaction the message is sent only after the commit, so the subscribers never
+	 * read the old characteristics.
+	 * @param teamId ID of the changed team
+	 */
+	public void sendTeamCharacteristicChanged(@Nonnull UUID teamId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			send(teamId);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				send(teamId);
+			}
+		});
+	}
+
+	private void send(UUID teamId) {
+		messageSender.send(TEAM_CHARACTERISTIC_CHANGED_TOPIC, teamId);
+
+		LOGGER.debug("Send topic '{}' for team ID {}", TEAM_CHARACTERISTIC_CHANGED_TOPIC, teamId);
+	}
+
+}
@@ -0,0 +1,15 @@
+package cz.fi.muni.pa165.teamservice.business.services;
+
+import cz.fi.muni.pa165.enums.BudgetTransactionReason;
+
+import java.util.UUID;
+
+/**
+ * Pending change of the budget
+ *
+ * @param budgetSystemId ID of the changed budget
+ * @param amount amount added to the budget, negative when taken
+ * @param reason reason of the change
+ */
+public record BudgetDelta(UUID budgetSystemId, double amount, BudgetTransactionReason reason) {
+}
@@ -0,0 +1,113 @@
+package cz.fi.muni.pa165.teamservice.business.services;
+
+import cz.fi.muni.pa165.enums.BudgetTransactionReason;
+import cz.fi.muni.pa165.teamservice.persistence.entities.BudgetSystem;
+import cz.fi.muni.pa165.teamservice.persistence.entities.BudgetTransaction;
+import cz.fi.muni.pa165.teamservice.persistence.repositories.BudgetSystemRepository;
+import cz.fi.muni.pa165.teamservice.persistence.repositories.BudgetTransactionRepository;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Ledger of the budget changes. Every change is inserted as a new transaction, so the
+ * concurrent changes of one budget neither lock its row nor overwrite each other. The
+ * transactions are periodically folded into the balance snapshot of the budget, which
+ * keeps the computation of the current balance short.
+ */
+@Service
+@Transactional
+public class BudgetLedgerService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BudgetLedgerService.class);
+
+	private final BudgetTransactionRepository budgetTransactionRepository;
+
+	private final BudgetSystemRepository budgetSystemRepository;
+
+	@Autowired
+	public BudgetLedgerService(BudgetTransactionRepository budgetTransactionRepository,
+			BudgetSystemRepository budgetSystemRepository) {
+		this.budgetTransactionRepository = budgetTransactionRepository;
+		this.budgetSystemRepository = budgetSystemRepository;
+	}
+
+	/**
+	 * Appends the change to the budget
+	 * @param budgetSystem changed budget
+	 * @param amount amount added to the budget, negative when taken
+	 * @param reason reason of the change
+	 * @return the appended transaction
+	 */
+	public BudgetTransaction append(@Nonnull BudgetSystem budgetSystem, double amount,
+			@Nonnull BudgetTransactionReason reason) {
+		Objects.requireNonNull(budgetSystem, "Please provide budget system");
+		Objects.requireNonNull(reason, "Please provide reason of the transaction");
+
+		var transaction = BudgetTransaction.builder()
+			.budgetSystem(budgetSystem)
+			.amount(amount)
+			.reason(reason)
+			.createdAt(OffsetDateTime.now())
+			.build();
+		return budgetTransactionRepository.save(transaction);
+	}
+
+	/**
+	 * Appends the change to the budgets of all teams of the owner at once
+	 * @param ownerId ID of the owner of the teams
+	 * @param amount amount added to each budget, negative when taken
+	 * @param reason reason of the change
+	 * @return number of the changed budgets
+	 */
+	public int appendForOwner(@Nonnull UUID ownerId, double amount, @Nonnull BudgetTransactionReason reason) {
+		Objects.requireNonNull(ownerId, "Please provide ID of the owner");
+		Objects.requireNonNull(reason, "Please provide reason of the transaction");
+
+		return budgetTransactionRepository.appendForOwner(ownerId, amount, reason, OffsetDateTime.now());
+	}
+
+	/**
+	 * Finds a page of the budget history, newest transactions first
+	 * @param budgetSystemId ID of the budget
+	 * @param before ID of the last transaction of the previous page, null for the first
+	 * page
+	 * @param size maximal number of the transactions
+	 */
+	@Transactional(readOnly = true)
+	public List<BudgetTransaction> findHistory(@Nonnull UUID budgetSystemId, Long before, int size) {
+		Objects.requireNonNull(budgetSystemId, "Please provide ID of the budget system");
+
+		return budgetTransactionRepository.findHistory(budgetSystemId, before == null ? Long.MAX_VALUE : before,
+				Limit.of(size));
+	}
+
+	/**
+	 * Folds the committed transactions into the balance snapshots. The transactions are
+	 * first marked with the ID of the new snapshot, then exactly the marked ones are
+	 * added to the balances, both in one database transaction. A transaction still
+	 * running is not marked and gets into the next snapshot, however long it runs.
+	 */
+	@Scheduled(fixedDelayString = "${budget.snapshot-interval:60000}")
+	public void takeSnapshots() {
+		var snapshotId = UUID.randomUUID();
+		var folded = budgetTransactionRepository.markFolded(snapshotId);
+		if (folded == 0) {
+			return;
+		}
+
+		var updated = budgetSystemRepository.takeSnapshots(snapshotId);
+		LOGGER.debug("Folded {} transactions into balance snapshots of {} budgets", folded, updated);
+	}
+
+}
@@ -2,27 +2,55 @@ package cz.fi.muni.pa165.teamservice.business.services;
 
 import cz.fi.muni.pa165.dto.gameservice.MatchViewDto;
 import cz.fi.muni.pa165.messaging.BudgetChangeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jms.annotation.JmsListener;
+import org.springframework.jms.support.JmsHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
 /**
+ * Applies the budget changes of the received messages. Every message is applied at most
+ * once, redelivered messages are acknowledged without changing the budgets.
+ * <p>
+ * Changes are written together with the changes of the other consumers, each listener
+ * waits for the write, so its message is acknowledged only after the changes are stored.
+ * Match results are grouped by the home team and budget changes by the user, messages of
+ * one group are applied in the order they were sent.
+ *
  * @author Jan Martinek
  */
 @Component
 public class BudgetMessageListener {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(BudgetMessageListener.class);
+
 	@Autowired
 	private BudgetSystemService budgetService;
 
+	@Autowired
+	private BudgetWriteCoalescer budgetWriteCoalescer;
+
+	/**
+	 * Budget change carries no ID of its own, its message is identified by the JMS
+	 * message ID kept by the redeliveries
+	 */
 	@JmsListener(destination = "user.budget.change.amount", containerFactory = "queueListenerFactory")
-	public void receiveMessageUser(BudgetChangeMessage budgetChangeMessage) {
-		budgetService.processUserBudgetChange(budgetChangeMessage);
+	public void receiveMessageUser(BudgetChangeMessage budgetChangeMessage,
+			@Header(JmsHeaders.MESSAGE_ID) String messageId) {
+		Runnable write = () -> budgetService.processUserBudgetChange(budgetChangeMessage);
+		if (!budgetWriteCoalescer.submit("budget:" + messageId, write).join()) {
+			LOGGER.debug("Skipping already processed budget change message {}", messageId);
+		}
 	}
 
 	@JmsListener(destination = "game.match.result.queue", containerFactory = "queueListenerFactory")
 	public void receiveMessageGame(MatchViewDto match) {
-		budgetService.processGameMessage(match);
+		var deltas = budgetService.getMatchPrizes(match);
+		if (!budgetWriteCoalescer.submit("match:" + match.getGuid(), deltas).join()) {
+			LOGGER.debug("Skipping already processed result of match {}", match.getGuid());
+		}
 	}
 
 }
@@ -1,20 +1,27 @@
 package cz.fi.muni.pa165.teamservice.business.services;
 
 import cz.fi.muni.pa165.dto.gameservice.MatchViewDto;
+import cz.fi.muni.pa165.enums.BudgetTransactionReason;
 import cz.fi.muni.pa165.messaging.BudgetChangeMessage;
 import cz.fi.muni.pa165.teamservice.api.exception.ResourceAlreadyExistsException;
 import cz.fi.muni.pa165.teamservice.api.exception.ResourceNotFoundException;
 import cz.fi.muni.pa165.teamservice.persistence.entities.BudgetSystem;
+import cz.fi.muni.pa165.teamservice.persistence.entities.BudgetTransaction;
 import cz.fi.muni.pa165.teamservice.persistence.repositories.BudgetSystemRepository;
 import cz.fi.muni.pa165.teamservice.persistence.repositories.FictiveTeamRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.jms.annotation.JmsListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * @author Jan Martinek
@@ -27,6 +34,8 @@ public class BudgetSystemService {
 
 	private final FictiveTeamRepository fictiveTeamRepository;
 
+	private final BudgetLedgerService budgetLedgerService;
+
 	private static final Logger LOGGER = LoggerFactory.getLogger(BudgetSystemService.class);
 
 	private static final double WINNER_PRIZE = 1000.0;
@@ -37,9 +46,10 @@ public class BudgetSystemService {
 
 	@Autowired
 	public BudgetSystemService(BudgetSystemRepository budgetSystemRepository,
-			FictiveTeamRepository fictiveTeamRepository) {
+			FictiveTeamRepository fictiveTeamRepository, BudgetLedgerService budgetLedgerService) {
 		this.budgetSystemRepository = budgetSystemRepository;
 		this.fictiveTeamRepository = fictiveTeamRepository;
+		this.budgetLedgerService = budgetLedgerService;
 	}
 
 	public BudgetSystem createBudgetSystem(BudgetSystem budgetSystem) throws ResourceAlreadyExistsException {
@@ -52,11 +62,20 @@ public class BudgetSystemService {
 		return budgetSystemRepository.save(budgetSystem);
 	}
 
+	/**
+	 * Sets the balance of the budget by appending the difference to the current balance,
+	 * so the changes appended meanwhile are kept
+	 */
 	public BudgetSystem updateBudgetSystem(BudgetSystem budgetSystem) throws ResourceNotFoundException {
-		if (!budgetSystemRepository.existsById(budgetSystem.getGuid())) {
-			throw new ResourceNotFoundException("BudgetSystem not found");
+		BudgetSystem existing = budgetSystemRepository.findById(budgetSystem.getGuid())
+			.orElseThrow(() -> new ResourceNotFoundException("BudgetSystem not found"));
+
+		double difference = budgetSystem.getAmount() - existing.getAmount();
+		if (difference != 0) {
+			budgetLedgerService.append(existing, difference, BudgetTransactionReason.ADJUSTMENT);
+			existing.setAmount(budgetSystem.getAmount());
 		}
-		return budgetSystemRepository.save(budgetSystem);
+		return existing;
 	}
 
 	public void deleteBudgetSystem(UUID id) throws ResourceNotFoundException {
@@ -72,24 +91,80 @@ public class BudgetSystemService {
 			.orElseThrow(() -> new ResourceNotFoundException("BudgetSystem not found"));
 	}
 
+	@Transactional(readOnly = true)
+	public List<BudgetTransaction> findHistory(UUID id, Long before, int size) throws ResourceNotFoundException {
+		if (!budgetSystemRepository.existsById(id)) {
+			throw new ResourceNotFoundException("BudgetSystem not found");
+		}
+		return budgetLedgerService.findHistory(id, before, size);
+	}
+
 	@Transactional
 	public void processGameMessage(MatchViewDto match) {
-		BudgetSystem homeBudget = getTeamBudget(match.getHomeTeamUid());
-		BudgetSystem awayBudget = getTeamBudget(match.getAwayTeamUid());
+		applyDeltas(getMatchPrizes(match));
+	}
 
+	/**
+	 * Applies the change to the budgets of all teams of the user in a single statement
+	 * @return number of the changed budgets
+	 */
+	@Transactional
+	public int processUserBudgetChange(BudgetChangeMessage budgetChangeMessage) {
+		int amountToAdd = budgetChangeMessage.getAmount();
+		var reason = amountToAdd < 0 ? BudgetTransactionReason.REFUND : BudgetTransactionReason.PAYMENT;
+
+		int changed = budgetLedgerService.appendForOwner(budgetChangeMessage.getUserId(), amountToAdd, reason);
+		LOGGER.debug("Added {} {} to {} budgets of user {}", reason, amountToAdd, changed,
+				budgetChangeMessage.getUserId());
+		return changed;
+	}
+
+	/**
+	 * Computes the prizes of the teams of the finished match, teams without budget get
+	 * none
+	 */
+	@Transactional(readOnly = true)
+	public List<BudgetDelta> getMatchPrizes(MatchViewDto match) {
+		double homePrize;
+		double awayPrize;
 		if (isDraw(match)) {
-			updateBudgets(homeBudget, awayBudget, DRAW_PRIZE, DRAW_PRIZE);
+			homePrize = DRAW_PRIZE;
+			awayPrize = DRAW_PRIZE;
 		}
 		else if (homeTeamWon(match)) {
-			updateBudgets(homeBudget, awayBudget, WINNER_PRIZE, LOSER_PRIZE);
+			homePrize = WINNER_PRIZE;
+			awayPrize = LOSER_PRIZE;
 		}
 		else {
-			updateBudgets(awayBudget, homeBudget, WINNER_PRIZE, LOSER_PRIZE);
+			homePrize = LOSER_PRIZE;
+			awayPrize = WINNER_PRIZE;
 		}
+
+		var prizes = new ArrayList<BudgetDelta>(2);
+		budgetSystemRepository.findGuidByTeamGuid(match.getHomeTeamUid())
+			.ifPresent(
+					budgetId -> prizes.add(new BudgetDelta(budgetId, homePrize, BudgetTransactionReason.MATCH_PRIZE)));
+		budgetSystemRepository.findGuidByTeamGuid(match.getAwayTeamUid())
+			.ifPresent(
+					budgetId -> prizes.add(new BudgetDelta(budgetId, awayPrize, BudgetTransactionReason.MATCH_PRIZE)));
+		return prizes;
 	}
 
-	private BudgetSystem getTeamBudget(UUID teamId) {
-		return budgetSystemRepository.findByTeamGuid(teamId).orElse(null);
+	/**
+	 * Appends the changes to the ledger. Changes of one budget with the same reason are
+	 * summed into a single transaction.
+	 */
+	@Transactional
+	public void applyDeltas(Collection<BudgetDelta> deltas) {
+		Map<BudgetDelta, Double> coalesced = deltas.stream()
+			.collect(Collectors.groupingBy(delta -> new BudgetDelta(delta.budgetSystemId(), 0, delta.reason()),
+					LinkedHashMap::new, Collectors.summingDouble(BudgetDelta::amount)));
+
+		coalesced.forEach((target, amount) -> {
+			budgetLedgerService.append(budgetSystemRepository.getReferenceById(target.budgetSystemId()), amount,
+					target.reason());
+			LOGGER.debug("Added {} {} to budget {}", target.reason(), amount, target.budgetSystemId());
+		});
 	}
 
 	private boolean isDraw(MatchViewDto match) {
@@ -101,41 +176,4 @@ public class BudgetSystemService {
 		return match.getResult().getScoreHomeTeam() > match.getResult().getScoreAwayTeam();
 	}
 
-	private void updateBudgets(BudgetSystem firstTeam, BudgetSystem secondTeam, double firstAmount,
-			double secondAmount) {
-		updateBudget(firstTeam, firstAmount);
-		updateBudget(secondTeam, secondAmount);
-	}
-
-	private void updateBudget(BudgetSystem budget, double amount) {
-		if (budget != null) {
-			double oldAmount = budget.getAmount();
-			budget.setAmount(oldAmount + amount);
-			budgetSystemRepository.save(budget);
-			LOGGER.debug("Updated budget: {} -> {}", oldAmount, budget.getAmount());
-		}
-	}
-
-	@Transactional
-
-	public void processUserBudgetChange(BudgetChangeMessage budgetChangeMessage) {
-
-		UUID ownerId = budgetChangeMessage.getUserId();
-		int amountToAdd = budgetChangeMessage.getAmount();
-
-		var teams = fictiveTeamRepository.findByOwnerId(ownerId);
-
-		for (var team : teams) {
-			BudgetSystem budget = team.getBudgetSystem();
-			if (budget == null) {
-				continue;
-			}
-			double oldAmount = budget.getAmount();
-			budget.setAmount(oldAmount + amountToAdd);
-			budgetSystemRepository.save(budget);
-			LOGGER.debug("Updated budget for team {}: {} -> {}", team.getGuid(), oldAmount, budget.getAmount());
-
-		}
-	}
-
 }
@@ -0,0 +1,185 @@
+package cz.fi.muni.pa165.teamservice.business.services;
+
+import cz.fi.muni.pa165.teamservice.config.BudgetLedgerConfiguration;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes the budget changes of many messages in one transaction. Listeners submit the
+ * changes of their message into a lock-free queue and wait for the write. The queue is
+ * written by a single thread periodically or once enough changes are waiting, changes of
+ * one budget are summed into a single ledger transaction. Changes which can't be summed,
+ * e.g. a payment for all teams of a user, run as their own statement within the batch.
+ * <p>
+ * The returned future completes only after the transaction commits, so a listener waiting
+ * for it acknowledges its message once the changes are stored. When the write fails, the
+ * changes are written one by one, so a single broken message fails only its own listener.
+ */
+@Component
+public class BudgetWriteCoalescer {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BudgetWriteCoalescer.class);
+
+	private final BudgetSystemService budgetSystemService;
+
+	private final MessageDeduplicationService deduplicationService;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final int flushInterval;
+
+	private final int maxBatchSize;
+
+	private final ConcurrentLinkedQueue<PendingChange> pendingChanges = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger pendingCount = new AtomicInteger();
+
+	private final ScheduledExecutorService flushExecutor = Executors
+		.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("budget-flush").daemon().factory());
+
+	@Autowired
+	public BudgetWriteCoalescer(BudgetSystemService budgetSystemService,
+			MessageDeduplicationService deduplicationService, PlatformTransactionManager transactionManager,
+			BudgetLedgerConfiguration budgetLedgerConfiguration) {
+		this.budgetSystemService = budgetSystemService;
+		this.deduplicationService = deduplicationService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.flushInterval = budgetLedgerConfiguration.getFlushInterval();
+		this.maxBatchSize = budgetLedgerConfiguration.getMaxBatchSize();
+	}
+
+	@PostConstruct
+	void start() {
+		flushExecutor.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	void stop() throws InterruptedException {
+		flushExecutor.shutdown();
+		flushExecutor.awaitTermination(10, TimeUnit.SECONDS);
+		flush();
+	}
+
+	/**
+	 * Submits the budget changes of the message
+	 * @param messageKey key identifying the message, the changes of an already processed
+	 * message are skipped
+	 * @param deltas changes of the budgets
+	 * @return future completed with false if the message was already processed, true once
+	 * the changes are stored
+	 */
+	public CompletableFuture<Boolean> submit(@Nonnull String messageKey, @Nonnull List<BudgetDelta> deltas) {
+		Objects.requireNonNull(deltas, "Please provide changes of the budgets");
+
+		return submit(new PendingChange(messageKey, deltas, null, new CompletableFuture<>()));
+	}
+
+	/**
+	 * Submits the write of the message which can't be summed with the other changes. The
+	 * write runs in the transaction of the batch.
+	 * @param messageKey key identifying the message, the write of an already processed
+	 * message is skipped
+	 * @param write write of the budget changes
+	 * @return future completed with false if the message was already processed, true once
+	 * the changes are stored
+	 */
+	public CompletableFuture<Boolean> submit(@Nonnull String messageKey, @Nonnull Runnable write) {
+		Objects.requireNonNull(write, "Please provide write of the budget changes");
+
+		return submit(new PendingChange(messageKey, List.of(), write, new CompletableFuture<>()));
+	}
+
+	private CompletableFuture<Boolean> submit(PendingChange change) {
+		Objects.requireNonNull(change.messageKey(), "Please provide key of the message");
+
+		pendingChanges.add(change);
+		if (pendingCount.incrementAndGet() >= maxBatchSize && !flushExecutor.isShutdown()) {
+			flushExecutor.execute(this::flush);
+		}
+		return change.result();
+	}
+
+	/**
+	 * Writes all pending changes, in batches of the maximal size. Runs on the single
+	 * flush thread.
+	 */
+	public void flush() {
+		List<PendingChange> batch;
+		while (!(batch = drainBatch()).isEmpty()) {
+			try {
+				write(batch);
+			}
+			catch (RuntimeException e) {
+				if (batch.size() == 1) {
+					LOGGER.warn("Could not write budget changes of message {}", batch.getFirst().messageKey(), e);
+					batch.getFirst().result().completeExceptionally(e);
+					continue;
+				}
+				LOGGER.warn("Could not write budget changes of {} messages, writing them one by one", batch.size(), e);
+				batch.forEach(this::writeAlone);
+			}
+		}
+	}
+
+	private List<PendingChange> drainBatch() {
+		var batch = new ArrayList<PendingChange>();
+		PendingChange change;
+		while (batch.size() < maxBatchSize && (change = pendingChanges.poll()) != null) {
+			pendingCount.decrementAndGet();
+			batch.add(change);
+		}
+		return batch;
+	}
+
+	private void writeAlone(PendingChange change) {
+		try {
+			write(List.of(change));
+		}
+		catch (RuntimeException e) {
+			LOGGER.warn("Could not write budget changes of message {}", change.messageKey(), e);
+			change.result().completeExceptionally(e);
+		}
+	}
+
+	private void write(List<PendingChange> batch) {
+		var applied = transactionTemplate.execute(status -> {
+			var newKeys = new HashSet<>(
+					deduplicationService.markProcessed(batch.stream().map(PendingChange::messageKey).toList()));
+			// The same message may be submitted twice, only its first submit is applied
+			var appliedChanges = batch.stream().filter(change -> newKeys.remove(change.messageKey())).toList();
+
+			budgetSystemService
+				.applyDeltas(appliedChanges.stream().flatMap(change -> change.deltas().stream()).toList());
+			appliedChanges.stream().map(PendingChange::write).filter(Objects::nonNull).forEach(Runnable::run);
+			return appliedChanges;
+		});
+
+		var appliedChanges = new HashSet<>(Objects.requireNonNull(applied));
+		batch.forEach(change -> change.result().complete(appliedChanges.contains(change)));
+		LOGGER.debug("Wrote budget changes of {} messages, {} already processed", appliedChanges.size(),
+				batch.size() - appliedChanges.size());
+	}
+
+	private record PendingChange(String messageKey, List<BudgetDelta> deltas, Runnable write,
+			CompletableFuture<Boolean> result) {
+	}
+
+}
@@ -0,0 +1,121 @@
+package cz.fi.muni.pa165.teamservice.business.services;
+
+import cz.fi.muni.pa165.teamservice.config.DeduplicationConfiguration;
+import cz.fi.muni.pa165.teamservice.persistence.entities.ProcessedMessage;
+import cz.fi.muni.pa165.teamservice.persistence.repositories.ProcessedMessageRepository;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Remembers the messages already processed, so a redelivered message doesn't apply its
+ * changes twice. Keys are kept in memory for a constant time lookup and stored in the
+ * {@code processed_message} table, which is consulted when the key is not in memory, e.g.
+ * after a restart. Both forget the keys once the retention elapses.
+ */
+@Service
+public class MessageDeduplicationService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MessageDeduplicationService.class);
+
+	private final ProcessedMessageRepository processedMessageRepository;
+
+	private final Duration retention;
+
+	// Key of the processed message -> epoch millis of the processing
+	private final ConcurrentHashMap<String, Long> processedMessages = new ConcurrentHashMap<>();
+
+	@Autowired
+	public MessageDeduplicationService(ProcessedMessageRepository processedMessageRepository,
+			DeduplicationConfiguration deduplicationConfiguration) {
+		this.processedMessageRepository = processedMessageRepository;
+		this.retention = Duration.ofHours(deduplicationConfiguration.getRetention());
+	}
+
+	/**
+	 * Marks the message as processed within the current transaction. The key is
+	 * remembered only if the transaction commits, a rolled back message is processed
+	 * again on redelivery.
+	 * @param messageKey key identifying the message
+	 * @return false if the message was already processed and must be skipped
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public boolean markProcessed(@Nonnull String messageKey) {
+		Objects.requireNonNull(messageKey, "Please provide key of the message");
+
+		return !markProcessed(List.of(messageKey)).isEmpty();
+	}
+
+	/**
+	 * Marks the messages as processed within the current transaction, the stored keys are
+	 * looked up and the new ones inserted in bulk
+	 * @param messageKeys keys identifying the messages
+	 * @return keys of the messages not processed yet, each key only once
+	 * @see #markProcessed(String)
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public Set<String> markProcessed(@Nonnull Collection<String> messageKeys) {
+		Objects.requireNonNull(messageKeys, "Please provide keys of the messages");
+
+		var newKeys = messageKeys.stream()
+			.filter(messageKey -> !processedMessages.containsKey(messageKey))
+			.collect(Collectors.toCollection(LinkedHashSet::new));
+		if (newKeys.isEmpty()) {
+			return Set.of();
+		}
+		for (var storedMessage : processedMessageRepository.findAllById(newKeys)) {
+			processedMessages.putIfAbsent(storedMessage.getMessageKey(), System.currentTimeMillis());
+			newKeys.remove(storedMessage.getMessageKey());
+		}
+		if (newKeys.isEmpty()) {
+			return Set.of();
+		}
+
+		var processedAt = OffsetDateTime.now();
+		// Concurrent delivery of the same message fails on the primary key and is rolled
+		// back, the redelivery then finds the key
+		processedMessageRepository.saveAllAndFlush(
+				newKeys.stream().map(messageKey -> new ProcessedMessage(messageKey, processedAt)).toList());
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				var processedAtMillis = processedAt.toInstant().toEpochMilli();
+				newKeys.forEach(messageKey -> processedMessages.put(messageKey, processedAtMillis));
+			}
+		});
+		return Collections.unmodifiableSet(newKeys);
+	}
+
+	/**
+	 * Forgets the keys of the messages processed before the retention
+	 */
+	@Scheduled(fixedDelayString = "${deduplication.purge-interval:600000}")
+	@Transactional
+	public void purgeExpired() {
+		var threshold = OffsetDateTime.now().minus(retention);
+		var thresholdMillis = threshold.toInstant().toEpochMilli();
+
+		processedMessages.values().removeIf(processedAt -> processedAt < thresholdMillis);
+		var removed = processedMessageRepository.deleteProcessedBefore(threshold);
+		LOGGER.debug("Removed {} expired keys of processed messages", removed);
+	}
+
+}
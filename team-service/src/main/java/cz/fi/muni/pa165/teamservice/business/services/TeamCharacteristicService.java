@@ -1,14 +1,20 @@
 package cz.fi.muni.pa165.teamservice.business.services;
 
 import cz.fi.muni.pa165.teamservice.api.exception.ResourceNotFoundException;
+import cz.fi.muni.pa165.teamservice.business.messages.TeamCharacteristicMessageResolver;
+import cz.fi.muni.pa165.teamservice.persistence.entities.FictiveTeam;
 import cz.fi.muni.pa165.teamservice.persistence.entities.TeamCharacteristic;
 import cz.fi.muni.pa165.teamservice.persistence.repositories.TeamCharacteristicRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * @author Jan Martinek
@@ -19,28 +25,38 @@ public class TeamCharacteristicService {
 
 	private final TeamCharacteristicRepository repository;
 
+	private final TeamCharacteristicMessageResolver messageResolver;
+
 	@Autowired
-	public TeamCharacteristicService(TeamCharacteristicRepository repository) {
+	public TeamCharacteristicService(TeamCharacteristicRepository repository,
+			TeamCharacteristicMessageResolver messageResolver) {
 		this.repository = repository;
+		this.messageResolver = messageResolver;
 	}
 
 	public TeamCharacteristic createTeamCharacteristic(TeamCharacteristic characteristic) {
-		return repository.save(characteristic);
+		var saved = repository.save(characteristic);
+		notifyTeamChanged(saved.getFictiveTeam());
+		return saved;
 	}
 
 	public TeamCharacteristic updateTeamCharacteristic(TeamCharacteristic characteristic)
 			throws ResourceNotFoundException {
-		if (!repository.existsById(characteristic.getGuid())) {
-			throw new ResourceNotFoundException("TeamCharacteristic not found");
+		// Team has to be read before the save merges the new state into the loaded entity
+		var originalTeam = findById(characteristic.getGuid()).getFictiveTeam();
+
+		var saved = repository.save(characteristic);
+		notifyTeamChanged(originalTeam);
+		if (!isSameTeam(originalTeam, saved.getFictiveTeam())) {
+			notifyTeamChanged(saved.getFictiveTeam());
 		}
-		return repository.save(characteristic);
+		return saved;
 	}
 
 	public void deleteTeamCharacteristic(UUID id) throws ResourceNotFoundException {
-		if (!repository.existsById(id)) {
-			throw new ResourceNotFoundException("TeamCharacteristic not found");
-		}
+		var characteristic = findById(id);
 		repository.deleteById(id);
+		notifyTeamChanged(characteristic.getFictiveTeam());
 	}
 
 	@Transactional(readOnly = true)
@@ -53,4 +69,33 @@ public class TeamCharacteristicService {
 		return repository.findByFictiveTeamGuid(teamId);
 	}
 
+	/**
+	 * Loads characteristics of all given teams with a single query
+	 * @param teamIds IDs of the teams
+	 * @return characteristics grouped by the team ID, teams without characteristics are
+	 * not present
+	 */
+	@Transactional(readOnly = true)
+	public Map<UUID, List<TeamCharacteristic>> findByTeamIds(Collection<UUID> teamIds) {
+		if (teamIds.isEmpty()) {
+			return Map.of();
+		}
+		return repository.findByFictiveTeamGuidIn(teamIds)
+			.stream()
+			.collect(Collectors.groupingBy(characteristic -> characteristic.getFictiveTeam().getGuid()));
+	}
+
+	private void notifyTeamChanged(FictiveTeam team) {
+		if (team != null) {
+			messageResolver.sendTeamCharacteristicChanged(team.getGuid());
+		}
+	}
+
+	private static boolean isSameTeam(FictiveTeam first, FictiveTeam second) {
+		if (first == null || second == null) {
+			return first == second;
+		}
+		return Objects.equals(first.getGuid(), second.getGuid());
+	}
+
 }
@@ -0,0 +1,34 @@
+package cz.fi.muni.pa165.teamservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+@Setter
+public class BudgetLedgerConfiguration {
+
+	/**
+	 * Defines in milliseconds how often the budget transactions are folded into the
+	 * balance snapshots
+	 */
+	@Value("${budget.snapshot-interval:60000}")
+	private int snapshotInterval;
+
+	/**
+	 * Defines in milliseconds how long the received budget changes wait to be written
+	 * together
+	 */
+	@Value("${budget.coalescing.flush-interval:20}")
+	private int flushInterval;
+
+	/**
+	 * Defines how many received budget changes are written at once. Changes are written
+	 * immediately once this many are waiting.
+	 */
+	@Value("${budget.coalescing.max-batch-size:32}")
+	private int maxBatchSize;
+
+}
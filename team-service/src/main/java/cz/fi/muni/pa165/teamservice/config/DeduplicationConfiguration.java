@@ -0,0 +1,26 @@
+package cz.fi.muni.pa165.teamservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+@Setter
+public class DeduplicationConfiguration {
+
+	/**
+	 * Defines in hours how long the keys of processed messages are remembered. Must be
+	 * longer than the broker keeps redelivering a message.
+	 */
+	@Value("${deduplication.retention:24}")
+	private int retention;
+
+	/**
+	 * Defines in milliseconds how often the expired keys are removed
+	 */
+	@Value("${deduplication.purge-interval:600000}")
+	private int purgeInterval;
+
+}
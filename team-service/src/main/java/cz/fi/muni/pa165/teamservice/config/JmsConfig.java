@@ -1,49 +1,42 @@
 package cz.fi.muni.pa165.teamservice.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import cz.fi.muni.pa165.messaging.MessagingConfiguration;
 import jakarta.jms.ConnectionFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
 import org.springframework.jms.annotation.EnableJms;
 import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
-import org.springframework.jms.core.JmsTemplate;
-import org.springframework.jms.support.converter.MappingJackson2MessageConverter;
 import org.springframework.jms.support.converter.MessageConverter;
-import org.springframework.jms.support.converter.MessageType;
 
 /**
  * @author Jan Martinek
  */
 @Configuration
 @EnableJms
+@Import(MessagingConfiguration.class)
 public class JmsConfig {
 
 	@Value("${spring.artemis.clientId:ihm-team-service}")
 	private String clientID;
 
-	@Bean
-	@Primary
-	public JmsTemplate queueJmsTemplate(@Qualifier("jmsConnectionFactory") ConnectionFactory connectionFactory,
-			MessageConverter messageConverter) {
-		JmsTemplate template = new JmsTemplate(connectionFactory);
-		template.setPubSubDomain(false);
-		template.setMessageConverter(messageConverter);
-		return template;
-	}
-
-	@Bean
-	public JmsTemplate topicJmsTemplate(@Qualifier("jmsConnectionFactory") ConnectionFactory connectionFactory,
-			MessageConverter messageConverter) {
-		JmsTemplate template = new JmsTemplate(connectionFactory);
-		template.setPubSubDomain(true);
-		template.setMessageConverter(messageConverter);
-		return template;
-	}
+	/**
+	 * Consumers of each queue, either a fixed "min-max" range or an upper limit. Messages
+	 * of one group stay with one consumer and are processed in order, other groups are
+	 * processed in parallel. Groups are bound to the consumers connected when their first
+	 * message arrives, so a fixed number of consumers spreads them evenly.
+	 */
+	@Value("${messaging.listener.concurrency:1}")
+	private String queueConcurrency;
 
+	/**
+	 * Each message is received in a local JMS transaction, committed only after the
+	 * listener returns. A message whose listener fails, e.g. because the write of its
+	 * budget changes failed, is redelivered.
+	 */
 	@Bean
 	@Primary
 	public DefaultJmsListenerContainerFactory queueListenerFactory(
@@ -53,6 +46,8 @@ public class JmsConfig {
 		factory.setPubSubDomain(false);
 		factory.setMessageConverter(messageConverter);
 		factory.setSubscriptionDurable(false);
+		factory.setConcurrency(queueConcurrency);
+		factory.setSessionTransacted(true);
 		return factory;
 	}
 
@@ -68,15 +63,4 @@ public class JmsConfig {
 		return factory;
 	}
 
-	@Bean
-	public MessageConverter jacksonJmsMessageConverter() {
-		ObjectMapper objectMapper = new ObjectMapper();
-		objectMapper.registerModule(new JavaTimeModule());
-		MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter(objectMapper);
-		converter.setTargetType(MessageType.TEXT);
-		converter.setTypeIdPropertyName("_json");
-
-		return converter;
-	}
-
 }
@@ -2,9 +2,16 @@ package cz.fi.muni.pa165.teamservice.persistence.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Formula;
 
 import java.util.UUID;
 
+/**
+ * Budget of the team. Changes of the budget are appended as {@link BudgetTransaction}s,
+ * the row only holds the balance snapshot of the transactions folded so far. Current
+ * balance is the snapshot plus the transactions not folded yet and is computed when the
+ * budget is loaded. Amount of a new budget becomes its first snapshot.
+ */
 @Entity
 @Table(name = "budget_system")
 @Getter
@@ -18,11 +25,21 @@ public class BudgetSystem {
 	@GeneratedValue(strategy = GenerationType.UUID)
 	private UUID guid;
 
-	@Column(nullable = false)
+	@Formula("snapshot_amount + coalesce((select sum(t.amount) from budget_transaction t "
+			+ "where t.budget_system_id = guid and t.snapshot_id is null), 0)")
 	private double amount;
 
+	// Only the snapshot job moves the snapshot, saving the budget never overwrites it
+	@Column(name = "snapshot_amount", nullable = false, updatable = false)
+	private double snapshotAmount;
+
 	@OneToOne
 	@JoinColumn(name = "team_id", referencedColumnName = "guid")
 	private FictiveTeam team;
 
+	@PrePersist
+	void openBalance() {
+		snapshotAmount = amount;
+	}
+
 }
@@ -0,0 +1,48 @@
+package cz.fi.muni.pa165.teamservice.persistence.entities;
+
+import cz.fi.muni.pa165.enums.BudgetTransactionReason;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Change of the budget. Transactions are only appended, the IDs grow with the time of the
+ * insert and order the history. Saving a transaction never changes it, only the snapshot
+ * job marks it as folded into the balance snapshot.
+ */
+@Entity
+@Table(name = "budget_transaction")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetTransaction {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "budget_system_id", nullable = false, updatable = false)
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	private BudgetSystem budgetSystem;
+
+	@Column(nullable = false, updatable = false)
+	private double amount;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, updatable = false, length = 32)
+	private BudgetTransactionReason reason;
+
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private OffsetDateTime createdAt;
+
+	@Column(name = "snapshot_id", updatable = false)
+	private UUID snapshotId;
+
+}
@@ -0,0 +1,40 @@
+package cz.fi.muni.pa165.teamservice.persistence.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Key of the message whose changes were already applied. The entries are only inserted
+ * and removed in bulk once expired, so the entity is always new and saving it doesn't
+ * look the key up first.
+ */
+@Entity
+@Table(name = "processed_message")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessedMessage implements Persistable<String> {
+
+	@Id
+	@Column(name = "message_key", nullable = false, length = 128)
+	private String messageKey;
+
+	@Column(name = "processed_at", nullable = false)
+	private OffsetDateTime processedAt;
+
+	@Override
+	public String getId() {
+		return messageKey;
+	}
+
+	@Override
+	public boolean isNew() {
+		return true;
+	}
+
+}
@@ -3,6 +3,8 @@ package cz.fi.muni.pa165.teamservice.persistence.entities;
 import cz.fi.muni.pa165.enums.TeamCharacteristicType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 
@@ -12,6 +14,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "team_characteristic")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team-characteristic")
 @Getter
 @Setter
 @Builder
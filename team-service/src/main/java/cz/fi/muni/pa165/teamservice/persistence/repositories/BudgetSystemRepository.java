@@ -2,6 +2,8 @@ package cz.fi.muni.pa165.teamservice.persistence.repositories;
 
 import cz.fi.muni.pa165.teamservice.persistence.entities.BudgetSystem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.UUID;
@@ -15,4 +17,20 @@ public interface BudgetSystemRepository extends JpaRepository<BudgetSystem, UUID
 
 	Optional<BudgetSystem> findByTeamGuid(UUID teamId);
 
+	@Query("SELECT b.guid FROM BudgetSystem b WHERE b.team.guid = :teamId")
+	Optional<UUID> findGuidByTeamGuid(UUID teamId);
+
+	/**
+	 * Folds the transactions marked with the given snapshot into the balance snapshots of
+	 * all budgets in a single statement.
+	 * @param snapshotId ID of the snapshot the transactions were marked with
+	 * @return number of the budgets with a new snapshot
+	 */
+	@Modifying
+	@Query("UPDATE BudgetSystem b SET b.snapshotAmount = b.snapshotAmount + (SELECT SUM(t.amount) "
+			+ "FROM BudgetTransaction t WHERE t.budgetSystem = b AND t.snapshotId = :snapshotId) "
+			+ "WHERE EXISTS (SELECT t.id FROM BudgetTransaction t WHERE t.budgetSystem = b "
+			+ "AND t.snapshotId = :snapshotId)")
+	int takeSnapshots(UUID snapshotId);
+
 }
@@ -0,0 +1,49 @@
+package cz.fi.muni.pa165.teamservice.persistence.repositories;
+
+import cz.fi.muni.pa165.enums.BudgetTransactionReason;
+import cz.fi.muni.pa165.teamservice.persistence.entities.BudgetTransaction;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BudgetTransactionRepository extends JpaRepository<BudgetTransaction, Long> {
+
+	/**
+	 * Finds the transactions of the budget older than the given one, newest first. Seeks
+	 * by the ID in the index, so deep pages are as fast as the first one.
+	 * @param budgetSystemId ID of the budget
+	 * @param before ID of the last transaction of the previous page
+	 * @param limit size of the page
+	 */
+	@Query("SELECT t FROM BudgetTransaction t WHERE t.budgetSystem.guid = :budgetSystemId AND t.id < :before "
+			+ "ORDER BY t.id DESC")
+	List<BudgetTransaction> findHistory(UUID budgetSystemId, long before, Limit limit);
+
+	/**
+	 * Appends the same change to all budgets of the owner's teams in a single statement
+	 * @return number of the changed budgets
+	 */
+	@Modifying
+	@Query("INSERT INTO BudgetTransaction (budgetSystem, amount, reason, createdAt) "
+			+ "SELECT t.budgetSystem, :amount, :reason, :createdAt FROM FictiveTeam t "
+			+ "WHERE t.ownerId = :ownerId AND t.budgetSystem IS NOT NULL")
+	int appendForOwner(UUID ownerId, double amount, BudgetTransactionReason reason, OffsetDateTime createdAt);
+
+	/**
+	 * Marks all committed transactions not folded yet as folded into the given snapshot.
+	 * Transactions still running are not visible to the statement and stay unfolded.
+	 * @param snapshotId ID of the new snapshot
+	 * @return number of the marked transactions
+	 */
+	@Modifying
+	@Query("UPDATE BudgetTransaction t SET t.snapshotId = :snapshotId WHERE t.snapshotId IS NULL")
+	int markFolded(UUID snapshotId);
+
+}
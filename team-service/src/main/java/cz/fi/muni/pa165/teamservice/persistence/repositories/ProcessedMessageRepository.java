@@ -0,0 +1,25 @@
+package cz.fi.muni.pa165.teamservice.persistence.repositories;
+
+import cz.fi.muni.pa165.teamservice.persistence.entities.ProcessedMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+
+@Repository
+public interface ProcessedMessageRepository extends JpaRepository<ProcessedMessage, String> {
+
+	/**
+	 * Removes the keys of the messages processed before the given time. Bulk delete is
+	 * required, the derived delete skips the entities reporting themselves as new.
+	 * @param threshold time before which the keys expire
+	 * @return number of removed keys
+	 */
+	@Modifying
+	@Query("DELETE FROM ProcessedMessage m WHERE m.processedAt < :threshold")
+	int deleteProcessedBefore(@Param("threshold") OffsetDateTime threshold);
+
+}
@@ -1,11 +1,15 @@
 package cz.fi.muni.pa165.teamservice.persistence.repositories;
 
 import cz.fi.muni.pa165.teamservice.persistence.entities.TeamCharacteristic;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,6 +19,10 @@ import java.util.UUID;
 @Repository
 public interface TeamCharacteristicRepository extends JpaRepository<TeamCharacteristic, UUID> {
 
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 	List<TeamCharacteristic> findByFictiveTeamGuid(UUID teamId);
 
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	List<TeamCharacteristic> findByFictiveTeamGuidIn(Collection<UUID> teamIds);
+
 }
\ No newline at end of file
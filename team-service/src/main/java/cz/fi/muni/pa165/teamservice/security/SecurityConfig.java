@@ -64,6 +64,8 @@ public class SecurityConfig {
 			.requestMatchers(HttpMethod.GET, "/**")
 			.hasAnyAuthority(SCOPE_TEST_READ, SCOPE_TEST_WRITE))
 			.addFilterBefore(apiKeyFilter, BasicAuthenticationFilter.class)
+			// Other services authenticate by the API key header, not by a cookie
+			.csrf(csrf -> csrf.ignoringRequestMatchers(APIKeyFilter.REQUEST_MATCHER))
 			.oauth2ResourceServer(server -> server.opaqueToken(Customizer.withDefaults()));
 
 		return http.build();
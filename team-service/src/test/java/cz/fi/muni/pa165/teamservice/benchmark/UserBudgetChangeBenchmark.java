@@ -0,0 +1,100 @@
+package cz.fi.muni.pa165.teamservice.benchmark;
+
+import cz.fi.muni.pa165.enums.BudgetTransactionReason;
+import cz.fi.muni.pa165.messaging.BudgetChangeMessage;
+import cz.fi.muni.pa165.teamservice.TeamServiceApplication;
+import cz.fi.muni.pa165.teamservice.business.services.BudgetLedgerService;
+import cz.fi.muni.pa165.teamservice.business.services.BudgetSystemService;
+import cz.fi.muni.pa165.teamservice.persistence.entities.BudgetSystem;
+import cz.fi.muni.pa165.teamservice.persistence.entities.FictiveTeam;
+import cz.fi.muni.pa165.teamservice.persistence.repositories.FictiveTeamRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of applying a payment of the user to the budgets of all their teams on an
+ * in-memory H2 database. The {@code perBudget} variant loads the teams and appends a
+ * transaction to each budget, the way the payments were applied before the bulk insert of
+ * {@link BudgetSystemService#processUserBudgetChange}. Balance snapshots are taken every
+ * second, so the growing history doesn't slow the loading of the budgets down.
+ * <p>
+ * Run with {@code mvn -pl team-service test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=cz.fi.muni.pa165.teamservice.benchmark.UserBudgetChangeBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserBudgetChangeBenchmark {
+
+	@Param({ "1", "10", "100" })
+	private int teamsPerOwner;
+
+	private ConfigurableApplicationContext context;
+
+	private TransactionTemplate transactionTemplate;
+
+	private BudgetSystemService budgetSystemService;
+
+	private BudgetLedgerService budgetLedgerService;
+
+	private FictiveTeamRepository fictiveTeamRepository;
+
+	private BudgetChangeMessage payment;
+
+	@Setup
+	public void setup() {
+		context = new SpringApplicationBuilder(TeamServiceApplication.class).run(
+				"--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1", "--server.port=0",
+				"--server.database.seed=false", "--budget.snapshot-interval=1000",
+				"--logging.level.cz.fi.muni.pa165=INFO");
+		transactionTemplate = context.getBean(TransactionTemplate.class);
+		budgetSystemService = context.getBean(BudgetSystemService.class);
+		budgetLedgerService = context.getBean(BudgetLedgerService.class);
+		fictiveTeamRepository = context.getBean(FictiveTeamRepository.class);
+
+		payment = new BudgetChangeMessage(UUID.randomUUID(), 100);
+		for (int i = 0; i < teamsPerOwner; i++) {
+			var team = new FictiveTeam();
+			team.setName("Team " + i);
+			team.setOwnerId(payment.getUserId());
+			team.setBudgetSystem(BudgetSystem.builder().amount(1000.0).build());
+			fictiveTeamRepository.save(team);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public int perBudget() {
+		return transactionTemplate.execute(status -> {
+			var teams = fictiveTeamRepository.findByOwnerId(payment.getUserId());
+			teams.forEach(team -> budgetLedgerService.append(team.getBudgetSystem(), payment.getAmount(),
+					BudgetTransactionReason.PAYMENT));
+			return teams.size();
+		});
+	}
+
+	@Benchmark
+	public int bulk() {
+		return transactionTemplate.execute(status -> budgetSystemService.processUserBudgetChange(payment));
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(UserBudgetChangeBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -3,7 +3,9 @@ package cz.fi.muni.pa165.teamservice.integration.api.controllers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import cz.fi.muni.pa165.dto.teamservice.BudgetSystemCreateDTO;
 import cz.fi.muni.pa165.dto.teamservice.BudgetSystemUpdateDTO;
+import cz.fi.muni.pa165.enums.BudgetTransactionReason;
 import cz.fi.muni.pa165.teamservice.TeamServiceApplication;
+import cz.fi.muni.pa165.teamservice.business.services.BudgetLedgerService;
 import cz.fi.muni.pa165.teamservice.config.DisableSecurityTestConfig;
 import cz.fi.muni.pa165.teamservice.persistence.entities.BudgetSystem;
 import cz.fi.muni.pa165.teamservice.persistence.repositories.BudgetSystemRepository;
@@ -44,6 +46,9 @@ class BudgetSystemControllerIT {
 	@Autowired
 	private FictiveTeamRepository fictiveTeamRepository;
 
+	@Autowired
+	private BudgetLedgerService budgetLedgerService;
+
 	@Autowired
 	private ObjectMapper objectMapper;
 
@@ -91,6 +96,40 @@ class BudgetSystemControllerIT {
 			.andExpect(jsonPath("$.amount").value(2000.0));
 	}
 
+	@Test
+	void getBudgetHistory_pagedByBefore_newestFirst() throws Exception {
+		BudgetSystem budgetSystem = new BudgetSystem();
+		budgetSystem.setAmount(0.0);
+		budgetSystem.setTeam(testTeam);
+		budgetSystem = budgetSystemRepository.save(budgetSystem);
+		var payment = budgetLedgerService.append(budgetSystem, 300.0, BudgetTransactionReason.PAYMENT);
+		var prize = budgetLedgerService.append(budgetSystem, 1000.0, BudgetTransactionReason.MATCH_PRIZE);
+		var refund = budgetLedgerService.append(budgetSystem, -300.0, BudgetTransactionReason.REFUND);
+
+		mockMvc.perform(get("/v1/budget-systems/{id}/transactions", budgetSystem.getGuid()).param("size", "2"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.transactions.length()").value(2))
+			.andExpect(jsonPath("$.transactions[0].id").value(refund.getId()))
+			.andExpect(jsonPath("$.transactions[0].reason").value("REFUND"))
+			.andExpect(jsonPath("$.transactions[1].id").value(prize.getId()))
+			.andExpect(jsonPath("$.nextBefore").value(prize.getId()));
+
+		mockMvc
+			.perform(get("/v1/budget-systems/{id}/transactions", budgetSystem.getGuid()).param("size", "2")
+				.param("before", prize.getId().toString()))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.transactions.length()").value(1))
+			.andExpect(jsonPath("$.transactions[0].id").value(payment.getId()))
+			.andExpect(jsonPath("$.transactions[0].amount").value(300.0))
+			.andExpect(jsonPath("$.nextBefore").doesNotExist());
+	}
+
+	@Test
+	void getBudgetHistory_withNonExistingId_shouldReturnNotFound() throws Exception {
+		mockMvc.perform(get("/v1/budget-systems/{id}/transactions", UUID.randomUUID()))
+			.andExpect(status().isNotFound());
+	}
+
 	@Test
 	void deleteBudgetSystem_withExistingId_shouldReturnNoContent() throws Exception {
 		BudgetSystem budgetSystem = new BudgetSystem();
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import cz.fi.muni.pa165.dto.teamservice.FictiveTeamCreateDTO;
 import cz.fi.muni.pa165.dto.teamservice.FictiveTeamUpdateDTO;
 import cz.fi.muni.pa165.enums.TeamCharacteristicType;
+import cz.fi.muni.pa165.messaging.MessageSender;
 import cz.fi.muni.pa165.teamservice.config.DisableSecurityTestConfig;
 import cz.fi.muni.pa165.teamservice.persistence.entities.FictiveTeam;
 import cz.fi.muni.pa165.teamservice.persistence.entities.TeamCharacteristic;
@@ -16,7 +17,6 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
-import org.springframework.jms.core.JmsTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
@@ -49,9 +49,9 @@ class FictiveTeamControllerIT {
 	@Autowired
 	private ObjectMapper objectMapper;
 
-	@MockitoBean(name = "queueJmsTemplate")
+	@MockitoBean(name = "queueMessageSender")
 	@SuppressWarnings("unused")
-	private JmsTemplate topicJmsTemplate;
+	private MessageSender queueMessageSender;
 
 	@BeforeEach
 	public void setup() {
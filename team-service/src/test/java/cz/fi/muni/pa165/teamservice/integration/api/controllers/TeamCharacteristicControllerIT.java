@@ -170,4 +170,40 @@ class TeamCharacteristicControllerIT {
 			.andExpect(jsonPath("$.length()").value(2));
 	}
 
+	@Test
+	void findByTeamIds_withExistingTeams_shouldReturnCharacteristicsGroupedByTeam() throws Exception {
+		var firstTeam = createTeam("First team");
+		var secondTeam = createTeam("Second team");
+
+		TeamCharacteristic characteristic1 = new TeamCharacteristic();
+		characteristic1.setFictiveTeam(firstTeam);
+		characteristic1.setCharacteristicType(TeamCharacteristicType.COLLABORATION);
+
+		TeamCharacteristic characteristic2 = new TeamCharacteristic();
+		characteristic2.setFictiveTeam(firstTeam);
+		characteristic2.setCharacteristicType(TeamCharacteristicType.SPEED);
+
+		TeamCharacteristic characteristic3 = new TeamCharacteristic();
+		characteristic3.setFictiveTeam(secondTeam);
+		characteristic3.setCharacteristicType(TeamCharacteristicType.SPEED);
+
+		teamCharacteristicRepository.saveAll(List.of(characteristic1, characteristic2, characteristic3));
+
+		var teamIds = List.of(firstTeam.getGuid(), secondTeam.getGuid(), UUID.randomUUID());
+		mockMvc
+			.perform(post("/v1/team-characteristics/team/batch").contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(teamIds)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.length()").value(2))
+			.andExpect(jsonPath("$['" + firstTeam.getGuid() + "'].length()").value(2))
+			.andExpect(jsonPath("$['" + secondTeam.getGuid() + "'].length()").value(1));
+	}
+
+	private FictiveTeam createTeam(String name) {
+		FictiveTeam team = new FictiveTeam();
+		team.setOwnerId(UUID.randomUUID());
+		team.setName(name);
+		return fictiveTeamRepository.save(team);
+	}
+
 }
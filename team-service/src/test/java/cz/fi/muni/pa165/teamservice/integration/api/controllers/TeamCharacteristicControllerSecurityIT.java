@@ -0,0 +1,57 @@
+package cz.fi.muni.pa165.teamservice.integration.api.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Internal endpoints called by the other services with the API key, the security is
+ * enabled
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({ "test", "security-test" })
+class TeamCharacteristicControllerSecurityIT {
+
+	private static final String API_KEY_HEADER = "X-Api-Key";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Value("${spring.security.api-key}")
+	private String apiKey;
+
+	@Test
+	void findByTeamIds_withApiKey_shouldReturnOk() throws Exception {
+		mockMvc
+			.perform(post("/v1/team-characteristics/team/batch").header(API_KEY_HEADER, apiKey)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(Set.of(UUID.randomUUID()))))
+			.andExpect(status().isOk());
+	}
+
+	@Test
+	void findByTeamIds_withInvalidApiKey_shouldReturnUnauthorized() throws Exception {
+		mockMvc
+			.perform(post("/v1/team-characteristics/team/batch").header(API_KEY_HEADER, "invalid")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(Set.of(UUID.randomUUID()))))
+			.andExpect(status().isUnauthorized());
+	}
+
+}
@@ -0,0 +1,130 @@
+package cz.fi.muni.pa165.teamservice.integration.business.services;
+
+import cz.fi.muni.pa165.enums.BudgetTransactionReason;
+import cz.fi.muni.pa165.teamservice.business.services.BudgetLedgerService;
+import cz.fi.muni.pa165.teamservice.persistence.entities.BudgetSystem;
+import cz.fi.muni.pa165.teamservice.persistence.entities.BudgetTransaction;
+import cz.fi.muni.pa165.teamservice.persistence.entities.FictiveTeam;
+import cz.fi.muni.pa165.teamservice.persistence.repositories.BudgetSystemRepository;
+import cz.fi.muni.pa165.teamservice.persistence.repositories.BudgetTransactionRepository;
+import cz.fi.muni.pa165.teamservice.persistence.repositories.FictiveTeamRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every append commits its own transaction, so the snapshot folds all of them.
+ */
+@SpringBootTest
+class BudgetLedgerServiceIT {
+
+	@Autowired
+	private BudgetLedgerService budgetLedgerService;
+
+	@Autowired
+	private BudgetSystemRepository budgetSystemRepository;
+
+	@Autowired
+	private BudgetTransactionRepository budgetTransactionRepository;
+
+	@Autowired
+	private FictiveTeamRepository fictiveTeamRepository;
+
+	private BudgetSystem budgetSystem;
+
+	@BeforeEach
+	void setUp() {
+		budgetSystem = budgetSystemRepository.save(BudgetSystem.builder().amount(1000.0).build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		budgetTransactionRepository.deleteAllInBatch();
+		fictiveTeamRepository.deleteAll();
+		budgetSystemRepository.deleteAll();
+	}
+
+	@Test
+	void append_concurrentConsumers_noChangeLost() throws InterruptedException {
+		try (var executor = Executors.newFixedThreadPool(8)) {
+			var appends = IntStream.range(0, 100)
+				.<Callable<Object>>mapToObj(
+						i -> () -> budgetLedgerService.append(budgetSystem, 10.0, BudgetTransactionReason.MATCH_PRIZE))
+				.toList();
+			executor.invokeAll(appends);
+		}
+
+		assertThat(getBudget().getAmount()).isEqualTo(2000.0);
+	}
+
+	@Test
+	void takeSnapshots_balanceKeptAndLaterTransactionsAdded() {
+		budgetLedgerService.append(budgetSystem, 500.0, BudgetTransactionReason.PAYMENT);
+		budgetLedgerService.append(budgetSystem, -200.0, BudgetTransactionReason.REFUND);
+
+		budgetLedgerService.takeSnapshots();
+		var snapshot = getBudget();
+		budgetLedgerService.append(budgetSystem, 50.0, BudgetTransactionReason.MATCH_PRIZE);
+
+		assertThat(snapshot.getSnapshotAmount()).isEqualTo(1300.0);
+		assertThat(snapshot.getAmount()).isEqualTo(1300.0);
+		assertThat(getBudget().getAmount()).isEqualTo(1350.0);
+	}
+
+	@Test
+	void takeSnapshots_transactionCreatedBeforeLastSnapshot_foldedIntoNext() {
+		budgetLedgerService.append(budgetSystem, 500.0, BudgetTransactionReason.PAYMENT);
+		budgetLedgerService.takeSnapshots();
+
+		budgetTransactionRepository.save(BudgetTransaction.builder()
+			.budgetSystem(budgetSystem)
+			.amount(-200.0)
+			.reason(BudgetTransactionReason.REFUND)
+			.createdAt(OffsetDateTime.now().minusHours(1))
+			.build());
+		budgetLedgerService.takeSnapshots();
+
+		assertThat(getBudget().getSnapshotAmount()).isEqualTo(1300.0);
+		assertThat(getBudget().getAmount()).isEqualTo(1300.0);
+	}
+
+	@Test
+	void appendForOwner_budgetsOfOwnersTeamsChanged() {
+		var ownerId = UUID.randomUUID();
+		var teamBudgets = IntStream.range(0, 3).mapToObj(i -> saveTeamWithBudget(ownerId)).toList();
+		saveTeamWithBudget(UUID.randomUUID());
+
+		var changed = budgetLedgerService.appendForOwner(ownerId, 300.0, BudgetTransactionReason.PAYMENT);
+
+		assertThat(changed).isEqualTo(3);
+		assertThat(teamBudgets).allSatisfy(budget -> assertThat(getBudget(budget).getAmount()).isEqualTo(1300.0));
+		assertThat(budgetTransactionRepository.count()).isEqualTo(3);
+	}
+
+	private BudgetSystem saveTeamWithBudget(UUID ownerId) {
+		var team = new FictiveTeam();
+		team.setName("Team");
+		team.setOwnerId(ownerId);
+		team.setBudgetSystem(BudgetSystem.builder().amount(1000.0).build());
+		return fictiveTeamRepository.save(team).getBudgetSystem();
+	}
+
+	private BudgetSystem getBudget(BudgetSystem budget) {
+		return budgetSystemRepository.findById(budget.getGuid()).orElseThrow();
+	}
+
+	private BudgetSystem getBudget() {
+		return budgetSystemRepository.findById(budgetSystem.getGuid()).orElseThrow();
+	}
+
+}
@@ -0,0 +1,109 @@
+package cz.fi.muni.pa165.teamservice.integration.business.services;
+
+import cz.fi.muni.pa165.dto.gameservice.MatchViewDto;
+import cz.fi.muni.pa165.dto.gameservice.ResultViewDto;
+import cz.fi.muni.pa165.messaging.BudgetChangeMessage;
+import cz.fi.muni.pa165.teamservice.business.services.BudgetMessageListener;
+import cz.fi.muni.pa165.teamservice.persistence.entities.BudgetSystem;
+import cz.fi.muni.pa165.teamservice.persistence.entities.FictiveTeam;
+import cz.fi.muni.pa165.teamservice.persistence.repositories.BudgetSystemRepository;
+import cz.fi.muni.pa165.teamservice.persistence.repositories.FictiveTeamRepository;
+import cz.fi.muni.pa165.teamservice.persistence.repositories.ProcessedMessageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redelivered messages are passed to the listener directly, every delivery commits its
+ * own transaction the same way as a message received from the broker
+ */
+@SpringBootTest
+class BudgetMessageListenerIT {
+
+	@Autowired
+	private BudgetMessageListener budgetMessageListener;
+
+	@Autowired
+	private FictiveTeamRepository fictiveTeamRepository;
+
+	@Autowired
+	private BudgetSystemRepository budgetSystemRepository;
+
+	@Autowired
+	private ProcessedMessageRepository processedMessageRepository;
+
+	private FictiveTeam homeTeam;
+
+	private FictiveTeam awayTeam;
+
+	@BeforeEach
+	void setUp() {
+		homeTeam = saveTeamWithBudget("Home Team", 1000.0);
+		awayTeam = saveTeamWithBudget("Away Team", 1000.0);
+	}
+
+	@AfterEach
+	void tearDown() {
+		// Team and its budget reference each other
+		for (var team : List.of(homeTeam, awayTeam)) {
+			team.setBudgetSystem(null);
+			fictiveTeamRepository.save(team);
+		}
+		budgetSystemRepository.deleteAll();
+		fictiveTeamRepository.deleteAll();
+		processedMessageRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void receiveMessageGame_redelivered_prizePaidOnce() {
+		var match = MatchViewDto.builder()
+			.guid(UUID.randomUUID())
+			.homeTeamUid(homeTeam.getGuid())
+			.awayTeamUid(awayTeam.getGuid())
+			.result(ResultViewDto.builder().winnerTeam(homeTeam.getGuid()).scoreHomeTeam(3).scoreAwayTeam(1).build())
+			.build();
+
+		budgetMessageListener.receiveMessageGame(match);
+		budgetMessageListener.receiveMessageGame(match);
+
+		assertThat(getBudget(homeTeam)).isEqualTo(2000.0);
+		assertThat(getBudget(awayTeam)).isEqualTo(1500.0);
+		assertThat(processedMessageRepository.existsById("match:" + match.getGuid())).isTrue();
+	}
+
+	@Test
+	void receiveMessageUser_redeliveredSameMessageId_budgetChangedOnce() {
+		var message = new BudgetChangeMessage(homeTeam.getOwnerId(), 300);
+
+		budgetMessageListener.receiveMessageUser(message, "ID:budget-1");
+		budgetMessageListener.receiveMessageUser(message, "ID:budget-1");
+		budgetMessageListener.receiveMessageUser(message, "ID:budget-2");
+
+		assertThat(getBudget(homeTeam)).isEqualTo(1600.0);
+	}
+
+	private FictiveTeam saveTeamWithBudget(String name, double amount) {
+		var team = new FictiveTeam();
+		team.setName(name);
+		team.setOwnerId(UUID.randomUUID());
+		team = fictiveTeamRepository.save(team);
+
+		var budgetSystem = new BudgetSystem();
+		budgetSystem.setAmount(amount);
+		budgetSystem.setTeam(team);
+		team.setBudgetSystem(budgetSystemRepository.save(budgetSystem));
+		return fictiveTeamRepository.save(team);
+	}
+
+	private double getBudget(FictiveTeam team) {
+		return budgetSystemRepository.findByTeamGuid(team.getGuid()).orElseThrow().getAmount();
+	}
+
+}
@@ -0,0 +1,121 @@
+package cz.fi.muni.pa165.teamservice.integration.business.services;
+
+import cz.fi.muni.pa165.dto.gameservice.MatchViewDto;
+import cz.fi.muni.pa165.dto.gameservice.ResultViewDto;
+import cz.fi.muni.pa165.messaging.MessageSender;
+import cz.fi.muni.pa165.teamservice.business.services.BudgetSystemService;
+import cz.fi.muni.pa165.teamservice.persistence.entities.BudgetSystem;
+import cz.fi.muni.pa165.teamservice.persistence.entities.FictiveTeam;
+import cz.fi.muni.pa165.teamservice.persistence.repositories.BudgetSystemRepository;
+import cz.fi.muni.pa165.teamservice.persistence.repositories.FictiveTeamRepository;
+import cz.fi.muni.pa165.teamservice.persistence.repositories.ProcessedMessageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Match result sent through the broker embedded by the context. The first write of its
+ * prizes fails, the message must be redelivered and its prizes paid exactly once.
+ */
+@SpringBootTest
+class BudgetMessageRedeliveryIT {
+
+	private static final String MATCH_RESULT_QUEUE = "game.match.result.queue";
+
+	@Autowired
+	private MessageSender messageSender;
+
+	@MockitoSpyBean
+	private BudgetSystemService budgetSystemService;
+
+	@Autowired
+	private FictiveTeamRepository fictiveTeamRepository;
+
+	@Autowired
+	private BudgetSystemRepository budgetSystemRepository;
+
+	@Autowired
+	private ProcessedMessageRepository processedMessageRepository;
+
+	private FictiveTeam homeTeam;
+
+	private FictiveTeam awayTeam;
+
+	@BeforeEach
+	void setUp() {
+		homeTeam = saveTeamWithBudget("Home Team", 1000.0);
+		awayTeam = saveTeamWithBudget("Away Team", 1000.0);
+	}
+
+	@AfterEach
+	void tearDown() {
+		// Team and its budget reference each other
+		for (var team : List.of(homeTeam, awayTeam)) {
+			team.setBudgetSystem(null);
+			fictiveTeamRepository.save(team);
+		}
+		budgetSystemRepository.deleteAll();
+		fictiveTeamRepository.deleteAll();
+		processedMessageRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void receiveMessageGame_firstWriteFails_redeliveredAndPaidOnce() throws InterruptedException {
+		Mockito.doThrow(new IllegalStateException("Broken write"))
+			.doCallRealMethod()
+			.when(budgetSystemService)
+			.applyDeltas(Mockito.anyCollection());
+		var match = MatchViewDto.builder()
+			.guid(UUID.randomUUID())
+			.homeTeamUid(homeTeam.getGuid())
+			.awayTeamUid(awayTeam.getGuid())
+			.result(ResultViewDto.builder().winnerTeam(homeTeam.getGuid()).scoreHomeTeam(3).scoreAwayTeam(1).build())
+			.build();
+
+		messageSender.send(MATCH_RESULT_QUEUE, match, homeTeam.getGuid().toString());
+
+		awaitProcessed("match:" + match.getGuid());
+		assertThat(getBudget(homeTeam)).isEqualTo(2000.0);
+		assertThat(getBudget(awayTeam)).isEqualTo(1500.0);
+		Mockito.verify(budgetSystemService, Mockito.times(2)).applyDeltas(Mockito.anyCollection());
+	}
+
+	private void awaitProcessed(String messageKey) throws InterruptedException {
+		var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (System.nanoTime() < deadline) {
+			if (processedMessageRepository.existsById(messageKey)) {
+				return;
+			}
+			TimeUnit.MILLISECONDS.sleep(20);
+		}
+		throw new AssertionError("Message %s was not processed in time".formatted(messageKey));
+	}
+
+	private FictiveTeam saveTeamWithBudget(String name, double amount) {
+		var team = new FictiveTeam();
+		team.setName(name);
+		team.setOwnerId(UUID.randomUUID());
+		team = fictiveTeamRepository.save(team);
+
+		var budgetSystem = new BudgetSystem();
+		budgetSystem.setAmount(amount);
+		budgetSystem.setTeam(team);
+		team.setBudgetSystem(budgetSystemRepository.save(budgetSystem));
+		return fictiveTeamRepository.save(team);
+	}
+
+	private double getBudget(FictiveTeam team) {
+		return budgetSystemRepository.findByTeamGuid(team.getGuid()).orElseThrow().getAmount();
+	}
+
+}
@@ -0,0 +1,173 @@
+package cz.fi.muni.pa165.teamservice.integration.messaging;
+
+import cz.fi.muni.pa165.messaging.BudgetChangeMessage;
+import cz.fi.muni.pa165.messaging.MessageSender;
+import cz.fi.muni.pa165.messaging.MessagingConfiguration;
+import cz.fi.muni.pa165.messaging.SenderConnectionPool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.jms.JMSException;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.apache.activemq.artemis.jms.client.ActiveMQConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+import org.springframework.jms.support.converter.MessageConverter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Messages of the groups sent to an embedded Artemis broker and consumed by the listener
+ * container the same way as the budget queues. Each message takes a few milliseconds to
+ * process, so the consumption time shows how many groups are processed in parallel.
+ */
+class MessageGroupConsumptionIT {
+
+	// Apart from the brokers embedded by the Spring contexts of the other tests
+	private static final String BROKER_URL = "vm://100";
+
+	private static final String QUEUE = "test.grouped";
+
+	private static final int GROUPS = 8;
+
+	private static final int MESSAGES_PER_GROUP = 25;
+
+	private static final long PROCESSING_MILLIS = 10;
+
+	private EmbeddedActiveMQ broker;
+
+	private ActiveMQConnectionFactory connectionFactory;
+
+	private MessageConverter messageConverter;
+
+	private SenderConnectionPool senderConnectionPool;
+
+	private MessageSender messageSender;
+
+	private List<UUID> groups;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		var configuration = new ConfigurationImpl().setPersistenceEnabled(false)
+			.setSecurityEnabled(false)
+			.addAcceptorConfiguration("in-vm", BROKER_URL);
+		broker = new EmbeddedActiveMQ().setConfiguration(configuration);
+		broker.start();
+
+		// Messages are sent asynchronously over pooled sessions, so the sending doesn't
+		// slow
+		// down the consumers
+		connectionFactory = new ActiveMQConnectionFactory(BROKER_URL + "?confirmationWindowSize=1048576");
+		messageConverter = new MessagingConfiguration().jacksonJmsMessageConverter();
+		senderConnectionPool = new SenderConnectionPool(connectionFactory, 1, 10);
+		var jmsTemplate = new JmsTemplate(senderConnectionPool.getConnectionFactory());
+		jmsTemplate.setMessageConverter(messageConverter);
+		messageSender = new MessageSender(jmsTemplate, new SimpleMeterRegistry(), Set.of(QUEUE), Set.of());
+		groups = IntStream.range(0, GROUPS).mapToObj(i -> UUID.randomUUID()).toList();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		senderConnectionPool.destroy();
+		connectionFactory.close();
+		broker.stop();
+	}
+
+	@Test
+	void consume_concurrentConsumers_groupsProcessedInOrderAndInParallel() throws Exception {
+		var sequential = consume(1);
+		var concurrent = consume(4);
+
+		assertOrderedWithinGroups(sequential.received());
+		assertOrderedWithinGroups(concurrent.received());
+		// Four consumers share the eight groups, a consumer may get more groups than the
+		// others, so less than the ideal speedup is required
+		assertThat(concurrent.duration()).isLessThan(sequential.duration().multipliedBy(2).dividedBy(3));
+	}
+
+	/**
+	 * Starts the consumers, sends the messages of all groups interleaved and waits until
+	 * all of them are processed
+	 */
+	private Consumption consume(int concurrency) throws Exception {
+		var received = new ConcurrentHashMap<UUID, List<Integer>>();
+		var processed = new CountDownLatch(GROUPS * MESSAGES_PER_GROUP);
+
+		var container = new DefaultMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.setDestinationName(QUEUE);
+		// Fixed number of consumers as configured for the budget queues
+		container.setConcurrency(concurrency + "-" + concurrency);
+		container.setMessageListener((jakarta.jms.MessageListener) message -> {
+			try {
+				var change = (BudgetChangeMessage) messageConverter.fromMessage(message);
+				TimeUnit.MILLISECONDS.sleep(PROCESSING_MILLIS);
+				received.computeIfAbsent(change.getUserId(), userId -> Collections.synchronizedList(new ArrayList<>()))
+					.add(change.getAmount());
+				processed.countDown();
+			}
+			catch (JMSException e) {
+				throw new IllegalStateException(e);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		container.afterPropertiesSet();
+		container.start();
+		try {
+			// Groups are bound to the consumers connected when their first message
+			// arrives
+			awaitConsumers(concurrency);
+
+			var startedAt = System.nanoTime();
+			for (var sequence = 0; sequence < MESSAGES_PER_GROUP; sequence++) {
+				for (var group : groups) {
+					messageSender.send(QUEUE, new BudgetChangeMessage(group, sequence), group.toString());
+				}
+			}
+			assertThat(processed.await(30, TimeUnit.SECONDS)).isTrue();
+			return new Consumption(received, Duration.ofNanos(System.nanoTime() - startedAt));
+		}
+		finally {
+			container.shutdown();
+		}
+	}
+
+	private void awaitConsumers(int consumers) throws InterruptedException {
+		var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (System.nanoTime() < deadline) {
+			var queue = broker.getActiveMQServer().locateQueue(SimpleString.of(QUEUE));
+			if (queue != null && queue.getConsumerCount() == consumers) {
+				return;
+			}
+			TimeUnit.MILLISECONDS.sleep(10);
+		}
+		throw new AssertionError("Consumers of the queue did not connect in time");
+	}
+
+	private void assertOrderedWithinGroups(Map<UUID, List<Integer>> received) {
+		var expected = IntStream.range(0, MESSAGES_PER_GROUP).boxed().toList();
+		assertThat(received).containsOnlyKeys(groups);
+		received.values().forEach(amounts -> assertThat(amounts).containsExactlyElementsOf(expected));
+	}
+
+	private record Consumption(Map<UUID, List<Integer>> received, Duration duration) {
+	}
+
+}
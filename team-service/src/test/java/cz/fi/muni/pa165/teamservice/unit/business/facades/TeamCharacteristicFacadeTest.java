@@ -18,6 +18,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -129,4 +131,16 @@ public class TeamCharacteristicFacadeTest {
 		verify(service).findByTeamId(teamId);
 	}
 
+	@Test
+	void findByTeamIds() {
+		when(service.findByTeamIds(Set.of(teamId))).thenReturn(Map.of(teamId, List.of(characteristic)));
+		when(mapper.toDto(characteristic)).thenReturn(characteristicDTO);
+
+		Map<UUID, List<TeamCharacteristicDTO>> result = facade.findByTeamIds(Set.of(teamId));
+
+		assertThat(result).containsOnlyKeys(teamId);
+		assertThat(result.get(teamId)).containsExactly(characteristicDTO);
+		verify(service).findByTeamIds(Set.of(teamId));
+	}
+
 }
@@ -0,0 +1,97 @@
+package cz.fi.muni.pa165.teamservice.unit.business.services;
+
+import cz.fi.muni.pa165.enums.BudgetTransactionReason;
+import cz.fi.muni.pa165.teamservice.business.services.BudgetLedgerService;
+import cz.fi.muni.pa165.teamservice.persistence.entities.BudgetSystem;
+import cz.fi.muni.pa165.teamservice.persistence.entities.BudgetTransaction;
+import cz.fi.muni.pa165.teamservice.persistence.repositories.BudgetSystemRepository;
+import cz.fi.muni.pa165.teamservice.persistence.repositories.BudgetTransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@ExtendWith(MockitoExtension.class)
+class BudgetLedgerServiceTest {
+
+	@Mock
+	private BudgetTransactionRepository budgetTransactionRepository;
+
+	@Mock
+	private BudgetSystemRepository budgetSystemRepository;
+
+	private BudgetLedgerService budgetLedgerService;
+
+	@BeforeEach
+	void setUp() {
+		budgetLedgerService = new BudgetLedgerService(budgetTransactionRepository, budgetSystemRepository);
+	}
+
+	@Test
+	void append_transactionSaved() {
+		var budgetSystem = BudgetSystem.builder().guid(UUID.randomUUID()).build();
+		Mockito.when(budgetTransactionRepository.save(Mockito.any()))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+
+		var transaction = budgetLedgerService.append(budgetSystem, -250.0, BudgetTransactionReason.REFUND);
+
+		assertThat(transaction.getBudgetSystem()).isSameAs(budgetSystem);
+		assertThat(transaction.getAmount()).isEqualTo(-250.0);
+		assertThat(transaction.getReason()).isEqualTo(BudgetTransactionReason.REFUND);
+		assertThat(transaction.getCreatedAt()).isCloseTo(OffsetDateTime.now(), within(1, ChronoUnit.MINUTES));
+	}
+
+	@Test
+	void appendForOwner_changedBudgetsCounted() {
+		var ownerId = UUID.randomUUID();
+		Mockito
+			.when(budgetTransactionRepository.appendForOwner(Mockito.eq(ownerId), Mockito.eq(300.0),
+					Mockito.eq(BudgetTransactionReason.PAYMENT), Mockito.any()))
+			.thenReturn(4);
+
+		var changed = budgetLedgerService.appendForOwner(ownerId, 300.0, BudgetTransactionReason.PAYMENT);
+
+		assertThat(changed).isEqualTo(4);
+	}
+
+	@Test
+	void findHistory_firstPage_seeksFromNewest() {
+		var budgetSystemId = UUID.randomUUID();
+
+		budgetLedgerService.findHistory(budgetSystemId, null, 20);
+
+		Mockito.verify(budgetTransactionRepository).findHistory(budgetSystemId, Long.MAX_VALUE, Limit.of(20));
+	}
+
+	@Test
+	void takeSnapshots_markedTransactions_folded() {
+		Mockito.when(budgetTransactionRepository.markFolded(Mockito.any())).thenReturn(42);
+
+		budgetLedgerService.takeSnapshots();
+
+		var captor = ArgumentCaptor.forClass(UUID.class);
+		Mockito.verify(budgetTransactionRepository).markFolded(captor.capture());
+		Mockito.verify(budgetSystemRepository).takeSnapshots(captor.getValue());
+	}
+
+	@Test
+	void takeSnapshots_noUnfoldedTransaction_nothingFolded() {
+		Mockito.when(budgetTransactionRepository.markFolded(Mockito.any())).thenReturn(0);
+
+		budgetLedgerService.takeSnapshots();
+
+		Mockito.verify(budgetSystemRepository, Mockito.never()).takeSnapshots(Mockito.any());
+	}
+
+}
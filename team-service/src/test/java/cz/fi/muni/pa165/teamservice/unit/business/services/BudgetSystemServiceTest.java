@@ -1,7 +1,13 @@
 package cz.fi.muni.pa165.teamservice.unit.business.services;
 
+import cz.fi.muni.pa165.dto.gameservice.MatchViewDto;
+import cz.fi.muni.pa165.dto.gameservice.ResultViewDto;
+import cz.fi.muni.pa165.enums.BudgetTransactionReason;
+import cz.fi.muni.pa165.messaging.BudgetChangeMessage;
 import cz.fi.muni.pa165.teamservice.api.exception.ResourceAlreadyExistsException;
 import cz.fi.muni.pa165.teamservice.api.exception.ResourceNotFoundException;
+import cz.fi.muni.pa165.teamservice.business.services.BudgetDelta;
+import cz.fi.muni.pa165.teamservice.business.services.BudgetLedgerService;
 import cz.fi.muni.pa165.teamservice.business.services.BudgetSystemService;
 import cz.fi.muni.pa165.teamservice.persistence.entities.BudgetSystem;
 import cz.fi.muni.pa165.teamservice.persistence.entities.FictiveTeam;
@@ -14,12 +20,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 
 /**
@@ -36,6 +47,9 @@ class BudgetSystemServiceTest {
 	@Mock
 	private FictiveTeamRepository fictiveTeamRepository;
 
+	@Mock
+	private BudgetLedgerService budgetLedgerService;
+
 	@InjectMocks
 	private BudgetSystemService service;
 
@@ -49,6 +63,7 @@ class BudgetSystemServiceTest {
 		UUID teamId = UUID.randomUUID();
 		team.setGuid(teamId);
 		team.setName("Test Team");
+		team.setOwnerId(UUID.randomUUID());
 
 		budgetSystem = new BudgetSystem();
 		budgetSystem.setGuid(budgetSystemId);
@@ -80,17 +95,29 @@ class BudgetSystemServiceTest {
 
 	@Test
 	void updateBudgetSystem_success() throws ResourceNotFoundException {
-		when(repository.existsById(budgetSystemId)).thenReturn(true);
-		when(repository.save(budgetSystem)).thenReturn(budgetSystem);
+		when(repository.findById(budgetSystemId)).thenReturn(Optional.of(budgetSystem));
+		BudgetSystem update = BudgetSystem.builder().guid(budgetSystemId).amount(150000.0).build();
 
-		BudgetSystem result = service.updateBudgetSystem(budgetSystem);
+		BudgetSystem result = service.updateBudgetSystem(update);
 
 		assertThat(result).isEqualTo(budgetSystem);
+		assertThat(result.getAmount()).isEqualTo(150000.0);
+		verify(budgetLedgerService).append(budgetSystem, 50000.0, BudgetTransactionReason.ADJUSTMENT);
+	}
+
+	@Test
+	void updateBudgetSystem_sameAmount_nothingAppended() throws ResourceNotFoundException {
+		when(repository.findById(budgetSystemId)).thenReturn(Optional.of(budgetSystem));
+		BudgetSystem update = BudgetSystem.builder().guid(budgetSystemId).amount(100000.0).build();
+
+		service.updateBudgetSystem(update);
+
+		verify(budgetLedgerService, never()).append(any(), anyDouble(), any());
 	}
 
 	@Test
 	void updateBudgetSystem_throwsWhenNotFound() {
-		when(repository.existsById(budgetSystemId)).thenReturn(false);
+		when(repository.findById(budgetSystemId)).thenReturn(Optional.empty());
 
 		assertThatThrownBy(() -> service.updateBudgetSystem(budgetSystem))
 			.isInstanceOf(ResourceNotFoundException.class);
@@ -127,4 +154,60 @@ class BudgetSystemServiceTest {
 		assertThatThrownBy(() -> service.findById(budgetSystemId)).isInstanceOf(ResourceNotFoundException.class);
 	}
 
+	@Test
+	void processGameMessage_homeTeamWon_prizesAppended() {
+		UUID awayTeamId = UUID.randomUUID();
+		BudgetSystem awayBudget = BudgetSystem.builder().guid(UUID.randomUUID()).build();
+		when(repository.findGuidByTeamGuid(team.getGuid())).thenReturn(Optional.of(budgetSystemId));
+		when(repository.findGuidByTeamGuid(awayTeamId)).thenReturn(Optional.of(awayBudget.getGuid()));
+		when(repository.getReferenceById(budgetSystemId)).thenReturn(budgetSystem);
+		when(repository.getReferenceById(awayBudget.getGuid())).thenReturn(awayBudget);
+		MatchViewDto match = MatchViewDto.builder()
+			.guid(UUID.randomUUID())
+			.homeTeamUid(team.getGuid())
+			.awayTeamUid(awayTeamId)
+			.result(ResultViewDto.builder().scoreHomeTeam(4).scoreAwayTeam(2).build())
+			.build();
+
+		service.processGameMessage(match);
+
+		verify(budgetLedgerService).append(budgetSystem, 1000.0, BudgetTransactionReason.MATCH_PRIZE);
+		verify(budgetLedgerService).append(awayBudget, 500.0, BudgetTransactionReason.MATCH_PRIZE);
+	}
+
+	@Test
+	void processUserBudgetChange_negativeAmount_refundAppended() {
+		when(budgetLedgerService.appendForOwner(team.getOwnerId(), -300, BudgetTransactionReason.REFUND)).thenReturn(3);
+
+		int changed = service.processUserBudgetChange(new BudgetChangeMessage(team.getOwnerId(), -300));
+
+		assertThat(changed).isEqualTo(3);
+	}
+
+	@Test
+	void applyDeltas_sameBudgetAndReason_appendedOnce() {
+		UUID otherBudgetId = UUID.randomUUID();
+		BudgetSystem otherBudget = BudgetSystem.builder().guid(otherBudgetId).build();
+		when(repository.getReferenceById(budgetSystemId)).thenReturn(budgetSystem);
+		when(repository.getReferenceById(otherBudgetId)).thenReturn(otherBudget);
+
+		service.applyDeltas(List.of(new BudgetDelta(budgetSystemId, 1000.0, BudgetTransactionReason.MATCH_PRIZE),
+				new BudgetDelta(otherBudgetId, 500.0, BudgetTransactionReason.MATCH_PRIZE),
+				new BudgetDelta(budgetSystemId, 750.0, BudgetTransactionReason.MATCH_PRIZE),
+				new BudgetDelta(budgetSystemId, 300.0, BudgetTransactionReason.PAYMENT)));
+
+		verify(budgetLedgerService).append(budgetSystem, 1750.0, BudgetTransactionReason.MATCH_PRIZE);
+		verify(budgetLedgerService).append(otherBudget, 500.0, BudgetTransactionReason.MATCH_PRIZE);
+		verify(budgetLedgerService).append(budgetSystem, 300.0, BudgetTransactionReason.PAYMENT);
+	}
+
+	@Test
+	void findHistory_throwsWhenNotFound() {
+		when(repository.existsById(budgetSystemId)).thenReturn(false);
+
+		assertThatThrownBy(() -> service.findHistory(budgetSystemId, null, 20))
+			.isInstanceOf(ResourceNotFoundException.class);
+		verify(budgetLedgerService, never()).findHistory(any(), any(), anyInt());
+	}
+
 }
\ No newline at end of file
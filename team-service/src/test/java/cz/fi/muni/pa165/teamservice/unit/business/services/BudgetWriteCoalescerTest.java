@@ -0,0 +1,129 @@
+package cz.fi.muni.pa165.teamservice.unit.business.services;
+
+import cz.fi.muni.pa165.enums.BudgetTransactionReason;
+import cz.fi.muni.pa165.teamservice.business.services.BudgetDelta;
+import cz.fi.muni.pa165.teamservice.business.services.BudgetSystemService;
+import cz.fi.muni.pa165.teamservice.business.services.BudgetWriteCoalescer;
+import cz.fi.muni.pa165.teamservice.business.services.MessageDeduplicationService;
+import cz.fi.muni.pa165.teamservice.config.BudgetLedgerConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class BudgetWriteCoalescerTest {
+
+	private final UUID budgetSystemId = UUID.randomUUID();
+
+	@Mock
+	private BudgetSystemService budgetSystemService;
+
+	@Mock
+	private MessageDeduplicationService deduplicationService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private BudgetWriteCoalescer budgetWriteCoalescer;
+
+	@BeforeEach
+	void setUp() {
+		var configuration = new BudgetLedgerConfiguration();
+		configuration.setFlushInterval(20);
+		configuration.setMaxBatchSize(32);
+		budgetWriteCoalescer = new BudgetWriteCoalescer(budgetSystemService, deduplicationService, transactionManager,
+				configuration);
+		Mockito.lenient()
+			.when(transactionManager.getTransaction(Mockito.any()))
+			.thenReturn(new SimpleTransactionStatus());
+	}
+
+	@Test
+	void flush_pendingMessages_writtenInOneTransaction() {
+		Mockito.when(deduplicationService.markProcessed(Mockito.<Collection<String>>any()))
+			.thenAnswer(invocation -> new LinkedHashSet<>(invocation.<Collection<String>>getArgument(0)));
+		var firstPrize = prize(1000.0);
+		var secondPrize = prize(500.0);
+
+		var first = budgetWriteCoalescer.submit("match:1", List.of(firstPrize));
+		var second = budgetWriteCoalescer.submit("match:2", List.of(secondPrize));
+		budgetWriteCoalescer.flush();
+
+		assertThat(first).isCompletedWithValue(true);
+		assertThat(second).isCompletedWithValue(true);
+		Mockito.verify(transactionManager).commit(Mockito.any());
+		Mockito.verify(budgetSystemService).applyDeltas(List.of(firstPrize, secondPrize));
+	}
+
+	@Test
+	void flush_processedAndRepeatedMessages_appliedOnce() {
+		Mockito.when(deduplicationService.markProcessed(List.of("match:1", "match:2", "match:2")))
+			.thenReturn(new LinkedHashSet<>(List.of("match:2")));
+		var newPrize = prize(750.0);
+
+		var processed = budgetWriteCoalescer.submit("match:1", List.of(prize(1000.0)));
+		var first = budgetWriteCoalescer.submit("match:2", List.of(newPrize));
+		var repeated = budgetWriteCoalescer.submit("match:2", List.of(newPrize));
+		budgetWriteCoalescer.flush();
+
+		assertThat(processed).isCompletedWithValue(false);
+		assertThat(first).isCompletedWithValue(true);
+		assertThat(repeated).isCompletedWithValue(false);
+		Mockito.verify(budgetSystemService).applyDeltas(List.of(newPrize));
+	}
+
+	@Test
+	void flush_writeOfNewMessage_runInBatch() {
+		Mockito.when(deduplicationService.markProcessed(List.of("budget:ID:1", "budget:ID:2")))
+			.thenReturn(new LinkedHashSet<>(List.of("budget:ID:2")));
+		var writes = new ArrayList<String>();
+
+		var processed = budgetWriteCoalescer.submit("budget:ID:1", () -> writes.add("budget:ID:1"));
+		var next = budgetWriteCoalescer.submit("budget:ID:2", () -> writes.add("budget:ID:2"));
+		budgetWriteCoalescer.flush();
+
+		assertThat(processed).isCompletedWithValue(false);
+		assertThat(next).isCompletedWithValue(true);
+		assertThat(writes).containsExactly("budget:ID:2");
+		Mockito.verify(transactionManager).commit(Mockito.any());
+	}
+
+	@Test
+	void flush_batchFails_messagesWrittenOneByOne() {
+		Mockito.when(deduplicationService.markProcessed(Mockito.<Collection<String>>any()))
+			.thenAnswer(invocation -> new LinkedHashSet<>(invocation.<Collection<String>>getArgument(0)));
+		var brokenPrize = prize(-1.0);
+		Mockito.doThrow(new IllegalStateException("Broken"))
+			.when(budgetSystemService)
+			.applyDeltas(Mockito.argThat(deltas -> deltas.contains(brokenPrize)));
+
+		var valid = budgetWriteCoalescer.submit("match:1", List.of(prize(1000.0)));
+		var broken = budgetWriteCoalescer.submit("match:2", List.of(brokenPrize));
+		budgetWriteCoalescer.flush();
+
+		assertThat(valid).isCompletedWithValue(true);
+		assertThatThrownBy(broken::join).isInstanceOf(CompletionException.class)
+			.hasCauseInstanceOf(IllegalStateException.class);
+		Mockito.verify(transactionManager, Mockito.times(2)).rollback(Mockito.any());
+	}
+
+	private BudgetDelta prize(double amount) {
+		return new BudgetDelta(budgetSystemId, amount, BudgetTransactionReason.MATCH_PRIZE);
+	}
+
+}
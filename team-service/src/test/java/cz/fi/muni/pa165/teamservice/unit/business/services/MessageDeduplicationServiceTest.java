@@ -0,0 +1,125 @@
+package cz.fi.muni.pa165.teamservice.unit.business.services;
+
+import cz.fi.muni.pa165.teamservice.business.services.MessageDeduplicationService;
+import cz.fi.muni.pa165.teamservice.config.DeduplicationConfiguration;
+import cz.fi.muni.pa165.teamservice.persistence.entities.ProcessedMessage;
+import cz.fi.muni.pa165.teamservice.persistence.repositories.ProcessedMessageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@ExtendWith(MockitoExtension.class)
+class MessageDeduplicationServiceTest {
+
+	private static final String MESSAGE_KEY = "match:7c4c5d63-1c1f-4bd0-9d55-6f0e0e2cc7a1";
+
+	@Mock
+	private ProcessedMessageRepository processedMessageRepository;
+
+	private MessageDeduplicationService deduplicationService;
+
+	@BeforeEach
+	void setUp() {
+		var configuration = new DeduplicationConfiguration();
+		configuration.setRetention(24);
+		deduplicationService = new MessageDeduplicationService(processedMessageRepository, configuration);
+		TransactionSynchronizationManager.initSynchronization();
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@Test
+	void markProcessed_newMessage_storedAndProcessed() {
+		var processed = deduplicationService.markProcessed(MESSAGE_KEY);
+
+		assertThat(processed).isTrue();
+		Mockito.verify(processedMessageRepository).saveAllAndFlush(savedKeys(MESSAGE_KEY));
+	}
+
+	@Test
+	void markProcessed_redeliveredAfterCommit_skippedWithoutDatabase() {
+		deduplicationService.markProcessed(MESSAGE_KEY);
+		commit();
+
+		var processed = deduplicationService.markProcessed(MESSAGE_KEY);
+
+		assertThat(processed).isFalse();
+		Mockito.verify(processedMessageRepository, Mockito.times(1)).findAllById(Mockito.any());
+		Mockito.verify(processedMessageRepository, Mockito.times(1)).saveAllAndFlush(Mockito.any());
+	}
+
+	@Test
+	void markProcessed_redeliveredAfterRollback_processedAgain() {
+		deduplicationService.markProcessed(MESSAGE_KEY);
+
+		var processed = deduplicationService.markProcessed(MESSAGE_KEY);
+
+		assertThat(processed).isTrue();
+		Mockito.verify(processedMessageRepository, Mockito.times(2)).saveAllAndFlush(Mockito.any());
+	}
+
+	@Test
+	void markProcessed_storedBeforeRestart_skipped() {
+		Mockito.when(processedMessageRepository.findAllById(Set.of(MESSAGE_KEY)))
+			.thenReturn(List.of(new ProcessedMessage(MESSAGE_KEY, OffsetDateTime.now())));
+
+		var processed = deduplicationService.markProcessed(MESSAGE_KEY);
+
+		assertThat(processed).isFalse();
+		Mockito.verify(processedMessageRepository, Mockito.never()).saveAllAndFlush(Mockito.any());
+	}
+
+	@Test
+	void markProcessed_batchWithStoredAndRepeatedKeys_newKeysStoredOnce() {
+		var storedKey = "budget:ID:1";
+		var newKey = "budget:ID:2";
+		Mockito.when(processedMessageRepository.findAllById(Set.of(storedKey, newKey)))
+			.thenReturn(List.of(new ProcessedMessage(storedKey, OffsetDateTime.now())));
+
+		var newKeys = deduplicationService.markProcessed(List.of(storedKey, newKey, newKey));
+
+		assertThat(newKeys).containsExactly(newKey);
+		Mockito.verify(processedMessageRepository).saveAllAndFlush(savedKeys(newKey));
+	}
+
+	@Test
+	void purgeExpired_keysOlderThanRetentionRemoved() {
+		deduplicationService.purgeExpired();
+
+		var captor = ArgumentCaptor.forClass(OffsetDateTime.class);
+		Mockito.verify(processedMessageRepository).deleteProcessedBefore(captor.capture());
+		assertThat(captor.getValue()).isCloseTo(OffsetDateTime.now().minusHours(24), within(1, ChronoUnit.MINUTES));
+	}
+
+	private static List<ProcessedMessage> savedKeys(String... messageKeys) {
+		return Mockito.argThat(processedMessages -> processedMessages.stream()
+			.map(ProcessedMessage::getMessageKey)
+			.toList()
+			.equals(List.of(messageKeys)));
+	}
+
+	private static void commit() {
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		TransactionSynchronizationManager.clearSynchronization();
+		TransactionSynchronizationManager.initSynchronization();
+	}
+
+}
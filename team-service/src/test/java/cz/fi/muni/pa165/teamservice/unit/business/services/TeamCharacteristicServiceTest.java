@@ -2,6 +2,7 @@ package cz.fi.muni.pa165.teamservice.unit.business.services;
 
 import cz.fi.muni.pa165.enums.TeamCharacteristicType;
 import cz.fi.muni.pa165.teamservice.api.exception.ResourceNotFoundException;
+import cz.fi.muni.pa165.teamservice.business.messages.TeamCharacteristicMessageResolver;
 import cz.fi.muni.pa165.teamservice.business.services.TeamCharacteristicService;
 import cz.fi.muni.pa165.teamservice.persistence.entities.FictiveTeam;
 import cz.fi.muni.pa165.teamservice.persistence.entities.TeamCharacteristic;
@@ -14,11 +15,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -36,6 +42,9 @@ class TeamCharacteristicServiceTest {
 	@Mock
 	private TeamCharacteristicRepository repository;
 
+	@Mock
+	private TeamCharacteristicMessageResolver messageResolver;
+
 	@InjectMocks
 	private TeamCharacteristicService service;
 
@@ -60,39 +69,63 @@ class TeamCharacteristicServiceTest {
 
 		assertThat(result).isEqualTo(characteristic);
 		verify(repository).save(characteristic);
+		verify(messageResolver).sendTeamCharacteristicChanged(teamId);
 	}
 
 	@Test
 	void update_TeamCharacteristic_success() throws ResourceNotFoundException {
-		when(repository.existsById(characteristicId)).thenReturn(true);
+		when(repository.findById(characteristicId)).thenReturn(Optional.of(characteristic));
 		when(repository.save(characteristic)).thenReturn(characteristic);
 
 		TeamCharacteristic result = service.updateTeamCharacteristic(characteristic);
 
 		assertThat(result).isEqualTo(characteristic);
+		verify(messageResolver, times(1)).sendTeamCharacteristicChanged(teamId);
+	}
+
+	@Test
+	void update_TeamCharacteristic_movedToOtherTeam_bothTeamsNotified() throws ResourceNotFoundException {
+		FictiveTeam otherTeam = new FictiveTeam();
+		otherTeam.setGuid(UUID.randomUUID());
+		TeamCharacteristic updated = TeamCharacteristic.builder()
+			.guid(characteristicId)
+			.fictiveTeam(otherTeam)
+			.characteristicType(TeamCharacteristicType.STRENGTH)
+			.characteristicValue(90)
+			.build();
+		when(repository.findById(characteristicId)).thenReturn(Optional.of(characteristic));
+		when(repository.save(updated)).thenReturn(updated);
+
+		service.updateTeamCharacteristic(updated);
+
+		verify(messageResolver).sendTeamCharacteristicChanged(teamId);
+		verify(messageResolver).sendTeamCharacteristicChanged(otherTeam.getGuid());
 	}
 
 	@Test
 	void update_TeamCharacteristic_throwsWhenNotFound() {
-		when(repository.existsById(characteristicId)).thenReturn(false);
+		when(repository.findById(characteristicId)).thenReturn(Optional.empty());
 
 		assertThatThrownBy(() -> service.updateTeamCharacteristic(characteristic))
 			.isInstanceOf(ResourceNotFoundException.class);
+		verify(messageResolver, never()).sendTeamCharacteristicChanged(any());
 	}
 
 	@Test
 	void delete_TeamCharacteristic_success() throws ResourceNotFoundException {
-		when(repository.existsById(characteristicId)).thenReturn(true);
+		when(repository.findById(characteristicId)).thenReturn(Optional.of(characteristic));
 		service.deleteTeamCharacteristic(characteristicId);
 		verify(repository).deleteById(characteristicId);
+		verify(messageResolver).sendTeamCharacteristicChanged(teamId);
 	}
 
 	@Test
 	void delete_TeamCharacteristic_throwsWhenNotFound() {
-		when(repository.existsById(characteristicId)).thenReturn(false);
+		when(repository.findById(characteristicId)).thenReturn(Optional.empty());
 
 		assertThatThrownBy(() -> service.deleteTeamCharacteristic(characteristicId))
 			.isInstanceOf(ResourceNotFoundException.class);
+		verify(repository, never()).deleteById(any());
 	}
 
 	@Test
@@ -120,4 +153,23 @@ class TeamCharacteristicServiceTest {
 		assertThat(result).containsExactly(characteristic);
 	}
 
+	@Test
+	void findByTeamIds_groupedByTeam() {
+		var otherTeamId = UUID.randomUUID();
+		when(repository.findByFictiveTeamGuidIn(Set.of(teamId, otherTeamId))).thenReturn(List.of(characteristic));
+
+		Map<UUID, List<TeamCharacteristic>> result = service.findByTeamIds(Set.of(teamId, otherTeamId));
+
+		assertThat(result).containsOnlyKeys(teamId);
+		assertThat(result.get(teamId)).containsExactly(characteristic);
+	}
+
+	@Test
+	void findByTeamIds_emptyIds_noQuery() {
+		Map<UUID, List<TeamCharacteristic>> result = service.findByTeamIds(Set.of());
+
+		assertThat(result).isEmpty();
+		verify(repository, never()).findByFictiveTeamGuidIn(any());
+	}
+
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package cz.fi.muni.pa165.teamservice.unit.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import cz.fi.muni.pa165.dto.teamservice.BudgetHistoryDTO;
 import cz.fi.muni.pa165.dto.teamservice.BudgetSystemCreateDTO;
 import cz.fi.muni.pa165.dto.teamservice.BudgetSystemDTO;
 import cz.fi.muni.pa165.dto.teamservice.BudgetSystemUpdateDTO;
@@ -16,9 +17,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -220,4 +223,27 @@ public class BudgetSystemControllerTest {
 		verify(budgetSystemFacade, times(1)).updateBudgetSystem(any());
 	}
 
+	@Test
+	void getBudgetHistory_nextPage() throws Exception {
+		BudgetHistoryDTO history = new BudgetHistoryDTO();
+		history.setTransactions(List.of());
+		when(budgetSystemFacade.findHistory(budgetSystemId, 17L, 5)).thenReturn(history);
+
+		mockMvc
+			.perform(get("/v1/budget-systems/{id}/transactions", budgetSystemId).param("before", "17")
+				.param("size", "5"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.transactions").isEmpty());
+
+		verify(budgetSystemFacade, times(1)).findHistory(budgetSystemId, 17L, 5);
+	}
+
+	@Test
+	void getBudgetHistory_sizeTooLarge() throws Exception {
+		mockMvc.perform(get("/v1/budget-systems/{id}/transactions", budgetSystemId).param("size", "1000"))
+			.andExpect(status().isBadRequest());
+
+		verify(budgetSystemFacade, never()).findHistory(any(), any(), anyInt());
+	}
+
 }
@@ -17,6 +17,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -143,6 +146,21 @@ public class TeamCharacteristicControllerTest {
 		verify(teamCharacteristicFacade, times(1)).findByTeamId(teamId);
 	}
 
+	@Test
+	void getCharacteristicsByTeamIds() throws Exception {
+		when(teamCharacteristicFacade.findByTeamIds(Set.of(teamId)))
+			.thenReturn(Map.of(teamId, List.of(characteristicDTO)));
+
+		mockMvc
+			.perform(post("/v1/team-characteristics/team/batch").contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(Set.of(teamId))))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$['" + teamId + "']").isArray())
+			.andExpect(jsonPath("$['" + teamId + "'][0].guid").value(characteristicId.toString()));
+
+		verify(teamCharacteristicFacade, times(1)).findByTeamIds(Set.of(teamId));
+	}
+
 	@Test
 	void createTeamCharacteristicCharacteristic_invalidInput() throws Exception {
 		TeamCharacteristicDTO invalidDTO = new TeamCharacteristicDTO();
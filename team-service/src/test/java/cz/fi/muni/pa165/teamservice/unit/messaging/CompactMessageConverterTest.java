@@ -0,0 +1,133 @@
+package cz.fi.muni.pa165.teamservice.unit.messaging;
+
+import cz.fi.muni.pa165.dto.gameservice.ArenaViewDto;
+import cz.fi.muni.pa165.dto.gameservice.MatchViewDto;
+import cz.fi.muni.pa165.messaging.BudgetChangeMessage;
+import cz.fi.muni.pa165.messaging.CompactMessageConverter;
+import cz.fi.muni.pa165.messaging.MessagingConfiguration;
+import jakarta.jms.BytesMessage;
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jms.support.converter.MappingJackson2MessageConverter;
+import org.springframework.jms.support.converter.MessageConversionException;
+import org.springframework.jms.support.converter.MessageType;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class CompactMessageConverterTest {
+
+	@Mock
+	private Session session;
+
+	private MappingJackson2MessageConverter jsonConverter;
+
+	@BeforeEach
+	void setup() {
+		jsonConverter = new MappingJackson2MessageConverter(MessagingConfiguration.createObjectMapper());
+		jsonConverter.setTargetType(MessageType.TEXT);
+		jsonConverter.setTypeIdPropertyName(MessagingConfiguration.TYPE_ID_PROPERTY);
+	}
+
+	@Test
+	void toMessage_compactType_readBackFromSmile() throws JMSException {
+		var match = getMatch();
+		var sentMessage = Mockito.mock(BytesMessage.class);
+		Mockito.when(session.createBytesMessage()).thenReturn(sentMessage);
+
+		getConverter(true).toMessage(match, session);
+
+		var payloadCaptor = ArgumentCaptor.forClass(byte[].class);
+		Mockito.verify(sentMessage).writeBytes(payloadCaptor.capture());
+		Mockito.verify(sentMessage)
+			.setStringProperty(CompactMessageConverter.CONTENT_TYPE_PROPERTY,
+					CompactMessageConverter.SMILE_CONTENT_TYPE);
+		var receivedMessage = getBytesMessage(payloadCaptor.getValue(), MatchViewDto.class.getName());
+		assertThat(getConverter(true).fromMessage(receivedMessage)).isEqualTo(match);
+	}
+
+	@Test
+	void toMessage_compactPayloadsDisabled_sentAsJson() throws JMSException {
+		var textMessage = Mockito.mock(TextMessage.class);
+		Mockito.when(session.createTextMessage(Mockito.anyString())).thenReturn(textMessage);
+
+		var message = getConverter(false).toMessage(new BudgetChangeMessage(UUID.randomUUID(), 100), session);
+
+		assertThat(message).isSameAs(textMessage);
+		Mockito.verify(textMessage)
+			.setStringProperty(CompactMessageConverter.CONTENT_TYPE_PROPERTY,
+					CompactMessageConverter.JSON_CONTENT_TYPE);
+		Mockito.verify(session, Mockito.never()).createBytesMessage();
+	}
+
+	@Test
+	void fromMessage_messageWithoutContentType_readAsJson() throws JMSException {
+		var playerUuid = UUID.randomUUID();
+		var message = Mockito.mock(TextMessage.class);
+		Mockito.when(message.getStringProperty(CompactMessageConverter.CONTENT_TYPE_PROPERTY)).thenReturn(null);
+		Mockito.when(message.getStringProperty(MessagingConfiguration.TYPE_ID_PROPERTY))
+			.thenReturn(UUID.class.getName());
+		Mockito.when(message.getText()).thenReturn("\"%s\"".formatted(playerUuid));
+
+		assertThat(getConverter(true).fromMessage(message)).isEqualTo(playerUuid);
+	}
+
+	@Test
+	void fromMessage_smileOfUnknownType_throwsException() throws JMSException {
+		var message = getBytesMessage(new byte[0], String.class.getName());
+
+		assertThatThrownBy(() -> getConverter(true).fromMessage(message)).isInstanceOf(MessageConversionException.class)
+			.hasMessage("Unsupported type of the Smile payload: java.lang.String");
+	}
+
+	private CompactMessageConverter getConverter(boolean compactEnabled) {
+		return new CompactMessageConverter(jsonConverter, MessagingConfiguration.createCompactObjectMapper(),
+				MessagingConfiguration.COMPACT_TYPES, compactEnabled);
+	}
+
+	private static BytesMessage getBytesMessage(byte[] payload, String typeId) throws JMSException {
+		var message = Mockito.mock(BytesMessage.class);
+		Mockito.lenient()
+			.when(message.getStringProperty(CompactMessageConverter.CONTENT_TYPE_PROPERTY))
+			.thenReturn(CompactMessageConverter.SMILE_CONTENT_TYPE);
+		Mockito.lenient().when(message.getStringProperty(MessagingConfiguration.TYPE_ID_PROPERTY)).thenReturn(typeId);
+		Mockito.lenient().when(message.getBodyLength()).thenReturn((long) payload.length);
+		Mockito.lenient().when(message.readBytes(Mockito.any(byte[].class))).thenAnswer(invocation -> {
+			byte[] target = invocation.getArgument(0);
+			System.arraycopy(payload, 0, target, 0, payload.length);
+			return payload.length;
+		});
+		return message;
+	}
+
+	private static MatchViewDto getMatch() {
+		return MatchViewDto.builder()
+			.guid(UUID.randomUUID())
+			.arena(ArenaViewDto.builder()
+				.guid(UUID.randomUUID())
+				.countryCode("CZ")
+				.cityName("Brno")
+				.arenaName("Hala Rondo")
+				.build())
+			.startAt(OffsetDateTime.of(2025, 4, 1, 18, 0, 0, 0, ZoneOffset.UTC))
+			.endAt(OffsetDateTime.of(2025, 4, 1, 20, 30, 0, 0, ZoneOffset.UTC))
+			.homeTeamUid(UUID.randomUUID())
+			.awayTeamUid(UUID.randomUUID())
+			.matchType("LEAGUE")
+			.build();
+	}
+
+}
@@ -0,0 +1,148 @@
+package cz.fi.muni.pa165.teamservice.unit.messaging;
+
+import cz.fi.muni.pa165.messaging.MessageSender;
+import cz.fi.muni.pa165.messaging.MessagingConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.jms.CompletionListener;
+import jakarta.jms.DeliveryMode;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jms.UncategorizedJmsException;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.ProducerCallback;
+import org.springframework.jms.support.converter.MessageConverter;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class MessageSenderTest {
+
+	private static final String SYNC_DESTINATION = "sync.destination";
+
+	private static final String ASYNC_DESTINATION = "async.destination";
+
+	private static final String NON_PERSISTENT_DESTINATION = "non.persistent.destination";
+
+	@Mock
+	private JmsTemplate jmsTemplate;
+
+	@Mock
+	private MessageConverter messageConverter;
+
+	@Mock
+	private Session session;
+
+	@Mock
+	private MessageProducer producer;
+
+	@Mock
+	private TextMessage message;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private MessageSender messageSender;
+
+	@BeforeEach
+	void setup() throws JMSException {
+		meterRegistry = new SimpleMeterRegistry();
+		messageSender = new MessageSender(jmsTemplate, meterRegistry, Set.of(ASYNC_DESTINATION),
+				Set.of(NON_PERSISTENT_DESTINATION));
+
+		Mockito.when(jmsTemplate.getMessageConverter()).thenReturn(messageConverter);
+		Mockito.when(messageConverter.toMessage("payload", session)).thenReturn(message);
+		// Runs the callback and translates its exceptions like the template does
+		Mockito.when(jmsTemplate.execute(Mockito.anyString(), Mockito.<ProducerCallback<Object>>any()))
+			.thenAnswer(invocation -> {
+				try {
+					return invocation.<ProducerCallback<Object>>getArgument(1).doInJms(session, producer);
+				}
+				catch (JMSException e) {
+					throw new UncategorizedJmsException(e);
+				}
+			});
+	}
+
+	@Test
+	void send_defaultDestination_sentPersistentSynchronously() throws JMSException {
+		messageSender.send(SYNC_DESTINATION, "payload");
+
+		Mockito.verify(producer)
+			.send(message, DeliveryMode.PERSISTENT, Message.DEFAULT_PRIORITY, Message.DEFAULT_TIME_TO_LIVE);
+		assertThat(getTimerCount(SYNC_DESTINATION, "sync", "success")).isEqualTo(1);
+	}
+
+	@Test
+	void send_groupId_sentWithinGroup() throws JMSException {
+		messageSender.send(SYNC_DESTINATION, "payload", "team-1");
+
+		Mockito.verify(message).setStringProperty(MessagingConfiguration.GROUP_ID_PROPERTY, "team-1");
+		Mockito.verify(producer)
+			.send(message, DeliveryMode.PERSISTENT, Message.DEFAULT_PRIORITY, Message.DEFAULT_TIME_TO_LIVE);
+	}
+
+	@Test
+	void send_withoutGroupId_sentOutsideGroup() throws JMSException {
+		messageSender.send(SYNC_DESTINATION, "payload");
+
+		Mockito.verify(message, Mockito.never())
+			.setStringProperty(Mockito.eq(MessagingConfiguration.GROUP_ID_PROPERTY), Mockito.anyString());
+	}
+
+	@Test
+	void send_nonPersistentDestination_sentNonPersistent() throws JMSException {
+		messageSender.send(NON_PERSISTENT_DESTINATION, "payload");
+
+		Mockito.verify(producer)
+			.send(message, DeliveryMode.NON_PERSISTENT, Message.DEFAULT_PRIORITY, Message.DEFAULT_TIME_TO_LIVE);
+	}
+
+	@Test
+	void send_asyncDestination_latencyRecordedOnCompletion() throws JMSException {
+		var listenerCaptor = ArgumentCaptor.forClass(CompletionListener.class);
+
+		messageSender.send(ASYNC_DESTINATION, "payload");
+
+		Mockito.verify(producer)
+			.send(Mockito.eq(message), Mockito.eq(DeliveryMode.PERSISTENT), Mockito.eq(Message.DEFAULT_PRIORITY),
+					Mockito.eq(Message.DEFAULT_TIME_TO_LIVE), listenerCaptor.capture());
+		assertThat(meterRegistry.find("messaging.send").timer()).isNull();
+
+		listenerCaptor.getValue().onCompletion(message);
+		assertThat(getTimerCount(ASYNC_DESTINATION, "async", "success")).isEqualTo(1);
+	}
+
+	@Test
+	void send_brokerFails_failureRecordedAndRethrown() throws JMSException {
+		Mockito.doThrow(new JMSException("Broker unavailable"))
+			.when(producer)
+			.send(message, DeliveryMode.PERSISTENT, Message.DEFAULT_PRIORITY, Message.DEFAULT_TIME_TO_LIVE);
+
+		assertThatThrownBy(() -> messageSender.send(SYNC_DESTINATION, "payload"))
+			.isInstanceOf(UncategorizedJmsException.class);
+		assertThat(getTimerCount(SYNC_DESTINATION, "sync", "failure")).isEqualTo(1);
+	}
+
+	private long getTimerCount(String destination, String mode, String outcome) {
+		var timer = meterRegistry.find("messaging.send")
+			.tag("destination", destination)
+			.tag("mode", mode)
+			.tag("outcome", outcome)
+			.timer();
+		assertThat(timer).isNotNull();
+		return timer.count();
+	}
+
+}
@@ -1,10 +1,10 @@
 package cz.fi.muni.pa165.userservice.business.messages;
 
 import cz.fi.muni.pa165.messaging.BudgetChangeMessage;
+import cz.fi.muni.pa165.messaging.MessageSender;
 import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.jms.core.JmsTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -13,13 +13,13 @@ import java.util.UUID;
 @Slf4j
 public class BudgetUpdateMessageResolver {
 
-	private final JmsTemplate jmsTemplate;
+	private final MessageSender messageSender;
 
 	private final Validator validator;
 
 	@Autowired
-	public BudgetUpdateMessageResolver(JmsTemplate jmsTemplate, Validator validator) {
-		this.jmsTemplate = jmsTemplate;
+	public BudgetUpdateMessageResolver(MessageSender messageSender, Validator validator) {
+		this.messageSender = messageSender;
 		this.validator = validator;
 	}
 
@@ -27,7 +27,8 @@ public class BudgetUpdateMessageResolver {
 		BudgetChangeMessage message = new BudgetChangeMessage(userId, amount);
 		validator.validate(message);
 
-		jmsTemplate.convertAndSend("user.budget.change.amount", message);
+		// Changes of one user are applied in order
+		messageSender.send("user.budget.change.amount", message, userId.toString());
 
 		log.debug("Sent budget increase message 'user.budget.increase.amount'. Message: {}", message);
 	}
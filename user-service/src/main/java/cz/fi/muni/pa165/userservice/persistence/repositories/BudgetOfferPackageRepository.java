@@ -1,15 +1,23 @@
 package cz.fi.muni.pa165.userservice.persistence.repositories;
 
 import cz.fi.muni.pa165.userservice.persistence.entities.BudgetOfferPackage;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface BudgetOfferPackageRepository extends JpaRepository<BudgetOfferPackage, UUID> {
 
+	@Override
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	List<BudgetOfferPackage> findAll();
+
 	@Query("SELECT p FROM BudgetOfferPackage p WHERE p.isAvailable = true ")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 	List<BudgetOfferPackage> findAllActiveBudgetOfferPackages();
 
 }
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import cz.fi.muni.pa165.dto.userservice.PaymentUpdateCreateDto;
 import cz.fi.muni.pa165.dto.userservice.PaymentViewDto;
 import cz.fi.muni.pa165.messaging.BudgetChangeMessage;
+import cz.fi.muni.pa165.messaging.MessageSender;
 import cz.fi.muni.pa165.userservice.business.mappers.PaymentMapper;
 import cz.fi.muni.pa165.userservice.business.services.PaymentService;
 import cz.fi.muni.pa165.userservice.persistence.entities.Payment;
@@ -20,7 +21,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
-import org.springframework.jms.core.JmsTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -46,8 +46,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @Transactional
 public class PaymentControllerIT extends BaseControllerIT<PaymentRepository, Payment> {
 
-	@MockitoBean
-	private JmsTemplate jmsTemplate;
+	@MockitoBean(name = "queueMessageSender")
+	private MessageSender messageSender;
 
 	private final ArgumentCaptor<BudgetChangeMessage> messageCaptor = ArgumentCaptor
 		.forClass(BudgetChangeMessage.class);
@@ -131,8 +131,8 @@ public class PaymentControllerIT extends BaseControllerIT<PaymentRepository, Pay
 
 		Assertions.assertEquals(allPayments.size() + 1, getExistingEntities().size());
 		Assertions.assertTrue(paymentRepository.existsById(viewDto.getGuid()));
-		Mockito.verify(jmsTemplate, Mockito.times(0))
-			.convertAndSend(Mockito.anyString(), Mockito.any(BudgetChangeMessage.class));
+		Mockito.verify(messageSender, Mockito.times(0))
+			.send(Mockito.anyString(), Mockito.any(BudgetChangeMessage.class), Mockito.anyString());
 	}
 
 	@Test
@@ -157,8 +157,8 @@ public class PaymentControllerIT extends BaseControllerIT<PaymentRepository, Pay
 
 		Assertions.assertEquals(allPayments.size() + 1, getExistingEntities().size());
 		Assertions.assertTrue(paymentRepository.existsById(viewDto.getGuid()));
-		Mockito.verify(jmsTemplate, Mockito.times(1))
-			.convertAndSend(Mockito.anyString(), Mockito.any(BudgetChangeMessage.class));
+		Mockito.verify(messageSender, Mockito.times(1))
+			.send(Mockito.anyString(), Mockito.any(BudgetChangeMessage.class), Mockito.anyString());
 	}
 
 	@Test
@@ -223,8 +223,8 @@ public class PaymentControllerIT extends BaseControllerIT<PaymentRepository, Pay
 		Assertions.assertEquals(existingEntity.getUser().getGuid(), updatedEntity.getUser().getGuid());
 		Assertions.assertEquals(existingEntity.getBudgetOfferPackage().getGuid(),
 				updatedEntity.getBudgetOfferPackage().getGuid());
-		Mockito.verify(jmsTemplate, Mockito.times(0))
-			.convertAndSend(Mockito.anyString(), Mockito.any(BudgetChangeMessage.class));
+		Mockito.verify(messageSender, Mockito.times(0))
+			.send(Mockito.anyString(), Mockito.any(BudgetChangeMessage.class), Mockito.anyString());
 	}
 
 	@Test
@@ -259,7 +259,9 @@ public class PaymentControllerIT extends BaseControllerIT<PaymentRepository, Pay
 		Assertions.assertEquals(existingEntity.getUser().getGuid(), updatedEntity.getUser().getGuid());
 		Assertions.assertEquals(existingEntity.getBudgetOfferPackage().getGuid(),
 				updatedEntity.getBudgetOfferPackage().getGuid());
-		Mockito.verify(jmsTemplate, Mockito.times(1)).convertAndSend(Mockito.anyString(), messageCaptor.capture());
+		Mockito.verify(messageSender, Mockito.times(1))
+			.send(Mockito.anyString(), messageCaptor.capture(),
+					Mockito.eq(existingEntity.getUser().getGuid().toString()));
 		Assertions.assertEquals(-existingEntity.getBudgetOfferPackage().getBudgetIncrease(),
 				messageCaptor.getValue().getAmount());
 	}
@@ -296,7 +298,9 @@ public class PaymentControllerIT extends BaseControllerIT<PaymentRepository, Pay
 		Assertions.assertEquals(existingEntity.getUser().getGuid(), updatedEntity.getUser().getGuid());
 		Assertions.assertEquals(existingEntity.getBudgetOfferPackage().getGuid(),
 				updatedEntity.getBudgetOfferPackage().getGuid());
-		Mockito.verify(jmsTemplate, Mockito.times(1)).convertAndSend(Mockito.anyString(), messageCaptor.capture());
+		Mockito.verify(messageSender, Mockito.times(1))
+			.send(Mockito.anyString(), messageCaptor.capture(),
+					Mockito.eq(existingEntity.getUser().getGuid().toString()));
 		Assertions.assertEquals(existingEntity.getBudgetOfferPackage().getBudgetIncrease(),
 				messageCaptor.getValue().getAmount());
 	}
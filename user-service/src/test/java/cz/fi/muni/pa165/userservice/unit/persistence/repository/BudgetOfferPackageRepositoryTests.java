@@ -1,5 +1,6 @@
 package cz.fi.muni.pa165.userservice.unit.persistence.repository;
 
+import cz.fi.muni.pa165.userservice.config.SecondLevelCacheConfig;
 import cz.fi.muni.pa165.userservice.persistence.entities.BudgetOfferPackage;
 import cz.fi.muni.pa165.userservice.persistence.repositories.BudgetOfferPackageRepository;
 import cz.fi.muni.pa165.userservice.unit.testData.BudgetOfferPackageTestData;
@@ -8,10 +9,12 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 
 import java.util.List;
 
 @DataJpaTest
+@Import(SecondLevelCacheConfig.class)
 public class BudgetOfferPackageRepositoryTests {
 
 	@Autowired
@@ -1,5 +1,6 @@
 package cz.fi.muni.pa165.userservice.unit.persistence.repository;
 
+import cz.fi.muni.pa165.userservice.config.SecondLevelCacheConfig;
 import cz.fi.muni.pa165.userservice.persistence.entities.User;
 import cz.fi.muni.pa165.userservice.persistence.repositories.UserRepository;
 import cz.fi.muni.pa165.userservice.unit.testData.UserTestData;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,6 +17,7 @@ import java.util.Random;
 import java.util.UUID;
 
 @DataJpaTest
+@Import(SecondLevelCacheConfig.class)
 public class UserRepositoryTests {
 
 	@Autowired
@@ -3,6 +3,7 @@ package cz.fi.muni.pa165.worldlistservice.api.controllers;
 import cz.fi.muni.pa165.dto.worldlistservice.player.create.PlayerCreateDto;
 import cz.fi.muni.pa165.dto.worldlistservice.player.detail.PlayerDetailDto;
 import cz.fi.muni.pa165.dto.worldlistservice.player.list.PlayerListDto;
+import cz.fi.muni.pa165.dto.worldlistservice.player.search.PlayerSearchDto;
 import cz.fi.muni.pa165.dto.worldlistservice.player.update.PlayerUpdateDto;
 import cz.fi.muni.pa165.service.wordlistservice.api.PlayerController;
 import cz.fi.muni.pa165.worldlistservice.business.facades.interfaces.PlayerFacade;
@@ -70,6 +71,23 @@ public class PlayerControllerImpl implements PlayerController {
 		return playersPage.hasContent() ? ResponseEntity.ok(playersPage) : ResponseEntity.notFound().build();
 	}
 
+	@Operation(summary = "Search players",
+			description = "Returns players matching all the given filters, ordered by the rating from the best. "
+					+ "The name prefix matches the first or the last name, regardless of the case and diacritics.")
+	@ApiResponses(
+			value = {
+					@ApiResponse(responseCode = "200", description = "Successful Response",
+							content = @Content(mediaType = "application/json",
+									schema = @Schema(implementation = Page.class))),
+					@ApiResponse(responseCode = "400", description = "Invalid filters",
+							content = @Content(mediaType = "application/json")) })
+	@GetMapping("search")
+	@Override
+	public ResponseEntity<Page<PlayerListDto>> searchPlayers(@Valid @ParameterObject PlayerSearchDto search,
+			@Parameter(hidden = true) @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+		return ResponseEntity.ok(playerFacade.search(search, pageable));
+	}
+
 	@Operation(summary = "Create a player", description = "Create a player with the provided data")
 	@ApiResponses(value = {
 			@ApiResponse(responseCode = "200", description = "Player created successfully",
@@ -1,5 +1,6 @@
 package cz.fi.muni.pa165.worldlistservice.api.exception;
 
+import java.util.Collection;
 import java.util.UUID;
 
 public class NotFoundException extends RuntimeException {
@@ -8,4 +9,8 @@ public class NotFoundException extends RuntimeException {
 		super(entityName + " with ID " + entityId + " not found.");
 	}
 
+	public NotFoundException(String entityName, Collection<UUID> entityIds) {
+		super(entityName + " with IDs " + entityIds + " not found.");
+	}
+
 }
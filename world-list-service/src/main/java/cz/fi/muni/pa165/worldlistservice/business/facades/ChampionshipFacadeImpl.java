@@ -21,7 +21,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import static cz.fi.muni.pa165.worldlistservice.business.validations.ValidationHelper.requireNonNull;
 
@@ -90,10 +89,7 @@ public class ChampionshipFacadeImpl extends
 	}
 
 	private Set<TeamEntity> findChampionshipTeams(Set<UUID> teamIds) throws NotFoundException {
-		return teamIds.stream()
-			.map(teamId -> teamService.findById(teamId)
-				.orElseThrow(() -> new NotFoundException(teamService.getEntityName(), teamId)))
-			.collect(Collectors.toSet());
+		return teamService.findAllByIds(teamIds);
 	}
 
 }
@@ -3,6 +3,7 @@ package cz.fi.muni.pa165.worldlistservice.business.facades;
 import cz.fi.muni.pa165.dto.worldlistservice.player.create.PlayerCreateDto;
 import cz.fi.muni.pa165.dto.worldlistservice.player.detail.PlayerDetailDto;
 import cz.fi.muni.pa165.dto.worldlistservice.player.list.PlayerListDto;
+import cz.fi.muni.pa165.dto.worldlistservice.player.search.PlayerSearchDto;
 import cz.fi.muni.pa165.dto.worldlistservice.player.update.PlayerUpdateDto;
 import cz.fi.muni.pa165.worldlistservice.api.exception.NotFoundException;
 import cz.fi.muni.pa165.worldlistservice.business.facades.interfaces.PlayerFacade;
@@ -10,18 +11,20 @@ import cz.fi.muni.pa165.worldlistservice.business.mappers.PlayerMapper;
 import cz.fi.muni.pa165.worldlistservice.business.services.interfaces.PlayerCharacteristicService;
 import cz.fi.muni.pa165.worldlistservice.business.services.interfaces.PlayerService;
 import cz.fi.muni.pa165.worldlistservice.business.services.interfaces.TeamService;
+import cz.fi.muni.pa165.worldlistservice.business.services.search.PlayerSearchCriteria;
 import cz.fi.muni.pa165.worldlistservice.persistence.entities.PlayerCharacteristicEntity;
 import cz.fi.muni.pa165.worldlistservice.persistence.entities.PlayerEntity;
 import cz.fi.muni.pa165.worldlistservice.persistence.entities.TeamEntity;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import static cz.fi.muni.pa165.worldlistservice.business.validations.ValidationHelper.requireNonNull;
 
@@ -89,6 +92,16 @@ public class PlayerFacadeImpl
 		return mapper.toDetailModel(updatedEntity);
 	}
 
+	@Override
+	public Page<PlayerListDto> search(PlayerSearchDto search, Pageable pageable) {
+		requireNonNull(search, "Player search cannot be null.");
+
+		var criteria = new PlayerSearchCriteria(search.getNamePrefix(), search.getMinRating(), search.getMaxRating(),
+				search.getMinMarketValue(), search.getMaxMarketValue(), search.getUsed());
+
+		return ((PlayerService) service).search(criteria, pageable).map(((PlayerMapper) mapper)::summaryToListModel);
+	}
+
 	private TeamEntity findPlayerTeam(UUID teamId) throws NotFoundException {
 		if (teamId == null) {
 			return null;
@@ -100,11 +113,7 @@ public class PlayerFacadeImpl
 
 	private Set<PlayerCharacteristicEntity> findPlayerCharacteristics(Set<UUID> characteristicIds)
 			throws NotFoundException {
-		return characteristicIds.stream()
-			.map(characteristicId -> playerCharacteristicService.findById(characteristicId)
-				.orElseThrow(
-						() -> new NotFoundException(playerCharacteristicService.getEntityName(), characteristicId)))
-			.collect(Collectors.toSet());
+		return playerCharacteristicService.findAllByIds(characteristicIds);
 	}
 
 }
@@ -21,7 +21,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import static cz.fi.muni.pa165.worldlistservice.business.validations.ValidationHelper.requireNonNull;
 
@@ -93,10 +92,7 @@ public class TeamFacadeImpl extends BaseFacade<TeamDetailDto, TeamListDto, TeamC
 	}
 
 	private Set<PlayerEntity> findTeamPlayers(Set<UUID> playerIds) throws NotFoundException {
-		return playerIds.stream()
-			.map(playerId -> playerService.findById(playerId)
-				.orElseThrow(() -> new NotFoundException(playerService.getEntityName(), playerId)))
-			.collect(Collectors.toSet());
+		return playerService.findAllByIds(playerIds);
 	}
 
 }
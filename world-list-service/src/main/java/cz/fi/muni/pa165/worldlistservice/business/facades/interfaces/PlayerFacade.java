@@ -3,8 +3,13 @@ package cz.fi.muni.pa165.worldlistservice.business.facades.interfaces;
 import cz.fi.muni.pa165.dto.worldlistservice.player.create.PlayerCreateDto;
 import cz.fi.muni.pa165.dto.worldlistservice.player.detail.PlayerDetailDto;
 import cz.fi.muni.pa165.dto.worldlistservice.player.list.PlayerListDto;
+import cz.fi.muni.pa165.dto.worldlistservice.player.search.PlayerSearchDto;
 import cz.fi.muni.pa165.dto.worldlistservice.player.update.PlayerUpdateDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 public interface PlayerFacade extends GenericFacade<PlayerDetailDto, PlayerListDto, PlayerCreateDto, PlayerUpdateDto> {
 
+	Page<PlayerListDto> search(PlayerSearchDto search, Pageable pageable);
+
 }
@@ -5,6 +5,7 @@ import cz.fi.muni.pa165.dto.worldlistservice.player.detail.PlayerDetailDto;
 import cz.fi.muni.pa165.dto.worldlistservice.player.list.PlayerListDto;
 import cz.fi.muni.pa165.dto.worldlistservice.player.update.PlayerUpdateDto;
 import cz.fi.muni.pa165.worldlistservice.persistence.entities.PlayerEntity;
+import cz.fi.muni.pa165.worldlistservice.persistence.repositories.PlayerSummary;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
@@ -12,4 +13,6 @@ import org.mapstruct.ReportingPolicy;
 public interface PlayerMapper
 		extends GenericMapper<PlayerDetailDto, PlayerListDto, PlayerCreateDto, PlayerUpdateDto, PlayerEntity> {
 
+	PlayerListDto summaryToListModel(PlayerSummary summary);
+
 }
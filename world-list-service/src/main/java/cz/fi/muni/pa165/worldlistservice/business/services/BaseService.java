@@ -10,8 +10,12 @@ import cz.fi.muni.pa165.worldlistservice.persistence.repositories.Repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static cz.fi.muni.pa165.worldlistservice.business.validations.ValidationHelper.requireNonNull;
 
@@ -40,6 +44,24 @@ public abstract class BaseService<E extends BaseEntity & Identifiable> implement
 		return repository.findById(id);
 	}
 
+	@Override
+	public Set<E> findAllByIds(Collection<UUID> ids) throws ValueIsMissingException, NotFoundException {
+		requireNonNull(ids, getEntityName() + " IDs cannot be null.");
+
+		var uniqueIds = new HashSet<>(ids);
+		if (uniqueIds.isEmpty()) {
+			return new HashSet<>();
+		}
+
+		var entities = new HashSet<>(repository.findAllById(uniqueIds));
+		if (entities.size() != uniqueIds.size()) {
+			var foundIds = entities.stream().map(E::getId).collect(Collectors.toSet());
+			uniqueIds.removeAll(foundIds);
+			throw new NotFoundException(getEntityName(), uniqueIds);
+		}
+		return entities;
+	}
+
 	@Override
 	public Page<E> findAll(Pageable pageable) throws ValueIsMissingException {
 		requireNonNull(pageable, "Pageable for " + getEntityName() + " cannot be null.");
@@ -2,11 +2,21 @@ package cz.fi.muni.pa165.worldlistservice.business.services;
 
 import cz.fi.muni.pa165.worldlistservice.api.exception.NotFoundException;
 import cz.fi.muni.pa165.worldlistservice.business.services.interfaces.PlayerService;
+import cz.fi.muni.pa165.worldlistservice.business.services.search.PlayerSearchCriteria;
+import cz.fi.muni.pa165.worldlistservice.business.services.search.PlayerSearchIndex;
 import cz.fi.muni.pa165.worldlistservice.persistence.entities.PlayerCharacteristicEntity;
 import cz.fi.muni.pa165.worldlistservice.persistence.entities.PlayerEntity;
 import cz.fi.muni.pa165.worldlistservice.persistence.repositories.PlayerRepository;
+import cz.fi.muni.pa165.worldlistservice.persistence.repositories.PlayerSummary;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Arrays;
 import java.util.UUID;
@@ -16,9 +26,54 @@ import static cz.fi.muni.pa165.worldlistservice.business.validations.ValidationH
 @Service
 public class PlayerServiceImpl extends BaseService<PlayerEntity> implements PlayerService {
 
+	private final PlayerRepository playerRepository;
+
+	private final PlayerSearchIndex searchIndex;
+
 	@Autowired
-	public PlayerServiceImpl(PlayerRepository repository) {
+	public PlayerServiceImpl(PlayerRepository repository, PlayerSearchIndex searchIndex) {
 		super(repository);
+		this.playerRepository = repository;
+		this.searchIndex = searchIndex;
+	}
+
+	/**
+	 * Fills the search index once the application started and the database is seeded
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void buildSearchIndex() {
+		searchIndex.replaceAll(playerRepository.findAllSummaries());
+	}
+
+	@Override
+	public PlayerEntity create(PlayerEntity entity) {
+		var createdEntity = super.create(entity);
+		indexAfterCommit(createdEntity);
+
+		return createdEntity;
+	}
+
+	@Override
+	public PlayerEntity update(PlayerEntity entity) throws NotFoundException {
+		var updatedEntity = super.update(entity);
+		indexAfterCommit(updatedEntity);
+
+		return updatedEntity;
+	}
+
+	@Override
+	public void delete(UUID id) throws NotFoundException {
+		super.delete(id);
+		afterCommit(() -> searchIndex.remove(id));
+	}
+
+	@Override
+	public Page<PlayerSummary> search(PlayerSearchCriteria criteria, Pageable pageable) {
+		requireNonNull(criteria, "Search criteria cannot be null.");
+		requireNonNull(pageable, "Pageable for " + getEntityName() + " cannot be null.");
+
+		return searchIndex.search(criteria, pageable);
 	}
 
 	@Override
@@ -56,4 +111,27 @@ public class PlayerServiceImpl extends BaseService<PlayerEntity> implements Play
 		return player;
 	}
 
+	private void indexAfterCommit(PlayerEntity player) {
+		var summary = new PlayerSummary(player.getId(), player.getFirstName(), player.getLastName(),
+				player.getOverallRating(), player.getMarketValue(), player.isUsed());
+		afterCommit(() -> searchIndex.put(summary));
+	}
+
+	/**
+	 * Changes the search index once the transaction commits, so a rolled back change is
+	 * never searchable
+	 */
+	private static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
 }
@@ -6,7 +6,9 @@ import cz.fi.muni.pa165.worldlistservice.persistence.entities.BaseEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface GenericService<E extends BaseEntity & Identifiable> {
@@ -15,6 +17,14 @@ public interface GenericService<E extends BaseEntity & Identifiable> {
 
 	Optional<E> findById(UUID id);
 
+	/**
+	 * Loads all the entities in one query
+	 * @param ids IDs of the entities
+	 * @return entities with the given IDs
+	 * @throws NotFoundException listing every ID without an entity
+	 */
+	Set<E> findAllByIds(Collection<UUID> ids) throws NotFoundException;
+
 	Page<E> findAll(Pageable pageable);
 
 	E update(E entity) throws NotFoundException;
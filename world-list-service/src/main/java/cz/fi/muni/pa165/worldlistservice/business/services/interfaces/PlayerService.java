@@ -1,7 +1,11 @@
 package cz.fi.muni.pa165.worldlistservice.business.services.interfaces;
 
 import cz.fi.muni.pa165.worldlistservice.api.exception.NotFoundException;
+import cz.fi.muni.pa165.worldlistservice.business.services.search.PlayerSearchCriteria;
 import cz.fi.muni.pa165.worldlistservice.persistence.entities.PlayerEntity;
+import cz.fi.muni.pa165.worldlistservice.persistence.repositories.PlayerSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.UUID;
 
@@ -11,4 +15,12 @@ public interface PlayerService extends GenericService<PlayerEntity> {
 
 	PlayerEntity updateRating(PlayerEntity player);
 
+	/**
+	 * Searches the players in the in-memory index, the database is not read
+	 * @param criteria filters of the search
+	 * @param pageable page of the result, players are ordered by the rating from the best
+	 * @return page of the matching players
+	 */
+	Page<PlayerSummary> search(PlayerSearchCriteria criteria, Pageable pageable);
+
 }
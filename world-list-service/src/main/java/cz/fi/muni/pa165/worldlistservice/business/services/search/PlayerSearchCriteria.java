@@ -0,0 +1,19 @@
+package cz.fi.muni.pa165.worldlistservice.business.services.search;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Filters of the player search, a null filter matches every player. Bounds of the ranges
+ * are inclusive.
+ *
+ * @param namePrefix prefix of the first or the last name, the case and diacritics are
+ * ignored
+ * @param used true for the players used in a team, false for the free agents
+ */
+public record PlayerSearchCriteria(@Nullable String namePrefix, @Nullable Integer minRating,
+		@Nullable Integer maxRating, @Nullable Long minMarketValue, @Nullable Long maxMarketValue,
+		@Nullable Boolean used) {
+
+	public static final PlayerSearchCriteria NONE = new PlayerSearchCriteria(null, null, null, null, null, null);
+
+}
@@ -0,0 +1,677 @@
+package cz.fi.muni.pa165.worldlistservice.business.services.search;
+
+import cz.fi.muni.pa165.worldlistservice.persistence.repositories.PlayerSummary;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory index answering the player searches by a name prefix, rating and market value
+ * ranges and the usage in a team without reading the database.
+ * <p>
+ * Players are stored in columns by their document number. The sorted index ranks the
+ * players in the search order, so the players of a rating range have consecutive ranks
+ * and a page of the result is the first matching ranks. The normalized first and last
+ * names and the market values are sorted along with the ranks, the used players are a
+ * bitmap of ranks. A search intersects the bitmaps of the matching ranks, so its cost
+ * depends on the number of the matching players rather than on all the players.
+ * <p>
+ * Players changed since the sorted index was built are checked one by one, their ranks
+ * are ignored. Once there are more of them than the rebuild threshold, the sorted index
+ * is rebuilt in the background while the searches continue.
+ */
+@Component
+public class PlayerSearchIndex {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PlayerSearchIndex.class);
+
+	private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private final int rebuildThreshold;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+	// Columns by the document number
+	private UUID[] ids;
+
+	private String[] firstNames;
+
+	private String[] lastNames;
+
+	private String[] firstNameKeys;
+
+	private String[] lastNameKeys;
+
+	private int[] ratings;
+
+	private long[] marketValues;
+
+	// Version of the last change of each document
+	private int[] versions;
+
+	private final BitSet live = new BitSet();
+
+	private final BitSet used = new BitSet();
+
+	private final Map<UUID, Integer> documents = new HashMap<>();
+
+	private final Deque<Integer> freeDocuments = new ArrayDeque<>();
+
+	private int documentCount;
+
+	private int version;
+
+	// Version of the last replacement, sorted indexes built before it are discarded
+	private int replacedVersion;
+
+	// Documents changed since the sorted index was built, their ranks may be stale
+	private final BitSet changed = new BitSet();
+
+	private int changedCount;
+
+	private SortedIndex sortedIndex = SortedIndex.EMPTY;
+
+	public PlayerSearchIndex(@Value("${player-search.rebuild-threshold:10000}") int rebuildThreshold) {
+		this.rebuildThreshold = rebuildThreshold;
+		allocate(INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Replaces the indexed players and builds the sorted index
+	 * @param players all the players
+	 */
+	public void replaceAll(@Nonnull Collection<PlayerSummary> players) {
+		Objects.requireNonNull(players, "Please provide the players to index");
+
+		lock.writeLock().lock();
+		try {
+			documents.clear();
+			freeDocuments.clear();
+			live.clear();
+			used.clear();
+			changed.clear();
+			changedCount = 0;
+			documentCount = 0;
+			replacedVersion = ++version;
+			allocate(Math.max(INITIAL_CAPACITY, players.size()));
+
+			players.forEach(player -> store(allocateDocument(player.id()), player));
+			sortedIndex = SortedIndex.build(takeSnapshot());
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+		LOGGER.info("Indexed {} players for the search", players.size());
+	}
+
+	/**
+	 * Adds the player to the index or updates the indexed one
+	 * @param player created or updated player
+	 */
+	public void put(@Nonnull PlayerSummary player) {
+		Objects.requireNonNull(player, "Please provide the player to index");
+
+		boolean rebuild;
+		lock.writeLock().lock();
+		try {
+			var document = documents.get(player.id());
+			if (document == null) {
+				document = allocateDocument(player.id());
+			}
+			store(document, player);
+			rebuild = markChanged(document);
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+		if (rebuild) {
+			rebuildInBackground();
+		}
+	}
+
+	/**
+	 * Removes the player from the index, nothing happens when the player isn't indexed
+	 * @param playerId ID of the deleted player
+	 */
+	public void remove(@Nonnull UUID playerId) {
+		Objects.requireNonNull(playerId, "Please provide ID of the player to remove");
+
+		boolean rebuild;
+		lock.writeLock().lock();
+		try {
+			var document = documents.remove(playerId);
+			if (document == null) {
+				return;
+			}
+			live.clear(document);
+			used.clear(document);
+			ids[document] = null;
+			firstNames[document] = lastNames[document] = null;
+			firstNameKeys[document] = lastNameKeys[document] = null;
+			rebuild = markChanged(document);
+			freeDocuments.push(document);
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+		if (rebuild) {
+			rebuildInBackground();
+		}
+	}
+
+	/**
+	 * Finds the players matching all the criteria, ordered by the rating from the best,
+	 * then by the last and the first name
+	 * @param criteria filters of the search
+	 * @param pageable page of the result, its sort is ignored
+	 * @return page of the matching players with their total count
+	 */
+	public Page<PlayerSummary> search(@Nonnull PlayerSearchCriteria criteria, @Nonnull Pageable pageable) {
+		Objects.requireNonNull(criteria, "Please provide the search criteria");
+		Objects.requireNonNull(pageable, "Please provide the page");
+
+		var filter = Filter.of(criteria);
+		if (filter.isEmptyRange()) {
+			return new PageImpl<>(List.of(), pageable, 0);
+		}
+		lock.readLock().lock();
+		try {
+			var index = sortedIndex;
+			var matchingRanks = findMatchingRanks(index, filter);
+			var matchingChanged = findMatchingChanged(filter);
+			var total = (long) matchingRanks.cardinality() + matchingChanged.length;
+
+			var offset = pageable.isPaged() ? pageable.getOffset() : 0;
+			if (offset >= total) {
+				return new PageImpl<>(List.of(), pageable, total);
+			}
+			var end = pageable.isPaged() ? Math.min(total, offset + pageable.getPageSize()) : total;
+
+			// Merges the ranks with the changed players, both are in the search order
+			var players = new ArrayList<PlayerSummary>((int) (end - offset));
+			var rank = matchingRanks.nextSetBit(0);
+			var changedPosition = 0;
+			for (var position = 0L; position < end; position++) {
+				int document;
+				if (changedPosition == matchingChanged.length
+						|| rank >= 0 && compare(index.order()[rank], matchingChanged[changedPosition]) < 0) {
+					document = index.order()[rank];
+					rank = matchingRanks.nextSetBit(rank + 1);
+				}
+				else {
+					document = matchingChanged[changedPosition++];
+				}
+				if (position >= offset) {
+					players.add(getPlayer(document));
+				}
+			}
+			return new PageImpl<>(players, pageable, total);
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Builds the sorted index from the current players. The index is built without
+	 * blocking the searches and the changes, players changed meanwhile stay checked one
+	 * by one.
+	 */
+	public void rebuild() {
+		if (!rebuilding.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			Snapshot snapshot;
+			lock.readLock().lock();
+			try {
+				snapshot = takeSnapshot();
+			}
+			finally {
+				lock.readLock().unlock();
+			}
+
+			var index = SortedIndex.build(snapshot);
+
+			lock.writeLock().lock();
+			try {
+				if (snapshot.version() < replacedVersion) {
+					return;
+				}
+				for (var document = changed.nextSetBit(0); document >= 0; document = changed.nextSetBit(document + 1)) {
+					if (versions[document] <= snapshot.version()) {
+						changed.clear(document);
+						changedCount--;
+					}
+					else {
+						index.invalidate(document);
+					}
+				}
+				sortedIndex = index;
+			}
+			finally {
+				lock.writeLock().unlock();
+			}
+			LOGGER.debug("Rebuilt the player search index of {} players", snapshot.documents().length);
+		}
+		finally {
+			rebuilding.set(false);
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return documents.size();
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Normalizes the name for the prefix search, the diacritics are removed and the
+	 * letters lowercased
+	 */
+	public static String normalize(String name) {
+		if (name == null) {
+			return "";
+		}
+		return DIACRITICS.matcher(Normalizer.normalize(name.strip(), Normalizer.Form.NFD))
+			.replaceAll("")
+			.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Finds the valid ranks matching the filter. The rating range, the usage and the name
+	 * prefix are intersected as bitmaps. The market value range is intersected as a
+	 * bitmap only when it matches fewer ranks than the candidates left, otherwise the
+	 * market values of the candidates are checked.
+	 */
+	private BitSet findMatchingRanks(SortedIndex index, Filter filter) {
+		var count = index.order().length;
+		var matches = new BitSet(count);
+		matches.set(findFirstRankAtMost(index.ratings(), filter.maxRating()),
+				findFirstRankAtMost(index.ratings(), filter.minRating() - 1));
+		matches.and(index.valid());
+		if (Boolean.TRUE.equals(filter.used())) {
+			matches.and(index.used());
+		}
+		else if (Boolean.FALSE.equals(filter.used())) {
+			matches.andNot(index.used());
+		}
+
+		if (filter.namePrefix() != null) {
+			var keys = index.nameKeys();
+			var nameMatches = new BitSet(count);
+			var to = lowerBound(keys, filter.namePrefix() + Character.MAX_VALUE);
+			for (var i = lowerBound(keys, filter.namePrefix()); i < to; i++) {
+				nameMatches.set(index.nameRanks()[i]);
+			}
+			matches.and(nameMatches);
+		}
+
+		if (filter.minMarketValue() != Long.MIN_VALUE || filter.maxMarketValue() != Long.MAX_VALUE) {
+			var values = index.marketValues();
+			var from = lowerBound(values, filter.minMarketValue());
+			var to = upperBound(values, filter.maxMarketValue());
+			if (to - from < matches.cardinality()) {
+				var valueMatches = new BitSet(count);
+				for (var i = from; i < to; i++) {
+					valueMatches.set(index.marketValueRanks()[i]);
+				}
+				matches.and(valueMatches);
+			}
+			else {
+				for (var rank = matches.nextSetBit(0); rank >= 0; rank = matches.nextSetBit(rank + 1)) {
+					var value = index.marketValuesByRank()[rank];
+					if (value < filter.minMarketValue() || value > filter.maxMarketValue()) {
+						matches.clear(rank);
+					}
+				}
+			}
+		}
+		return matches;
+	}
+
+	/**
+	 * @return changed documents matching the filter in the search order
+	 */
+	private int[] findMatchingChanged(Filter filter) {
+		var matching = new ArrayList<Integer>();
+		for (var document = changed.nextSetBit(0); document >= 0; document = changed.nextSetBit(document + 1)) {
+			if (matches(document, filter)) {
+				matching.add(document);
+			}
+		}
+		matching.sort(this::compare);
+		return matching.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private boolean matches(int document, Filter filter) {
+		return live.get(document) && (filter.namePrefix() == null || matchesName(document, filter.namePrefix()))
+				&& ratings[document] >= filter.minRating() && ratings[document] <= filter.maxRating()
+				&& marketValues[document] >= filter.minMarketValue()
+				&& marketValues[document] <= filter.maxMarketValue()
+				&& (filter.used() == null || used.get(document) == filter.used());
+	}
+
+	private boolean matchesName(int document, String namePrefix) {
+		return firstNameKeys[document].startsWith(namePrefix) || lastNameKeys[document].startsWith(namePrefix);
+	}
+
+	/**
+	 * Search order of the documents, the better rating goes first
+	 */
+	private int compare(int first, int second) {
+		return compare(ratings[first], lastNameKeys[first], firstNameKeys[first], ids[first], ratings[second],
+				lastNameKeys[second], firstNameKeys[second], ids[second]);
+	}
+
+	private static int compare(int firstRating, String firstLastName, String firstFirstName, UUID firstId,
+			int secondRating, String secondLastName, String secondFirstName, UUID secondId) {
+		var result = Integer.compare(secondRating, firstRating);
+		if (result == 0) {
+			result = firstLastName.compareTo(secondLastName);
+		}
+		if (result == 0) {
+			result = firstFirstName.compareTo(secondFirstName);
+		}
+		return result != 0 ? result : firstId.compareTo(secondId);
+	}
+
+	private PlayerSummary getPlayer(int document) {
+		return new PlayerSummary(ids[document], firstNames[document], lastNames[document], ratings[document],
+				marketValues[document], used.get(document));
+	}
+
+	private int allocateDocument(UUID playerId) {
+		var document = freeDocuments.isEmpty() ? documentCount++ : freeDocuments.pop();
+		if (document >= ids.length) {
+			grow(Math.max(document + 1, ids.length * 2));
+		}
+		documents.put(playerId, document);
+		return document;
+	}
+
+	private void store(int document, PlayerSummary player) {
+		ids[document] = player.id();
+		firstNames[document] = player.firstName();
+		lastNames[document] = player.lastName();
+		firstNameKeys[document] = normalize(player.firstName());
+		lastNameKeys[document] = normalize(player.lastName());
+		ratings[document] = player.overallRating();
+		marketValues[document] = player.marketValue();
+		live.set(document);
+		used.set(document, player.used());
+	}
+
+	/**
+	 * @return true if the sorted index should be rebuilt
+	 */
+	private boolean markChanged(int document) {
+		versions[document] = ++version;
+		sortedIndex.invalidate(document);
+		if (!changed.get(document)) {
+			changed.set(document);
+			changedCount++;
+		}
+		return changedCount > rebuildThreshold && !rebuilding.get();
+	}
+
+	private void rebuildInBackground() {
+		Thread.ofVirtual().name("player-search-rebuild").start(this::rebuild);
+	}
+
+	private Snapshot takeSnapshot() {
+		var count = live.cardinality();
+		var snapshotDocuments = new int[count];
+		var snapshotIds = new UUID[count];
+		var snapshotFirstNames = new String[count];
+		var snapshotLastNames = new String[count];
+		var snapshotRatings = new int[count];
+		var snapshotMarketValues = new long[count];
+		var snapshotUsed = new boolean[count];
+
+		var i = 0;
+		for (var document = live.nextSetBit(0); document >= 0; document = live.nextSetBit(document + 1), i++) {
+			snapshotDocuments[i] = document;
+			snapshotIds[i] = ids[document];
+			snapshotFirstNames[i] = firstNameKeys[document];
+			snapshotLastNames[i] = lastNameKeys[document];
+			snapshotRatings[i] = ratings[document];
+			snapshotMarketValues[i] = marketValues[document];
+			snapshotUsed[i] = used.get(document);
+		}
+		return new Snapshot(snapshotDocuments, snapshotIds, snapshotFirstNames, snapshotLastNames, snapshotRatings,
+				snapshotMarketValues, snapshotUsed, ids.length, version);
+	}
+
+	private void allocate(int capacity) {
+		ids = new UUID[capacity];
+		firstNames = new String[capacity];
+		lastNames = new String[capacity];
+		firstNameKeys = new String[capacity];
+		lastNameKeys = new String[capacity];
+		ratings = new int[capacity];
+		marketValues = new long[capacity];
+		versions = new int[capacity];
+	}
+
+	private void grow(int capacity) {
+		ids = Arrays.copyOf(ids, capacity);
+		firstNames = Arrays.copyOf(firstNames, capacity);
+		lastNames = Arrays.copyOf(lastNames, capacity);
+		firstNameKeys = Arrays.copyOf(firstNameKeys, capacity);
+		lastNameKeys = Arrays.copyOf(lastNameKeys, capacity);
+		ratings = Arrays.copyOf(ratings, capacity);
+		marketValues = Arrays.copyOf(marketValues, capacity);
+		versions = Arrays.copyOf(versions, capacity);
+	}
+
+	/**
+	 * @return first rank with the rating at most the given one, the ratings are
+	 * descending
+	 */
+	private static int findFirstRankAtMost(int[] ratingsByRank, long rating) {
+		int low = 0;
+		int high = ratingsByRank.length;
+		while (low < high) {
+			var middle = (low + high) >>> 1;
+			if (ratingsByRank[middle] > rating) {
+				low = middle + 1;
+			}
+			else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private static int lowerBound(String[] keys, String key) {
+		int low = 0;
+		int high = keys.length;
+		while (low < high) {
+			var middle = (low + high) >>> 1;
+			if (keys[middle].compareTo(key) < 0) {
+				low = middle + 1;
+			}
+			else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private static int lowerBound(long[] keys, long key) {
+		int low = 0;
+		int high = keys.length;
+		while (low < high) {
+			var middle = (low + high) >>> 1;
+			if (keys[middle] < key) {
+				low = middle + 1;
+			}
+			else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private static int upperBound(long[] keys, long key) {
+		return key == Long.MAX_VALUE ? keys.length : lowerBound(keys, key + 1);
+	}
+
+	private record Filter(String namePrefix, long minRating, long maxRating, long minMarketValue, long maxMarketValue,
+			Boolean used) {
+
+		static Filter of(PlayerSearchCriteria criteria) {
+			var namePrefix = normalize(criteria.namePrefix());
+			return new Filter(namePrefix.isEmpty() ? null : namePrefix,
+					criteria.minRating() != null ? criteria.minRating() : Integer.MIN_VALUE,
+					criteria.maxRating() != null ? criteria.maxRating() : Integer.MAX_VALUE,
+					criteria.minMarketValue() != null ? criteria.minMarketValue() : Long.MIN_VALUE,
+					criteria.maxMarketValue() != null ? criteria.maxMarketValue() : Long.MAX_VALUE, criteria.used());
+		}
+
+		/**
+		 * @return true if a range has the lower bound above the upper one, no player
+		 * matches it
+		 */
+		boolean isEmptyRange() {
+			return minRating > maxRating || minMarketValue > maxMarketValue;
+		}
+
+	}
+
+	private record Snapshot(int[] documents, UUID[] ids, String[] firstNames, String[] lastNames, int[] ratings,
+			long[] marketValues, boolean[] used, int capacity, int version) {
+
+	}
+
+	/**
+	 * Players ranked in the search order. The ratings and the market values are kept by
+	 * the rank, the names and the market values are also sorted along with the ranks.
+	 * Both names of a player are in the names. The valid ranks belong to the players
+	 * unchanged since the index was built.
+	 */
+	private record SortedIndex(int[] order, int[] ranks, int[] ratings, long[] marketValuesByRank, BitSet used,
+			BitSet valid, String[] nameKeys, int[] nameRanks, long[] marketValues, int[] marketValueRanks) {
+
+		static final SortedIndex EMPTY = build(new Snapshot(new int[0], new UUID[0], new String[0], new String[0],
+				new int[0], new long[0], new boolean[0], 0, 0));
+
+		static SortedIndex build(Snapshot snapshot) {
+			var count = snapshot.documents().length;
+			var positions = new Integer[count];
+			Arrays.setAll(positions, i -> i);
+			Arrays.parallelSort(positions,
+					(first, second) -> compare(snapshot.ratings()[first], snapshot.lastNames()[first],
+							snapshot.firstNames()[first], snapshot.ids()[first], snapshot.ratings()[second],
+							snapshot.lastNames()[second], snapshot.firstNames()[second], snapshot.ids()[second]));
+
+			var order = new int[count];
+			var ranks = new int[snapshot.capacity()];
+			Arrays.fill(ranks, -1);
+			var rankedRatings = new int[count];
+			var rankedMarketValues = new long[count];
+			var rankedUsed = new BitSet(count);
+			var names = new String[2 * count];
+			var nameRanks = new int[2 * count];
+			for (var rank = 0; rank < count; rank++) {
+				int position = positions[rank];
+				order[rank] = snapshot.documents()[position];
+				ranks[order[rank]] = rank;
+				rankedRatings[rank] = snapshot.ratings()[position];
+				rankedMarketValues[rank] = snapshot.marketValues()[position];
+				rankedUsed.set(rank, snapshot.used()[position]);
+				names[2 * rank] = snapshot.firstNames()[position];
+				names[2 * rank + 1] = snapshot.lastNames()[position];
+				nameRanks[2 * rank] = nameRanks[2 * rank + 1] = rank;
+			}
+			var valid = new BitSet(count);
+			valid.set(0, count);
+
+			var sortedNames = names.clone();
+			Arrays.parallelSort(sortedNames);
+			var sortedMarketValues = rankedMarketValues.clone();
+			Arrays.parallelSort(sortedMarketValues);
+			var allRanks = new int[count];
+			Arrays.setAll(allRanks, rank -> rank);
+
+			return new SortedIndex(order, ranks, rankedRatings, rankedMarketValues, rankedUsed, valid, sortedNames,
+					sortRanks(sortedNames, names, nameRanks), sortedMarketValues,
+					sortRanks(sortedMarketValues, rankedMarketValues, allRanks));
+		}
+
+		/**
+		 * Ignores the rank of the changed document
+		 */
+		void invalidate(int document) {
+			if (document < ranks.length && ranks[document] >= 0) {
+				valid.clear(ranks[document]);
+			}
+		}
+
+		/**
+		 * Orders the ranks by their keys. Each rank is packed with the position of its
+		 * key in the sorted keys, so they are sorted as primitives.
+		 */
+		private static int[] sortRanks(String[] sortedKeys, String[] keys, int[] ranks) {
+			var packed = new long[keys.length];
+			for (var i = 0; i < keys.length; i++) {
+				packed[i] = pack(Arrays.binarySearch(sortedKeys, keys[i]), ranks[i]);
+			}
+			return unpackRanks(packed);
+		}
+
+		private static int[] sortRanks(long[] sortedKeys, long[] keys, int[] ranks) {
+			var packed = new long[keys.length];
+			for (var i = 0; i < keys.length; i++) {
+				packed[i] = pack(Arrays.binarySearch(sortedKeys, keys[i]), ranks[i]);
+			}
+			return unpackRanks(packed);
+		}
+
+		private static long pack(int position, int rank) {
+			return ((long) position << 32) | rank;
+		}
+
+		private static int[] unpackRanks(long[] packed) {
+			Arrays.parallelSort(packed);
+			var sortedRanks = new int[packed.length];
+			for (var i = 0; i < packed.length; i++) {
+				sortedRanks[i] = (int) packed[i];
+			}
+			return sortedRanks;
+		}
+
+	}
+
+}
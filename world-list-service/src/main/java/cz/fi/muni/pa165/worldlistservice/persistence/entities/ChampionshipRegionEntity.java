@@ -2,17 +2,22 @@ package cz.fi.muni.pa165.worldlistservice.persistence.entities;
 
 import cz.fi.muni.pa165.dto.worldlistservice.interfaces.Identifiable;
 import cz.fi.muni.pa165.enums.ChampionshipRegionType;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.OneToMany;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "championship-region")
 @Setter
 @Getter
 @Builder
@@ -1,8 +1,17 @@
 package cz.fi.muni.pa165.worldlistservice.persistence.repositories;
 
 import cz.fi.muni.pa165.worldlistservice.persistence.entities.ChampionshipRegionEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 @org.springframework.stereotype.Repository
 public interface ChampionshipRegionRepository extends Repository<ChampionshipRegionEntity> {
 
+	@Override
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	List<ChampionshipRegionEntity> findAll();
+
 }
@@ -1,8 +1,15 @@
 package cz.fi.muni.pa165.worldlistservice.persistence.repositories;
 
 import cz.fi.muni.pa165.worldlistservice.persistence.entities.PlayerEntity;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 @org.springframework.stereotype.Repository
 public interface PlayerRepository extends Repository<PlayerEntity> {
 
+	@Query("SELECT new cz.fi.muni.pa165.worldlistservice.persistence.repositories.PlayerSummary("
+			+ "p.id, p.firstName, p.lastName, p.overallRating, p.marketValue, p.used) FROM PlayerEntity p")
+	List<PlayerSummary> findAllSummaries();
+
 }
@@ -0,0 +1,11 @@
+package cz.fi.muni.pa165.worldlistservice.persistence.repositories;
+
+import java.util.UUID;
+
+/**
+ * Searchable attributes of a player, read without the team and characteristics
+ */
+public record PlayerSummary(UUID id, String firstName, String lastName, int overallRating, long marketValue,
+		boolean used) {
+
+}
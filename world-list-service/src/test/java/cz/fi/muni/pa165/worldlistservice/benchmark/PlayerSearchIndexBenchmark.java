@@ -0,0 +1,99 @@
+package cz.fi.muni.pa165.worldlistservice.benchmark;
+
+import cz.fi.muni.pa165.worldlistservice.business.services.search.PlayerSearchCriteria;
+import cz.fi.muni.pa165.worldlistservice.business.services.search.PlayerSearchIndex;
+import cz.fi.muni.pa165.worldlistservice.persistence.repositories.PlayerSummary;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the {@link PlayerSearchIndex} over a million players. The sampled time
+ * reports the percentiles, the p99 of every search should stay below 5 ms. A share of the
+ * players is changed after the index is built, so the searches also check the players
+ * waiting for the rebuild.
+ * <p>
+ * Run with {@code mvn -pl world-list-service test-compile exec:java
+ * -Dexec.classpathScope=test
+ * -Dexec.mainClass=cz.fi.muni.pa165.worldlistservice.benchmark.PlayerSearchIndexBenchmark}
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@State(Scope.Benchmark)
+public class PlayerSearchIndexBenchmark {
+
+	private static final int PLAYERS = 1_000_000;
+
+	private static final int CHANGED_PLAYERS = 5_000;
+
+	private static final String[] FIRST_NAMES = { "Jaromír", "Patrik", "Dominik", "Tomáš", "Jakub", "David", "Ondřej",
+			"Martin", "Lukáš", "Filip", "Wayne", "Connor", "Sidney", "Alexander", "Nikita" };
+
+	private static final String[] LAST_NAMES = { "Jágr", "Eliáš", "Hašek", "Plekanec", "Voráček", "Pastrňák", "Nečas",
+			"Novák", "Novotný", "Dvořák", "Černý", "Gretzky", "McDavid", "Crosby", "Ovečkin", "Kučerov" };
+
+	private static final Pageable PAGE = PageRequest.of(0, 20);
+
+	private final PlayerSearchIndex index = new PlayerSearchIndex(Integer.MAX_VALUE);
+
+	@Setup
+	public void setup() {
+		var random = new Random(42);
+		var players = new ArrayList<PlayerSummary>(PLAYERS);
+		for (int i = 0; i < PLAYERS; i++) {
+			players.add(randomPlayer(random, UUID.randomUUID()));
+		}
+		index.replaceAll(players);
+		for (int i = 0; i < CHANGED_PLAYERS; i++) {
+			index.put(randomPlayer(random, players.get(random.nextInt(PLAYERS)).id()));
+		}
+	}
+
+	@Benchmark
+	public Page<PlayerSummary> namePrefix() {
+		return index.search(new PlayerSearchCriteria("nov", null, null, null, null, null), PAGE);
+	}
+
+	@Benchmark
+	public Page<PlayerSummary> namePrefixAndRanges() {
+		return index.search(new PlayerSearchCriteria("nov", 80, null, null, 2_000_000L, false), PAGE);
+	}
+
+	@Benchmark
+	public Page<PlayerSummary> ratingRange() {
+		return index.search(new PlayerSearchCriteria(null, 95, null, null, null, null), PAGE);
+	}
+
+	@Benchmark
+	public Page<PlayerSummary> marketValueRange() {
+		return index.search(new PlayerSearchCriteria(null, null, null, 1_000_000L, 1_100_000L, null), PAGE);
+	}
+
+	@Benchmark
+	public Page<PlayerSummary> freeAgents() {
+		return index.search(new PlayerSearchCriteria(null, null, null, null, null, false), PAGE);
+	}
+
+	private static PlayerSummary randomPlayer(Random random, UUID id) {
+		return new PlayerSummary(id, FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+				LAST_NAMES[random.nextInt(LAST_NAMES.length)] + random.nextInt(1000), random.nextInt(101),
+				random.nextLong(50_000_000), random.nextInt(10) < 7);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(PlayerSearchIndexBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -24,6 +24,9 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
@@ -76,6 +79,46 @@ class PlayerControllerIT {
 		verify(playerFacade, times(1)).findAll(any());
 	}
 
+	@Test
+	void searchPlayers_lastNamePrefix_shouldReturnMatchingPlayers() throws Exception {
+		var player = playerRepository.findAll().get(1);
+		var prefix = player.getLastName().substring(0, 2).toLowerCase();
+
+		mockMvc.perform(get("/v1/players/search").param("namePrefix", prefix).param("minRating", "0"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content[*].id", hasItem(player.getId().toString())))
+			.andExpect(jsonPath("$.content[*].overallRating", everyItem(greaterThanOrEqualTo(0))));
+	}
+
+	@Test
+	void searchPlayers_ratingAboveMaximum_shouldReturnEmptyPage() throws Exception {
+		mockMvc.perform(get("/v1/players/search").param("minRating", "1000"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content").isEmpty())
+			.andExpect(jsonPath("$.page.totalElements").value(0));
+	}
+
+	@Test
+	void searchPlayers_negativeRating_shouldReturnBadRequest() throws Exception {
+		mockMvc.perform(get("/v1/players/search").param("minRating", "-1"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.minRating").exists());
+	}
+
+	@Test
+	void searchPlayers_minRatingAboveMaxRating_shouldReturnBadRequest() throws Exception {
+		mockMvc.perform(get("/v1/players/search").param("minRating", "90").param("maxRating", "80"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.ratingRangeValid").exists());
+	}
+
+	@Test
+	void searchPlayers_minMarketValueAboveMaxMarketValue_shouldReturnBadRequest() throws Exception {
+		mockMvc.perform(get("/v1/players/search").param("minMarketValue", "2000").param("maxMarketValue", "1000"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.marketValueRangeValid").exists());
+	}
+
 	@Test
 	void getPlayerById_existingId_shouldReturnTeam() throws Exception {
 		var existing = playerMapper.toDetailModel(playerRepository.findAll().get(1));
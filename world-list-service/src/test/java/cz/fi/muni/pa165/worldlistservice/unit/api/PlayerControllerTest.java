@@ -3,6 +3,7 @@ package cz.fi.muni.pa165.worldlistservice.unit.api;
 import cz.fi.muni.pa165.dto.worldlistservice.player.create.PlayerCreateDto;
 import cz.fi.muni.pa165.dto.worldlistservice.player.detail.PlayerDetailDto;
 import cz.fi.muni.pa165.dto.worldlistservice.player.list.PlayerListDto;
+import cz.fi.muni.pa165.dto.worldlistservice.player.search.PlayerSearchDto;
 import cz.fi.muni.pa165.dto.worldlistservice.player.update.PlayerUpdateDto;
 import cz.fi.muni.pa165.worldlistservice.api.controllers.PlayerControllerImpl;
 import cz.fi.muni.pa165.worldlistservice.api.exception.NotFoundException;
@@ -111,6 +112,39 @@ public class PlayerControllerTest {
 		verify(playerFacade).findAll(pageable);
 	}
 
+	@Test
+	public void searchPlayers_validFilters_returnsPageOfPlayers() {
+		// Arrange
+		Pageable pageable = mock(Pageable.class);
+		PlayerSearchDto search = PlayerSearchDto.builder().namePrefix("Play").build();
+		Page<PlayerListDto> playersPage = new PageImpl<>(List.of(playerListDto));
+		when(playerFacade.search(search, pageable)).thenReturn(playersPage);
+
+		// Act
+		ResponseEntity<Page<PlayerListDto>> response = playerController.searchPlayers(search, pageable);
+
+		// Assert
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(playersPage, response.getBody());
+		verify(playerFacade).search(search, pageable);
+	}
+
+	@Test
+	public void searchPlayers_noPlayersMatch_returnsEmptyPage() {
+		// Arrange
+		Pageable pageable = mock(Pageable.class);
+		PlayerSearchDto search = PlayerSearchDto.builder().minRating(100).build();
+		Page<PlayerListDto> playersPage = new PageImpl<>(List.of());
+		when(playerFacade.search(search, pageable)).thenReturn(playersPage);
+
+		// Act
+		ResponseEntity<Page<PlayerListDto>> response = playerController.searchPlayers(search, pageable);
+
+		// Assert
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(playersPage, response.getBody());
+	}
+
 	@Test
 	public void getAllPlayers_noPlayersFound_returnsNotFound() {
 		// Arrange
@@ -86,7 +86,7 @@ public class ChampionshipFacadeTest {
 		TeamEntity teamEntity = TeamEntity.builder().id(testTeamId).build();
 
 		when(championshipRegionService.findById(testRegionId)).thenReturn(Optional.of(regionEntity));
-		when(teamService.findById(testTeamId)).thenReturn(Optional.of(teamEntity));
+		when(teamService.findAllByIds(Set.of(testTeamId))).thenReturn(Set.of(teamEntity));
 		when(mapper.toEntityFromCreateModel(createModel)).thenReturn(new ChampionshipEntity());
 		when(service.create(any(ChampionshipEntity.class))).thenReturn(new ChampionshipEntity());
 		when(mapper.toDetailModel(any(ChampionshipEntity.class))).thenReturn(detailModel);
@@ -101,7 +101,7 @@ public class ChampionshipFacadeTest {
 		assertEquals(detailModel.getChampionshipRegion().getId(), result.getChampionshipRegion().getId());
 		assertEquals(detailModel.getChampionshipTeams(), result.getChampionshipTeams());
 		verify(championshipRegionService).findById(testRegionId);
-		verify(teamService).findById(testTeamId);
+		verify(teamService).findAllByIds(Set.of(testTeamId));
 		verify(mapper).toEntityFromCreateModel(createModel);
 		verify(service).create(any(ChampionshipEntity.class));
 		verify(mapper).toDetailModel(any(ChampionshipEntity.class));
@@ -122,12 +122,12 @@ public class ChampionshipFacadeTest {
 		// Arrange
 		ChampionshipRegionEntity regionEntity = ChampionshipRegionEntity.builder().id(testRegionId).build();
 		when(championshipRegionService.findById(testRegionId)).thenReturn(Optional.of(regionEntity));
-		when(teamService.findById(testTeamId)).thenReturn(Optional.empty());
+		when(teamService.findAllByIds(Set.of(testTeamId))).thenThrow(new NotFoundException("Team", Set.of(testTeamId)));
 
 		// Act & Assert
 		assertThrows(NotFoundException.class, () -> facade.create(createModel));
 		verify(championshipRegionService).findById(testRegionId);
-		verify(teamService).findById(testTeamId);
+		verify(teamService).findAllByIds(Set.of(testTeamId));
 	}
 
 	@Test
@@ -175,7 +175,7 @@ public class ChampionshipFacadeTest {
 		TeamEntity teamEntity = TeamEntity.builder().id(testTeamId).build();
 
 		when(championshipRegionService.findById(testRegionId)).thenReturn(Optional.of(regionEntity));
-		when(teamService.findById(testTeamId)).thenReturn(Optional.of(teamEntity));
+		when(teamService.findAllByIds(Set.of(testTeamId))).thenReturn(Set.of(teamEntity));
 		when(mapper.toEntityFromUpdateModel(updateModel)).thenReturn(new ChampionshipEntity());
 		when(service.update(any(ChampionshipEntity.class))).thenReturn(new ChampionshipEntity());
 		when(mapper.toDetailModel(any(ChampionshipEntity.class))).thenReturn(detailModel);
@@ -190,7 +190,7 @@ public class ChampionshipFacadeTest {
 		assertEquals(detailModel.getChampionshipRegion().getId(), result.getChampionshipRegion().getId());
 		assertEquals(detailModel.getChampionshipTeams(), result.getChampionshipTeams());
 		verify(championshipRegionService).findById(testRegionId);
-		verify(teamService).findById(testTeamId);
+		verify(teamService).findAllByIds(Set.of(testTeamId));
 		verify(mapper).toEntityFromUpdateModel(updateModel);
 		verify(service).update(any(ChampionshipEntity.class));
 		verify(mapper).toDetailModel(any(ChampionshipEntity.class));
@@ -211,12 +211,12 @@ public class ChampionshipFacadeTest {
 		// Arrange
 		ChampionshipRegionEntity regionEntity = ChampionshipRegionEntity.builder().id(testRegionId).build();
 		when(championshipRegionService.findById(testRegionId)).thenReturn(Optional.of(regionEntity));
-		when(teamService.findById(testTeamId)).thenReturn(Optional.empty());
+		when(teamService.findAllByIds(Set.of(testTeamId))).thenThrow(new NotFoundException("Team", Set.of(testTeamId)));
 
 		// Act & Assert
 		assertThrows(NotFoundException.class, () -> facade.update(updateModel));
 		verify(championshipRegionService).findById(testRegionId);
-		verify(teamService).findById(testTeamId);
+		verify(teamService).findAllByIds(Set.of(testTeamId));
 	}
 
 	@Test
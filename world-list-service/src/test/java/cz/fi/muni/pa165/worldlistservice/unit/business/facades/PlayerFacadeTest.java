@@ -4,6 +4,7 @@ import cz.fi.muni.pa165.dto.worldlistservice.player.create.PlayerCreateDto;
 import cz.fi.muni.pa165.dto.worldlistservice.player.detail.PlayerDetailDto;
 import cz.fi.muni.pa165.dto.worldlistservice.player.detail.PlayerTeamDto;
 import cz.fi.muni.pa165.dto.worldlistservice.player.list.PlayerListDto;
+import cz.fi.muni.pa165.dto.worldlistservice.player.search.PlayerSearchDto;
 import cz.fi.muni.pa165.dto.worldlistservice.player.update.PlayerUpdateDto;
 import cz.fi.muni.pa165.worldlistservice.api.exception.NotFoundException;
 import cz.fi.muni.pa165.worldlistservice.api.exception.ResourceInUseException;
@@ -12,9 +13,11 @@ import cz.fi.muni.pa165.worldlistservice.business.mappers.PlayerMapper;
 import cz.fi.muni.pa165.worldlistservice.business.services.interfaces.PlayerCharacteristicService;
 import cz.fi.muni.pa165.worldlistservice.business.services.interfaces.PlayerService;
 import cz.fi.muni.pa165.worldlistservice.business.services.interfaces.TeamService;
+import cz.fi.muni.pa165.worldlistservice.business.services.search.PlayerSearchCriteria;
 import cz.fi.muni.pa165.worldlistservice.persistence.entities.PlayerCharacteristicEntity;
 import cz.fi.muni.pa165.worldlistservice.persistence.entities.PlayerEntity;
 import cz.fi.muni.pa165.worldlistservice.persistence.entities.TeamEntity;
+import cz.fi.muni.pa165.worldlistservice.persistence.repositories.PlayerSummary;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -93,7 +96,8 @@ public class PlayerFacadeTest {
 			.build();
 
 		when(teamService.findById(testTeamId)).thenReturn(Optional.of(teamEntity));
-		when(playerCharacteristicService.findById(testCharacteristicId)).thenReturn(Optional.of(characteristicEntity));
+		when(playerCharacteristicService.findAllByIds(Set.of(testCharacteristicId)))
+			.thenReturn(Set.of(characteristicEntity));
 		when(mapper.toEntityFromCreateModel(createModel)).thenReturn(new PlayerEntity());
 		when(playerService.updateRating(any(PlayerEntity.class))).thenReturn(new PlayerEntity());
 		when(playerService.create(any(PlayerEntity.class))).thenReturn(new PlayerEntity());
@@ -110,7 +114,7 @@ public class PlayerFacadeTest {
 		assertEquals(detailModel.getOverallRating(), result.getOverallRating());
 		assertEquals(detailModel.getTeam().getId(), result.getTeam().getId());
 		verify(teamService).findById(testTeamId);
-		verify(playerCharacteristicService).findById(testCharacteristicId);
+		verify(playerCharacteristicService).findAllByIds(Set.of(testCharacteristicId));
 		verify(mapper).toEntityFromCreateModel(createModel);
 		verify(playerService).create(any(PlayerEntity.class));
 		verify(mapper).toDetailModel(any(PlayerEntity.class));
@@ -131,12 +135,13 @@ public class PlayerFacadeTest {
 		// Arrange
 		TeamEntity teamEntity = TeamEntity.builder().id(testTeamId).build();
 		when(teamService.findById(testTeamId)).thenReturn(Optional.of(teamEntity));
-		when(playerCharacteristicService.findById(testCharacteristicId)).thenReturn(Optional.empty());
+		when(playerCharacteristicService.findAllByIds(Set.of(testCharacteristicId)))
+			.thenThrow(new NotFoundException("PlayerCharacteristic", Set.of(testCharacteristicId)));
 
 		// Act & Assert
 		assertThrows(NotFoundException.class, () -> facade.create(createModel));
 		verify(teamService).findById(testTeamId);
-		verify(playerCharacteristicService).findById(testCharacteristicId);
+		verify(playerCharacteristicService).findAllByIds(Set.of(testCharacteristicId));
 	}
 
 	@Test
@@ -186,7 +191,8 @@ public class PlayerFacadeTest {
 			.build();
 
 		when(teamService.findById(testTeamId)).thenReturn(Optional.of(teamEntity));
-		when(playerCharacteristicService.findById(testCharacteristicId)).thenReturn(Optional.of(characteristicEntity));
+		when(playerCharacteristicService.findAllByIds(Set.of(testCharacteristicId)))
+			.thenReturn(Set.of(characteristicEntity));
 		when(mapper.toEntityFromUpdateModel(updateModel)).thenReturn(new PlayerEntity());
 		when(playerService.updateRating(any(PlayerEntity.class))).thenReturn(new PlayerEntity());
 		when(playerService.update(any(PlayerEntity.class))).thenReturn(new PlayerEntity());
@@ -203,7 +209,7 @@ public class PlayerFacadeTest {
 		assertEquals(detailModel.getOverallRating(), result.getOverallRating());
 		assertEquals(detailModel.getTeam().getId(), result.getTeam().getId());
 		verify(teamService).findById(testTeamId);
-		verify(playerCharacteristicService).findById(testCharacteristicId);
+		verify(playerCharacteristicService).findAllByIds(Set.of(testCharacteristicId));
 		verify(mapper).toEntityFromUpdateModel(updateModel);
 		verify(playerService).update(any(PlayerEntity.class));
 		verify(mapper).toDetailModel(any(PlayerEntity.class));
@@ -224,12 +230,13 @@ public class PlayerFacadeTest {
 		// Arrange
 		TeamEntity teamEntity = TeamEntity.builder().id(testTeamId).build();
 		when(teamService.findById(testTeamId)).thenReturn(Optional.of(teamEntity));
-		when(playerCharacteristicService.findById(testCharacteristicId)).thenReturn(Optional.empty());
+		when(playerCharacteristicService.findAllByIds(Set.of(testCharacteristicId)))
+			.thenThrow(new NotFoundException("PlayerCharacteristic", Set.of(testCharacteristicId)));
 
 		// Act & Assert
 		assertThrows(NotFoundException.class, () -> facade.update(updateModel));
 		verify(teamService).findById(testTeamId);
-		verify(playerCharacteristicService).findById(testCharacteristicId);
+		verify(playerCharacteristicService).findAllByIds(Set.of(testCharacteristicId));
 	}
 
 	@Test
@@ -280,4 +287,24 @@ public class PlayerFacadeTest {
 		verify(mapper).toPageModel(entityPage);
 	}
 
+	@Test
+	public void search_validFilters_returnsPageOfMatchingPlayers() {
+		// Arrange
+		Pageable pageable = mock(Pageable.class);
+		PlayerSearchDto search = PlayerSearchDto.builder().namePrefix("Play").minRating(80).used(false).build();
+		PlayerSummary summary = new PlayerSummary(testPlayerId, "Player First", "Player Last", 85, 1000, false);
+		PlayerSearchCriteria criteria = new PlayerSearchCriteria("Play", 80, null, null, null, false);
+
+		when(playerService.search(criteria, pageable)).thenReturn(new PageImpl<>(List.of(summary)));
+		when(mapper.summaryToListModel(summary)).thenReturn(listModel);
+
+		// Act
+		Page<PlayerListDto> result = facade.search(search, pageable);
+
+		// Assert
+		assertEquals(List.of(listModel), result.getContent());
+		verify(playerService).search(criteria, pageable);
+		verify(playerService, never()).findAll(any(Pageable.class));
+	}
+
 }
@@ -88,7 +88,7 @@ public class TeamFacadeTest {
 			.build();
 
 		when(championshipService.findById(testChampionshipId)).thenReturn(Optional.of(championshipEntity));
-		when(playerService.findById(testPlayerId)).thenReturn(Optional.of(playerEntity));
+		when(playerService.findAllByIds(Set.of(testPlayerId))).thenReturn(Set.of(playerEntity));
 		when(mapper.toEntityFromCreateModel(createModel)).thenReturn(new TeamEntity());
 		when(teamService.create(any(TeamEntity.class))).thenReturn(new TeamEntity());
 		when(mapper.toDetailModel(any(TeamEntity.class))).thenReturn(detailModel);
@@ -103,7 +103,7 @@ public class TeamFacadeTest {
 		assertEquals(detailModel.getChampionship().getId(), result.getChampionship().getId());
 		assertEquals(detailModel.getTeamPlayers(), result.getTeamPlayers());
 		verify(championshipService).findById(testChampionshipId);
-		verify(playerService).findById(testPlayerId);
+		verify(playerService).findAllByIds(Set.of(testPlayerId));
 		verify(mapper).toEntityFromCreateModel(createModel);
 		verify(teamService).create(any(TeamEntity.class));
 		verify(mapper).toDetailModel(any(TeamEntity.class));
@@ -124,12 +124,13 @@ public class TeamFacadeTest {
 		// Arrange
 		ChampionshipEntity championshipEntity = ChampionshipEntity.builder().id(testChampionshipId).build();
 		when(championshipService.findById(testChampionshipId)).thenReturn(Optional.of(championshipEntity));
-		when(playerService.findById(testPlayerId)).thenReturn(Optional.empty());
+		when(playerService.findAllByIds(Set.of(testPlayerId)))
+			.thenThrow(new NotFoundException("Player", Set.of(testPlayerId)));
 
 		// Act & Assert
 		assertThrows(NotFoundException.class, () -> facade.create(createModel));
 		verify(championshipService).findById(testChampionshipId);
-		verify(playerService).findById(testPlayerId);
+		verify(playerService).findAllByIds(Set.of(testPlayerId));
 	}
 
 	@Test
@@ -177,7 +178,7 @@ public class TeamFacadeTest {
 		PlayerEntity playerEntity = PlayerEntity.builder().id(testPlayerId).build();
 
 		when(championshipService.findById(testChampionshipId)).thenReturn(Optional.of(championshipEntity));
-		when(playerService.findById(testPlayerId)).thenReturn(Optional.of(playerEntity));
+		when(playerService.findAllByIds(Set.of(testPlayerId))).thenReturn(Set.of(playerEntity));
 		when(mapper.toEntityFromUpdateModel(updateModel)).thenReturn(new TeamEntity());
 		when(teamService.update(any(TeamEntity.class))).thenReturn(new TeamEntity());
 		when(mapper.toDetailModel(any(TeamEntity.class))).thenReturn(detailModel);
@@ -192,7 +193,7 @@ public class TeamFacadeTest {
 		assertEquals(detailModel.getChampionship().getId(), result.getChampionship().getId());
 		assertEquals(detailModel.getTeamPlayers(), result.getTeamPlayers());
 		verify(championshipService).findById(testChampionshipId);
-		verify(playerService).findById(testPlayerId);
+		verify(playerService).findAllByIds(Set.of(testPlayerId));
 		verify(mapper).toEntityFromUpdateModel(updateModel);
 		verify(teamService).update(any(TeamEntity.class));
 		verify(mapper).toDetailModel(any(TeamEntity.class));
@@ -213,12 +214,13 @@ public class TeamFacadeTest {
 		// Arrange
 		ChampionshipEntity championshipEntity = ChampionshipEntity.builder().id(testChampionshipId).build();
 		when(championshipService.findById(testChampionshipId)).thenReturn(Optional.of(championshipEntity));
-		when(playerService.findById(testPlayerId)).thenReturn(Optional.empty());
+		when(playerService.findAllByIds(Set.of(testPlayerId)))
+			.thenThrow(new NotFoundException("Player", Set.of(testPlayerId)));
 
 		// Act & Assert
 		assertThrows(NotFoundException.class, () -> facade.update(updateModel));
 		verify(championshipService).findById(testChampionshipId);
-		verify(playerService).findById(testPlayerId);
+		verify(playerService).findAllByIds(Set.of(testPlayerId));
 	}
 
 	@Test
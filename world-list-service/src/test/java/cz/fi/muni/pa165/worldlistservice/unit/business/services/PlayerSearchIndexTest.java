@@ -0,0 +1,187 @@
+package cz.fi.muni.pa165.worldlistservice.unit.business.services;
+
+import cz.fi.muni.pa165.worldlistservice.business.services.search.PlayerSearchCriteria;
+import cz.fi.muni.pa165.worldlistservice.business.services.search.PlayerSearchIndex;
+import cz.fi.muni.pa165.worldlistservice.persistence.repositories.PlayerSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerSearchIndexTest {
+
+	private final PlayerSummary jagr = new PlayerSummary(UUID.randomUUID(), "Jaromír", "Jágr", 95, 9_000_000, true);
+
+	private final PlayerSummary hasek = new PlayerSummary(UUID.randomUUID(), "Dominik", "Hašek", 92, 7_000_000, false);
+
+	private final PlayerSummary novak = new PlayerSummary(UUID.randomUUID(), "Filip", "Novák", 80, 1_500_000, false);
+
+	private final PlayerSummary novotny = new PlayerSummary(UUID.randomUUID(), "Jiří", "Novotný", 80, 2_500_000, true);
+
+	private final Pageable pageable = PageRequest.of(0, 10);
+
+	private PlayerSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new PlayerSearchIndex(100);
+		index.replaceAll(List.of(jagr, hasek, novak, novotny));
+	}
+
+	@Test
+	void search_noFilters_allPlayersOrderedByRating() {
+		// Act
+		Page<PlayerSummary> result = index.search(PlayerSearchCriteria.NONE, pageable);
+
+		// Assert
+		assertEquals(List.of(jagr, hasek, novak, novotny), result.getContent());
+		assertEquals(4, result.getTotalElements());
+	}
+
+	@Test
+	void search_namePrefixWithoutDiacritics_matchingPlayersReturned() {
+		// Act
+		Page<PlayerSummary> result = index.search(criteria("NOV", null, null, null, null, null), pageable);
+
+		// Assert
+		assertEquals(List.of(novak, novotny), result.getContent());
+	}
+
+	@Test
+	void search_namePrefixOfFirstName_matchingPlayerReturned() {
+		// Act
+		Page<PlayerSummary> result = index.search(criteria("jarom", null, null, null, null, null), pageable);
+
+		// Assert
+		assertEquals(List.of(jagr), result.getContent());
+	}
+
+	@Test
+	void search_ratingAndMarketValueRanges_playersWithinBoundsReturned() {
+		// Act
+		Page<PlayerSummary> result = index.search(criteria(null, 80, 92, 1_500_000L, 7_000_000L, null), pageable);
+
+		// Assert
+		assertEquals(List.of(hasek, novak, novotny), result.getContent());
+	}
+
+	@Test
+	void search_invertedRanges_emptyPageReturned() {
+		// Act
+		Page<PlayerSummary> invertedRating = index.search(criteria(null, 92, 80, null, null, null), pageable);
+		Page<PlayerSummary> invertedMarketValue = index.search(criteria(null, null, null, 7_000_000L, 1_500_000L, null),
+				pageable);
+
+		// Assert
+		assertTrue(invertedRating.isEmpty());
+		assertEquals(0, invertedRating.getTotalElements());
+		assertTrue(invertedMarketValue.isEmpty());
+		assertEquals(0, invertedMarketValue.getTotalElements());
+	}
+
+	@Test
+	void search_freeAgents_unusedPlayersReturned() {
+		// Act
+		Page<PlayerSummary> result = index.search(criteria(null, null, null, null, null, false), pageable);
+
+		// Assert
+		assertEquals(List.of(hasek, novak), result.getContent());
+	}
+
+	@Test
+	void search_secondPage_remainingPlayersReturned() {
+		// Act
+		Page<PlayerSummary> result = index.search(PlayerSearchCriteria.NONE, PageRequest.of(1, 3));
+
+		// Assert
+		assertEquals(List.of(novotny), result.getContent());
+		assertEquals(4, result.getTotalElements());
+	}
+
+	@Test
+	void search_pageAfterLastPlayer_emptyPageReturned() {
+		// Act
+		Page<PlayerSummary> result = index.search(PlayerSearchCriteria.NONE, PageRequest.of(5, 10));
+
+		// Assert
+		assertTrue(result.getContent().isEmpty());
+		assertEquals(4, result.getTotalElements());
+	}
+
+	@Test
+	void put_playerUpdated_searchUsesNewValues() {
+		// Arrange
+		var updatedNovak = new PlayerSummary(novak.id(), "Filip", "Novák", 99, 1_500_000, true);
+
+		// Act
+		index.put(updatedNovak);
+
+		// Assert
+		assertEquals(List.of(updatedNovak),
+				index.search(criteria(null, 96, null, null, null, null), pageable).getContent());
+		assertEquals(List.of(hasek),
+				index.search(criteria(null, null, null, null, null, false), pageable).getContent());
+		assertEquals(4, index.size());
+	}
+
+	@Test
+	void put_newPlayer_playerFoundByPrefix() {
+		// Arrange
+		var pastrnak = new PlayerSummary(UUID.randomUUID(), "David", "Pastrňák", 93, 11_000_000, true);
+
+		// Act
+		index.put(pastrnak);
+
+		// Assert
+		assertEquals(List.of(pastrnak),
+				index.search(criteria("pastrn", null, null, null, null, null), pageable).getContent());
+		assertEquals(5, index.size());
+	}
+
+	@Test
+	void remove_indexedPlayer_playerNotFound() {
+		// Act
+		index.remove(jagr.id());
+
+		// Assert
+		assertTrue(index.search(criteria("jag", null, null, null, null, null), pageable).isEmpty());
+		assertEquals(3, index.size());
+	}
+
+	@Test
+	void rebuild_afterChanges_searchResultsUnchanged() {
+		// Arrange
+		var updatedHasek = new PlayerSummary(hasek.id(), "Dominik", "Hašek", 70, 500_000, false);
+		index.put(updatedHasek);
+		index.remove(novotny.id());
+
+		// Act
+		index.rebuild();
+
+		// Assert
+		assertEquals(List.of(jagr, novak, updatedHasek),
+				index.search(PlayerSearchCriteria.NONE, pageable).getContent());
+		assertEquals(List.of(updatedHasek),
+				index.search(criteria("has", null, 75, null, null, null), pageable).getContent());
+		assertTrue(index.search(criteria("novo", null, null, null, null, null), pageable).isEmpty());
+	}
+
+	@Test
+	void normalize_nameWithDiacritics_lowercasedWithoutDiacritics() {
+		// Act & Assert
+		assertEquals("pastrnak", PlayerSearchIndex.normalize(" Pastrňák "));
+		assertEquals("", PlayerSearchIndex.normalize(null));
+	}
+
+	private static PlayerSearchCriteria criteria(String namePrefix, Integer minRating, Integer maxRating,
+			Long minMarketValue, Long maxMarketValue, Boolean used) {
+		return new PlayerSearchCriteria(namePrefix, minRating, maxRating, minMarketValue, maxMarketValue, used);
+	}
+
+}
@@ -3,8 +3,11 @@ package cz.fi.muni.pa165.worldlistservice.unit.business.services;
 import cz.fi.muni.pa165.worldlistservice.api.exception.NotFoundException;
 import cz.fi.muni.pa165.worldlistservice.api.exception.ValueIsMissingException;
 import cz.fi.muni.pa165.worldlistservice.business.services.PlayerServiceImpl;
+import cz.fi.muni.pa165.worldlistservice.business.services.search.PlayerSearchCriteria;
+import cz.fi.muni.pa165.worldlistservice.business.services.search.PlayerSearchIndex;
 import cz.fi.muni.pa165.worldlistservice.persistence.entities.PlayerEntity;
 import cz.fi.muni.pa165.worldlistservice.persistence.repositories.PlayerRepository;
+import cz.fi.muni.pa165.worldlistservice.persistence.repositories.PlayerSummary;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -36,6 +39,9 @@ class PlayerServiceTest {
 	@Mock
 	private PlayerRepository playerRepository;
 
+	@Mock
+	private PlayerSearchIndex searchIndex;
+
 	@InjectMocks
 	private PlayerServiceImpl playerService;
 
@@ -53,6 +59,18 @@ class PlayerServiceTest {
 		verify(playerRepository).save(player);
 	}
 
+	@Test
+	void createPlayer_validPlayer_playerIndexed() {
+		// Arrange
+		when(playerRepository.save(player)).thenReturn(player);
+
+		// Act
+		playerService.create(player);
+
+		// Assert
+		verify(searchIndex).put(new PlayerSummary(player.getId(), "John", "Doe", 85, 0, false));
+	}
+
 	@Test
 	void createPlayer_nullPlayer_throwsValueIsMissingException() {
 		// Act & Assert
@@ -158,6 +176,62 @@ class PlayerServiceTest {
 		verify(playerRepository).deleteById(player.getId());
 	}
 
+	@Test
+	void deletePlayer_existingPlayer_playerRemovedFromIndex() {
+		// Arrange
+		when(playerRepository.existsById(player.getId())).thenReturn(true);
+
+		// Act
+		playerService.delete(player.getId());
+
+		// Assert
+		verify(searchIndex).remove(player.getId());
+	}
+
+	@Test
+	void deletePlayer_nonExistentPlayer_indexUnchanged() {
+		// Arrange
+		when(playerRepository.existsById(player.getId())).thenReturn(false);
+
+		// Act & Assert
+		assertThrows(NotFoundException.class, () -> playerService.delete(player.getId()));
+		verifyNoInteractions(searchIndex);
+	}
+
+	@Test
+	void search_validCriteria_indexSearched() {
+		// Arrange
+		Pageable pageable = PageRequest.of(0, 10);
+		var summary = new PlayerSummary(player.getId(), "John", "Doe", 85, 0, false);
+		when(searchIndex.search(PlayerSearchCriteria.NONE, pageable)).thenReturn(new PageImpl<>(List.of(summary)));
+
+		// Act
+		Page<PlayerSummary> result = playerService.search(PlayerSearchCriteria.NONE, pageable);
+
+		// Assert
+		assertEquals(List.of(summary), result.getContent());
+		verifyNoInteractions(playerRepository);
+	}
+
+	@Test
+	void search_nullCriteria_throwsValueIsMissingException() {
+		// Act & Assert
+		assertThrows(ValueIsMissingException.class, () -> playerService.search(null, PageRequest.of(0, 10)));
+	}
+
+	@Test
+	void buildSearchIndex_playersExist_indexReplaced() {
+		// Arrange
+		var summaries = List.of(new PlayerSummary(player.getId(), "John", "Doe", 85, 0, false));
+		when(playerRepository.findAllSummaries()).thenReturn(summaries);
+
+		// Act
+		playerService.buildSearchIndex();
+
+		// Assert
+		verify(searchIndex).replaceAll(summaries);
+	}
+
 	@Test
 	void deletePlayer_nonExistentPlayer_throwsNotFoundException() {
 		// Arrange
@@ -86,6 +86,55 @@ class TeamServiceTest {
 		assertFalse(result.isPresent());
 	}
 
+	@Test
+	void findAllByIds_teamsExist_teamsAreReturnedInOneQuery() {
+		// Arrange
+		TeamEntity otherTeam = TeamEntity.builder().id(UUID.randomUUID()).name("Other Team").build();
+		Set<UUID> ids = Set.of(team.getId(), otherTeam.getId());
+		when(teamRepository.findAllById(ids)).thenReturn(List.of(team, otherTeam));
+
+		// Act
+		Set<TeamEntity> result = teamService.findAllByIds(ids);
+
+		// Assert
+		assertEquals(Set.of(team, otherTeam), result);
+		verify(teamRepository).findAllById(ids);
+		verify(teamRepository, never()).findById(any());
+	}
+
+	@Test
+	void findAllByIds_teamsDoNotExist_allMissingIdsAreReported() {
+		// Arrange
+		UUID firstMissingId = UUID.randomUUID();
+		UUID secondMissingId = UUID.randomUUID();
+		Set<UUID> ids = Set.of(team.getId(), firstMissingId, secondMissingId);
+		when(teamRepository.findAllById(ids)).thenReturn(List.of(team));
+
+		// Act
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> teamService.findAllByIds(ids));
+
+		// Assert
+		assertTrue(exception.getMessage().contains(firstMissingId.toString()));
+		assertTrue(exception.getMessage().contains(secondMissingId.toString()));
+		assertFalse(exception.getMessage().contains(team.getId().toString()));
+	}
+
+	@Test
+	void findAllByIds_noIds_emptySetIsReturned() {
+		// Act
+		Set<TeamEntity> result = teamService.findAllByIds(Set.of());
+
+		// Assert
+		assertTrue(result.isEmpty());
+		verifyNoInteractions(teamRepository);
+	}
+
+	@Test
+	void findAllByIds_idsAreNull_exceptionIsThrown() {
+		// Act & Assert
+		assertThrows(ValueIsMissingException.class, () -> teamService.findAllByIds(null));
+	}
+
 	@Test
 	void findAll_teamsExist_pageOfTeamsIsReturned() {
 		// Arrange